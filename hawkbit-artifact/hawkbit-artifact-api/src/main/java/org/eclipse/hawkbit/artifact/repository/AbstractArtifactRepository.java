@@ -9,17 +9,16 @@
  */
 package org.eclipse.hawkbit.artifact.repository;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
-import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
+import java.util.regex.Pattern;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
@@ -34,6 +33,7 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
 
     private static final String TEMP_FILE_PREFIX = "tmp";
     private static final String TEMP_FILE_SUFFIX = "artifactrepo";
+    private static final Pattern SHA1_PATTERN = Pattern.compile("[0-9a-f]{40}");
 
     // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
     @SuppressWarnings("squid:S2070")
@@ -52,9 +52,20 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
             throw new ArtifactStoreException(e.getMessage(), e);
         }
 
+        final String sanitizedTenant = sanitizeTenant(tenant);
+        final String providedSha1 = providedHashes == null ? null : providedHashes.getSha1();
         String tempFile = null;
-        try (final DigestInputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
-            tempFile = storeTempFile(inputStream);
+        try (final InputStream inputStream = content) {
+            if (isSha1(providedSha1) && existsByTenantAndSha1(tenant, providedSha1)) {
+                // already stored - the content is just digested to verify the provided hashes, not persisted again
+                ParallelDigester.copy(inputStream, OutputStream.nullOutputStream(), mdSHA1, mdMD5, mdSHA256);
+            } else {
+                final File stagingFile = createStagingFile(sanitizedTenant);
+                tempFile = stagingFile.getPath();
+                try (final OutputStream outputStream = new FileOutputStream(stagingFile)) {
+                    ParallelDigester.copy(inputStream, outputStream, mdSHA1, mdMD5, mdSHA256);
+                }
+            }
 
             final HexFormat hexFormat = HexFormat.of().withLowerCase();
 
@@ -68,8 +79,11 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
             if (existsByTenantAndSha1(tenant, sha1Hash16)) {
                 return addMissingHashes(getArtifactBySha1(tenant, sha1Hash16), sha1Hash16, md5Hash16, sha256Hash16);
             }
+            if (tempFile == null) {
+                throw new ArtifactStoreException("Artifact " + sha1Hash16 + " has been deleted while storing it", null);
+            }
 
-            return store(sanitizeTenant(tenant), new DbArtifactHash(sha1Hash16, md5Hash16, sha256Hash16), contentType, tempFile);
+            return store(sanitizedTenant, new DbArtifactHash(sha1Hash16, md5Hash16, sha256Hash16), contentType, tempFile);
         } catch (final IOException e) {
             throw new ArtifactStoreException(e.getMessage(), e);
         } finally {
@@ -92,13 +106,17 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
     }
 
-    protected String storeTempFile(final InputStream content) throws IOException {
-        final File file = createTempFile(false);
-        try (final OutputStream outputstream = new BufferedOutputStream(new FileOutputStream(file))) {
-            content.transferTo(outputstream);
-            outputstream.flush();
-        }
-        return file.getPath();
+    /**
+     * Creates the file the content is written to while it is digested, passed to
+     * {@link #store(String, DbArtifactHash, String, String)} afterward. Repositories should create it on the same
+     * file system as the final artifact, so it could be just renamed. Default is a temp file.
+     *
+     * @param tenant the (sanitized) tenant
+     * @return the staging file
+     * @throws IOException if the file can't be created
+     */
+    protected File createStagingFile(final String tenant) throws IOException {
+        return createTempFile(false);
     }
 
     protected abstract AbstractDbArtifact store(final String tenant, final DbArtifactHash base16Hashes,
@@ -155,13 +173,12 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
     }
 
-    private static boolean areHashesNotMatching(final String providedHashValue, final String hashValue) {
-        return providedHashValue != null && !hashValue.equals(providedHashValue);
+    private static boolean isSha1(final String hash) {
+        return hash != null && SHA1_PATTERN.matcher(hash).matches();
     }
 
-    private static DigestInputStream wrapInDigestInputStream(final InputStream input,
-            final MessageDigest mdSHA1, final MessageDigest mdMD5, final MessageDigest mdSHA256) {
-        return new DigestInputStream(new DigestInputStream(new DigestInputStream(input, mdSHA256), mdMD5), mdSHA1);
+    private static boolean areHashesNotMatching(final String providedHashValue, final String hashValue) {
+        return providedHashValue != null && !hashValue.equals(providedHashValue);
     }
 
     private AbstractDbArtifact addMissingHashes(final AbstractDbArtifact existing,
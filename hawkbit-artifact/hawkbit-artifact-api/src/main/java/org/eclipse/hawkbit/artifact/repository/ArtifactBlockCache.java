@@ -0,0 +1,350 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+
+/**
+ * Size bounded cache of artifact content, split into fixed-size blocks which are held off-heap (in direct buffers) and
+ * evicted in least recently used order. So the blocks of the hot artifacts, e.g. of a rollout downloaded by many
+ * devices at once, are read from the artifact repository (and decrypted) once and then served from memory.
+ * <p/>
+ * The cache covers only the decrypted artifacts and the artifacts which are not stored as plain files (e.g. in a
+ * database or an object store). The plain files are streamed via their {@link DbArtifact#openFileChannel() file
+ * channel}, by position, from the page cache of the OS - so they are not read through the cache, even if wrapped by it.
+ * <p/>
+ * The blocks are keyed by tenant, SHA1 hash of the artifact, whether the content is decrypted, and block index.
+ * Concurrent misses of the same block are loaded once. Artifacts bigger than the whole cache are not cached at all.
+ * Evicted blocks are released by the garbage collector, so the direct memory could temporarily exceed the cache size
+ * - it is bounded by the <code>-XX:MaxDirectMemorySize</code> JVM option.
+ */
+public class ArtifactBlockCache {
+
+    /**
+     * The default size of the blocks in bytes.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final long capacity;
+    private final int blockSize;
+    private final ArtifactBlockCacheObserver observer;
+
+    // guarded by itself, access order - the eldest is the least recently used
+    private final LinkedHashMap<BlockKey, ByteBuffer> blocks = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<BlockKey, CompletableFuture<ByteBuffer>> loading = new ConcurrentHashMap<>();
+    private long size;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity maximum size of the cached blocks in bytes
+     * @param blockSize size of the blocks in bytes, at most the capacity
+     * @param observer observer of the cache accesses
+     */
+    public ArtifactBlockCache(final long capacity, final int blockSize, final ArtifactBlockCacheObserver observer) {
+        if (blockSize < 1 || blockSize > capacity) {
+            throw new IllegalArgumentException("Block size must be positive and not bigger than the capacity");
+        }
+        this.capacity = capacity;
+        this.blockSize = blockSize;
+        this.observer = observer;
+    }
+
+    /**
+     * Wraps the artifact into a {@link DbArtifact} which serves its content from the cache.
+     *
+     * @param tenant the tenant of the artifact
+     * @param artifact the artifact to cache
+     * @param decrypted <code>true</code> if the content of the artifact is the decrypted one, so it is cached separately
+     *         from the (encrypted) content stored in the artifact repository
+     * @return the caching artifact, or the artifact itself if it can't be cached. Note: the file channel of a plain file
+     *         artifact is not cached, see {@link ArtifactBlockCache}
+     */
+    public DbArtifact cached(final String tenant, final DbArtifact artifact, final boolean decrypted) {
+        final String sha1 = Optional.ofNullable(artifact.getHashes()).map(DbArtifactHash::getSha1).orElse(null);
+        if (sha1 == null || artifact.getSize() > capacity) {
+            return artifact;
+        }
+        return new CachedDbArtifact(artifact, tenant, sha1, decrypted);
+    }
+
+    /**
+     * Removes the cached blocks of an artifact, e.g. when it is deleted.
+     *
+     * @param tenant the tenant of the artifact
+     * @param sha1 the SHA1 hash of the artifact
+     */
+    public void invalidate(final String tenant, final String sha1) {
+        synchronized (blocks) {
+            for (final Iterator<Map.Entry<BlockKey, ByteBuffer>> it = blocks.entrySet().iterator(); it.hasNext(); ) {
+                final Map.Entry<BlockKey, ByteBuffer> entry = it.next();
+                if (entry.getKey().tenant().equals(tenant) && entry.getKey().sha1().equals(sha1)) {
+                    size -= entry.getValue().capacity();
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the size of the cached blocks in bytes
+     */
+    public long getSize() {
+        synchronized (blocks) {
+            return size;
+        }
+    }
+
+    private ByteBuffer get(final BlockKey key, final BlockLoader loader) throws IOException {
+        synchronized (blocks) {
+            final ByteBuffer block = blocks.get(key);
+            if (block != null) {
+                observer.hit(key.tenant());
+                return block;
+            }
+        }
+
+        final CompletableFuture<ByteBuffer> future = new CompletableFuture<>();
+        final CompletableFuture<ByteBuffer> pending = loading.putIfAbsent(key, future);
+        if (pending != null) {
+            // loaded by another reader right now
+            observer.hit(key.tenant());
+            return await(pending);
+        }
+
+        observer.miss(key.tenant());
+        try {
+            final ByteBuffer block = loader.load();
+            put(key, block);
+            future.complete(block);
+            return block;
+        } catch (final IOException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    private void put(final BlockKey key, final ByteBuffer block) {
+        synchronized (blocks) {
+            final ByteBuffer previous = blocks.put(key, block);
+            size += block.capacity() - (previous == null ? 0 : previous.capacity());
+            for (final Iterator<Map.Entry<BlockKey, ByteBuffer>> it = blocks.entrySet().iterator(); size > capacity && it.hasNext(); ) {
+                final Map.Entry<BlockKey, ByteBuffer> eldest = it.next();
+                size -= eldest.getValue().capacity();
+                it.remove();
+                observer.evicted(eldest.getKey().tenant(), eldest.getValue().capacity());
+            }
+        }
+    }
+
+    private static ByteBuffer await(final CompletableFuture<ByteBuffer> pending) throws IOException {
+        try {
+            return pending.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the artifact block");
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to load the artifact block", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    private interface BlockLoader {
+
+        ByteBuffer load() throws IOException;
+    }
+
+    private record BlockKey(String tenant, String sha1, boolean decrypted, long index) {}
+
+    private final class CachedDbArtifact implements DbArtifact {
+
+        private final DbArtifact artifact;
+        private final String tenant;
+        private final String sha1;
+        private final boolean decrypted;
+
+        private CachedDbArtifact(final DbArtifact artifact, final String tenant, final String sha1, final boolean decrypted) {
+            this.artifact = artifact;
+            this.tenant = tenant;
+            this.sha1 = sha1;
+            this.decrypted = decrypted;
+        }
+
+        @Override
+        public String getArtifactId() {
+            return artifact.getArtifactId();
+        }
+
+        @Override
+        public DbArtifactHash getHashes() {
+            return artifact.getHashes();
+        }
+
+        @Override
+        public long getSize() {
+            return artifact.getSize();
+        }
+
+        @Override
+        public String getContentType() {
+            return artifact.getContentType();
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            return getFileInputStream(0);
+        }
+
+        @Override
+        public InputStream getFileInputStream(final long offset) {
+            return new CachedInputStream(this, offset);
+        }
+
+        // not cached - the plain files are read by position from the page cache of the OS instead, so the cache covers only
+        // the decrypted and the non-file artifacts (which have no file channel)
+        @Override
+        public Optional<FileChannel> openFileChannel() {
+            return artifact.openFileChannel();
+        }
+
+        // the encoded variants are not cached, they are served by the repository
+        @Override
+        public Optional<DbArtifact> getEncoded(final String contentEncoding) {
+            return artifact.getEncoded(contentEncoding);
+        }
+    }
+
+    /**
+     * Reads the content block by block from the cache. The missing blocks are loaded from a stream on the artifact which
+     * is kept open while the blocks are read in sequence, so the content is read (and decrypted) only once even if the
+     * artifact could not be read from an offset efficiently.
+     */
+    private final class CachedInputStream extends InputStream {
+
+        private final CachedDbArtifact artifact;
+        private final long artifactSize;
+        private long position;
+        private ByteBuffer block;
+
+        private InputStream source;
+        private long sourcePosition;
+
+        private CachedInputStream(final CachedDbArtifact artifact, final long offset) {
+            this.artifact = artifact;
+            artifactSize = artifact.getSize();
+            position = Math.min(offset, artifactSize);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            position++;
+            return block.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            final int read = Math.min(length, block.remaining());
+            block.get(buffer, offset, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) {
+            final long skipped = Math.max(0, Math.min(n, artifactSize - position));
+            if (skipped > 0) {
+                position += skipped;
+                block = null;
+            }
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return block == null ? 0 : block.remaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (source != null) {
+                source.close();
+                source = null;
+            }
+        }
+
+        private boolean fill() throws IOException {
+            if (block != null && block.hasRemaining()) {
+                return true;
+            }
+            if (position >= artifactSize) {
+                return false;
+            }
+            final long index = position / blockSize;
+            block = get(new BlockKey(artifact.tenant, artifact.sha1, artifact.decrypted, index), () -> load(index))
+                    .duplicate()
+                    .position((int) (position - index * blockSize));
+            return block.hasRemaining();
+        }
+
+        private ByteBuffer load(final long index) throws IOException {
+            final long start = index * blockSize;
+            if (source == null || sourcePosition != start) {
+                close();
+                try {
+                    source = artifact.artifact.getFileInputStream(start);
+                } catch (final UncheckedIOException e) {
+                    throw e.getCause();
+                }
+                sourcePosition = start;
+            }
+
+            final ByteBuffer loaded = ByteBuffer.allocateDirect((int) Math.min(blockSize, artifactSize - start));
+            final byte[] buffer = new byte[Math.min(COPY_BUFFER_SIZE, loaded.capacity())];
+            while (loaded.hasRemaining()) {
+                final int read = source.read(buffer, 0, Math.min(buffer.length, loaded.remaining()));
+                if (read < 0) {
+                    throw new EOFException("Artifact " + artifact.sha1 + " is shorter than its size " + artifactSize);
+                }
+                loaded.put(buffer, 0, read);
+                sourcePosition += read;
+            }
+            return loaded.flip().asReadOnlyBuffer();
+        }
+    }
+}
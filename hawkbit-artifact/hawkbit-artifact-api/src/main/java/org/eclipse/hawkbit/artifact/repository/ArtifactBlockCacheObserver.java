@@ -0,0 +1,43 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+/**
+ * Observes the accesses to the {@link ArtifactBlockCache}, e.g. to report the hit rate as metrics.
+ */
+public interface ArtifactBlockCacheObserver {
+
+    /**
+     * Observer which ignores everything.
+     */
+    ArtifactBlockCacheObserver NOOP = new ArtifactBlockCacheObserver() {};
+
+    /**
+     * Called when a block is served from the cache.
+     *
+     * @param tenant the tenant of the artifact
+     */
+    default void hit(final String tenant) {}
+
+    /**
+     * Called when a block is not cached and has to be loaded from the artifact.
+     *
+     * @param tenant the tenant of the artifact
+     */
+    default void miss(final String tenant) {}
+
+    /**
+     * Called when a block is evicted from the cache in order to free space.
+     *
+     * @param tenant the tenant of the artifact
+     * @param size the size of the block in bytes
+     */
+    default void evicted(final String tenant, final int size) {}
+}
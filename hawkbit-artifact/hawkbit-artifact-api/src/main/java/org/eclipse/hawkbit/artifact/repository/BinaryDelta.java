@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Binary delta between two versions of an artifact, so a device which has the source version installed could rebuild
+ * the target version from it and from the (usually much smaller) delta.
+ * <p/>
+ * The delta is a sequence of instructions which copy ranges of the source or add literal bytes:
+ * <pre>
+ * delta = magic ("HBD1") | target size (varint) | instruction* | END (0)
+ * instruction = COPY (1) | source offset (varint) | length (varint)
+ *             | ADD (2) | length (varint) | bytes
+ * </pre>
+ * The ranges to copy are found by indexing the blocks of the source by a rolling hash and by scanning the target for
+ * them at every offset, so shifted content (e.g. inserted or removed code) is found too. Every match is extended
+ * backward and forward byte by byte.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BinaryDelta {
+
+    private static final byte[] MAGIC = { 'H', 'B', 'D', '1' };
+    private static final int END = 0;
+    private static final int COPY = 1;
+    private static final int ADD = 2;
+
+    private static final int BLOCK_SIZE = 32;
+    private static final int HASH_MULTIPLIER = 0x01000193;
+    // HASH_MULTIPLIER ^ (BLOCK_SIZE - 1), to remove the leaving byte from the rolling hash
+    private static final int HASH_LEAVING_MULTIPLIER;
+
+    static {
+        int multiplier = 1;
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            multiplier *= HASH_MULTIPLIER;
+        }
+        HASH_LEAVING_MULTIPLIER = multiplier;
+    }
+
+    /**
+     * Calculates the delta which transforms the source into the target.
+     *
+     * @param source the source content
+     * @param target the target content
+     * @param delta the output to write the delta to, not closed
+     * @throws IOException if writing the delta fails
+     */
+    public static void encode(final byte[] source, final byte[] target, final OutputStream delta) throws IOException {
+        delta.write(MAGIC);
+        writeVarint(delta, target.length);
+
+        final int[] index = index(source);
+        final int mask = index.length - 1;
+        int literalStart = 0;
+        int position = 0;
+        int hash = target.length >= BLOCK_SIZE ? hash(target, 0) : 0;
+        while (position + BLOCK_SIZE <= target.length) {
+            final int candidate = index[slot(hash, mask)] - 1;
+            if (candidate >= 0 && Arrays.equals(
+                    source, candidate, candidate + BLOCK_SIZE, target, position, position + BLOCK_SIZE)) {
+                int sourceStart = candidate;
+                int targetStart = position;
+                while (targetStart > literalStart && sourceStart > 0 && source[sourceStart - 1] == target[targetStart - 1]) {
+                    sourceStart--;
+                    targetStart--;
+                }
+                int end = position + BLOCK_SIZE;
+                while (end < target.length && candidate + end - position < source.length
+                        && source[candidate + end - position] == target[end]) {
+                    end++;
+                }
+
+                writeAdd(delta, target, literalStart, targetStart);
+                delta.write(COPY);
+                writeVarint(delta, sourceStart);
+                writeVarint(delta, end - targetStart);
+
+                literalStart = position = end;
+                if (position + BLOCK_SIZE <= target.length) {
+                    hash = hash(target, position);
+                }
+            } else {
+                if (position + BLOCK_SIZE < target.length) {
+                    hash = (hash - (target[position] & 0xFF) * HASH_LEAVING_MULTIPLIER) * HASH_MULTIPLIER
+                            + (target[position + BLOCK_SIZE] & 0xFF);
+                }
+                position++;
+            }
+        }
+        writeAdd(delta, target, literalStart, target.length);
+        delta.write(END);
+    }
+
+    /**
+     * Rebuilds the target from the source and the delta.
+     *
+     * @param source the source content the delta has been calculated from
+     * @param delta the delta, read to its end instruction
+     * @param target the output to write the target to, not closed
+     * @return the size of the target in bytes
+     * @throws IOException if the delta is invalid or writing the target fails
+     */
+    public static long apply(final byte[] source, final InputStream delta, final OutputStream target) throws IOException {
+        final DataInputStream input = new DataInputStream(delta);
+        final byte[] magic = new byte[MAGIC.length];
+        input.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary delta");
+        }
+        final long size = readVarint(input);
+
+        final byte[] buffer = new byte[8 * 1024];
+        long written = 0;
+        for (int instruction = input.read(); instruction != END; instruction = input.read()) {
+            if (instruction == COPY) {
+                final long offset = readVarint(input);
+                final long length = readVarint(input);
+                if (offset + length > source.length) {
+                    throw new IOException("Delta copies beyond the source");
+                }
+                target.write(source, (int) offset, (int) length);
+                written += length;
+            } else if (instruction == ADD) {
+                long remaining = readVarint(input);
+                written += remaining;
+                while (remaining > 0) {
+                    final int length = (int) Math.min(buffer.length, remaining);
+                    input.readFully(buffer, 0, length);
+                    target.write(buffer, 0, length);
+                    remaining -= length;
+                }
+            } else if (instruction < 0) {
+                throw new EOFException("Delta is truncated");
+            } else {
+                throw new IOException("Unknown delta instruction " + instruction);
+            }
+        }
+        if (written != size) {
+            throw new IOException("Delta produced " + written + " bytes instead of " + size);
+        }
+        return written;
+    }
+
+    // maps the hashes of the source blocks (at block boundaries) to their offset + 1, the first block wins
+    private static int[] index(final byte[] source) {
+        final int blocks = source.length / BLOCK_SIZE;
+        final int[] index = new int[Math.max(2, Integer.highestOneBit(Math.max(1, blocks)) << 2)];
+        final int mask = index.length - 1;
+        for (int offset = 0; offset + BLOCK_SIZE <= source.length; offset += BLOCK_SIZE) {
+            final int slot = slot(hash(source, offset), mask);
+            if (index[slot] == 0) {
+                index[slot] = offset + 1;
+            }
+        }
+        return index;
+    }
+
+    private static int hash(final byte[] content, final int offset) {
+        int hash = 0;
+        for (int i = offset; i < offset + BLOCK_SIZE; i++) {
+            hash = hash * HASH_MULTIPLIER + (content[i] & 0xFF);
+        }
+        return hash;
+    }
+
+    private static int slot(final int hash, final int mask) {
+        return (hash * 0x9E3779B9 >>> 7) & mask;
+    }
+
+    private static void writeAdd(final OutputStream delta, final byte[] target, final int from, final int to) throws IOException {
+        if (to > from) {
+            delta.write(ADD);
+            writeVarint(delta, to - from);
+            delta.write(target, from, to - from);
+        }
+    }
+
+    private static void writeVarint(final OutputStream out, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarint(final InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Delta is truncated");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid varint in delta");
+    }
+}
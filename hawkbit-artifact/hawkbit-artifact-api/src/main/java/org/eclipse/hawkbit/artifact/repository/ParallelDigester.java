@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Copies a stream and computes its digests in one pass. The content is read in chunks into a small pool of shared
+ * buffers - every chunk is written by the calling thread while each digest is updated by its own thread, so the
+ * digesting takes about the time of the slowest digest instead of the sum of all. A buffer is reused when it is written
+ * and digested by all the digests.
+ * <p/>
+ * Content which fits into one buffer is digested by the calling thread.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ParallelDigester {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int BUFFERS = 4;
+
+    private static final Chunk END = new Chunk(0);
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService DIGESTERS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "artifact-digest-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Copies the content to the output and updates the digests with it.
+     *
+     * @param content the content, read to its end
+     * @param output the output to copy to, not closed
+     * @param digests the digests to update
+     * @throws IOException if reading or writing fails
+     */
+    static void copy(final InputStream content, final OutputStream output, final MessageDigest... digests) throws IOException {
+        final BlockingQueue<Chunk> free = new ArrayBlockingQueue<>(BUFFERS);
+        Chunk chunk = new Chunk(BUFFER_SIZE);
+        if (!chunk.read(content)) {
+            // small content, digested at once
+            for (final MessageDigest digest : digests) {
+                digest.update(chunk.buffer, 0, chunk.length);
+            }
+            output.write(chunk.buffer, 0, chunk.length);
+            return;
+        }
+
+        for (int i = 1; i < BUFFERS; i++) {
+            free.add(new Chunk(BUFFER_SIZE));
+        }
+        final List<BlockingQueue<Chunk>> queues = new ArrayList<>(digests.length);
+        final List<Future<?>> digesters = new ArrayList<>(digests.length);
+        for (final MessageDigest digest : digests) {
+            final BlockingQueue<Chunk> queue = new LinkedBlockingQueue<>();
+            queues.add(queue);
+            digesters.add(DIGESTERS.submit(() -> digest(queue, digest, free)));
+        }
+
+        boolean completed = false;
+        try {
+            boolean more = true;
+            while (more) {
+                chunk.pending.set(digests.length + 1);
+                for (final BlockingQueue<Chunk> queue : queues) {
+                    queue.add(chunk);
+                }
+                output.write(chunk.buffer, 0, chunk.length);
+                chunk.release(free);
+
+                if (chunk.length < BUFFER_SIZE) {
+                    more = false;
+                } else {
+                    chunk = free.take();
+                    more = chunk.read(content) || chunk.length > 0;
+                }
+            }
+            completed = true;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while digesting the content");
+        } finally {
+            queues.forEach(queue -> queue.add(END));
+            if (!completed) {
+                digesters.forEach(digester -> digester.cancel(true));
+            }
+        }
+        awaitDigesters(digesters);
+    }
+
+    private static Void digest(final BlockingQueue<Chunk> queue, final MessageDigest digest, final BlockingQueue<Chunk> free)
+            throws InterruptedException {
+        for (Chunk chunk = queue.take(); chunk != END; chunk = queue.take()) {
+            digest.update(chunk.buffer, 0, chunk.length);
+            chunk.release(free);
+        }
+        return null;
+    }
+
+    private static void awaitDigesters(final List<Future<?>> digesters) throws IOException {
+        try {
+            for (final Future<?> digester : digesters) {
+                digester.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while digesting the content");
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to digest the content", e.getCause());
+        }
+    }
+
+    private static final class Chunk {
+
+        private final byte[] buffer;
+        private final AtomicInteger pending = new AtomicInteger();
+        private int length;
+
+        private Chunk(final int size) {
+            buffer = new byte[size];
+        }
+
+        // returns true if the buffer is filled, i.e. there could be more content
+        private boolean read(final InputStream content) throws IOException {
+            length = content.readNBytes(buffer, 0, buffer.length);
+            return length == buffer.length;
+        }
+
+        // called when the chunk is written or digested, the last one returns the buffer to the pool
+        private void release(final BlockingQueue<Chunk> free) {
+            if (pending.decrementAndGet() == 0) {
+                free.add(this);
+            }
+        }
+    }
+}
@@ -9,7 +9,11 @@
  */
 package org.eclipse.hawkbit.artifact.repository.model;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.util.Optional;
 
 /**
  * Interface definition for artifact binary.
@@ -43,4 +47,49 @@ public interface DbArtifact {
      * @return {@link InputStream} to read from artifact.
      */
     InputStream getFileInputStream();
-}
\ No newline at end of file
+
+    /**
+     * Creates an {@link InputStream} on this artifact, starting at the given offset. Caller has to take care of closing
+     * the stream. By default, the stream is opened and the bytes before the offset are skipped - implementations which
+     * could position the stream more efficiently should override it.
+     *
+     * @param offset the offset to start from in bytes
+     * @return {@link InputStream} to read from artifact, starting at the offset
+     */
+    default InputStream getFileInputStream(final long offset) {
+        final InputStream stream = getFileInputStream();
+        try {
+            stream.skipNBytes(offset);
+            return stream;
+        } catch (final IOException e) {
+            try {
+                stream.close();
+            } catch (final IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens a {@link FileChannel} on the artifact binary if it is stored as a plain file, so it could be read by position,
+     * i.e. without reading through the skipped bytes of a range. Caller has to take care of closing the channel.
+     *
+     * @return {@link FileChannel} to read from artifact or empty if the artifact is not stored as plain file
+     */
+    default Optional<FileChannel> openFileChannel() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the artifact binary in the given HTTP content encoding (e.g. <code>gzip</code> or <code>zstd</code>), if the
+     * repository provides such a variant of it. The size and the content of the returned artifact are these of the
+     * encoded representation, the hashes are these of the original artifact.
+     *
+     * @param contentEncoding the content encoding
+     * @return the encoded artifact or empty if the variant is not available (yet)
+     */
+    default Optional<DbArtifact> getEncoded(final String contentEncoding) {
+        return Optional.empty();
+    }
+}
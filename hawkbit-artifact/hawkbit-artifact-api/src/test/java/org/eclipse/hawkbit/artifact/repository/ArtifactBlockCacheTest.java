@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.junit.jupiter.api.Test;
+
+@Feature("Unit Tests - Artifact Repository")
+@Story("Artifact Block Cache")
+class ArtifactBlockCacheTest {
+
+    private static final String TENANT = "TENANT";
+    private static final int BLOCK_SIZE = 16;
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger evicted = new AtomicInteger();
+    private final ArtifactBlockCacheObserver observer = new ArtifactBlockCacheObserver() {
+
+        @Override
+        public void hit(final String tenant) {
+            hits.incrementAndGet();
+        }
+
+        @Override
+        public void miss(final String tenant) {
+            misses.incrementAndGet();
+        }
+
+        @Override
+        public void evicted(final String tenant, final int size) {
+            evicted.addAndGet(size);
+        }
+    };
+
+    @Test
+    @Description("Verifies that the artifact content is served from the cache, from the start and from any offset, and is read from the artifact once")
+    void contentIsServedFromCache() throws IOException {
+        final ArtifactBlockCache cache = new ArtifactBlockCache(10L * BLOCK_SIZE, BLOCK_SIZE, observer);
+        final TestArtifact artifact = new TestArtifact("sha1", 3 * BLOCK_SIZE + 5);
+
+        final DbArtifact cached = cache.cached(TENANT, artifact, false);
+        assertThat(read(cached, 0)).isEqualTo(artifact.content);
+        assertThat(artifact.opened).hasValue(1);
+        assertThat(misses).hasValue(4);
+        assertThat(cache.getSize()).isEqualTo(artifact.content.length);
+
+        for (int offset = 0; offset <= artifact.content.length; offset++) {
+            assertThat(read(cache.cached(TENANT, artifact, false), offset)).as("offset %d", offset)
+                    .isEqualTo(Arrays.copyOfRange(artifact.content, offset, artifact.content.length));
+        }
+        assertThat(artifact.opened).hasValue(1);
+        assertThat(misses).hasValue(4);
+        assertThat(hits.get()).isPositive();
+
+        // the decrypted content is cached separately
+        assertThat(read(cache.cached(TENANT, artifact, true), BLOCK_SIZE)).hasSize(2 * BLOCK_SIZE + 5);
+        assertThat(artifact.opened).hasValue(2);
+
+        cache.invalidate(TENANT, "sha1");
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    @Description("Verifies that the least recently used blocks are evicted to keep the cache within its capacity and too big artifacts are not cached")
+    void leastRecentlyUsedBlocksAreEvicted() throws IOException {
+        final ArtifactBlockCache cache = new ArtifactBlockCache(4L * BLOCK_SIZE, BLOCK_SIZE, observer);
+        final TestArtifact hot = new TestArtifact("hot", 2 * BLOCK_SIZE);
+        final TestArtifact cold = new TestArtifact("cold", 2 * BLOCK_SIZE);
+        final TestArtifact other = new TestArtifact("other", 2 * BLOCK_SIZE);
+
+        read(cache.cached(TENANT, hot, false), 0);
+        read(cache.cached(TENANT, cold, false), 0);
+        read(cache.cached(TENANT, hot, false), 0);
+        read(cache.cached(TENANT, other, false), 0);
+        assertThat(cache.getSize()).isEqualTo(4L * BLOCK_SIZE);
+        assertThat(evicted).hasValue(2 * BLOCK_SIZE);
+
+        read(cache.cached(TENANT, hot, false), 0);
+        assertThat(hot.opened).hasValue(1);
+        read(cache.cached(TENANT, cold, false), 0);
+        assertThat(cold.opened).hasValue(2);
+
+        final TestArtifact big = new TestArtifact("big", 4 * BLOCK_SIZE + 1);
+        assertThat(cache.cached(TENANT, big, false)).isSameAs(big);
+    }
+
+    private static byte[] read(final DbArtifact artifact, final long offset) throws IOException {
+        try (final InputStream stream = artifact.getFileInputStream(offset)) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static final class TestArtifact implements DbArtifact {
+
+        private final String sha1;
+        private final byte[] content;
+        private final AtomicInteger opened = new AtomicInteger();
+
+        private TestArtifact(final String sha1, final int size) {
+            this.sha1 = sha1;
+            content = new byte[size];
+            new Random().nextBytes(content);
+        }
+
+        @Override
+        public String getArtifactId() {
+            return sha1;
+        }
+
+        @Override
+        public DbArtifactHash getHashes() {
+            return new DbArtifactHash(sha1, null, null);
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public String getContentType() {
+            return null;
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            opened.incrementAndGet();
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+
+@Feature("Unit Tests - Artifact Repository")
+@Story("Binary Delta")
+class BinaryDeltaTest {
+
+    private final Random random = new Random();
+
+    @Test
+    @Description("Verifies that the target is rebuilt from the source and a small delta if the target is an incremental change of the source")
+    void incrementalChangeResultsInSmallDelta() throws IOException {
+        final byte[] source = randomBytes(256 * 1024);
+        // modified, inserted and removed content
+        final byte[] target = new byte[source.length];
+        System.arraycopy(source, 0, target, 0, 100_000);
+        System.arraycopy(randomBytes(1000), 0, target, 100_000, 1000);
+        System.arraycopy(source, 102_000, target, 101_000, source.length - 102_000);
+        target[200_000]++;
+        System.arraycopy(randomBytes(1000), 0, target, target.length - 1000, 1000);
+
+        final byte[] delta = encode(source, target);
+        assertThat(apply(source, delta)).isEqualTo(target);
+        assertThat(delta.length).isLessThan(target.length / 50);
+    }
+
+    @Test
+    @Description("Verifies that the target is rebuilt for unrelated, tiny and empty content")
+    void anyContentIsRebuilt() throws IOException {
+        final byte[][] contents = { new byte[0], randomBytes(1), randomBytes(31), randomBytes(32), randomBytes(1000), randomBytes(70_000) };
+        for (final byte[] source : contents) {
+            for (final byte[] target : contents) {
+                assertThat(apply(source, encode(source, target))).isEqualTo(target);
+            }
+        }
+        final byte[] repetitive = new byte[10_000];
+        Arrays.fill(repetitive, (byte) 7);
+        assertThat(apply(repetitive, encode(repetitive, Arrays.copyOf(repetitive, 20_000))))
+                .isEqualTo(Arrays.copyOf(repetitive, 20_000));
+    }
+
+    @Test
+    @Description("Verifies that an invalid or truncated delta is rejected")
+    void invalidDeltaIsRejected() throws IOException {
+        final byte[] source = randomBytes(1000);
+        final byte[] delta = encode(source, randomBytes(1000));
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> apply(source, Arrays.copyOf(delta, delta.length - 1)));
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> apply(source, randomBytes(100)));
+    }
+
+    private static byte[] encode(final byte[] source, final byte[] target) throws IOException {
+        final ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        BinaryDelta.encode(source, target, delta);
+        return delta.toByteArray();
+    }
+
+    private static byte[] apply(final byte[] source, final byte[] delta) throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BinaryDelta.apply(source, new ByteArrayInputStream(delta), target);
+        return target.toByteArray();
+    }
+
+    private byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
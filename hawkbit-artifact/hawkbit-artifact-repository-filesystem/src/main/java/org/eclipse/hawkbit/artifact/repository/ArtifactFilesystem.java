@@ -13,13 +13,20 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.validation.constraints.NotNull;
 
 import lombok.EqualsAndHashCode;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 
 /**
@@ -29,13 +36,22 @@ import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 public class ArtifactFilesystem extends AbstractDbArtifact {
 
     private final File file;
+    @EqualsAndHashCode.Exclude
+    private final ArtifactFilesystemEncoder encoder;
 
     public ArtifactFilesystem(
             @NotNull final File file, @NotNull final String artifactId,
             @NotNull final DbArtifactHash hashes, final Long size,
             final String contentType) {
+        this(file, artifactId, hashes, size, contentType, null);
+    }
+
+    ArtifactFilesystem(
+            final File file, final String artifactId, final DbArtifactHash hashes, final Long size,
+            final String contentType, final ArtifactFilesystemEncoder encoder) {
         super(artifactId, hashes, size, contentType);
         this.file = Objects.requireNonNull(file, "Artifact file may not be null");
+        this.encoder = encoder;
     }
 
     // suppress warning, this InputStream needs to be closed by the caller, this
@@ -49,4 +65,24 @@ public class ArtifactFilesystem extends AbstractDbArtifact {
             throw new ArtifactFileNotFoundException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<FileChannel> openFileChannel() {
+        try {
+            return Optional.of(FileChannel.open(file.toPath(), StandardOpenOption.READ));
+        } catch (final NoSuchFileException e) {
+            throw new ArtifactFileNotFoundException(e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<DbArtifact> getEncoded(final String contentEncoding) {
+        if (encoder == null) {
+            return Optional.empty();
+        }
+        return encoder.getEncoded(file, contentEncoding)
+                .map(encoded -> new ArtifactFilesystem(encoded, getArtifactId(), getHashes(), encoded.length(), getContentType()));
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Creates and looks up the content encoded (<code>gzip</code>, <code>zstd</code>) variants of the artifact files. A
+ * variant is stored next to the artifact file, named by the artifact file name and the encoding suffix (e.g.
+ * <code>[sha1].gz</code>). If the encoding doesn't make the artifact smaller (e.g. it is already compressed), an empty
+ * <code>[sha1].gz.skip</code> marker is stored instead, so it is not encoded again.
+ * <p/>
+ * The variants are created in background, by a single thread, at upload time or on first request.
+ */
+@Slf4j
+class ArtifactFilesystemEncoder {
+
+    static final String GZIP = "gzip";
+    static final String ZSTD = "zstd";
+
+    private static final boolean ZSTD_AVAILABLE = ClassUtils.isPresent(
+            "com.github.luben.zstd.ZstdOutputStream", ArtifactFilesystemEncoder.class.getClassLoader());
+    private static final String SKIP_SUFFIX = ".skip";
+    private static final int BUFFER_SIZE = 0x10000; // 64k
+    // the variant is stored only if it saves at least 1/10 of the size
+    private static final double MAX_RATIO = 0.9;
+
+    private final List<String> encodings;
+    private final long minSize;
+    private final boolean encodeOnUpload;
+    private final Set<File> pending = ConcurrentHashMap.newKeySet();
+    private volatile ExecutorService executor;
+
+    ArtifactFilesystemEncoder(final ArtifactFilesystemProperties properties) {
+        encodings = properties.getEncodings().stream()
+                .map(encoding -> encoding.trim().toLowerCase(Locale.ROOT))
+                .filter(encoding -> {
+                    if (GZIP.equals(encoding) || (ZSTD.equals(encoding) && ZSTD_AVAILABLE)) {
+                        return true;
+                    }
+                    log.warn("Artifact content encoding {} is not supported", encoding);
+                    return false;
+                })
+                .distinct()
+                .toList();
+        minSize = properties.getEncodingMinSize();
+        encodeOnUpload = properties.isEncodeOnUpload();
+    }
+
+    boolean isEnabled() {
+        return !encodings.isEmpty();
+    }
+
+    /**
+     * Returns the variant of the artifact file in the given encoding. If the variant is not created yet, it is
+     * scheduled to be created.
+     *
+     * @param file the artifact file
+     * @param encoding the content encoding
+     * @return the variant file or empty if not available (yet)
+     */
+    Optional<File> getEncoded(final File file, final String encoding) {
+        if (!encodings.contains(encoding) || file.length() < minSize) {
+            return Optional.empty();
+        }
+        final File variant = variant(file, encoding);
+        if (variant.exists()) {
+            return Optional.of(variant);
+        }
+        if (!skipMarker(file, encoding).exists()) {
+            schedule(file);
+        }
+        return Optional.empty();
+    }
+
+    void stored(final File file) {
+        if (encodeOnUpload && file.length() >= minSize) {
+            schedule(file);
+        }
+    }
+
+    void delete(final File file) {
+        for (final String encoding : List.of(GZIP, ZSTD)) {
+            FileUtils.deleteQuietly(variant(file, encoding));
+            FileUtils.deleteQuietly(skipMarker(file, encoding));
+        }
+    }
+
+    private void schedule(final File file) {
+        if (!pending.add(file)) {
+            return;
+        }
+        try {
+            executor().execute(() -> {
+                try {
+                    encodings.forEach(encoding -> encode(file, encoding));
+                } finally {
+                    pending.remove(file);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            pending.remove(file);
+            log.debug("Encoding of {} rejected", file, e);
+        }
+    }
+
+    private void encode(final File file, final String encoding) {
+        final File variant = variant(file, encoding);
+        if (variant.exists() || skipMarker(file, encoding).exists() || !file.exists()) {
+            return;
+        }
+
+        File tempFile = null;
+        try {
+            tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+            try (final InputStream in = new FileInputStream(file);
+                    final OutputStream out = encoder(encoding, new BufferedOutputStream(new FileOutputStream(tempFile), BUFFER_SIZE))) {
+                in.transferTo(out);
+            }
+
+            if (tempFile.length() <= file.length() * MAX_RATIO) {
+                move(tempFile, variant);
+                log.debug("Stored {} variant of {} ({} of {} bytes)", encoding, file.getName(), variant.length(), file.length());
+            } else {
+                Files.createFile(skipMarker(file, encoding).toPath());
+                log.debug("Skipped {} variant of {}, it is not smaller", encoding, file.getName());
+            }
+        } catch (final IOException | RuntimeException e) {
+            log.warn("Failed to encode {} with {}", file, encoding, e);
+        } finally {
+            if (tempFile != null) {
+                FileUtils.deleteQuietly(tempFile);
+            }
+        }
+    }
+
+    private ExecutorService executor() {
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = Executors.newSingleThreadExecutor(runnable -> {
+                        final Thread thread = new Thread(runnable, "artifact-encoder");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return executor;
+    }
+
+    private static OutputStream encoder(final String encoding, final OutputStream out) throws IOException {
+        if (ZSTD.equals(encoding)) {
+            return Zstd.encoder(out);
+        }
+        return new GZIPOutputStream(out, BUFFER_SIZE);
+    }
+
+    private static void move(final File from, final File to) throws IOException {
+        try {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(from.toPath(), to.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static File variant(final File file, final String encoding) {
+        return new File(file.getParentFile(), file.getName() + (ZSTD.equals(encoding) ? ".zst" : ".gz"));
+    }
+
+    private static File skipMarker(final File file, final String encoding) {
+        return new File(variant(file, encoding).getPath() + SKIP_SUFFIX);
+    }
+
+    // zstd-jni is optional, so it is referenced (and loaded) only if used
+    private static final class Zstd {
+
+        private static OutputStream encoder(final OutputStream out) throws IOException {
+            return new com.github.luben.zstd.ZstdOutputStream(out);
+        }
+    }
+}
@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.artifact.repository;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -23,4 +26,22 @@ public class ArtifactFilesystemProperties {
      * The base-path of the directory to store the artifacts.
      */
     private String path = "./artifactrepo";
+
+    /**
+     * HTTP content encodings (<code>gzip</code>, <code>zstd</code> - if zstd-jni is on the classpath) in which the
+     * artifacts are stored additionally, next to the artifact file. The downloads negotiate them with the
+     * <code>Accept-Encoding</code> request header. Empty (default) to disable.
+     */
+    private List<String> encodings = new ArrayList<>();
+
+    /**
+     * Minimal size of the artifacts to be encoded, in bytes.
+     */
+    private long encodingMinSize = 64L * 1024;
+
+    /**
+     * If <code>true</code> the encoded variants are created (in background) when an artifact is uploaded, otherwise
+     * when it is requested the first time.
+     */
+    private boolean encodeOnUpload;
 }
\ No newline at end of file
@@ -11,9 +11,11 @@ package org.eclipse.hawkbit.artifact.repository;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 import org.apache.commons.io.FileUtils;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
@@ -31,11 +33,20 @@ import org.springframework.validation.annotation.Validated;
  * Due to the limit of many file-systems of files within one directory, the files
  * are stored in different subdirectories based on the last four digits of the
  * SHA1-hash {@code (/basepath/[two digit sha1]/[two digit sha1])}.
+ *
+ * Uploads are staged in the {@code .staging} directory of the tenant, so they are on the same file-system and just
+ * renamed to their SHA1 naming when completed.
+ *
+ * If configured in {@link ArtifactFilesystemProperties#getEncodings()}, content encoded variants of the artifacts are
+ * stored next to them, see {@link ArtifactFilesystemEncoder}.
  */
 @Validated
 public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
 
+    private static final String STAGING_DIRECTORY = ".staging";
+
     private final ArtifactFilesystemProperties artifactResourceProperties;
+    private final ArtifactFilesystemEncoder encoder;
 
     /**
      * Constructor.
@@ -44,11 +55,17 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
      */
     public ArtifactFilesystemRepository(final ArtifactFilesystemProperties artifactResourceProperties) {
         this.artifactResourceProperties = artifactResourceProperties;
+        final ArtifactFilesystemEncoder artifactEncoder = new ArtifactFilesystemEncoder(artifactResourceProperties);
+        encoder = artifactEncoder.isEnabled() ? artifactEncoder : null;
     }
 
     @Override
     public void deleteBySha1(final String tenant, final String sha1Hash) {
-        FileUtils.deleteQuietly(getFile(tenant, sha1Hash));
+        final File file = getFile(tenant, sha1Hash);
+        FileUtils.deleteQuietly(file);
+        if (encoder != null) {
+            encoder.delete(file);
+        }
     }
 
     @Override
@@ -58,7 +75,7 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
             return null;
         }
 
-        return new ArtifactFilesystem(file, sha1, new DbArtifactHash(sha1, null, null), file.length(), null);
+        return new ArtifactFilesystem(file, sha1, new DbArtifactHash(sha1, null, null), file.length(), null, encoder);
     }
 
     @Override
@@ -80,17 +97,33 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
                 new ArtifactFilesystem(file, base16Hashes.getSha1(), base16Hashes, file.length(), contentType));
     }
 
+    @Override
+    protected File createStagingFile(final String tenant) throws IOException {
+        final Path stagingDirectory = Files.createDirectories(
+                Paths.get(artifactResourceProperties.getPath(), tenant, STAGING_DIRECTORY));
+        return Files.createTempFile(stagingDirectory, null, null).toFile();
+    }
+
     private ArtifactFilesystem renameFileToSHA1Naming(final String tenant, final File file,
             final AbstractDbArtifact artifact) throws IOException {
         final File fileSHA1Naming = getFile(tenant, artifact.getHashes().getSha1());
         if (fileSHA1Naming.exists()) {
             FileUtils.deleteQuietly(file);
         } else {
-            Files.move(file.toPath(), fileSHA1Naming.toPath());
+            try {
+                Files.move(file.toPath(), fileSHA1Naming.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                // the staging file is on another file-system
+                Files.move(file.toPath(), fileSHA1Naming.toPath());
+            }
+            if (encoder != null) {
+                encoder.stored(fileSHA1Naming);
+            }
         }
 
         return new ArtifactFilesystem(
-                fileSHA1Naming, artifact.getArtifactId(), artifact.getHashes(), artifact.getSize(), artifact.getContentType());
+                fileSHA1Naming, artifact.getArtifactId(), artifact.getHashes(), artifact.getSize(), artifact.getContentType(),
+                encoder);
     }
 
     private File getFile(final String tenant, final String sha1) {
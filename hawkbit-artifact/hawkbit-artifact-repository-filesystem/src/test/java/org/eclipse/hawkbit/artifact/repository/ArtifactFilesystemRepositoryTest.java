@@ -10,11 +10,21 @@
 package org.eclipse.hawkbit.artifact.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -23,7 +33,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -112,8 +125,108 @@ class ArtifactFilesystemRepositoryTest {
         }
     }
 
+    @Test
+    @Description("Verifies that the hashes of an artifact larger than the digesting buffers are computed correctly and no staging file is left")
+    void storeLargeArtifactWithCorrectHashes() throws IOException, NoSuchAlgorithmException {
+        final byte[] fileContent = randomBytes(3 * 1024 * 1024 + 17);
+        final AbstractDbArtifact artifact = storeRandomArtifact(fileContent);
+
+        final HexFormat hexFormat = HexFormat.of();
+        assertThat(artifact.getHashes().getSha1()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA1").digest(fileContent)));
+        assertThat(artifact.getHashes().getMd5()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("MD5").digest(fileContent)));
+        assertThat(artifact.getHashes().getSha256())
+                .isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA-256").digest(fileContent)));
+        assertThat(artifact.getFileInputStream()).hasBinaryContent(fileContent);
+        assertThat(stagingDirectory().listFiles()).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that an artifact with a provided sha1 hash which is already stored is only verified, not stored again")
+    void storeExistingArtifactWithProvidedSha1() throws IOException {
+        final byte[] fileContent = randomBytes();
+        final AbstractDbArtifact artifact = storeRandomArtifact(fileContent);
+
+        final AtomicInteger stagingFiles = new AtomicInteger();
+        final ArtifactFilesystemRepository repository = new ArtifactFilesystemRepository(artifactResourceProperties) {
+
+            @Override
+            protected File createStagingFile(final String tenant) throws IOException {
+                stagingFiles.incrementAndGet();
+                return super.createStagingFile(tenant);
+            }
+        };
+        final AbstractDbArtifact existing = repository.store(TENANT, new ByteArrayInputStream(fileContent),
+                "filename.tmp", "application/txt", new DbArtifactHash(artifact.getHashes().getSha1(), null, null));
+        assertThat(existing.getHashes()).isEqualTo(artifact.getHashes());
+        assertThat(stagingFiles).hasValue(0);
+
+        final byte[] otherContent = randomBytes();
+        final DbArtifactHash wrongHashes = new DbArtifactHash(artifact.getHashes().getSha1(), null, null);
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(otherContent)) {
+            assertThatExceptionOfType(HashNotMatchException.class).isThrownBy(() -> repository.store(
+                    TENANT, inputStream, "filename.tmp", "application/txt", wrongHashes));
+        }
+    }
+
+    @Test
+    @Description("Verifies that the content encoded variants of an artifact are stored next to it, if they are smaller, and deleted with it")
+    void storeEncodedVariants() throws IOException {
+        final ArtifactFilesystemProperties properties = new ArtifactFilesystemProperties();
+        properties.setPath(artifactResourceProperties.getPath());
+        properties.setEncodings(List.of("gzip", "zstd"));
+        properties.setEncodingMinSize(0);
+        properties.setEncodeOnUpload(true);
+        final ArtifactFilesystemRepository repository = new ArtifactFilesystemRepository(properties);
+
+        final byte[] compressible = "compressible content ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        final String sha1;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(compressible)) {
+            sha1 = repository.store(TENANT, inputStream, "filename.tmp", "application/txt", null).getHashes().getSha1();
+        }
+        final DbArtifact artifact = repository.getArtifactBySha1(TENANT, sha1);
+        Awaitility.await().atMost(Duration.ofSeconds(10))
+                .until(() -> artifact.getEncoded("gzip").isPresent() && artifact.getEncoded("zstd").isPresent());
+
+        final DbArtifact gzip = artifact.getEncoded("gzip").orElseThrow();
+        assertThat(gzip.getSize()).isLessThan(compressible.length / 10);
+        assertThat(gzip.getHashes()).isEqualTo(artifact.getHashes());
+        try (final InputStream decoded = new GZIPInputStream(gzip.getFileInputStream())) {
+            assertThat(decoded).hasBinaryContent(compressible);
+        }
+        assertThat(artifact.getEncoded("br")).isEmpty();
+
+        // not compressible, stored without encodings and requested lazily
+        final String randomSha1;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(randomBytes(10_000))) {
+            randomSha1 = sha1(artifactFilesystemRepository.store(TENANT, inputStream, "filename.tmp", "application/txt", null));
+        }
+        assertThat(repository.getArtifactBySha1(TENANT, randomSha1).getEncoded("gzip")).isEmpty();
+        Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> new File(artifactFile(randomSha1).getPath() + ".gz.skip").exists());
+        assertThat(repository.getArtifactBySha1(TENANT, randomSha1).getEncoded("gzip")).isEmpty();
+
+        repository.deleteBySha1(TENANT, sha1);
+        assertThat(artifactFile(sha1).getParentFile().list((dir, name) -> name.startsWith(sha1))).isEmpty();
+    }
+
+    private static File stagingDirectory() {
+        return new File(new File(artifactResourceProperties.getPath(), TENANT.toUpperCase()), ".staging");
+    }
+
+    private static File artifactFile(final String sha1) {
+        return new File(new File(new File(new File(artifactResourceProperties.getPath(), TENANT.toUpperCase()),
+                sha1.substring(sha1.length() - 4, sha1.length() - 2)), sha1.substring(sha1.length() - 2)), sha1);
+    }
+
+    private static String sha1(final DbArtifact artifact) {
+        return artifact.getHashes().getSha1();
+    }
+
     private static byte[] randomBytes() {
-        final byte[] randomBytes = new byte[20];
+        return randomBytes(20);
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final byte[] randomBytes = new byte[length];
         new Random().nextBytes(randomBytes);
         return randomBytes;
     }
@@ -15,6 +15,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -47,4 +49,27 @@ class ArtifactFilesystemTest {
                 new DbArtifactHash("1", "2", "3"), 0L, null);
         assertThat(IOUtils.read(underTest.getFileInputStream(), new byte[16])).isZero();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Description("Verifies that an exception is thrown on opening a FileChannel when file does not exists")
+    void openFileChannelOfNonExistingFileThrowsException() {
+        final File file = new File("fileWhichTotalDoesNotExists");
+        final ArtifactFilesystem underTest = new ArtifactFilesystem(
+                file, "fileWhichTotalDoesNotExists",
+                new DbArtifactHash("1", "2", "3"), 0L, null);
+        assertThatThrownBy(underTest::openFileChannel)
+                .isInstanceOf(ArtifactFileNotFoundException.class)
+                .hasCauseInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @Description("Verifies that a FileChannel can be opened if file exists")
+    void openFileChannelOfExistingFile() throws IOException {
+        final ArtifactFilesystem underTest = new ArtifactFilesystem(
+                AbstractArtifactRepository.createTempFile(false), ArtifactFilesystemTest.class.getSimpleName(),
+                new DbArtifactHash("1", "2", "3"), 0L, null);
+        try (final FileChannel channel = underTest.openFileChannel().orElseThrow()) {
+            assertThat(channel.size()).isZero();
+        }
+    }
+}
@@ -13,6 +13,8 @@ import jakarta.validation.constraints.NotNull;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -69,6 +71,11 @@ public class DdiArtifact extends RepresentationModel<DdiArtifact> {
     @Schema(description = "Artifact size", example = "3")
     private final Long size;
 
+    @JsonInclude(Include.NON_NULL)
+    @Schema(description = "Binary delta which rebuilds the artifact from an artifact already installed on the target " +
+            "(optional, only if available)")
+    private DdiArtifactDelta delta;
+
     @JsonCreator
     public DdiArtifact(
             @JsonProperty("filename") final String filename,
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.json.model;
+
+import jakarta.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Download information for a binary delta of a {@link DdiArtifact}. The delta rebuilds the artifact from the artifact
+ * with the source SHA1 hash which is installed on the target.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = """
+        **_links**:
+        * **download** - HTTPs Download resource for the delta. The resource supports partial download as specified by RFC7233 (range requests).
+        * **download-http** - HTTP Download resource for the delta. The resource supports partial download as specified by RFC7233 (range requests). (note: anonymous download needs to be enabled on the service account for non-TLS access)
+        """, example = """
+        {
+          "source" : "2d86c2a659e364e9abba49ea6ffcd53dd5559f05",
+          "hashes" : {
+            "sha1" : "e4e667b70ff652cb9d9c8a49f141bd68e06cec6f",
+            "md5" : "13793b0e3a7830ed685d3ede7ff93048",
+            "sha256" : "c51368bf045803b429a67bdf04539a373d9fb8caa310fe0431265e6871b4f07a"
+          },
+          "size" : 3,
+          "_links" : {
+            "download" : {
+              "href" : "https://link-to-cdn.com/api/v1/TENANT_ID/download/controller/CONTROLLER_ID/softwaremodules/40/filename/binaryFile/delta/2d86c2a659e364e9abba49ea6ffcd53dd5559f05"
+            }
+          }
+        }""")
+public class DdiArtifactDelta extends RepresentationModel<DdiArtifactDelta> {
+
+    @NotNull
+    @Schema(description = "SHA1 hash of the installed artifact the delta has to be applied to",
+            example = "2d86c2a659e364e9abba49ea6ffcd53dd5559f05")
+    private final String source;
+
+    @Schema(description = "Delta hashes")
+    private final DdiArtifactHash hashes;
+
+    @Schema(description = "Delta size", example = "3")
+    private final Long size;
+
+    @JsonCreator
+    public DdiArtifactDelta(
+            @JsonProperty("source") final String source,
+            @JsonProperty("hashes") final DdiArtifactHash hashes,
+            @JsonProperty("size") final Long size) {
+        this.source = source;
+        this.hashes = hashes;
+        this.size = size;
+    }
+}
@@ -54,6 +54,10 @@ public final class DdiRestConstants {
      * File suffix for MDH hash download (see Linux md5sum).
      */
     public static final String ARTIFACT_MD5_DWNL_SUFFIX = ".MD5SUM";
+    /**
+     * Sub path for binary delta download, followed by the SHA1 hash of the source artifact.
+     */
+    public static final String ARTIFACT_DELTA_DWNL_PATH = "/delta/";
     /**
      * Config data action resources.
      */
@@ -166,6 +166,49 @@ public interface DdiRootControllerRestApi {
             @PathVariable("softwareModuleId") Long softwareModuleId,
             @PathVariable("fileName") String fileName);
 
+    /**
+     * Handles GET {@link DdiArtifact} binary delta download request. This could be full or partial (as specified by
+     * RFC7233 (Range Requests)) download request.
+     *
+     * @param tenant of the request
+     * @param controllerId of the target
+     * @param softwareModuleId of the parent software module
+     * @param fileName of the related local artifact
+     * @param sourceSha1 SHA1 hash of the installed artifact the delta is calculated from
+     * @return response of the servlet which in case of success is status code
+     *         {@link HttpStatus#OK} or in case of partial download {@link HttpStatus#PARTIAL_CONTENT}.
+     */
+    @Operation(summary = "Artifact delta download", description = "Handles GET DdiArtifact binary delta download request. " +
+            "The delta rebuilds the artifact from the installed artifact with the given SHA1 hash. This could be full or " +
+            "partial (as specified by RFC7233 (Range Requests)) download request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to be" +
+                    " changed (i.e. read-only) or data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "Target, Module or delta not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "406", description = "In case accept header is specified and not application/json.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts" +
+                    " and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/{fileName}" +
+            DdiRestConstants.ARTIFACT_DELTA_DWNL_PATH + "{sourceSha1}")
+    ResponseEntity<InputStream> downloadArtifactDelta(
+            @PathVariable("tenant") String tenant,
+            @PathVariable("controllerId") String controllerId,
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("fileName") String fileName,
+            @PathVariable("sourceSha1") String sourceSha1);
+
     /**
      * Handles GET {@link DdiArtifact} MD5 checksum file download request.
      *
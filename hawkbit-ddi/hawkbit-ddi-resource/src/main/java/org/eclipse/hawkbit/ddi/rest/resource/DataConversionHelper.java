@@ -9,8 +9,11 @@
  */
 package org.eclipse.hawkbit.ddi.rest.resource;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -19,22 +22,27 @@ import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder.SoftwareData;
 import org.eclipse.hawkbit.ddi.json.model.DdiArtifact;
+import org.eclipse.hawkbit.ddi.json.model.DdiArtifactDelta;
 import org.eclipse.hawkbit.ddi.json.model.DdiArtifactHash;
 import org.eclipse.hawkbit.ddi.json.model.DdiAutoConfirmationState;
 import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
 import org.eclipse.hawkbit.ddi.json.model.DdiConfig;
 import org.eclipse.hawkbit.ddi.json.model.DdiConfirmationBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
+import org.eclipse.hawkbit.ddi.json.model.DdiDeploymentBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiMetadata;
 import org.eclipse.hawkbit.ddi.json.model.DdiPolling;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
+import org.eclipse.hawkbit.repository.ArtifactDeltaManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.rest.json.model.ResponseList;
 import org.eclipse.hawkbit.tenancy.TenantAware;
@@ -42,6 +50,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpRequest;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 
 /**
  * Utility class for the DDI API.
@@ -50,9 +59,8 @@ import org.springframework.util.CollectionUtils;
 public final class DataConversionHelper {
 
     public static DdiConfirmationBase createConfirmationBase(
-            final Target target, final Action activeAction,
+            final String controllerId, final Action activeAction,
             final DdiAutoConfirmationState autoConfirmationState, final TenantAware tenantAware) {
-        final String controllerId = target.getControllerId();
         final DdiConfirmationBase confirmationBase = new DdiConfirmationBase(autoConfirmationState);
         if (autoConfirmationState.isActive()) {
             confirmationBase.add(WebMvcLinkBuilder
@@ -77,8 +85,8 @@ public final class DataConversionHelper {
     }
 
     public static DdiControllerBase fromTarget(
-            final Target target, final Action installedAction,
-            final Action activeAction, final String defaultControllerPollTime, final TenantAware tenantAware) {
+            final TargetPollSnapshot target, final Action activeAction, final String defaultControllerPollTime,
+            final TenantAware tenantAware) {
         final DdiControllerBase result = new DdiControllerBase(
                 new DdiConfig(new DdiPolling(defaultControllerPollTime)));
 
@@ -109,12 +117,12 @@ public final class DataConversionHelper {
             }
         }
 
-        if (installedAction != null && !installedAction.isActive()) {
+        if (target.getInstalledActionId() != null) {
             result.add(
                     WebMvcLinkBuilder
                             .linkTo(WebMvcLinkBuilder.methodOn(DdiRootController.class, tenantAware.getCurrentTenant())
                                     .getControllerInstalledAction(tenantAware.getCurrentTenant(),
-                                            target.getControllerId(), installedAction.getId(), null))
+                                            target.getControllerId(), target.getInstalledActionId(), null))
                             .withRel(DdiRestConstants.INSTALLED_BASE_ACTION).expand());
         }
 
@@ -129,10 +137,54 @@ public final class DataConversionHelper {
         return result;
     }
 
+    /**
+     * Calculates the strong ETag of the {@link DdiControllerBase} - it changes if any of the data the controller base
+     * is built of changes (active action and its state, installed action, polling time, config data request).
+     *
+     * @param representation the requested representation (e.g. media type and URL the links are built of)
+     * @param target the poll snapshot of the target
+     * @param activeAction the active action, <code>null</code> if none
+     * @param pollingTime the polling time returned to the controller
+     * @return the quoted ETag
+     */
+    static String controllerBaseEtag(
+            final String representation, final TargetPollSnapshot target, final Action activeAction, final String pollingTime) {
+        return toEtag(representation, target.getTargetId(), target.getInstalledActionId(), target.isRequestControllerAttributes(), pollingTime,
+                actionState(activeAction));
+    }
+
+    /**
+     * Calculates the strong ETag of the {@link DdiDeploymentBase} of an action (without action history).
+     *
+     * @param representation the requested representation (e.g. media type and URL the links are built of)
+     * @param action the action
+     * @param deltaSha1Hashes the (sorted) SHA1 hashes of the deltas offered to the target, they change with the
+     *         background generation of the deltas
+     * @return the quoted ETag
+     */
+    static String deploymentBaseEtag(final String representation, final Action action, final List<String> deltaSha1Hashes) {
+        return toEtag(representation, actionState(action), action.getDistributionSet().getId(), deltaSha1Hashes);
+    }
+
+    /**
+     * Calculates the strong ETag of the {@link DdiConfirmationBase}.
+     *
+     * @param representation the requested representation (e.g. media type and URL the links are built of)
+     * @param activeAction the active action, <code>null</code> if none
+     * @param autoConfirmationState the auto confirmation state of the target
+     * @return the quoted ETag
+     */
+    static String confirmationBaseEtag(
+            final String representation, final Action activeAction, final DdiAutoConfirmationState autoConfirmationState) {
+        return toEtag(representation, actionState(activeAction), autoConfirmationState.isActive(), autoConfirmationState.getInitiator(),
+                autoConfirmationState.getRemark(), autoConfirmationState.getActivatedAt());
+    }
+
     static List<DdiChunk> createChunks(
             final Target target, final Action uAction,
             final ArtifactUrlHandler artifactUrlHandler, final SystemManagement systemManagement,
-            final HttpRequest request, final ControllerManagement controllerManagement) {
+            final HttpRequest request, final ControllerManagement controllerManagement,
+            final ArtifactDeltaManagement artifactDeltaManagement) {
         final Map<Long, List<SoftwareModuleMetadata>> metadata = controllerManagement
                 .findTargetVisibleMetaDataBySoftwareModuleId(uAction.getDistributionSet().getModules().stream()
                         .map(SoftwareModule::getId).toList());
@@ -140,7 +192,10 @@ public final class DataConversionHelper {
         return new ResponseList<>(uAction.getDistributionSet().getModules().stream()
                 .map(module -> new DdiChunk(mapChunkLegacyKeys(module.getType().getKey()), module.getVersion(),
                         module.getName(), module.isEncrypted() ? Boolean.TRUE : null,
-                        createArtifacts(target, module, artifactUrlHandler, systemManagement, request),
+                        createArtifacts(target, module, artifactUrlHandler, systemManagement, request,
+                                artifactDeltaManagement == null
+                                        ? Collections.emptyMap()
+                                        : artifactDeltaManagement.findDeltas(target.getControllerId(), module.getId())),
                         mapMetadata(metadata.get(module.getId()))))
                 .toList());
 
@@ -149,9 +204,16 @@ public final class DataConversionHelper {
     static List<DdiArtifact> createArtifacts(final Target target, final SoftwareModule module,
             final ArtifactUrlHandler artifactUrlHandler, final SystemManagement systemManagement,
             final HttpRequest request) {
+        return createArtifacts(target, module, artifactUrlHandler, systemManagement, request, Collections.emptyMap());
+    }
+
+    private static List<DdiArtifact> createArtifacts(final Target target, final SoftwareModule module,
+            final ArtifactUrlHandler artifactUrlHandler, final SystemManagement systemManagement,
+            final HttpRequest request, final Map<String, ArtifactDelta> deltas) {
 
         return new ResponseList<>(module.getArtifacts().stream()
-                .map(artifact -> createArtifact(target, artifactUrlHandler, artifact, systemManagement, request))
+                .map(artifact -> createArtifact(target, artifactUrlHandler, artifact, systemManagement, request,
+                        deltas.get(artifact.getSha1Hash())))
                 .toList());
     }
 
@@ -173,7 +235,8 @@ public final class DataConversionHelper {
 
     private static DdiArtifact createArtifact(
             final Target target, final ArtifactUrlHandler artifactUrlHandler,
-            final Artifact artifact, final SystemManagement systemManagement, final HttpRequest request) {
+            final Artifact artifact, final SystemManagement systemManagement, final HttpRequest request,
+            final ArtifactDelta delta) {
         final DdiArtifact file = new DdiArtifact(
                 artifact.getFilename(),
                 new DdiArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash(), artifact.getSha256Hash()),
@@ -189,9 +252,44 @@ public final class DataConversionHelper {
                         ApiType.DDI, request.getURI())
                 .forEach(entry -> file.add(Link.of(entry.getRef()).withRel(entry.getRel()).expand()));
 
+        if (delta != null) {
+            file.setDelta(createArtifactDelta(file, delta));
+        }
+
         return file;
     }
 
+    // the delta is downloaded from the artifact download resources, sub resource 'delta/{sourceSha1}'
+    private static DdiArtifactDelta createArtifactDelta(final DdiArtifact file, final ArtifactDelta delta) {
+        final DdiArtifactDelta ddiDelta = new DdiArtifactDelta(
+                delta.getSourceSha1Hash(),
+                new DdiArtifactHash(delta.getSha1Hash(), delta.getMd5Hash(), delta.getSha256Hash()),
+                delta.getSize());
+        Stream.of("download", "download-http").forEach(rel -> file.getLink(rel).ifPresent(link ->
+                ddiDelta.add(Link.of(link.getHref() + DdiRestConstants.ARTIFACT_DELTA_DWNL_PATH + delta.getSourceSha1Hash())
+                        .withRel(rel))));
+        return ddiDelta;
+    }
+
+    // the state of the action which is part of the etags of the deployment resources - the revision and the status
+    // and the force and maintenance window switches. Not based on the hashCode since it depends on the entity class (and it
+    // could be a proxy)
+    private static String actionState(final Action action) {
+        return action == null
+                ? null
+                : action.getId() + ":" + action.getOptLockRevision() + ":" + action.getStatus() + ":" +
+                        action.isHitAutoForceTime(System.currentTimeMillis()) + ":" +
+                        (action.hasMaintenanceSchedule() && action.isMaintenanceWindowAvailable());
+    }
+
+    private static String toEtag(final Object... parts) {
+        final StringBuilder sb = new StringBuilder();
+        for (final Object part : parts) {
+            sb.append(part).append('|');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     /**
      * Calculates an etag for the given {@link Action} based on the entities hashcode and the {@link Action#isHitAutoForceTime(long)}
      * to reflect a force switch.
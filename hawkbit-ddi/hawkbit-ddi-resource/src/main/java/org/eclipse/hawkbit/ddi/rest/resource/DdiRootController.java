@@ -45,6 +45,7 @@ import org.eclipse.hawkbit.ddi.json.model.DdiResult.FinalResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiUpdateMode;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
+import org.eclipse.hawkbit.repository.ArtifactDeltaManagement;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
@@ -63,10 +64,12 @@ import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
+import org.eclipse.hawkbit.rest.util.AsyncFileStreaming;
 import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
-import org.eclipse.hawkbit.rest.util.HttpUtil;
 import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.tenancy.TenantAware;
@@ -114,6 +117,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
     private final TenantAware tenantAware;
     private final EntityFactory entityFactory;
     private ServiceMatcher serviceMatcher;
+    private AsyncFileStreaming asyncFileStreaming;
+    private ArtifactDeltaManagement artifactDeltaManagement;
 
     @SuppressWarnings("java:S107")
     public DdiRootController(
@@ -139,6 +144,16 @@ public class DdiRootController implements DdiRootControllerRestApi {
         this.serviceMatcher = serviceMatcher;
     }
 
+    @Autowired(required = false)
+    public void setAsyncFileStreaming(final AsyncFileStreaming asyncFileStreaming) {
+        this.asyncFileStreaming = asyncFileStreaming;
+    }
+
+    @Autowired(required = false)
+    public void setArtifactDeltaManagement(final ArtifactDeltaManagement artifactDeltaManagement) {
+        this.artifactDeltaManagement = artifactDeltaManagement;
+    }
+
     @Override
     public ResponseEntity<List<DdiArtifact>> getSoftwareModulesArtifacts(
             final String tenant,
@@ -161,19 +176,22 @@ public class DdiRootController implements DdiRootControllerRestApi {
     public ResponseEntity<DdiControllerBase> getControllerBase(final String tenant, final String controllerId) {
         log.debug("getControllerBase({})", controllerId);
 
-        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(
+        final TargetPollSnapshot snapshot = controllerManagement.pollTarget(
                 controllerId, IpUtil.getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties));
-        final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
-        final Action installedAction = controllerManagement.getInstalledActionByTarget(target).orElse(null);
+        final Action activeAction = findActiveAction(snapshot);
 
         checkAndCancelExpiredAction(activeAction);
 
+        final String pollingTime = activeAction == null
+                ? snapshot.getPollingTime()
+                : controllerManagement.getPollingTimeForAction(activeAction);
+        final String etag = DataConversionHelper.controllerBaseEtag(representation(), snapshot, activeAction, pollingTime);
+        if (isNotModified(etag)) {
+            return notModified(etag);
+        }
+
         // activeAction
-        return new ResponseEntity<>(DataConversionHelper.fromTarget(target, installedAction, activeAction,
-                activeAction == null
-                        ? controllerManagement.getPollingTime()
-                        : controllerManagement.getPollingTimeForAction(activeAction), tenantAware),
-                HttpStatus.OK);
+        return okWithEtag(etag).body(DataConversionHelper.fromTarget(snapshot, activeAction, pollingTime, tenantAware));
     }
 
     @Override
@@ -197,29 +215,38 @@ public class DdiRootController implements DdiRootControllerRestApi {
             final DbArtifact file = artifactManagement
                     .loadArtifactBinary(artifact.getSha1Hash(), module.getId(), module.isEncrypted())
                     .orElseThrow(() -> new ArtifactBinaryNotFoundException(artifact.getSha1Hash()));
-
-            final String ifMatch = RequestResponseContextHolder.getHttpServletRequest().getHeader(HttpHeaders.IF_MATCH);
-            if (ifMatch != null && !HttpUtil.matchesHttpHeader(ifMatch, artifact.getSha1Hash())) {
-                result = new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
-            } else {
-                final ActionStatus actionStatus = RequestResponseContextHolder.getHttpServletRequest().getHeader("Range") == null
-                        ? logDownload(RequestResponseContextHolder.getHttpServletRequest(), target, module.getId())
-                        : null; // range request - could have too many - so doesn't check action, don't log action status, and don't publish events
-                result = FileStreamingUtil.writeFileResponse(file, artifact.getFilename(), artifact.getCreatedAt(),
-                        RequestResponseContextHolder.getHttpServletResponse(),
-                        RequestResponseContextHolder.getHttpServletRequest(),
-                        (length, shippedSinceLastEvent, total) -> {
-                            if (actionStatus != null) {
-                                eventPublisher.publishEvent(new DownloadProgressEvent(
-                                        tenantAware.getCurrentTenant(), actionStatus.getId(), shippedSinceLastEvent,
-                                        serviceMatcher != null ? serviceMatcher.getBusId() : bus.getId()));
-                            }
-                        });
-            }
+            result = writeArtifactResponse(target, module, file, artifact.getSha1Hash(), artifact.getFilename(), artifact.getCreatedAt());
         }
         return result;
     }
 
+    @Override
+    public ResponseEntity<InputStream> downloadArtifactDelta(
+            final String tenant,
+            final String controllerId,
+            final Long softwareModuleId,
+            final String fileName,
+            final String sourceSha1) {
+        final Target target = findTarget(controllerId);
+        final SoftwareModule module = controllerManagement.getSoftwareModule(softwareModuleId)
+                .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, softwareModuleId));
+
+        if (artifactDeltaManagement == null || checkModule(fileName, module)) {
+            log.warn("Software module with id {} could not be found (delta).", softwareModuleId);
+            return ResponseEntity.notFound().build();
+        }
+
+        final Artifact artifact = module.getArtifactByFilename(fileName).orElseThrow(NoSuchElementException::new);
+        final Optional<DbArtifact> delta = artifactDeltaManagement.loadDeltaBinary(sourceSha1, artifact.getSha1Hash());
+        if (delta.isEmpty()) {
+            log.debug("No delta from {} to artifact {} of software module {}.", sourceSha1, fileName, softwareModuleId);
+            return ResponseEntity.notFound().build();
+        }
+
+        return writeArtifactResponse(target, module, delta.get(), delta.get().getHashes().getSha1(),
+                artifact.getFilename() + ".delta", artifact.getCreatedAt());
+    }
+
     // Exception squid:S3655 - Optional access is checked in checkModule subroutine
     @SuppressWarnings("squid:S3655")
     @Override
@@ -267,13 +294,26 @@ public class DdiRootController implements DdiRootControllerRestApi {
         checkAndCancelExpiredAction(action);
 
         if (!action.isCancelingOrCanceled() && !action.isWaitingConfirmation()) {
+            // the action history is not part of the ETag, so conditional requests are supported only without it
+            final boolean conditional = actionHistoryMessageCount == null || actionHistoryMessageCount == 0;
+            final List<String> deltaSha1Hashes = conditional ? findDeltaSha1Hashes(target, action) : List.of();
+            if (conditional) {
+                final String etag = DataConversionHelper.deploymentBaseEtag(representation(), action, deltaSha1Hashes);
+                if (isNotModified(etag)) {
+                    return notModified(etag);
+                }
+            }
+
             final DdiDeploymentBase base = generateDdiDeploymentBase(target, action, actionHistoryMessageCount);
             log.debug("Found an active UpdateAction for target {}. returning deployment: {}", controllerId, base);
 
-            controllerManagement.registerRetrieved(action.getId(), RepositoryConstants.SERVER_MESSAGE_PREFIX +
+            final Action retrieved = controllerManagement.registerRetrieved(action.getId(), RepositoryConstants.SERVER_MESSAGE_PREFIX +
                     "Target retrieved update action and should start now the download.");
 
-            return new ResponseEntity<>(base, HttpStatus.OK);
+            // the ETag is of the retrieved action since the registration of the retrieval could change it
+            return conditional
+                    ? okWithEtag(DataConversionHelper.deploymentBaseEtag(representation(), retrieved, deltaSha1Hashes)).body(base)
+                    : new ResponseEntity<>(base, HttpStatus.OK);
         }
 
         return ResponseEntity.notFound().build();
@@ -377,15 +417,20 @@ public class DdiRootController implements DdiRootControllerRestApi {
     @Override
     public ResponseEntity<DdiConfirmationBase> getConfirmationBase(final String tenant, final String controllerId) {
         log.debug("getConfirmationBase is called [controllerId={}].", controllerId);
-        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, IpUtil
+        final TargetPollSnapshot snapshot = controllerManagement.pollTarget(controllerId, IpUtil
                 .getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties));
-        final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
+        final Action activeAction = findActiveAction(snapshot);
 
         final DdiAutoConfirmationState autoConfirmationState = getAutoConfirmationState(controllerId);
 
+        final String etag = DataConversionHelper.confirmationBaseEtag(representation(), activeAction, autoConfirmationState);
+        if (isNotModified(etag)) {
+            return notModified(etag);
+        }
+
         final DdiConfirmationBase confirmationBase = DataConversionHelper.createConfirmationBase(
-                target, activeAction, autoConfirmationState, tenantAware);
-        return new ResponseEntity<>(confirmationBase, HttpStatus.OK);
+                controllerId, activeAction, autoConfirmationState, tenantAware);
+        return okWithEtag(etag).body(confirmationBase);
     }
 
     @Override
@@ -611,6 +656,29 @@ public class DdiRootController implements DdiRootControllerRestApi {
         response.getOutputStream().write(content);
     }
 
+    private ResponseEntity<InputStream> writeArtifactResponse(final Target target, final SoftwareModule module,
+            final DbArtifact file, final String sha1, final String filename, final long lastModified) {
+        final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
+        if (!FileStreamingUtil.matchesIfMatch(request, sha1)) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
+        final ActionStatus actionStatus = request.getHeader("Range") == null
+                ? logDownload(request, target, module.getId())
+                : null; // range request - could have too many - so doesn't check action, don't log action status, and don't publish events
+        // resolved in advance since the progress could be reported by a container thread (async download)
+        final String currentTenant = tenantAware.getCurrentTenant();
+        final String busId = serviceMatcher != null ? serviceMatcher.getBusId() : bus.getId();
+        return FileStreamingUtil.writeFileResponse(file, filename, lastModified,
+                RequestResponseContextHolder.getHttpServletResponse(), request,
+                (length, shippedSinceLastEvent, total) -> {
+                    if (actionStatus != null) {
+                        eventPublisher.publishEvent(new DownloadProgressEvent(
+                                currentTenant, actionStatus.getId(), shippedSinceLastEvent, busId));
+                    }
+                }, asyncFileStreaming);
+    }
+
     private ActionStatus logDownload(final HttpServletRequest request, final Target target, final Long module) {
         final Action action = controllerManagement
                 .getActionForDownloadByTargetAndSoftwareModule(target.getControllerId(), module)
@@ -715,6 +783,39 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return verifyActionBelongsToTarget(action, target);
     }
 
+    private Action findActiveAction(final TargetPollSnapshot snapshot) {
+        // the active action is loaded only if there is such - idle targets are served from the snapshot
+        return snapshot.getActiveActionId() == null
+                ? null
+                : controllerManagement.findActionWithDetails(snapshot.getActiveActionId()).filter(Action::isActive).orElse(null);
+    }
+
+    /**
+     * Checks the <code>If-None-Match</code> header of the request against the ETag of the current resource state.
+     * It is checked before building the response so an unchanged resource is neither mapped nor serialized.
+     */
+    private static boolean isNotModified(final String etag) {
+        // weak comparison, as specified for If-None-Match
+        return new ServletServerHttpRequest(RequestResponseContextHolder.getHttpServletRequest()).getHeaders().getIfNoneMatch()
+                .stream()
+                .anyMatch(presented -> "*".equals(presented) || etag.equals(presented.startsWith("W/") ? presented.substring(2) : presented));
+    }
+
+    // the links in the response body depend on the request URL, its media type is negotiated by the Accept header
+    private static String representation() {
+        final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
+        return request.getRequestURL() + "|" + request.getHeader(HttpHeaders.ACCEPT);
+    }
+
+    // the ETag depends on the Accept header, so the caches shall distinguish the responses by it
+    private static ResponseEntity.BodyBuilder okWithEtag(final String etag) {
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT);
+    }
+
+    private static <T> ResponseEntity<T> notModified(final String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+
     private Action verifyActionBelongsToTarget(final Action action, final Target target) {
         if (!action.getTarget().getId().equals(target.getId())) {
             log.debug(GIVEN_ACTION_IS_NOT_ASSIGNED_TO_GIVEN_TARGET, action.getId(), target.getId());
@@ -739,6 +840,17 @@ public class DdiRootController implements DdiRootControllerRestApi {
         }
     }
 
+    private List<String> findDeltaSha1Hashes(final Target target, final Action action) {
+        if (artifactDeltaManagement == null) {
+            return List.of();
+        }
+        return action.getDistributionSet().getModules().stream()
+                .flatMap(module -> artifactDeltaManagement.findDeltas(target.getControllerId(), module.getId()).values().stream())
+                .map(ArtifactDelta::getSha1Hash)
+                .sorted()
+                .toList();
+    }
+
     private DdiDeploymentBase generateDdiDeploymentBase(final Target target, final Action action, final Integer actionHistoryMessageCount) {
         final DdiActionHistory actionHistory = generateDdiActionHistory(action, actionHistoryMessageCount).orElse(null);
         final DdiDeployment ddiDeployment = generateDdiDeployment(target, action);
@@ -756,7 +868,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
         final List<DdiChunk> chunks = DataConversionHelper.createChunks(
                 target, action, artifactUrlHandler,
                 systemManagement, new ServletServerHttpRequest(RequestResponseContextHolder.getHttpServletRequest()),
-                controllerManagement);
+                controllerManagement, artifactDeltaManagement);
         final HandlingType downloadType = calculateDownloadType(action);
         final HandlingType updateType = calculateUpdateType(action, downloadType);
         final DdiMaintenanceWindowStatus maintenanceWindow = calculateMaintenanceWindow(action);
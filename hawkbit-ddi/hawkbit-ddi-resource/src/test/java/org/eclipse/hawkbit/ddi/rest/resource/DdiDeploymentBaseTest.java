@@ -109,6 +109,35 @@ class DdiDeploymentBaseTest extends AbstractDDiApiIntegrationTest {
                 status().isOk());
     }
 
+    @Test
+    @Description("Ensures that the deployment resource responds with not modified if the ETag presented by the client is still valid.")
+    void deploymentResourceNotModified() throws Exception {
+        final Target target = testdataFactory.createTarget();
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("");
+        assignDistributionSet(distributionSet.getId(), target.getControllerId(), ActionType.SOFT);
+        final Action action = deploymentManagement.findActiveActionsByTarget(PAGE, target.getControllerId()).getContent().get(0);
+
+        final String etag = performGet(DEPLOYMENT_BASE, MediaType.APPLICATION_JSON, status().isOk(),
+                tenantAware.getCurrentTenant(), target.getControllerId(), action.getId().toString())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenantAware.getCurrentTenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", etag).accept(MediaType.APPLICATION_JSON)
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified());
+
+        // forcing changes the action, so the deployment resource is returned again
+        deploymentManagement.forceTargetAction(action.getId());
+        mvc.perform(MockMvcRequestBuilders.get(DEPLOYMENT_BASE, tenantAware.getCurrentTenant(), target.getControllerId(), action.getId())
+                        .header("If-None-Match", etag).accept(MediaType.APPLICATION_JSON)
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deployment.update", equalTo("forced")));
+    }
+
     @Test
     @Description("Ensures that artifacts are not found, when software module does not exists.")
     void artifactsNotFound() throws Exception {
@@ -24,6 +24,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -211,7 +212,7 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
     @Description("Ensures that etag check results in not modified response if provided etag by client is identical to entity in repository.")
     @ExpectEvents({
             @Expect(type = TargetCreatedEvent.class, count = 1),
-            @Expect(type = TargetPollEvent.class, count = 6),
+            @Expect(type = TargetPollEvent.class, count = 7),
             @Expect(type = TargetAssignDistributionSetEvent.class, count = 2),
             @Expect(type = TargetUpdatedEvent.class, count = 3),
             @Expect(type = ActionUpdatedEvent.class, count = 1),
@@ -257,10 +258,19 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
 
         assertThat(etagWithFirstUpdate).isNotNull();
 
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match",
+                        etagWithFirstUpdate).accept(MediaType.APPLICATION_JSON).with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
+
+        // the ETag is of the representation, so it doesn't match for another media type
         mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match",
                         etagWithFirstUpdate).with(new RequestOnHawkbitDefaultPortPostProcessor()))
                 .andDo(MockMvcResultPrinter.print())
-                .andExpect(status().isNotModified());
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaTypes.HAL_JSON))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")));
 
         // now lets finish the update
         sendDeploymentActionFeedback(target, updateAction, "closed", null)
@@ -59,6 +59,15 @@ public class SecurityTokenAuthenticator extends Authenticator.AbstractAuthentica
         log.debug("Found 'authorization' header starting with '{}'", TARGET_SECURITY_TOKEN_AUTH_SCHEME);
         final String presentedToken = authHeader.substring(OFFSET_TARGET_TOKEN);
 
+        if (controllerSecurityToken.getTargetId() == null && systemSecurityContext.runAsSystemAsTenant(
+                () -> controllerManagement.findCachedPollSnapshot(controllerSecurityToken.getControllerId()),
+                controllerSecurityToken.getTenant())
+                .filter(snapshot -> snapshot.isSecurityTokenMatching(presentedToken))
+                .isPresent()) {
+            // the token matches the one of the cached poll snapshot - no need to load the target
+            return authenticatedController(controllerSecurityToken.getTenant(), controllerSecurityToken.getControllerId());
+        }
+
         return systemSecurityContext.runAsSystemAsTenant(() -> controllerSecurityToken.getTargetId() != null
                                 ? controllerManagement.get(controllerSecurityToken.getTargetId())
                                 : controllerManagement.getByControllerId(controllerSecurityToken.getControllerId()),
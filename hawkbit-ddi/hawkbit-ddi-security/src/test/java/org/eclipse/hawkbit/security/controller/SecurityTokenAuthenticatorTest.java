@@ -10,6 +10,8 @@
 package org.eclipse.hawkbit.security.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
@@ -20,6 +22,7 @@ import io.qameta.allure.Story;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
 import org.eclipse.hawkbit.security.SecurityContextSerializer;
 import org.eclipse.hawkbit.security.SecurityContextTenantAware;
@@ -84,6 +87,24 @@ class SecurityTokenAuthenticatorTest {
                 .hasFieldOrPropertyWithValue("principal", CONTROLLER_ID);
     }
 
+    @Test
+    @Description("Tests successful authentication with security token matching the cached poll snapshot, without loading the target")
+    void testWithSecTokenOfCachedPollSnapshot() {
+        final ControllerSecurityToken securityToken = prepareSecurityToken(SECURITY_TOKEN);
+        when(tenantConfigurationManagementMock.getConfigurationValue(
+                TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED, Boolean.class))
+                .thenReturn(CONFIG_VALUE_ENABLED);
+
+        final TargetPollSnapshot snapshot = new TargetPollSnapshot(
+                "DEFAULT", 1L, CONTROLLER_ID, null, TargetPollSnapshot.hashSecurityToken(SECURITY_TOKEN), false, null, null, null, null);
+        when(controllerManagementMock.findCachedPollSnapshot(CONTROLLER_ID)).thenReturn(Optional.of(snapshot));
+
+        assertThat(authenticator.authenticate(securityToken))
+                .isNotNull()
+                .hasFieldOrPropertyWithValue("principal", CONTROLLER_ID);
+        verify(controllerManagementMock, never()).getByControllerId(CONTROLLER_ID);
+    }
+
     @Test
     @Description("Tests that if gateway token doesn't match, the authentication fails")
     void testWithBadSecToken() {
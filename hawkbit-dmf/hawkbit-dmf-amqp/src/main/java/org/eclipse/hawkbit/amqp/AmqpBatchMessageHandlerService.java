@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.rabbitmq.client.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * {@link AmqpBatchMessageHandlerService} consumes the DMF receiver queue in batches (if
+ * hawkbit.dmf.rabbitmq.batch-listener-enabled is set). The messages of a batch are grouped by tenant and message type and
+ * every group is handled by the {@link AmqpMessageHandlerService} in one transaction, begun as the tenant of the group.
+ * <p/>
+ * The messages of a group keep their order, so do all the updates of an action - they are all {@link MessageType#EVENT}s
+ * of the same tenant. Between the groups, the order is kept only per thing - if a thing has messages of different
+ * types in a batch, the groups collected so far are handled before. The action status updates don't carry the thing id,
+ * so they are not ordered relatively to the {@link MessageType#THING_CREATED} and {@link MessageType#THING_REMOVED}
+ * messages of their thing.
+ * <p/>
+ * If a group fails, its transaction is rolled back and its messages are handled one by one, each in its own
+ * transaction. The failed messages are classified by the {@link ErrorHandler} of the listener containers - the fatal
+ * ones are sent to the dead letter exchange, the others are rejected with requeue, after the delay of the
+ * {@link DelayedRequeueExceptionStrategy} - as the single message listener container does. So the messages are
+ * acknowledged one by one (manual acknowledge mode of the batch listener container).
+ */
+@Slf4j
+public class AmqpBatchMessageHandlerService {
+
+    static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+
+    private final AmqpMessageHandlerService amqpMessageHandlerService;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TenantAware tenantAware;
+    private final ErrorHandler errorHandler;
+    private final AmqpProperties amqpProperties;
+
+    /**
+     * Constructor.
+     *
+     * @param amqpMessageHandlerService handles the single messages
+     * @param rabbitTemplate to send the fatally failed messages to the dead letter exchange
+     * @param txManager for the group transactions
+     * @param tenantAware to begin the group transactions as the tenant of the group
+     * @param errorHandler to classify the failed messages
+     * @param amqpProperties the AMQP properties
+     */
+    public AmqpBatchMessageHandlerService(
+            final AmqpMessageHandlerService amqpMessageHandlerService, final RabbitTemplate rabbitTemplate,
+            final PlatformTransactionManager txManager, final TenantAware tenantAware, final ErrorHandler errorHandler,
+            final AmqpProperties amqpProperties) {
+        this.amqpMessageHandlerService = amqpMessageHandlerService;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(txManager);
+        this.tenantAware = tenantAware;
+        this.errorHandler = errorHandler;
+        this.amqpProperties = amqpProperties;
+    }
+
+    /**
+     * Handles a batch of incoming DMF amqp messages.
+     *
+     * @param messages the messages of the batch
+     * @param channel the channel the messages are received from, to acknowledge them
+     */
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "batchListenerContainerFactory")
+    public void onMessages(final List<Message> messages, final Channel channel) {
+        final String virtualHost = rabbitTemplate.getConnectionFactory().getVirtualHost();
+
+        final Map<GroupKey, List<Message>> groups = new LinkedHashMap<>();
+        final Map<ThingKey, GroupKey> thingGroups = new HashMap<>();
+        for (final Message message : messages) {
+            final MessageProperties properties = message.getMessageProperties();
+            final String tenant = header(properties, MessageHeaderKey.TENANT);
+            final GroupKey groupKey = new GroupKey(tenant, header(properties, MessageHeaderKey.TYPE));
+            final String thingId = header(properties, MessageHeaderKey.THING_ID);
+            if (thingId != null) {
+                final ThingKey thingKey = new ThingKey(tenant, thingId);
+                final GroupKey thingGroup = thingGroups.get(thingKey);
+                if (thingGroup != null && !thingGroup.equals(groupKey)) {
+                    // keeps the order of the messages of the thing
+                    handle(groups, virtualHost, channel);
+                    groups.clear();
+                    thingGroups.clear();
+                }
+                thingGroups.put(thingKey, groupKey);
+            }
+            groups.computeIfAbsent(groupKey, key -> new ArrayList<>()).add(message);
+        }
+        handle(groups, virtualHost, channel);
+    }
+
+    private void handle(final Map<GroupKey, List<Message>> groups, final String virtualHost, final Channel channel) {
+        groups.forEach((groupKey, groupMessages) -> {
+            try {
+                inTransaction(groupKey, () -> groupMessages.forEach(message -> handle(message, groupKey, virtualHost)));
+                groupMessages.forEach(message -> ack(message, channel));
+            } catch (final RuntimeException e) {
+                if (groupMessages.size() == 1) {
+                    handleFailure(groupMessages.get(0), e, channel);
+                } else {
+                    log.debug("Failed to handle the {} messages of {} in one transaction, handle them one by one",
+                            groupMessages.size(), groupKey, e);
+                    groupMessages.forEach(message -> {
+                        try {
+                            inTransaction(groupKey, () -> handle(message, groupKey, virtualHost));
+                            ack(message, channel);
+                        } catch (final RuntimeException messageException) {
+                            handleFailure(message, messageException, channel);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    // the transaction manager binds the tenant on begin, so the transaction shall be begun as the tenant of the group
+    private void inTransaction(final GroupKey groupKey, final Runnable runnable) {
+        if (groupKey.tenant() == null) {
+            // invalid message, rejected by the message handler
+            transactionTemplate.executeWithoutResult(status -> runnable.run());
+        } else {
+            tenantAware.runAsTenant(groupKey.tenant(), () -> {
+                transactionTemplate.executeWithoutResult(status -> runnable.run());
+                return null;
+            });
+        }
+    }
+
+    private void handle(final Message message, final GroupKey groupKey, final String virtualHost) {
+        amqpMessageHandlerService.onMessage(message, groupKey.type(), groupKey.tenant(), virtualHost);
+    }
+
+    private void handleFailure(final Message message, final RuntimeException e, final Channel channel) {
+        if (isFatal(message, e)) {
+            log.warn("Failed to handle message {}, send it to the dead letter exchange", message, e);
+            message.getMessageProperties().setHeader(EXCEPTION_MESSAGE_HEADER, String.valueOf(e.getMessage()));
+            rabbitTemplate.send(amqpProperties.getDeadLetterExchange(), "", message);
+            ack(message, channel);
+        } else {
+            // the requeue is already delayed by the error handler, if it is the DelayedRequeueExceptionStrategy
+            log.debug("Failed to handle message {}, requeue it", message, e);
+            try {
+                channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, true);
+            } catch (final IOException ioException) {
+                throw new AmqpIOException(ioException);
+            }
+        }
+    }
+
+    // classifies the failure the same way as the listener containers
+    private boolean isFatal(final Message message, final RuntimeException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AmqpRejectAndDontRequeueException) {
+                return true;
+            }
+        }
+        try {
+            errorHandler.handleError(new ListenerExecutionFailedException("Failed to handle message", e, message));
+            return false;
+        } catch (final AmqpRejectAndDontRequeueException rejectException) {
+            return true;
+        } catch (final RuntimeException handlerException) {
+            log.debug("Error handler failed to classify the failure of message {}", message, handlerException);
+            return false;
+        }
+    }
+
+    private static void ack(final Message message, final Channel channel) {
+        try {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        } catch (final IOException e) {
+            throw new AmqpIOException(e);
+        }
+    }
+
+    private static String header(final MessageProperties properties, final String name) {
+        final Object value = properties.getHeaders().get(name);
+        return value == null ? null : value.toString();
+    }
+
+    private record GroupKey(String tenant, String type) {}
+
+    private record ThingKey(String tenant, String thingId) {}
+}
@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
 import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
@@ -27,6 +28,7 @@ import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.FanoutExchange;
@@ -38,17 +40,22 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.bus.ServiceMatcher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -134,12 +141,16 @@ public class AmqpConfiguration {
     }
 
     /**
-     * @return {@link RabbitTemplate} with automatic retry, published confirms and {@link Jackson2JsonMessageConverter}.
+     * @return {@link RabbitTemplate} with automatic retry, published confirms and {@link Jackson2JsonMessageConverter}
+     *         (or {@link Jackson2CborMessageConverter} for the messages with CBOR content type).
      */
     @Bean
     public RabbitTemplate rabbitTemplate() {
         final RabbitTemplate rabbitTemplate = new RabbitTemplate(rabbitConnectionFactory);
-        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        final ContentTypeDelegatingMessageConverter messageConverter =
+                new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter());
+        messageConverter.addDelegate(AmqpSettings.CONTENT_TYPE_CBOR, new Jackson2CborMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
 
         final RetryTemplate retryTemplate = new RetryTemplate();
         retryTemplate.setBackOffPolicy(new ExponentialBackOffPolicy());
@@ -258,13 +269,18 @@ public class AmqpConfiguration {
     }
 
     /**
-     * Create default amqp sender service bean.
+     * Create default amqp sender service bean, the pipelined one if enabled.
      *
      * @return the default amqp sender service bean
      */
     @Bean
     @ConditionalOnMissingBean
     public AmqpMessageSenderService amqpSenderServiceBean() {
+        if (amqpProperties.isPipelinedSenderEnabled()) {
+            return new PipelinedAmqpMessageSenderService(
+                    rabbitTemplate(), amqpProperties.getSenderMaxInFlight(), amqpProperties.getSenderBatchSize(),
+                    amqpProperties.getSenderMaxRetries(), amqpProperties.getSenderConfirmTimeout());
+        }
         return new DefaultAmqpMessageSenderService(rabbitTemplate());
     }
 
@@ -283,6 +299,60 @@ public class AmqpConfiguration {
         return factory;
     }
 
+    /**
+     * Create the RabbitListenerContainerFactory bean of the batch consumers if the batch listener is enabled and no
+     * batchListenerContainerFactory bean found
+     *
+     * @return RabbitListenerContainerFactory bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "batchListenerContainerFactory")
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq", name = "batch-listener-enabled")
+    public RabbitListenerContainerFactory<SimpleMessageListenerContainer> batchListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer, final ErrorHandler errorHandler) {
+        final ConfigurableRabbitListenerContainerFactory factory = new ConfigurableRabbitListenerContainerFactory(
+                amqpProperties.isMissingQueuesFatal(), amqpProperties.getDeclarationRetries(), errorHandler);
+        configurer.configure(factory, rabbitConnectionFactory);
+        return factory.batchListener(
+                amqpProperties.getBatchSize(), amqpProperties.getBatchReceiveTimeout(),
+                amqpProperties.getBatchPrefetchCount(), amqpProperties.getBatchConcurrentConsumers());
+    }
+
+    /**
+     * Create AMQP batch handler service bean if the batch listener is enabled.
+     *
+     * @param amqpMessageHandlerService handles the single messages
+     * @param rabbitTemplate to send the failed messages
+     * @param txManager for the group transactions
+     * @param tenantAware to begin the group transactions as the tenant of the group
+     * @param errorHandler to classify the failed messages
+     * @return batch handler service bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq", name = "batch-listener-enabled")
+    public AmqpBatchMessageHandlerService amqpBatchMessageHandlerService(
+            final AmqpMessageHandlerService amqpMessageHandlerService, final RabbitTemplate rabbitTemplate,
+            final PlatformTransactionManager txManager, final TenantAware tenantAware, final ErrorHandler errorHandler) {
+        return new AmqpBatchMessageHandlerService(
+                amqpMessageHandlerService, rabbitTemplate, txManager, tenantAware, errorHandler, amqpProperties);
+    }
+
+    /**
+     * Create the bounded executor of the DMF dispatching.
+     *
+     * @param dispatchObserver observes the executor, if available
+     * @return the dispatch executor bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public AmqpDispatchExecutor amqpDispatchExecutor(final ObjectProvider<AmqpDispatchObserver> dispatchObserver) {
+        return new AmqpDispatchExecutor(
+                amqpProperties.getDispatchThreads(), amqpProperties.getDispatchQueueCapacity(),
+                amqpProperties.isDispatchVirtualThreads(),
+                dispatchObserver.getIfAvailable(() -> (waitNanos, executionNanos) -> {}));
+    }
+
     @Bean
     @ConditionalOnMissingBean(AmqpMessageDispatcherService.class)
     AmqpMessageDispatcherService amqpMessageDispatcherService(
@@ -291,10 +361,10 @@ public class AmqpConfiguration {
             final SystemSecurityContext systemSecurityContext, final SystemManagement systemManagement,
             final TargetManagement targetManagement, final DistributionSetManagement distributionSetManagement,
             final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement, final AmqpDispatchExecutor dispatchExecutor) {
         return new AmqpMessageDispatcherService(rabbitTemplate, amqpSenderService, artifactUrlHandler,
                 systemSecurityContext, systemManagement, targetManagement, serviceMatcher, distributionSetManagement,
-                softwareModuleManagement, deploymentManagement, tenantConfigurationManagement);
+                softwareModuleManagement, deploymentManagement, tenantConfigurationManagement, dispatchExecutor);
     }
 
     private static Map<String, Object> getTTLMaxArgsAuthenticationQueue() {
@@ -303,4 +373,19 @@ public class AmqpConfiguration {
         args.put("x-max-length", 1_000);
         return args;
     }
+
+    /**
+     * Reports the DMF dispatch metrics if Micrometer is available. Micrometer is an optional dependency, so the
+     * configuration is skipped if it is not in the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class DispatchMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        AmqpDispatchObserver amqpDispatchObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MicrometerAmqpDispatchObserver(meterRegistry);
+        }
+    }
 }
\ No newline at end of file
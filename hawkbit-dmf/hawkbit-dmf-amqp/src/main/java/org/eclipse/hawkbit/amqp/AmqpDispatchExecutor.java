@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Bounded executor for the fan-out of the DMF dispatching (e.g. loading the targets of large assignments in partitions
+ * and sending their messages). At most threads tasks are executed concurrently and at most queue capacity tasks wait
+ * for execution - if the executor is saturated, the tasks are executed by the calling thread, which slows down the
+ * producer (backpressure). The tasks are executed with the {@link SecurityContext} of the calling thread.
+ * <p/>
+ * The executor uses virtual threads if requested and supported by the JVM, platform threads otherwise.
+ */
+@Slf4j
+public class AmqpDispatchExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore admission;
+    private final Semaphore running;
+    private final AmqpDispatchObserver observer;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param threads the maximum number of concurrently executed tasks
+     * @param queueCapacity the maximum number of tasks waiting for execution
+     * @param virtualThreads <code>true</code> to use virtual threads (if supported)
+     * @param observer observes the executor, e.g. to report metrics
+     */
+    public AmqpDispatchExecutor(
+            final int threads, final int queueCapacity, final boolean virtualThreads, final AmqpDispatchObserver observer) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one dispatch thread is required");
+        }
+        admission = new Semaphore(threads + Math.max(0, queueCapacity));
+        final ExecutorService virtualThreadExecutor = virtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        if (virtualThreadExecutor == null) {
+            executor = Executors.newFixedThreadPool(threads, new DispatchThreadFactory());
+            running = null;
+        } else {
+            // virtual threads are not pooled, so their concurrency is bounded by permits
+            executor = virtualThreadExecutor;
+            running = new Semaphore(threads);
+        }
+        this.observer = observer;
+        observer.bind(queued::get, active::get);
+    }
+
+    /**
+     * Applies the function to all the items, in parallel if there are more than one.
+     *
+     * @param items the items
+     * @param function the function
+     * @return the results, in the order of the items
+     */
+    public <T, R> List<R> map(final Collection<T> items, final Function<T, R> function) {
+        if (items.size() < 2) {
+            return items.stream().map(function).toList();
+        }
+
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final List<CompletableFuture<R>> futures = new ArrayList<>(items.size());
+        for (final T item : items) {
+            futures.add(submit(() -> function.apply(item), securityContext));
+        }
+
+        final List<R> results = new ArrayList<>(futures.size());
+        RuntimeException failure = null;
+        for (final CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the dispatching", e);
+            } catch (final ExecutionException e) {
+                // waits for all the tasks before the first failure is propagated
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException runtimeException
+                            ? runtimeException : new CompletionException(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * Applies the consumer to all the items, in parallel if there are more than one.
+     *
+     * @param items the items
+     * @param consumer the consumer
+     */
+    public <T> void forEach(final Collection<T> items, final Consumer<T> consumer) {
+        map(items, item -> {
+            consumer.accept(item);
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <R> CompletableFuture<R> submit(final Supplier<R> task, final SecurityContext securityContext) {
+        if (!admission.tryAcquire()) {
+            // saturated, the caller executes the task itself
+            final long start = System.nanoTime();
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (final RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            } finally {
+                observer.executed(0, System.nanoTime() - start);
+            }
+        }
+
+        final long submitted = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(() -> execute(task, securityContext, submitted), executor);
+        } catch (final RuntimeException e) {
+            queued.decrementAndGet();
+            admission.release();
+            throw e;
+        }
+    }
+
+    private <R> R execute(final Supplier<R> task, final SecurityContext securityContext, final long submitted) {
+        try {
+            if (running != null) {
+                running.acquireUninterruptibly();
+            }
+            final long start = System.nanoTime();
+            queued.decrementAndGet();
+            active.incrementAndGet();
+            final SecurityContext oldContext = SecurityContextHolder.getContext();
+            try {
+                SecurityContextHolder.setContext(securityContext);
+                return task.get();
+            } finally {
+                SecurityContextHolder.setContext(oldContext);
+                active.decrementAndGet();
+                if (running != null) {
+                    running.release();
+                }
+                observer.executed(start - submitted, System.nanoTime() - start);
+            }
+        } finally {
+            admission.release();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            log.warn("Virtual threads are not supported by the JVM, platform threads are used for the DMF dispatching");
+            return null;
+        }
+    }
+
+    private static class DispatchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "dmf-dispatch-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Observes the {@link AmqpDispatchExecutor}, e.g. to report its queue depth and latencies as metrics.
+ */
+@FunctionalInterface
+public interface AmqpDispatchObserver {
+
+    /**
+     * Called once the executor is created.
+     *
+     * @param queued supplies the number of tasks waiting for execution
+     * @param active supplies the number of tasks in execution
+     */
+    default void bind(final IntSupplier queued, final IntSupplier active) {
+        // nothing to bind by default
+    }
+
+    /**
+     * Called after a task has been executed (successfully or not).
+     *
+     * @param waitNanos the time the task waited for execution, in nanoseconds
+     * @param executionNanos the time the execution took, in nanoseconds
+     */
+    void executed(long waitNanos, long executionNanos);
+}
@@ -11,8 +11,10 @@ package org.eclipse.hawkbit.amqp;
 
 import static org.eclipse.hawkbit.repository.RepositoryConstants.MAX_ACTION_COUNT;
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.BATCH_ASSIGNMENTS_ENABLED;
+import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.DMF_CONTENT_TYPE;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,9 +24,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
@@ -34,11 +34,13 @@ import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrl;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder.SoftwareData;
+import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifactDelta;
 import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
 import org.eclipse.hawkbit.dmf.json.model.DmfBatchDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfConfirmRequest;
@@ -47,6 +49,7 @@ import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfMultiActionRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.dmf.json.model.DmfTarget;
+import org.eclipse.hawkbit.repository.ArtifactDeltaManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
@@ -62,6 +65,7 @@ import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
@@ -73,12 +77,11 @@ import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.bus.ServiceMatcher;
 import org.springframework.cloud.bus.event.RemoteApplicationEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -101,6 +104,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private final DeploymentManagement deploymentManagement;
     private final SoftwareModuleManagement softwareModuleManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
+    private final AmqpDispatchExecutor dispatchExecutor;
+    private ArtifactDeltaManagement artifactDeltaManagement;
 
     /**
      * Constructor.
@@ -114,6 +119,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
      * @param serviceMatcher to check in cluster case if the message is from the same cluster node
      * @param distributionSetManagement to retrieve modules
      * @param tenantConfigurationManagement to access tenant configuration
+     * @param dispatchExecutor to load the targets and to send the messages in parallel
      */
     @SuppressWarnings("java:S107")
     protected AmqpMessageDispatcherService(
@@ -123,7 +129,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final TargetManagement targetManagement, final ServiceMatcher serviceMatcher,
             final DistributionSetManagement distributionSetManagement,
             final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement, final AmqpDispatchExecutor dispatchExecutor) {
         super(rabbitTemplate);
         this.artifactUrlHandler = artifactUrlHandler;
         this.amqpSenderService = amqpSenderService;
@@ -135,6 +141,12 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         this.softwareModuleManagement = softwareModuleManagement;
         this.deploymentManagement = deploymentManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
+        this.dispatchExecutor = dispatchExecutor;
+    }
+
+    @Autowired(required = false) // spring setter injection
+    public void setArtifactDeltaManagement(final ArtifactDeltaManagement artifactDeltaManagement) {
+        this.artifactDeltaManagement = artifactDeltaManagement;
     }
 
     public boolean isBatchAssignmentsEnabled() {
@@ -143,6 +155,24 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                         .getConfigurationValue(BATCH_ASSIGNMENTS_ENABLED, Boolean.class).getValue());
     }
 
+    /**
+     * Resolves the content type of the DMF messages sent to the devices of the current tenant - once per event, respectively
+     * per fan-out, and passed to the creation of the single messages.
+     *
+     * @return the configured content type, JSON (default) or CBOR
+     * @throws IllegalStateException if the tenant has configured an unsupported content type
+     */
+    public String getContentType() {
+        final String contentType = systemSecurityContext.runAsSystem(() ->
+                tenantConfigurationManagement.getConfigurationValue(DMF_CONTENT_TYPE, String.class).getValue());
+        if (!MessageProperties.CONTENT_TYPE_JSON.equals(contentType) && !AmqpSettings.CONTENT_TYPE_CBOR.equals(contentType)) {
+            throw new IllegalStateException(String.format(
+                    "Unsupported DMF content type '%s', '%s' or '%s' expected",
+                    contentType, MessageProperties.CONTENT_TYPE_JSON, AmqpSettings.CONTENT_TYPE_CBOR));
+        }
+        return contentType;
+    }
+
     /**
      * Method to send a message to a RabbitMQ Exchange after the Distribution set has been assign to a Target.
      *
@@ -182,7 +212,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
         final Map<String, ActionProperties> actionProp = new HashMap<>();
         actionProp.put(target.getControllerId(), actionsProps);
-        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), softwareModules);
+        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), softwareModules, getContentType());
     }
 
     protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(
@@ -209,13 +239,17 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         final List<Target> eventTargets = partitionedParallelExecution(
                 cancelEvent.getActions().keySet(), targetManagement::getByControllerID);
 
+        final String contentType = getContentType();
+        final List<OutgoingMessage> messages = new ArrayList<>(eventTargets.size());
         eventTargets.forEach(target ->
                 cancelEvent.getActionPropertiesForController(target.getControllerId())
                         .map(ActionProperties::getId)
-                        .ifPresent(actionId ->
-                                sendCancelMessageToTarget(cancelEvent.getTenant(), target.getControllerId(), actionId, target.getAddress())
-                        )
+                        .filter(actionId -> IpUtil.isAmqpUri(target.getAddress()))
+                        .ifPresent(actionId -> messages.add(new OutgoingMessage(
+                                createCancelMessage(cancelEvent.getTenant(), target.getControllerId(), actionId, contentType),
+                                target.getAddress())))
         );
+        send(messages);
     }
 
     /**
@@ -261,12 +295,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             return;
         }
 
-        final DmfActionRequest actionRequest = new DmfActionRequest(actionId);
-        final Message message = getMessageConverter().toMessage(
-                actionRequest,
-                createConnectorMessagePropertiesEvent(tenant, controllerId, EventTopic.CANCEL_DOWNLOAD));
-
-        amqpSenderService.sendMessage(message, address);
+        amqpSenderService.sendMessage(createCancelMessage(tenant, controllerId, actionId, getContentType()), address);
     }
 
     protected DmfTarget convertToDmfTarget(final Target target, final Long actionId) {
@@ -289,6 +318,13 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             return;
         }
 
+        amqpSenderService.sendMessage(
+                createMultiActionRequestMessage(target, actions, getSoftwareModuleMetaData, getContentType()), targetAddress);
+    }
+
+    private Message createMultiActionRequestMessage(
+            final Target target, final List<Action> actions,
+            final Function<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModuleMetaData, final String contentType) {
         final DmfMultiActionRequest multiActionRequest = new DmfMultiActionRequest(
                 actions.stream()
                         .map(action -> {
@@ -305,10 +341,10 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                         })
                         .toList());
 
-        final Message message = getMessageConverter().toMessage(
+        return getMessageConverter().toMessage(
                 multiActionRequest,
-                createConnectorMessagePropertiesEvent(target.getTenant(), target.getControllerId(), EventTopic.MULTI_ACTION));
-        amqpSenderService.sendMessage(message, targetAddress);
+                createConnectorMessagePropertiesEvent(
+                        target.getTenant(), target.getControllerId(), EventTopic.MULTI_ACTION, contentType));
     }
 
     /**
@@ -341,36 +377,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return getEventTypeForTarget(new ActionProperties(action));
     }
 
-    private static <T, R> List<R> partitionedParallelExecution(
-            final Collection<T> controllerIds, final Function<Collection<T>, List<R>> loadingFunction) {
-        // Ensure not exceeding the max value of MAX_PROCESSING_SIZE
-        if (controllerIds.size() > MAX_PROCESSING_SIZE) {
-            // Split the provided collection
-            final Iterable<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE);
-            // Preserve the security context because it gets lost when executing
-            // loading calls in new threads
-            final SecurityContext context = SecurityContextHolder.getContext();
-            // Handling remote request in parallel streams
-            return StreamSupport.stream(partitions.spliterator(), true) //
-                    .flatMap(partition -> withSecurityContext(() -> loadingFunction.apply(partition), context).stream())
-                    .toList();
-        }
-        return loadingFunction.apply(controllerIds);
-    }
-
-    private static <T> T withSecurityContext(final Supplier<T> callable, final SecurityContext securityContext) {
-        final SecurityContext oldContext = SecurityContextHolder.getContext();
-        try {
-            SecurityContextHolder.setContext(securityContext);
-            return callable.get();
-        } finally {
-            SecurityContextHolder.setContext(oldContext);
-        }
-    }
-
     private static MessageProperties createConnectorMessagePropertiesEvent(
-            final String tenant, final String controllerId, final EventTopic topic) {
-        final MessageProperties messageProperties = createConnectorMessageProperties(tenant, controllerId);
+            final String tenant, final String controllerId, final EventTopic topic, final String contentType) {
+        final MessageProperties messageProperties = createConnectorMessageProperties(tenant, controllerId, contentType);
         messageProperties.setHeader(MessageHeaderKey.TOPIC, topic);
         messageProperties.setHeader(MessageHeaderKey.TYPE, MessageType.EVENT);
         return messageProperties;
@@ -378,24 +387,27 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     private static MessageProperties createConnectorMessagePropertiesDeleteThing(
             final String tenant, final String controllerId) {
-        final MessageProperties messageProperties = createConnectorMessageProperties(tenant, controllerId);
+        final MessageProperties messageProperties = createConnectorMessageProperties(
+                tenant, controllerId, MessageProperties.CONTENT_TYPE_JSON);
         messageProperties.setHeader(MessageHeaderKey.TYPE, MessageType.THING_DELETED);
         return messageProperties;
     }
 
-    private static MessageProperties createConnectorMessageProperties(final String tenant, final String controllerId) {
+    private static MessageProperties createConnectorMessageProperties(
+            final String tenant, final String controllerId, final String contentType) {
         final MessageProperties messageProperties = new MessageProperties();
-        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
-        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setContentType(contentType);
+        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, contentType);
         messageProperties.setHeader(MessageHeaderKey.THING_ID, controllerId);
         messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
         return messageProperties;
     }
 
-    private static MessageProperties createMessagePropertiesBatch(final String tenant, final EventTopic topic) {
+    private static MessageProperties createMessagePropertiesBatch(
+            final String tenant, final EventTopic topic, final String contentType) {
         final MessageProperties messageProperties = new MessageProperties();
-        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
-        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setContentType(contentType);
+        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, contentType);
         messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
 
         messageProperties.setHeader(MessageHeaderKey.TOPIC, topic);
@@ -409,6 +421,17 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                 : EventTopic.BATCH_DOWNLOAD_AND_INSTALL;
     }
 
+    private <T, R> List<R> partitionedParallelExecution(
+            final Collection<T> controllerIds, final Function<Collection<T>, List<R>> loadingFunction) {
+        // Ensure not exceeding the max value of MAX_PROCESSING_SIZE
+        if (controllerIds.size() > MAX_PROCESSING_SIZE) {
+            // Split the provided collection and load the partitions in parallel
+            final List<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE);
+            return dispatchExecutor.map(partitions, loadingFunction::apply).stream().flatMap(List::stream).toList();
+        }
+        return loadingFunction.apply(controllerIds);
+    }
+
     private List<Target> getTargetsWithoutPendingCancellations(final Set<String> controllerIds) {
         return partitionedParallelExecution(controllerIds, partition ->
                 targetManagement.getByControllerID(partition).stream()
@@ -426,20 +449,26 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final Long dsId, final Map<String, ActionProperties> actionsPropsByTargetId, final List<Target> targets) {
         distributionSetManagement.get(dsId).ifPresent(ds -> {
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules = getSoftwareModulesWithMetadata(ds);
-            sendUpdateMessageToTargets(actionsPropsByTargetId, targets, softwareModules);
+            sendUpdateMessageToTargets(actionsPropsByTargetId, targets, softwareModules, getContentType());
         });
     }
 
     private void sendUpdateMessageToTargets(
             final Map<String, ActionProperties> actionsPropsByTargetId,
-            final List<Target> targets, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final List<Target> targets, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules,
+            final String contentType) {
         if (!targets.isEmpty() && isBatchAssignmentsEnabled()) {
-            sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules);
+            sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules, contentType);
         } else {
+            final List<OutgoingMessage> messages = new ArrayList<>(targets.size());
             targets.forEach(target -> {
                 final ActionProperties actionProp = actionsPropsByTargetId.get(target.getControllerId());
-                sendSingleUpdateMessage(actionProp, target, softwareModules);
+                if (IpUtil.isAmqpUri(target.getAddress())) {
+                    messages.add(new OutgoingMessage(
+                            createSingleUpdateMessage(actionProp, target, softwareModules, contentType), target.getAddress()));
+                }
             });
+            send(messages);
         }
     }
 
@@ -461,9 +490,18 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                         ? Collections.emptyMap()
                         : softwareModuleManagement.findMetaDataBySoftwareModuleIdsAndTargetVisible(allSmIds);
 
-        targetManagement.getByControllerID(controllerIds).forEach(target ->
-                sendMultiActionRequestToTarget(
-                        target, controllerIdToActions.get(target.getControllerId()), module -> getSoftwareModuleMetadata.get(module.getId())));
+        final String contentType = getContentType();
+        final List<OutgoingMessage> messages = new ArrayList<>(controllerIds.size());
+        targetManagement.getByControllerID(controllerIds).forEach(target -> {
+            final List<Action> actions = controllerIdToActions.get(target.getControllerId());
+            if (IpUtil.isAmqpUri(target.getAddress()) && !CollectionUtils.isEmpty(actions)) {
+                messages.add(new OutgoingMessage(
+                        createMultiActionRequestMessage(
+                                target, actions, module -> getSoftwareModuleMetadata.get(module.getId()), contentType),
+                        target.getAddress()));
+            }
+        });
+        send(messages);
     }
 
     private DmfActionRequest createDmfActionRequest(
@@ -477,16 +515,11 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return createDownloadAndUpdateRequest(target, action.getId(), softwareModules);
     }
 
-    private void sendSingleUpdateMessage(
+    private Message createSingleUpdateMessage(
             final ActionProperties action, final Target target,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules, final String contentType) {
         final String tenant = action.getTenant();
 
-        final URI targetAddress = target.getAddress();
-        if (!IpUtil.isAmqpUri(targetAddress)) {
-            return;
-        }
-
         DmfActionRequest request;
         if (action.isWaitingConfirmation()) {
             // For the moment the confirmation request is the same as download and update request.
@@ -496,10 +529,21 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             request = createDownloadAndUpdateRequest(target, action.getId(), modules);
         }
 
-        final Message message = getMessageConverter().toMessage(
+        return getMessageConverter().toMessage(
                 request,
-                createConnectorMessagePropertiesEvent(tenant, target.getControllerId(), getEventTypeForTarget(action)));
-        amqpSenderService.sendMessage(message, targetAddress);
+                createConnectorMessagePropertiesEvent(
+                        tenant, target.getControllerId(), getEventTypeForTarget(action), contentType));
+    }
+
+    private Message createCancelMessage(final String tenant, final String controllerId, final Long actionId, final String contentType) {
+        return getMessageConverter().toMessage(
+                new DmfActionRequest(actionId),
+                createConnectorMessagePropertiesEvent(tenant, controllerId, EventTopic.CANCEL_DOWNLOAD, contentType));
+    }
+
+    // the messages are created by the calling thread, only the sending is done in parallel
+    private void send(final List<OutgoingMessage> messages) {
+        dispatchExecutor.forEach(messages, message -> amqpSenderService.sendMessage(message.message(), message.address()));
     }
 
     private void sendDeleteMessage(final String tenant, final String controllerId, final String targetAddress) {
@@ -530,7 +574,8 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
         final Message message = new Message(
                 "".getBytes(),
-                createConnectorMessagePropertiesEvent(tenant, controllerId, EventTopic.REQUEST_ATTRIBUTES_UPDATE));
+                createConnectorMessagePropertiesEvent(
+                        tenant, controllerId, EventTopic.REQUEST_ATTRIBUTES_UPDATE, MessageProperties.CONTENT_TYPE_JSON));
 
         amqpSenderService.sendMessage(message, URI.create(targetAddress));
     }
@@ -540,18 +585,23 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return Optional.ofNullable(softwareModules)
                 .map(Map::entrySet)
                 .map(Set::stream)
-                .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(target, entry)).toList())
+                .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(target, entry, true)).toList())
                 .orElse(null);
     }
 
+    // deltas depend on the installed software of the target, so they are resolved for target-specific messages only
     private DmfSoftwareModule convertToAmqpSoftwareModule(
-            final Target target, final Entry<SoftwareModule, List<SoftwareModuleMetadata>> entry) {
+            final Target target, final Entry<SoftwareModule, List<SoftwareModuleMetadata>> entry, final boolean withDeltas) {
+        final Map<String, ArtifactDelta> deltas = withDeltas && artifactDeltaManagement != null
+                ? systemSecurityContext.runAsSystem(
+                        () -> artifactDeltaManagement.findDeltas(target.getControllerId(), entry.getKey().getId()))
+                : Collections.emptyMap();
         return new DmfSoftwareModule(
                 entry.getKey().getId(),
                 entry.getKey().getType().getKey(),
                 entry.getKey().getVersion(),
                 entry.getKey().isEncrypted() ? Boolean.TRUE : null,
-                convertArtifacts(target, entry.getKey().getArtifacts()),
+                convertArtifacts(target, entry.getKey().getArtifacts(), deltas),
                 CollectionUtils.isEmpty(entry.getValue()) ? null :convertMetadata(entry.getValue()));
     }
 
@@ -559,18 +609,19 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList();
     }
 
-    private List<DmfArtifact> convertArtifacts(final Target target, final List<Artifact> localArtifacts) {
+    private List<DmfArtifact> convertArtifacts(
+            final Target target, final List<Artifact> localArtifacts, final Map<String, ArtifactDelta> deltas) {
         if (localArtifacts.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return localArtifacts.stream().map(localArtifact -> convertArtifact(target, localArtifact))
+        return localArtifacts.stream().map(localArtifact -> convertArtifact(target, localArtifact, deltas.get(localArtifact.getSha1Hash())))
                 .toList();
     }
 
-    private DmfArtifact convertArtifact(final Target target, final Artifact localArtifact) {
+    private DmfArtifact convertArtifact(final Target target, final Artifact localArtifact, final ArtifactDelta delta) {
         final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
-        return new DmfArtifact(
+        final DmfArtifact artifact = new DmfArtifact(
                 localArtifact.getFilename(),
                 new DmfArtifactHash(localArtifact.getSha1Hash(), localArtifact.getMd5Hash()),
                 localArtifact.getSize(),
@@ -585,6 +636,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                         .stream()
                         .collect(Collectors.toMap(ArtifactUrl::getProtocol, ArtifactUrl::getRef))
         );
+        if (delta != null) {
+            // the delta is downloaded from the artifact download resources, sub resource 'delta/{sourceSha1}'
+            artifact.setDelta(new DmfArtifactDelta(
+                    delta.getSourceSha1Hash(),
+                    new DmfArtifactHash(delta.getSha1Hash(), delta.getMd5Hash()),
+                    delta.getSize(),
+                    artifact.getUrls().entrySet().stream().collect(Collectors.toMap(
+                            Entry::getKey, url -> url.getValue() + "/delta/" + delta.getSourceSha1Hash()))));
+        }
+        return artifact;
     }
 
     private Map<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModulesWithMetadata(final DistributionSet distributionSet) {
@@ -598,7 +659,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     private void sendBatchUpdateMessage(
             final Map<String, ActionProperties> actions, final List<Target> targets,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules, final String contentType) {
 
         final List<DmfTarget> dmfTargets = targets.stream()
                 .filter(target -> IpUtil.isAmqpUri(target.getAddress()))
@@ -613,7 +674,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                 Optional.ofNullable(modules)
                         .map(Map::entrySet)
                         .map(Set::stream)
-                        .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(firstTarget, entry)).toList())
+                        .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(firstTarget, entry, false)).toList())
                         .orElse(null));
 
         // we use only the first action when constructing message as Tenant and action type are the same
@@ -621,7 +682,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         final ActionProperties firstAction = actions.values().iterator().next();
         final Message message = getMessageConverter().toMessage(
                 batchRequest,
-                createMessagePropertiesBatch(firstAction.getTenant(), getBatchEventTopicForAction(firstAction)));
+                createMessagePropertiesBatch(firstAction.getTenant(), getBatchEventTopicForAction(firstAction), contentType));
         amqpSenderService.sendMessage(message, firstTarget.getAddress());
     }
-}
\ No newline at end of file
+
+    private record OutgoingMessage(Message message, URI address) {}
+}
@@ -120,7 +120,9 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
      * @param tenant the contentType of the message
      * @return a message if <null> no message is send back to sender
      */
-    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory")
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory",
+            // in batch mode the queue is consumed by the AmqpBatchMessageHandlerService
+            autoStartup = "#{!${hawkbit.dmf.rabbitmq.batch-listener-enabled:false}}")
     public Message onMessage(
             final Message message,
             @Header(name = MessageHeaderKey.TYPE, required = false) final String type,
@@ -157,7 +159,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                     break;
                 }
                 case EVENT: {
-                    checkContentTypeJson(message);
+                    checkContentTypeSupported(message);
                     setTenantSecurityContext(tenant);
                     handleIncomingEvent(message);
                     break;
@@ -310,7 +312,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                 log.debug("Received \"THING_CREATED\" AMQP message for thing \"{}\" without body.", thingId);
                 target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(thingId, amqpUri);
             } else {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 final DmfCreateThing thingCreateBody = convertMessage(message, DmfCreateThing.class);
                 final DmfAttributeUpdate thingAttributeUpdateBody = thingCreateBody.getAttributeUpdate();
 
@@ -66,4 +66,77 @@ public class AmqpProperties {
      * Delay for messages that are requeued in milliseconds.
      */
     private long requeueDelay = DEFAULT_REQUEUE_DELAY;
+
+    /**
+     * Maximum number of concurrently executed DMF dispatch tasks (e.g. loading the targets of a large assignment in
+     * partitions or sending their messages).
+     */
+    private int dispatchThreads = 4;
+
+    /**
+     * Maximum number of DMF dispatch tasks waiting for execution. If exceeded, the tasks are executed by the
+     * dispatching thread itself.
+     */
+    private int dispatchQueueCapacity = 1_000;
+
+    /**
+     * Set to <code>true</code> to execute the DMF dispatch tasks in virtual threads, if supported by the JVM.
+     */
+    private boolean dispatchVirtualThreads;
+
+    /**
+     * Set to <code>true</code> to publish the outgoing DMF messages pipelined - queued and sent in batches by a publisher
+     * thread, with asynchronously processed publisher confirms. The negatively confirmed messages are retried. Note:
+     * requires publisher confirms (spring.rabbitmq.publisher-confirm-type=correlated).
+     */
+    private boolean pipelinedSenderEnabled;
+
+    /**
+     * Maximum number of published but not yet confirmed DMF messages of the pipelined sender. If reached, the senders
+     * block until messages are confirmed.
+     */
+    private int senderMaxInFlight = 10_000;
+
+    /**
+     * Maximum number of DMF messages the pipelined sender publishes at once.
+     */
+    private int senderBatchSize = 100;
+
+    /**
+     * Maximum number of retries of a negatively confirmed DMF message.
+     */
+    private int senderMaxRetries = 3;
+
+    /**
+     * Time in milliseconds the pipelined sender waits for the confirm of a message before it is retried.
+     */
+    private long senderConfirmTimeout = 30_000;
+
+    /**
+     * Set to <code>true</code> to consume the DMF receiver queue in batches. The messages of a batch are grouped by
+     * tenant and message type and every group is handled in one transaction. If a group fails its messages are
+     * handled one by one, so a failing message is requeued or dead-lettered alone. Note: in case of a group failure
+     * the messages sent to the DMF clients while handling the group could be sent twice.
+     */
+    private boolean batchListenerEnabled;
+
+    /**
+     * Maximum number of messages consumed as one batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Time in milliseconds the batch consumer waits for further messages before handling an incomplete batch.
+     */
+    private long batchReceiveTimeout = 100;
+
+    /**
+     * Number of unacknowledged messages per batch consumer. Shall not be lower than the batch size.
+     */
+    private int batchPrefetchCount = 250;
+
+    /**
+     * Number of concurrent batch consumers.
+     */
+    private int batchConcurrentConsumers = 1;
 }
\ No newline at end of file
@@ -14,9 +14,9 @@ import java.util.Map;
 import jakarta.validation.constraints.NotNull;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.amqp.support.converter.MessageConversionException;
@@ -54,12 +54,12 @@ public class BaseAmqpService {
         return (T) rabbitTemplate.getMessageConverter().fromMessage(message);
     }
 
-    protected static void checkContentTypeJson(final Message message) {
-        final MessageProperties messageProperties = message.getMessageProperties();
-        if (messageProperties.getContentType() != null && messageProperties.getContentType().contains("json")) {
+    protected static void checkContentTypeSupported(final Message message) {
+        final String contentType = message.getMessageProperties().getContentType();
+        if (contentType != null && (contentType.contains("json") || contentType.startsWith(AmqpSettings.CONTENT_TYPE_CBOR))) {
             return;
         }
-        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON compatible");
+        throw new AmqpRejectAndDontRequeueException("Content-Type is neither JSON nor CBOR compatible");
     }
 
     protected static boolean isMessageBodyEmpty(final Message message) {
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.amqp;
 
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.RabbitListenerEndpoint;
@@ -39,6 +40,30 @@ public class ConfigurableRabbitListenerContainerFactory extends SimpleRabbitList
         setMissingQueuesFatal(missingQueuesFatal);
     }
 
+    /**
+     * Switches the factory to batch consumption, i.e. the listeners receive lists of up to batch size messages. The
+     * messages are acknowledged manually, one by one, by the listener.
+     *
+     * @param batchSize the maximum number of messages of a batch
+     * @param receiveTimeout the time in milliseconds to wait for further messages of an incomplete batch
+     * @param prefetchCount the number of unacknowledged messages per consumer
+     * @param concurrentConsumers the number of concurrent consumers
+     * @return this factory
+     */
+    public ConfigurableRabbitListenerContainerFactory batchListener(
+            final int batchSize, final long receiveTimeout, final int prefetchCount, final int concurrentConsumers) {
+        setBatchListener(true);
+        setConsumerBatchEnabled(true);
+        setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        setDeBatchingEnabled(true);
+        setBatchSize(batchSize);
+        setReceiveTimeout(receiveTimeout);
+        setPrefetchCount(Math.max(prefetchCount, batchSize));
+        setConcurrentConsumers(concurrentConsumers);
+        setMaxConcurrentConsumers(concurrentConsumers);
+        return this;
+    }
+
     // Exception squid:UnusedProtectedMethod - called by
     // AbstractRabbitListenerContainerFactory
     @SuppressWarnings("squid:UnusedProtectedMethod")
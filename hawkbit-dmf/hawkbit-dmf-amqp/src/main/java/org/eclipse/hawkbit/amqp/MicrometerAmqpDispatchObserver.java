@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Reports the queue depth, the active tasks and the wait and execution latencies of the {@link AmqpDispatchExecutor}
+ * as {@value #METER_NAME}.* meters to the Micrometer {@link MeterRegistry} - if such is available.
+ */
+public class MicrometerAmqpDispatchObserver implements AmqpDispatchObserver {
+
+    public static final String METER_NAME = "hawkbit.dmf.dispatch";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    // registered once on bind, so the dispatch doesn't look them up - null if no registry is available
+    private volatile Timer waitTimer;
+    private volatile Timer executionTimer;
+
+    public MicrometerAmqpDispatchObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void bind(final IntSupplier queued, final IntSupplier active) {
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder(METER_NAME + ".queued", queued::getAsInt)
+                    .description("Number of DMF dispatch tasks waiting for execution")
+                    .register(registry);
+            Gauge.builder(METER_NAME + ".active", active::getAsInt)
+                    .description("Number of DMF dispatch tasks in execution")
+                    .register(registry);
+            executionTimer = Timer.builder(METER_NAME + ".execution")
+                    .description("Time to execute a DMF dispatch task")
+                    .register(registry);
+            // the last - if set the execution timer is set too
+            waitTimer = Timer.builder(METER_NAME + ".wait")
+                    .description("Time a DMF dispatch task waits for execution")
+                    .register(registry);
+        });
+    }
+
+    @Override
+    public void executed(final long waitNanos, final long executionNanos) {
+        final Timer wait = waitTimer;
+        if (wait != null) {
+            wait.record(waitNanos, TimeUnit.NANOSECONDS);
+            executionTimer.record(executionNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
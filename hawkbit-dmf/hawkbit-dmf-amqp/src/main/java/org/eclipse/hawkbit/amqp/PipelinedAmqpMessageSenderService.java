@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.util.IpUtil;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Sender service which publishes the messages pipelined - {@link #sendMessage(Message, URI)} only enqueues the message,
+ * a publisher thread sends the queued messages in batches, grouped per exchange, each group on one channel. As with the
+ * {@link DefaultAmqpMessageSenderService}, the virtual host of the URI is not used for routing - all the messages are
+ * sent over the connection of the template. The publisher doesn't wait for the confirms of the broker, they are processed asynchronously - the negatively
+ * confirmed (or not confirmed in time) messages are sent again, up to the max retries.
+ * <p/>
+ * The number of not yet confirmed messages is bounded by the in-flight window, if it is exhausted the senders block.
+ * The messages of an exchange are published in the order they are sent, except the retried ones. On {@link #close()}
+ * no more messages are accepted, the sent ones are flushed (within the time needed to retry them) and then the
+ * publisher is stopped.
+ * <p/>
+ * Note: requires publisher confirms (spring.rabbitmq.publisher-confirm-type=correlated), without them the messages are
+ * considered confirmed once published.
+ */
+@Slf4j
+public class PipelinedAmqpMessageSenderService extends DefaultAmqpMessageSenderService implements AutoCloseable {
+
+    private final int maxInFlight;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long confirmTimeout;
+    private final boolean publisherConfirms;
+
+    private final Semaphore inFlight;
+    private final BlockingQueue<PendingMessage> pending = new LinkedBlockingQueue<>();
+    private final Thread publisher;
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate the AMQP template
+     * @param maxInFlight the maximum number of not yet confirmed messages
+     * @param batchSize the maximum number of messages published at once
+     * @param maxRetries the maximum number of retries of a negatively confirmed message
+     * @param confirmTimeout the time in {@link TimeUnit#MILLISECONDS} to wait for the confirm of a message
+     */
+    public PipelinedAmqpMessageSenderService(
+            final RabbitTemplate rabbitTemplate,
+            final int maxInFlight, final int batchSize, final int maxRetries, final long confirmTimeout) {
+        super(rabbitTemplate);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRetries = maxRetries;
+        this.confirmTimeout = confirmTimeout;
+        inFlight = new Semaphore(this.maxInFlight);
+        publisherConfirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!publisherConfirms) {
+            log.warn("Publisher confirms are not enabled, the published DMF messages are considered confirmed");
+        }
+
+        publisher = new Thread(this::publish, "dmf-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    @Override
+    public void sendMessage(final Message message, final URI sendTo) {
+        if (!IpUtil.isAmqpUri(sendTo)) {
+            return;
+        }
+
+        if (!accepting) {
+            throw new IllegalStateException("The sender service is closed");
+        }
+
+        if (isCorrelationIdEmpty(message)) {
+            message.getMessageProperties().setCorrelationId(UUID.randomUUID().toString());
+        }
+
+        try {
+            inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the in-flight window", e);
+        }
+        pending.add(new PendingMessage(message, sendTo.getPath().substring(1), 0));
+    }
+
+    /**
+     * Waits until all the sent messages are confirmed (or finally failed).
+     *
+     * @param timeout the maximum time to wait in {@link TimeUnit#MILLISECONDS}
+     * @return <code>true</code> if all the messages are confirmed, <code>false</code> if the timeout elapsed before
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean flush(final long timeout) throws InterruptedException {
+        if (inFlight.tryAcquire(maxInFlight, timeout, TimeUnit.MILLISECONDS)) {
+            inFlight.release(maxInFlight);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void close() {
+        accepting = false;
+        try {
+            if (!flush(confirmTimeout * (maxRetries + 1))) {
+                log.warn("Closed with not confirmed DMF messages");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while flushing the DMF messages on close", e);
+        } finally {
+            running = false;
+            publisher.interrupt();
+        }
+    }
+
+    private void publish() {
+        final List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(pending.take());
+                pending.drainTo(batch, batchSize - 1);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            final Map<String, List<PendingMessage>> byExchange = new LinkedHashMap<>();
+            batch.forEach(message -> byExchange.computeIfAbsent(message.exchange(), key -> new ArrayList<>()).add(message));
+            batch.clear();
+            byExchange.forEach(this::publish);
+        }
+    }
+
+    private void publish(final String exchange, final List<PendingMessage> messages) {
+        final AtomicInteger published = new AtomicInteger();
+        try {
+            getRabbitTemplate().invoke(operations -> {
+                for (final PendingMessage message : messages) {
+                    final CorrelationData correlationData = new CorrelationData(
+                            message.message().getMessageProperties().getCorrelationId());
+                    log.trace("Sending message {} to exchange {}", message.message(), exchange);
+                    operations.send(exchange, "", message.message(), correlationData);
+                    published.incrementAndGet();
+                    onConfirm(message, correlationData);
+                }
+                return null;
+            });
+        } catch (final RuntimeException e) {
+            final List<PendingMessage> unpublished = messages.subList(published.get(), messages.size());
+            log.warn("Failed to publish {} messages to exchange {}", unpublished.size(), exchange, e);
+            unpublished.forEach(message -> retry(message, e.getMessage()));
+        }
+    }
+
+    private void onConfirm(final PendingMessage message, final CorrelationData correlationData) {
+        if (!publisherConfirms) {
+            inFlight.release();
+            return;
+        }
+
+        correlationData.getFuture().orTimeout(confirmTimeout, TimeUnit.MILLISECONDS).whenComplete((confirm, e) -> {
+            if (e == null && confirm.isAck()) {
+                inFlight.release();
+            } else {
+                retry(message, e == null ? confirm.getReason() : "no confirm within " + confirmTimeout + "ms");
+            }
+        });
+    }
+
+    private void retry(final PendingMessage message, final String reason) {
+        if (running && message.attempt() < maxRetries) {
+            log.debug("Message {} to exchange {} not confirmed ({}), retry", message.message().getMessageProperties().getCorrelationId(),
+                    message.exchange(), reason);
+            pending.add(new PendingMessage(message.message(), message.exchange(), message.attempt() + 1));
+        } else {
+            log.error("Failed to send message {} to exchange {}: {}", message.message().getMessageProperties().getCorrelationId(),
+                    message.exchange(), reason);
+            inFlight.release();
+        }
+    }
+
+    private record PendingMessage(Message message, String exchange, int attempt) {}
+}
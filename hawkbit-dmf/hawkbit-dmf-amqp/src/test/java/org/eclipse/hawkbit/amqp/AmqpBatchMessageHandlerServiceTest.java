@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.rabbitmq.client.Channel;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+@Feature("Component Tests - Device Management Federation API")
+@Story("AmqpMessage Batch Handler Service Test")
+class AmqpBatchMessageHandlerServiceTest {
+
+    private static final String VIRTUAL_HOST = "vHost";
+    private static final AtomicLong DELIVERY_TAG = new AtomicLong();
+
+    @Mock
+    private AmqpMessageHandlerService amqpMessageHandlerService;
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private PlatformTransactionManager txManager;
+    @Mock
+    private TenantAware tenantAware;
+    @Mock
+    private Channel channel;
+
+    private final AmqpProperties amqpProperties = new AmqpProperties();
+    private final List<String> handled = new ArrayList<>();
+    private AmqpBatchMessageHandlerService batchMessageHandlerService;
+
+    @BeforeEach
+    void before() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.getVirtualHost()).thenReturn(VIRTUAL_HOST);
+        when(txManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(tenantAware.runAsTenant(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<TenantAware.TenantRunner<?>> getArgument(1).run());
+        doAnswer(invocation -> {
+            handled.add(new String(invocation.getArgument(0, Message.class).getBody(), StandardCharsets.UTF_8));
+            return null;
+        }).when(amqpMessageHandlerService).onMessage(any(), anyString(), anyString(), eq(VIRTUAL_HOST));
+
+        batchMessageHandlerService = new AmqpBatchMessageHandlerService(amqpMessageHandlerService, rabbitTemplate, txManager,
+                tenantAware, new DelegatingConditionalErrorHandler(
+                        List.of(new EntityNotFoundExceptionHandler()),
+                        new ConditionalRejectingErrorHandler(new DelayedRequeueExceptionStrategy(0))),
+                amqpProperties);
+    }
+
+    @Test
+    @Description("Verifies that the messages of a batch are handled with one transaction per tenant and type, keeping the order of the messages of a thing.")
+    void messagesAreHandledInOneTransactionPerGroup() throws IOException {
+        batchMessageHandlerService.onMessages(List.of(
+                message("1", "tenant", MessageType.EVENT, "thing1"),
+                message("2", "tenant", MessageType.EVENT, "thing2"),
+                message("3", "other", MessageType.EVENT, "thing1"),
+                message("4", "tenant", MessageType.PING, null),
+                message("5", "tenant", MessageType.EVENT, "thing3")), channel);
+        assertThat(handled).containsExactly("1", "2", "5", "3", "4");
+        verify(txManager, times(3)).commit(any());
+        // the transactions are begun as the tenant of the group
+        verify(tenantAware, times(2)).runAsTenant(eq("tenant"), any());
+        verify(tenantAware).runAsTenant(eq("other"), any());
+        verify(channel, times(5)).basicAck(anyLong(), eq(false));
+
+        // thing2 is created after an event, so the events so far are handled before
+        handled.clear();
+        batchMessageHandlerService.onMessages(List.of(
+                message("6", "tenant", MessageType.EVENT, "thing1"),
+                message("7", "tenant", MessageType.EVENT, "thing2"),
+                message("8", "tenant", MessageType.THING_CREATED, "thing2"),
+                message("9", "tenant", MessageType.EVENT, "thing3")), channel);
+        assertThat(handled).containsExactly("6", "7", "8", "9");
+        verify(txManager, times(6)).commit(any());
+        verify(txManager, never()).rollback(any());
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class));
+    }
+
+    @Test
+    @Description("Verifies that the messages of a failed group are handled one by one and the failed messages are dead-lettered or requeued alone.")
+    void failedMessagesAreIsolated() throws IOException {
+        final Message invalid = message("invalid", "tenant", MessageType.EVENT, "thing2");
+        final Message notFound = message("notFound", "tenant", MessageType.EVENT, "thing3");
+        final Message transientFailure = message("transient", "tenant", MessageType.EVENT, "thing4");
+        doAnswer(invocation -> {
+            throw new AmqpRejectAndDontRequeueException("Invalid message!");
+        }).when(amqpMessageHandlerService).onMessage(eq(invalid), anyString(), anyString(), anyString());
+        doAnswer(invocation -> {
+            throw new EntityNotFoundException(Target.class, "thing3");
+        }).when(amqpMessageHandlerService).onMessage(eq(notFound), anyString(), anyString(), anyString());
+        doAnswer(invocation -> {
+            throw new IllegalStateException("temporarily unavailable");
+        }).when(amqpMessageHandlerService).onMessage(eq(transientFailure), anyString(), anyString(), anyString());
+
+        batchMessageHandlerService.onMessages(List.of(
+                message("1", "tenant", MessageType.EVENT, "thing1"), invalid, notFound, transientFailure,
+                message("5", "tenant", MessageType.EVENT, "thing5")), channel);
+
+        // handled in the group transaction and again one by one
+        assertThat(handled).containsExactly("1", "1", "5");
+        verify(txManager, times(2)).commit(any());
+        verify(txManager, times(4)).rollback(any());
+        verify(rabbitTemplate).send(amqpProperties.getDeadLetterExchange(), "", invalid);
+        verify(rabbitTemplate).send(amqpProperties.getDeadLetterExchange(), "", notFound);
+        // the transient failure is rejected with requeue, as by the single message listener container
+        verify(rabbitTemplate, never()).send("", amqpProperties.getReceiverQueue(), transientFailure);
+        verify(channel).basicNack(transientFailure.getMessageProperties().getDeliveryTag(), false, true);
+        verify(channel, times(4)).basicAck(anyLong(), eq(false));
+        assertThat(invalid.getMessageProperties().<String> getHeader(AmqpBatchMessageHandlerService.EXCEPTION_MESSAGE_HEADER))
+                .isEqualTo("Invalid message!");
+    }
+
+    private static Message message(final String body, final String tenant, final MessageType type, final String thingId) {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setDeliveryTag(DELIVERY_TAG.incrementAndGet());
+        messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
+        messageProperties.setHeader(MessageHeaderKey.TYPE, type.name());
+        if (thingId != null) {
+            messageProperties.setHeader(MessageHeaderKey.THING_ID, thingId);
+        }
+        return new Message(body.getBytes(StandardCharsets.UTF_8), messageProperties);
+    }
+}
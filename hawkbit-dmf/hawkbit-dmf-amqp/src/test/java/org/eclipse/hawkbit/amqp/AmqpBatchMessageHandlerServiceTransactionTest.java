@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import com.rabbitmq.client.Channel;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.util.AbstractIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Tests the {@link AmqpBatchMessageHandlerService} with the real (multi-tenant) transaction manager.
+ */
+@Feature("Component Tests - Device Management Federation API")
+@Story("AmqpMessage Batch Handler Service Test")
+@SpringBootTest(classes = { RepositoryApplicationConfiguration.class }, webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class AmqpBatchMessageHandlerServiceTransactionTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @Description("Verifies that the group transaction is begun as the tenant of the group. The listener thread has no tenant " +
+            "and the transaction manager binds the tenant on begin - so the entities of the tenant are found only then.")
+    void groupTransactionIsBegunAsTenantOfGroup() throws IOException {
+        final String tenant = tenantAware.getCurrentTenant();
+        final Target target = testdataFactory.createTarget("batchThing");
+
+        final List<Optional<Target>> found = new ArrayList<>();
+        final AmqpMessageHandlerService amqpMessageHandlerService = mock(AmqpMessageHandlerService.class);
+        doAnswer(invocation -> {
+            // as the message handler, sets the tenant only within the transaction
+            found.add(systemSecurityContext.runAsSystemAsTenant(
+                    () -> targetManagement.getByControllerID(target.getControllerId()), tenant));
+            return null;
+        }).when(amqpMessageHandlerService).onMessage(any(), anyString(), anyString(), anyString());
+        final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+        final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.getVirtualHost()).thenReturn("vHost");
+        final Channel channel = mock(Channel.class);
+
+        final AmqpBatchMessageHandlerService batchMessageHandlerService = new AmqpBatchMessageHandlerService(
+                amqpMessageHandlerService, rabbitTemplate, txManager, tenantAware,
+                new ConditionalRejectingErrorHandler(new DelayedRequeueExceptionStrategy(0)), new AmqpProperties());
+
+        // the listener thread has no security context, hence no tenant
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.clearContext();
+        try {
+            batchMessageHandlerService.onMessages(List.of(message(tenant, target.getControllerId())), channel);
+        } finally {
+            SecurityContextHolder.setContext(securityContext);
+        }
+
+        assertThat(found).hasSize(1).allSatisfy(foundTarget -> assertThat(foundTarget).isPresent());
+        verify(channel).basicAck(1L, false);
+    }
+
+    private static Message message(final String tenant, final String thingId) {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setDeliveryTag(1L);
+        messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
+        messageProperties.setHeader(MessageHeaderKey.TYPE, MessageType.EVENT.name());
+        messageProperties.setHeader(MessageHeaderKey.THING_ID, thingId);
+        return new Message("{}".getBytes(StandardCharsets.UTF_8), messageProperties);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+@Feature("Unit Tests - Device Management Federation API")
+@Story("Dispatch Executor")
+class AmqpDispatchExecutorTest {
+
+    @Test
+    @Description("Verifies that the results are returned in the order of the items and the tasks run with the security context of the caller.")
+    void resultsAreOrderedAndSecurityContextIsPropagated() {
+        final AtomicInteger executed = new AtomicInteger();
+        final Authentication authentication = new TestingAuthenticationToken("user", "password");
+        SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+        try (final AmqpDispatchExecutor executor = new AmqpDispatchExecutor(4, 100, false,
+                (waitNanos, executionNanos) -> executed.incrementAndGet())) {
+            final List<Integer> items = IntStream.range(0, 50).boxed().toList();
+            final List<Integer> results = executor.map(items, item -> {
+                assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
+                return item * 2;
+            });
+
+            assertThat(results).containsExactlyElementsOf(items.stream().map(item -> item * 2).toList());
+            assertThat(executed).hasValue(items.size());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    @Description("Verifies that the caller executes the tasks itself if the executor is saturated and that failures are propagated.")
+    void saturatedExecutorRunsTasksInCaller() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Thread caller = Thread.currentThread();
+        try (final AmqpDispatchExecutor executor = new AmqpDispatchExecutor(1, 1, false, (waitNanos, executionNanos) -> {})) {
+            executor.forEach(List.of(1, 2, 3, 4), item -> {
+                threads.add(Thread.currentThread());
+                if (Thread.currentThread() != caller) {
+                    try {
+                        // blocks the dispatch thread, so the remaining tasks are executed by the caller
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                } else {
+                    release.countDown();
+                }
+            });
+            assertThat(threads).contains(caller).hasSize(2);
+
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> executor.forEach(List.of(1, 2), item -> {
+                        if (item == 2) {
+                            throw new IllegalStateException("failed");
+                        }
+                    }));
+        }
+    }
+}
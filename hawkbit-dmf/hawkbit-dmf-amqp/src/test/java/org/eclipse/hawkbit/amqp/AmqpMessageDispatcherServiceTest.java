@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.amqp;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -31,6 +32,7 @@ import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrl;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
+import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
@@ -42,6 +44,7 @@ import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.exception.TenantConfigurationValidatorException;
 import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -51,6 +54,7 @@ import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.repository.test.util.AbstractIntegrationTest;
 import org.eclipse.hawkbit.repository.test.util.TestdataFactory;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +64,7 @@ import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
@@ -106,7 +111,8 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
         amqpMessageDispatcherService = new AmqpMessageDispatcherService(rabbitTemplate, senderService,
                 artifactUrlHandlerMock, systemSecurityContext, systemManagement, targetManagement, serviceMatcher,
-                distributionSetManagement, softwareModuleManagement, deploymentManagement, tenantConfigurationManagement);
+                distributionSetManagement, softwareModuleManagement, deploymentManagement, tenantConfigurationManagement,
+                new AmqpDispatchExecutor(2, 10, false, (waitNanos, executionNanos) -> {}));
 
     }
 
@@ -235,6 +241,40 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
     }
 
+    @Test
+    @Description("Verifies that the messages are CBOR encoded if the tenant is configured so")
+    void testSendCancelRequestCborEncoded() {
+        final ContentTypeDelegatingMessageConverter messageConverter =
+                new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter());
+        messageConverter.addDelegate(AmqpSettings.CONTENT_TYPE_CBOR, new Jackson2CborMessageConverter());
+        when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+        tenantConfigurationManagement.addOrUpdateConfiguration(TenantConfigurationKey.DMF_CONTENT_TYPE, AmqpSettings.CONTENT_TYPE_CBOR);
+        try {
+            final Action action = mock(Action.class);
+            when(action.getId()).thenReturn(1L);
+            when(action.getTenant()).thenReturn(TENANT);
+            when(action.getTarget()).thenReturn(testTarget);
+            amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(
+                    new CancelTargetAssignmentEvent(action, serviceMatcher.getBusId()));
+
+            final Message sendMessage = createArgumentCapture(AMQP_URI);
+            assertThat(sendMessage.getMessageProperties().getContentType()).isEqualTo(AmqpSettings.CONTENT_TYPE_CBOR);
+            assertThat(sendMessage.getMessageProperties().getHeaders())
+                    .containsEntry(MessageHeaderKey.CONTENT_TYPE, AmqpSettings.CONTENT_TYPE_CBOR);
+            assertThat(convertMessage(sendMessage, DmfActionRequest.class).getActionId()).isOne();
+        } finally {
+            tenantConfigurationManagement.deleteConfiguration(TenantConfigurationKey.DMF_CONTENT_TYPE);
+        }
+    }
+
+    @Test
+    @Description("Verifies that an unsupported content type of the DMF messages is rejected instead of falling back to JSON")
+    void unsupportedContentTypeIsRejected() {
+        assertThatExceptionOfType(TenantConfigurationValidatorException.class).isThrownBy(() ->
+                tenantConfigurationManagement.addOrUpdateConfiguration(TenantConfigurationKey.DMF_CONTENT_TYPE, "text/plain"));
+        assertThat(amqpMessageDispatcherService.getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
     @Test
     @Description("Verifies that sending a delete message when receiving a delete event works.")
     void sendDeleteRequest() {
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@Feature("Component Tests - Device Management Federation API")
+@Story("Pipelined Amqp Message Sender Service Test")
+class PipelinedAmqpMessageSenderServiceTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private RabbitOperations rabbitOperations;
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    private final List<Published> published = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void before() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<OperationsCallback<?>> getArgument(0).doInRabbit(rabbitOperations));
+        doAnswer(invocation -> published.add(new Published(
+                invocation.getArgument(0), body(invocation.getArgument(2)), invocation.getArgument(3))))
+                .when(rabbitOperations).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    }
+
+    @Test
+    @Description("Verifies that the messages are published without waiting for the confirms and only the negatively confirmed ones are retried.")
+    void onlyNackedMessagesAreRetried() throws InterruptedException {
+        try (final PipelinedAmqpMessageSenderService senderService =
+                     new PipelinedAmqpMessageSenderService(rabbitTemplate, 10, 100, 3, 10_000)) {
+            senderService.sendMessage(message("1"), URI.create("amqp://vHost/exchange1"));
+            senderService.sendMessage(message("2"), URI.create("amqp://vHost/exchange1"));
+            senderService.sendMessage(message("3"), URI.create("amqp://vHost/exchange2"));
+            senderService.sendMessage(message("4"), URI.create("http://vHost/exchange2"));
+
+            await().until(() -> published.size() == 3);
+            assertThat(published).extracting(Published::body).containsExactlyInAnyOrder("1", "2", "3");
+            assertThat(published.stream().filter(message -> message.exchange().equals("exchange1")).map(Published::body))
+                    .containsExactly("1", "2");
+            assertThat(senderService.flush(10)).isFalse();
+
+            confirm("1", true);
+            confirm("2", false);
+            confirm("3", true);
+            await().until(() -> published.size() == 4);
+            assertThat(published.get(3).body()).isEqualTo("2");
+            assertThat(senderService.flush(10)).isFalse();
+
+            published.get(3).correlationData().getFuture().complete(new CorrelationData.Confirm(true, null));
+            assertThat(senderService.flush(10_000)).isTrue();
+        }
+    }
+
+    @Test
+    @Description("Verifies that the senders are blocked if the in-flight window is exhausted.")
+    void sendersAreBlockedByTheInFlightWindow() throws InterruptedException {
+        try (final PipelinedAmqpMessageSenderService senderService =
+                     new PipelinedAmqpMessageSenderService(rabbitTemplate, 2, 100, 3, 10_000)) {
+            senderService.sendMessage(message("1"), URI.create("amqp://vHost/exchange"));
+            senderService.sendMessage(message("2"), URI.create("amqp://vHost/exchange"));
+
+            final Thread sender = new Thread(() -> senderService.sendMessage(message("3"), URI.create("amqp://vHost/exchange")));
+            sender.start();
+            await().until(() -> published.size() == 2);
+            sender.join(100);
+            assertThat(sender.isAlive()).isTrue();
+
+            confirm("1", true);
+            sender.join(10_000);
+            assertThat(sender.isAlive()).isFalse();
+            await().until(() -> published.size() == 3);
+            confirm("2", true);
+            confirm("3", true);
+        }
+    }
+
+    @Test
+    @Description("Verifies that on close no more messages are accepted and the sent ones are flushed before.")
+    void closeFlushesTheSentMessages() throws InterruptedException {
+        final PipelinedAmqpMessageSenderService senderService = new PipelinedAmqpMessageSenderService(rabbitTemplate, 10, 100, 3, 10_000);
+        senderService.sendMessage(message("1"), URI.create("amqp://vHost/exchange"));
+        await().until(() -> published.size() == 1);
+
+        final Thread closer = new Thread(senderService::close);
+        closer.start();
+        closer.join(100);
+        assertThat(closer.isAlive()).isTrue();
+        final URI sendTo = URI.create("amqp://vHost/exchange");
+        assertThatIllegalStateException().isThrownBy(() -> senderService.sendMessage(message("2"), sendTo));
+
+        confirm("1", true);
+        closer.join(10_000);
+        assertThat(closer.isAlive()).isFalse();
+        assertThat(published).hasSize(1);
+    }
+
+    private void confirm(final String body, final boolean ack) {
+        published.stream().filter(message -> message.body().equals(body)).findFirst().orElseThrow()
+                .correlationData().getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+    }
+
+    private static Message message(final String body) {
+        return new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+
+    private static String body(final Message message) {
+        return new String(message.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private record Published(String exchange, String body, CorrelationData correlationData) {}
+}
@@ -19,4 +19,9 @@ import lombok.NoArgsConstructor;
 public final class AmqpSettings {
 
     public static final String DMF_EXCHANGE = "dmf.exchange";
+
+    /**
+     * Content type of the CBOR (binary JSON) encoded DMF messages, an alternative to the default JSON encoding.
+     */
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
 }
\ No newline at end of file
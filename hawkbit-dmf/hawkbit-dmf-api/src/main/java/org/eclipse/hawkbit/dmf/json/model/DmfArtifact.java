@@ -32,6 +32,8 @@ public class DmfArtifact {
     private final long size;
     private final long lastModified;
     private final Map<String, String> urls;
+    // binary delta from an artifact installed on the target, optional
+    private DmfArtifactDelta delta;
 
     @JsonCreator
     public DmfArtifact(
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.dmf.json.model;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * JSON representation of a binary delta of an artifact. The delta rebuilds the artifact from the artifact with the
+ * source SHA1 hash which is installed on the target.
+ */
+@Data
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DmfArtifactDelta {
+
+    private final String source;
+    private final DmfArtifactHash hashes;
+    private final long size;
+    private final Map<String, String> urls;
+
+    @JsonCreator
+    public DmfArtifactDelta(
+            @JsonProperty("source") final String source,
+            @JsonProperty("hashes") final DmfArtifactHash hashes,
+            @JsonProperty("size") final long size,
+            @JsonProperty("urls") final Map<String, String> urls) {
+        this.source = source;
+        this.hashes = hashes;
+        this.size = size;
+        this.urls = urls == null ? Collections.emptyMap() : Collections.unmodifiableMap(urls);
+    }
+}
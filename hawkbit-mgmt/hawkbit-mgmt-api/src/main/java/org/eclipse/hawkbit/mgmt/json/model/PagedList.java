@@ -27,7 +27,8 @@ import org.springframework.hateoas.RepresentationModel;
 /**
  * A list representation with meta data for pagination, e.g. containing the
  * total elements and size of content. The content of the actual list is stored
- * in the {@link #content} field.
+ * in the {@link #content} field. For keyset paged requests the {@link #next}
+ * contains the cursor of the next page.
  *
  * @param <T> the type of elements in this list
  */
@@ -42,13 +43,15 @@ public class PagedList<T> extends RepresentationModel<PagedList<T>> {
     private final List<T> content;
     private final long total;
     private final int size;
+    // the cursor of the next page of a keyset paged request, null if there is no next page
+    private String next;
 
     /**
      * creates a new paged list with the given {@code content} and {@code total}
      * .
      *
      * @param content the actual content of the list
-     * @param total the total amount of elements
+     * @param total the total amount of elements, -1 if not counted
      * @throws NullPointerException in case {@code content} is {@code null}.
      */
     @JsonCreator
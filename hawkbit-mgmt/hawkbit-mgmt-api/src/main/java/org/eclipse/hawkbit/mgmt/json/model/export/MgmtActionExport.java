@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.export;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * A flat json annotated rest model of an action for the (NDJSON) export - without links.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MgmtActionExport {
+
+    @Schema(example = "7")
+    private Long id;
+
+    @Schema(example = "123")
+    private String controllerId;
+
+    @Schema(example = "51")
+    private Long distributionSetId;
+
+    @Schema(description = "Type of the action", example = "update")
+    private String type;
+
+    @Schema(description = "If the action is active", example = "true")
+    private Boolean active;
+
+    @Schema(example = "running")
+    private String detailStatus;
+
+    @Schema(example = "forced")
+    private String forceType;
+
+    @Schema(example = "1691065903238")
+    private Long forceTime;
+
+    @Schema(example = "600")
+    private Integer weight;
+
+    @Schema(example = "200")
+    private Integer lastStatusCode;
+
+    @Schema(example = "1")
+    private Long rolloutId;
+
+    @Schema(example = "4")
+    private Long rolloutGroupId;
+
+    @Schema(example = "reference-1")
+    private String externalRef;
+
+    @Schema(example = "bumlux")
+    private String initiatedBy;
+
+    @Schema(example = "1691065903238")
+    private Long createdAt;
+
+    @Schema(example = "1691065903238")
+    private Long lastModifiedAt;
+}
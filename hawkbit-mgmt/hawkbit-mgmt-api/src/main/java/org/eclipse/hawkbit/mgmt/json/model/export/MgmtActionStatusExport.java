@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.export;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * A flat json annotated rest model of an action status (an entry of the action history) for the (NDJSON) export.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MgmtActionStatusExport {
+
+    @Schema(example = "21")
+    private Long id;
+
+    @Schema(example = "7")
+    private Long actionId;
+
+    @Schema(example = "running")
+    private String type;
+
+    @Schema(example = "200")
+    private Integer code;
+
+    @Schema(example = "1691065929524")
+    private Long reportedAt;
+
+    @Schema(example = "1691065929524")
+    private Long timestamp;
+
+    private List<String> messages;
+}
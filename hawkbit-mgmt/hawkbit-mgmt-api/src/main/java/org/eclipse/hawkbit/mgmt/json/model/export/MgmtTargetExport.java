@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.json.model.export;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * A flat json annotated rest model of a target for the (NDJSON) export - without links and poll status.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MgmtTargetExport {
+
+    @Schema(example = "123")
+    private String controllerId;
+
+    @Schema(example = "controllerName")
+    private String name;
+
+    @Schema(example = "Example description of a target")
+    private String description;
+
+    @Schema(example = "gateway")
+    private String targetTypeKey;
+
+    @Schema(example = "in_sync")
+    private String updateStatus;
+
+    @Schema(example = "http://192.168.0.1")
+    private String address;
+
+    @Schema(example = "1691065941102")
+    private Long lastControllerRequestAt;
+
+    @Schema(example = "1691065941155")
+    private Long installedAt;
+
+    @Schema(example = "1691065905897")
+    private Long createdAt;
+
+    @Schema(example = "bumlux")
+    private String createdBy;
+
+    @Schema(example = "1691065941155")
+    private Long lastModifiedAt;
+
+    @Schema(example = "bumlux")
+    private String lastModifiedBy;
+
+    private Map<String, String> attributes;
+}
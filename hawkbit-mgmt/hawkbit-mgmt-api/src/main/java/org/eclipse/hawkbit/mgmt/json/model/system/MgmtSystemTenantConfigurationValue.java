@@ -52,6 +52,7 @@ import org.springframework.hateoas.RepresentationModel;
         * **multi.assignments.enabled** - Boolean, The configuration key 'multi.assignments.enabled' defines if multiple distribution sets can be assigned to the same targets.
         * **batch.assignments.enabled** - Boolean, The configuration key 'batch.assignments.enabled' defines if distribution set can be assigned to multiple targets in a single batch message.
         * **implicit.lock.enabled** - Boolean (true by default), The configuration key 'implicit.lock.enabled' defines if distribution set and their software modules shall be implicitly locked when assigned to target, rollout or target filter.
+        * **dmf.content.type** - String (application/json by default), The configuration key 'dmf.content.type' defines the encoding of the DMF messages sent to the devices - application/json or application/cbor.
         """, example = """
         {
           "value" : "",
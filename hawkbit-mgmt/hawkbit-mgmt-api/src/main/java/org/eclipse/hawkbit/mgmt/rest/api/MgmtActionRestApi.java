@@ -41,6 +41,8 @@ public interface MgmtActionRestApi {
      * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
      * @param rsqlParam the search parameter in the request URL, syntax {@code q=distributionSet.id==1}
      * @param representationModeParam the representation mode parameter specifying whether a compact or a full representation shall be returned
+     * @param pagingCursorParam the cursor of a keyset paged request, empty for the first page. If present the offset is ignored.
+     * @param pagingCountParam if the total shall be counted, if not the total is -1
      * @return a list of all actions for a defined or default page request with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
      */
@@ -92,7 +94,18 @@ public interface MgmtActionRestApi {
             @Schema(description = """
                     The representation mode. Can be "full" or "compact". Defaults to "compact"
                     """)
-            String representationModeParam);
+            String representationModeParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The cursor for keyset pagination - empty for the first page, then the 'next' of the previous page.
+                    If present the offset is ignored and the sort must be the same for all pages. Only sort by
+                    non-null fields of the entity is supported.""")
+            String pagingCursorParam,
+            @RequestParam(
+                    value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_COUNT,
+                    defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_COUNT)
+            @Schema(description = "If the total shall be counted (default is true), otherwise the total is -1")
+            boolean pagingCountParam);
 
     /**
      * Handles the GET request of retrieving a specific {@link MgmtAction} by its <code>actionId</code>.
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtActionExport;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtActionStatusExport;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtTargetExport;
+import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * REST API for (read-only) bulk exports of targets, actions and the action history. The entities are streamed as
+ * newline delimited JSON (NDJSON) - one flat document without links per line, in the order of their ids. So the
+ * exports could be consumed line by line without paging and without holding the whole result in memory. If the client
+ * accepts gzip the response is gzip encoded.
+ */
+// no request mapping specified here to avoid CVE-2021-22044 in Feign client
+@Tag(name = "Export", description = "REST API for (read-only) bulk exports of targets, actions and the action history as NDJSON.")
+public interface MgmtExportRestApi {
+
+    /**
+     * Handles the GET request of exporting all targets (matching the query, if given).
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=name==abc}
+     * @param attributesParam if the controller attributes of the targets shall be exported too
+     * @return status OK, the targets are written directly to the response as {@link MgmtTargetExport} lines
+     */
+    @Operation(summary = "Export targets as NDJSON", description = "Handles the GET request of exporting all targets " +
+            "(matching the query, if given) as newline delimited JSON - one target per line. Required Permission: READ_TARGET")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully exported",
+                    content = @Content(mediaType = MgmtRestConstants.MEDIA_TYPE_NDJSON,
+                            schema = @Schema(implementation = MgmtTargetExport.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to be " +
+                    "changed (i.e. read-only) or data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets", produces = MgmtRestConstants.MEDIA_TYPE_NDJSON)
+    ResponseEntity<Void> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = """
+                    Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
+                    available fields.""")
+            String rsqlParam,
+            @RequestParam(value = "attributes", defaultValue = "false")
+            @Schema(description = "If the controller attributes of the targets shall be exported too (default is false)")
+            boolean attributesParam);
+
+    /**
+     * Handles the GET request of exporting all actions (matching the query, if given).
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=distributionSet.id==1}
+     * @return status OK, the actions are written directly to the response as {@link MgmtActionExport} lines
+     */
+    @Operation(summary = "Export actions as NDJSON", description = "Handles the GET request of exporting all actions " +
+            "(matching the query, if given) as newline delimited JSON - one action per line. Required Permission: READ_TARGET")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully exported",
+                    content = @Content(mediaType = MgmtRestConstants.MEDIA_TYPE_NDJSON,
+                            schema = @Schema(implementation = MgmtActionExport.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to be " +
+                    "changed (i.e. read-only) or data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/actions", produces = MgmtRestConstants.MEDIA_TYPE_NDJSON)
+    ResponseEntity<Void> exportActions(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = """
+                    Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
+                    available fields.""")
+            String rsqlParam);
+
+    /**
+     * Handles the GET request of exporting the action history - all action status entries (matching the query, if given).
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=id=gt=100}
+     * @param messagesParam if the messages of the action status entries shall be exported too
+     * @return status OK, the action status entries are written directly to the response as {@link MgmtActionStatusExport} lines
+     */
+    @Operation(summary = "Export action history as NDJSON", description = "Handles the GET request of exporting all action " +
+            "status entries (matching the query, if given) as newline delimited JSON - one entry per line. " +
+            "Required Permission: READ_TARGET")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully exported",
+                    content = @Content(mediaType = MgmtRestConstants.MEDIA_TYPE_NDJSON,
+                            schema = @Schema(implementation = MgmtActionStatusExport.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to be " +
+                    "changed (i.e. read-only) or data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/actionstatus", produces = MgmtRestConstants.MEDIA_TYPE_NDJSON)
+    ResponseEntity<Void> exportActionStatus(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = """
+                    Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
+                    available fields.""")
+            String rsqlParam,
+            @RequestParam(value = "messages", defaultValue = "false")
+            @Schema(description = "If the messages of the action status entries shall be exported too (default is false)")
+            boolean messagesParam);
+}
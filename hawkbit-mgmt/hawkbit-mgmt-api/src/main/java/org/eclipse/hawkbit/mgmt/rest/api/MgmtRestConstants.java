@@ -80,6 +80,14 @@ public final class MgmtRestConstants {
      * The basic authentication validation mapping
      */
     public static final String AUTH_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/userinfo";
+    /**
+     * The (NDJSON) export URL mapping rest resource.
+     */
+    public static final String EXPORT_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/export";
+    /**
+     * Media type of newline delimited JSON - one JSON document per line, used by the exports.
+     */
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
     /**
      * String representation of
      * {@link #REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT_VALUE}.
@@ -186,6 +194,28 @@ public final class MgmtRestConstants {
      * Paging http parameter for the offset for a paged request.
      */
     public static final String REQUEST_PARAMETER_PAGING_OFFSET = "offset";
+    /**
+     * Paging http parameter for the cursor of a keyset paged request - the <code>next</code> of the previous page or empty for
+     * the first page. If present the offset is ignored.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_CURSOR = "cursor";
+    /**
+     * Http parameter to skip the count of all elements of a paged request (then the total is reported as
+     * {@link #PAGED_LIST_TOTAL_NOT_COUNTED}).
+     */
+    public static final String REQUEST_PARAMETER_PAGING_COUNT = "count";
+    /**
+     * The default of the count parameter - count all elements.
+     *
+     * @see #REQUEST_PARAMETER_PAGING_COUNT
+     */
+    public static final String REQUEST_PARAMETER_PAGING_DEFAULT_COUNT = "true";
+    /**
+     * The total of a paged list if the elements are not counted.
+     *
+     * @see #REQUEST_PARAMETER_PAGING_COUNT
+     */
+    public static final long PAGED_LIST_TOTAL_NOT_COUNTED = -1;
     /**
      * The request parameter for sorting. The value of the sort parameter must be in the following pattern. Example:
      * http://www.bosch.com/iap/sp/rest/targets?sort=field_1:ASC,field_2:DESC,field_3:ASC
@@ -95,6 +95,8 @@ public interface MgmtTargetRestApi {
      * @param pagingLimitParam the limit of the paged request, might not be present in the rest request then default value will be applied
      * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
      * @param rsqlParam the search parameter in the request URL, syntax {@code q=name==abc}
+     * @param pagingCursorParam the cursor of a keyset paged request, empty for the first page. If present the offset is ignored.
+     * @param pagingCountParam if the total shall be counted, if not the total is -1
      * @return a list of all targets for a defined or default page request with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
      */
@@ -141,7 +143,18 @@ public interface MgmtTargetRestApi {
             @Schema(description = """
                     Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
                     available fields.""")
-            String rsqlParam);
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The cursor for keyset pagination - empty for the first page, then the 'next' of the previous page.
+                    If present the offset is ignored and the sort must be the same for all pages. Only sort by
+                    non-null fields of the entity is supported.""")
+            String pagingCursorParam,
+            @RequestParam(
+                    value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_COUNT,
+                    defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_COUNT)
+            @Schema(description = "If the total shall be counted (default is true), otherwise the total is -1")
+            boolean pagingCountParam);
 
     /**
      * Handles the POST request of creating new targets. The request body must always be a list of targets.
@@ -14,9 +14,9 @@ import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtActionRestApi;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
-import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -40,24 +40,28 @@ public class MgmtActionResource implements MgmtActionRestApi {
     @Override
     public ResponseEntity<PagedList<MgmtAction>> getActions(
             final int pagingOffsetParam, final int pagingLimitParam, final String sortParam, final String rsqlParam,
-            final String representationModeParam) {
+            final String representationModeParam, final String pagingCursorParam, final boolean pagingCountParam) {
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeActionSortParam(sortParam);
-        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
+        final Pageable pageable = PagingUtility.toPageable(
+                sanitizedOffsetParam, sanitizedLimitParam, sorting, pagingCursorParam, PagingUtility.ACTION_KEYSET_SORT_FIELDS);
 
         final Slice<Action> actions;
         final long totalActionCount;
         if (rsqlParam != null) {
             actions = this.deploymentManagement.findActions(rsqlParam, pageable);
-            totalActionCount = this.deploymentManagement.countActions(rsqlParam);
+            totalActionCount = pagingCountParam
+                    ? this.deploymentManagement.countActions(rsqlParam) : MgmtRestConstants.PAGED_LIST_TOTAL_NOT_COUNTED;
         } else {
             actions = this.deploymentManagement.findActionsAll(pageable);
-            totalActionCount = this.deploymentManagement.countActionsAll();
+            totalActionCount = pagingCountParam
+                    ? this.deploymentManagement.countActionsAll() : MgmtRestConstants.PAGED_LIST_TOTAL_NOT_COUNTED;
         }
 
         final MgmtRepresentationMode repMode = getRepresentationModeFromString(representationModeParam);
-        return ResponseEntity.ok(new PagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode), totalActionCount));
+        return ResponseEntity.ok(new PagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode), totalActionCount)
+                .setNext(PagingUtility.nextCursor(pageable, actions)));
     }
 
     @Override
@@ -22,12 +22,11 @@ import org.eclipse.hawkbit.repository.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.rest.util.AsyncFileStreaming;
 import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
-import org.eclipse.hawkbit.rest.util.HttpUtil;
 import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -39,12 +38,18 @@ public class MgmtDownloadArtifactResource implements MgmtDownloadArtifactRestApi
 
     private final SoftwareModuleManagement softwareModuleManagement;
     private final ArtifactManagement artifactManagement;
+    private AsyncFileStreaming asyncFileStreaming;
 
     public MgmtDownloadArtifactResource(final SoftwareModuleManagement softwareModuleManagement, final ArtifactManagement artifactManagement) {
         this.softwareModuleManagement = softwareModuleManagement;
         this.artifactManagement = artifactManagement;
     }
 
+    @Autowired(required = false)
+    public void setAsyncFileStreaming(final AsyncFileStreaming asyncFileStreaming) {
+        this.asyncFileStreaming = asyncFileStreaming;
+    }
+
     /**
      * Handles the GET request for downloading an artifact.
      *
@@ -66,12 +71,11 @@ public class MgmtDownloadArtifactResource implements MgmtDownloadArtifactRestApi
                 .loadArtifactBinary(artifact.getSha1Hash(), module.getId(), module.isEncrypted())
                 .orElseThrow(() -> new ArtifactBinaryNotFoundException(artifact.getSha1Hash()));
         final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
-        final String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
-        if (ifMatch != null && !HttpUtil.matchesHttpHeader(ifMatch, artifact.getSha1Hash())) {
+        if (!FileStreamingUtil.matchesIfMatch(request, artifact.getSha1Hash())) {
             return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
         }
 
         return FileStreamingUtil.writeFileResponse(file, artifact.getFilename(), artifact.getCreatedAt(),
-                RequestResponseContextHolder.getHttpServletResponse(), request, null);
+                RequestResponseContextHolder.getHttpServletResponse(), request, null, asyncFileStreaming);
     }
 }
\ No newline at end of file
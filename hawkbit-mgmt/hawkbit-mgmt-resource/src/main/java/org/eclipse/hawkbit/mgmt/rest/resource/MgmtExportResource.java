@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtActionExport;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtActionStatusExport;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtTargetExport;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtExportRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.ActionStatus;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Resource handling the (NDJSON) exports. The entities are walked by the repository slice by slice and each one is
+ * written as a line directly to the response - so neither the whole result nor the whole response is held in memory.
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "hawkbit.rest.MgmtExportResource.enabled", matchIfMissing = true)
+public class MgmtExportResource implements MgmtExportRestApi {
+
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+
+    private final TargetManagement targetManagement;
+    private final DeploymentManagement deploymentManagement;
+    private final ObjectMapper objectMapper;
+
+    MgmtExportResource(
+            final TargetManagement targetManagement, final DeploymentManagement deploymentManagement, final ObjectMapper objectMapper) {
+        this.targetManagement = targetManagement;
+        this.deploymentManagement = deploymentManagement;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ResponseEntity<Void> exportTargets(final String rsqlParam, final boolean attributesParam) {
+        if (attributesParam) {
+            export(writer -> targetManagement.forEachWithControllerAttributesByRsql(
+                    rsqlParam, (target, attributes) -> writer.accept(toExport(target).setAttributes(attributes))));
+        } else {
+            export(writer -> targetManagement.forEachByRsql(rsqlParam, target -> writer.accept(toExport(target))));
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ResponseEntity<Void> exportActions(final String rsqlParam) {
+        export(writer -> deploymentManagement.forEachAction(rsqlParam, action -> writer.accept(toExport(action))));
+        return ResponseEntity.ok().build();
+    }
+
+    @Override
+    public ResponseEntity<Void> exportActionStatus(final String rsqlParam, final boolean messagesParam) {
+        if (messagesParam) {
+            export(writer -> deploymentManagement.forEachActionStatusWithMessages(
+                    rsqlParam, (actionStatus, messages) -> writer.accept(toExport(actionStatus).setMessages(messages))));
+        } else {
+            export(writer -> deploymentManagement.forEachActionStatus(rsqlParam, actionStatus -> writer.accept(toExport(actionStatus))));
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private void export(final Consumer<Consumer<Object>> walker) {
+        try (final NdjsonWriter writer = new NdjsonWriter(
+                RequestResponseContextHolder.getHttpServletRequest(), RequestResponseContextHolder.getHttpServletResponse())) {
+            walker.accept(writer);
+        } catch (final IOException | UncheckedIOException e) {
+            // mostly the client has gone away - the response is already committed, so there is nothing more to report
+            log.warn("Failed to write export: {}", e.getMessage());
+            log.debug("Failed to write export", e);
+        }
+    }
+
+    private static MgmtTargetExport toExport(final Target target) {
+        final MgmtTargetExport export = new MgmtTargetExport()
+                .setControllerId(target.getControllerId())
+                .setName(target.getName())
+                .setDescription(target.getDescription())
+                .setUpdateStatus(target.getUpdateStatus().name().toLowerCase())
+                .setLastControllerRequestAt(target.getLastTargetQuery())
+                .setInstalledAt(target.getInstallationDate())
+                .setCreatedAt(target.getCreatedAt())
+                .setCreatedBy(target.getCreatedBy())
+                .setLastModifiedAt(target.getLastModifiedAt())
+                .setLastModifiedBy(target.getLastModifiedBy());
+        if (target.getAddress() != null) {
+            export.setAddress(target.getAddress().toString());
+        }
+        if (target.getTargetType() != null) {
+            export.setTargetTypeKey(target.getTargetType().getKey());
+        }
+        return export;
+    }
+
+    private static MgmtActionExport toExport(final Action action) {
+        final MgmtActionExport export = new MgmtActionExport()
+                .setId(action.getId())
+                .setControllerId(action.getTarget().getControllerId())
+                .setDistributionSetId(action.getDistributionSet().getId())
+                .setType(action.isCancelingOrCanceled() ? MgmtAction.ACTION_CANCEL : MgmtAction.ACTION_UPDATE)
+                .setActive(action.isActive())
+                .setDetailStatus(action.getStatus().toString().toLowerCase())
+                .setForceType(MgmtRestModelMapper.convertActionType(action.getActionType()).getName())
+                .setWeight(action.getWeight().orElse(null))
+                .setLastStatusCode(action.getLastActionStatusCode().orElse(null))
+                .setExternalRef(action.getExternalRef())
+                .setInitiatedBy(action.getInitiatedBy())
+                .setCreatedAt(action.getCreatedAt())
+                .setLastModifiedAt(action.getLastModifiedAt());
+        if (ActionType.TIMEFORCED == action.getActionType()) {
+            export.setForceTime(action.getForcedTime());
+        }
+        if (action.getRollout() != null) {
+            export.setRolloutId(action.getRollout().getId());
+        }
+        if (action.getRolloutGroup() != null) {
+            export.setRolloutGroupId(action.getRolloutGroup().getId());
+        }
+        return export;
+    }
+
+    private static MgmtActionStatusExport toExport(final ActionStatus actionStatus) {
+        return new MgmtActionStatusExport()
+                .setId(actionStatus.getId())
+                .setActionId(actionStatus.getAction().getId())
+                .setType(actionStatus.getStatus().name().toLowerCase())
+                .setCode(actionStatus.getCode().orElse(null))
+                .setReportedAt(actionStatus.getCreatedAt())
+                .setTimestamp(actionStatus.getOccurredAt());
+    }
+
+    /**
+     * Checks the Accept-Encoding header (RFC 9110, 12.5.3) for gzip. A coding with a q-value of 0 is not acceptable, and
+     * the wildcard applies only if gzip is not listed explicitly.
+     */
+    static boolean isGzipAccepted(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] params = coding.split(";");
+            final String name = params[0].trim();
+            if (GZIP.equalsIgnoreCase(name) || X_GZIP.equalsIgnoreCase(name)) {
+                return qValue(params) > 0;
+            } else if ("*".equals(name)) {
+                wildcard = qValue(params) > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    private static double qValue(final String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            final String param = params[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (final NumberFormatException e) {
+                    // invalid q-value - the coding is not acceptable
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Writes the objects as lines of JSON. The response is opened (and the headers are set) with the first line, so a
+     * failure before - e.g. an invalid query - is still handled by the exception handler with a proper error response.
+     */
+    private final class NdjsonWriter implements Consumer<Object>, Closeable {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private JsonGenerator generator;
+
+        private NdjsonWriter(final HttpServletRequest request, final HttpServletResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public void accept(final Object line) {
+            try {
+                if (generator == null) {
+                    generator = open();
+                }
+                generator.writeObject(line);
+                generator.writeRaw('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (generator == null) {
+                // nothing exported - an empty body
+                setContentHeaders();
+            } else {
+                // closes the gzip stream too, which writes its trailer
+                generator.close();
+            }
+        }
+
+        private JsonGenerator open() throws IOException {
+            setContentHeaders();
+            final OutputStream out;
+            if (isGzipAccepted(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                out = new GZIPOutputStream(response.getOutputStream());
+            } else {
+                out = response.getOutputStream();
+            }
+            return objectMapper.getFactory().createGenerator(out);
+        }
+
+        private void setContentHeaders() {
+            response.setContentType(MgmtRestConstants.MEDIA_TYPE_NDJSON);
+            // the encoding depends on the Accept-Encoding, so caches shall not serve a gzipped export to other clients
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAttributes;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirm;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetAutoConfirmUpdate;
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetRequestBody;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtTargetRestApi;
 import org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
@@ -107,24 +108,26 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
 
     @Override
     public ResponseEntity<PagedList<MgmtTarget>> getTargets(
-            final int pagingOffsetParam, final int pagingLimitParam, final String sortParam, final String rsqlParam) {
+            final int pagingOffsetParam, final int pagingLimitParam, final String sortParam, final String rsqlParam,
+            final String pagingCursorParam, final boolean pagingCountParam) {
         final int sanitizedOffsetParam = PagingUtility.sanitizeOffsetParam(pagingOffsetParam);
         final int sanitizedLimitParam = PagingUtility.sanitizePageLimitParam(pagingLimitParam);
         final Sort sorting = PagingUtility.sanitizeTargetSortParam(sortParam);
 
-        final Pageable pageable = new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sorting);
+        final Pageable pageable = PagingUtility.toPageable(
+                sanitizedOffsetParam, sanitizedLimitParam, sorting, pagingCursorParam, PagingUtility.TARGET_KEYSET_SORT_FIELDS);
         final Slice<Target> findTargetsAll;
         final long countTargetsAll;
         if (rsqlParam != null) {
             findTargetsAll = targetManagement.findByRsql(pageable, rsqlParam);
-            countTargetsAll = targetManagement.countByRsql(rsqlParam);
+            countTargetsAll = pagingCountParam ? targetManagement.countByRsql(rsqlParam) : MgmtRestConstants.PAGED_LIST_TOTAL_NOT_COUNTED;
         } else {
             findTargetsAll = targetManagement.findAll(pageable);
-            countTargetsAll = targetManagement.count();
+            countTargetsAll = pagingCountParam ? targetManagement.count() : MgmtRestConstants.PAGED_LIST_TOTAL_NOT_COUNTED;
         }
 
         final List<MgmtTarget> rest = MgmtTargetMapper.toResponse(findTargetsAll.getContent(), tenantConfigHelper);
-        return ResponseEntity.ok(new PagedList<>(rest, countTargetsAll));
+        return ResponseEntity.ok(new PagedList<>(rest, countTargetsAll).setNext(PagingUtility.nextCursor(pageable, findTargetsAll)));
     }
 
     @Override
@@ -9,6 +9,15 @@
  */
 package org.eclipse.hawkbit.mgmt.rest.resource.util;
 
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
@@ -17,8 +26,11 @@ import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DistributionSetFields;
 import org.eclipse.hawkbit.repository.DistributionSetMetadataFields;
 import org.eclipse.hawkbit.repository.DistributionSetTypeFields;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.RolloutFields;
 import org.eclipse.hawkbit.repository.RolloutGroupFields;
+import org.eclipse.hawkbit.repository.RsqlQueryField;
 import org.eclipse.hawkbit.repository.SoftwareModuleFields;
 import org.eclipse.hawkbit.repository.SoftwareModuleMetadataFields;
 import org.eclipse.hawkbit.repository.SoftwareModuleTypeFields;
@@ -26,6 +38,9 @@ import org.eclipse.hawkbit.repository.TagFields;
 import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryFields;
 import org.eclipse.hawkbit.repository.TargetTypeFields;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -35,6 +50,21 @@ import org.springframework.data.domain.Sort.Direction;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PagingUtility {
 
+    /**
+     * The target fields supported as sort of keyset paged requests - the not nullable ones, since the seek doesn't
+     * match null values.
+     */
+    public static final List<TargetFields> TARGET_KEYSET_SORT_FIELDS = List.of(
+            TargetFields.ID, TargetFields.NAME, TargetFields.CREATEDAT, TargetFields.LASTMODIFIEDAT, TargetFields.CONTROLLERID,
+            TargetFields.UPDATESTATUS);
+    /**
+     * The action fields supported as sort of keyset paged requests - see {@link #TARGET_KEYSET_SORT_FIELDS}.
+     */
+    public static final List<ActionFields> ACTION_KEYSET_SORT_FIELDS = List.of(
+            ActionFields.ID, ActionFields.STATUS, ActionFields.DETAILSTATUS);
+
+    private static final String CURSOR_SEPARATOR = "\n";
+
     public static int sanitizeOffsetParam(final int offset) {
         if (offset < 0) {
             return MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET_VALUE;
@@ -164,4 +194,69 @@ public final class PagingUtility {
         }
         return Sort.by(SortUtility.parse(RolloutGroupFields.class, sortParam));
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates the page request - keyset based if there is a cursor (empty for the first page), otherwise offset based.
+     *
+     * @param offset the sanitized offset, ignored if there is a cursor
+     * @param limit the sanitized limit
+     * @param sort the sanitized sort
+     * @param cursor the cursor of a keyset paged request, <code>null</code> for an offset based request
+     * @param keysetSortFields the fields supported as sort of a keyset paged request
+     * @return the page request
+     * @throws IllegalArgumentException if the cursor is invalid or is for another sort, or if a keyset paged request is
+     *         sorted by a not supported (nullable) field
+     */
+    public static Pageable toPageable(
+            final int offset, final int limit, final Sort sort, final String cursor, final List<? extends RsqlQueryField> keysetSortFields) {
+        if (cursor == null) {
+            return new OffsetBasedPageRequest(offset, limit, sort);
+        }
+
+        // rejected already for the first page, so a client doesn't get a cursor which would skip the entities with null values
+        for (final Sort.Order order : sort) {
+            if (!KeysetPageRequest.ID.equals(order.getProperty()) && keysetSortFields.stream()
+                    .noneMatch(field -> field.getJpaEntityFieldName().equals(order.getProperty()))) {
+                throw new IllegalArgumentException("Keyset pagination doesn't support sort by " + order.getProperty());
+            }
+        }
+        final KeysetPageRequest first = KeysetPageRequest.of(limit, sort);
+        if (cursor.isEmpty()) {
+            return first;
+        }
+        final String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(CURSOR_SEPARATOR, -1);
+        if (parts.length < 2 || !parts[0].equals(toCursorSort(first.getSort()))) {
+            throw new IllegalArgumentException("The cursor is invalid or not for the sort " + sort);
+        }
+        final List<String> lastSortValues = Arrays.stream(parts, 2, parts.length)
+                .map(value -> URLDecoder.decode(value, StandardCharsets.UTF_8))
+                .toList();
+        return KeysetPageRequest.after(limit, sort, lastSortValues, Long.parseLong(parts[1]));
+    }
+
+    /**
+     * Returns the cursor of the next page of a keyset paged request. There is a next page if the slice is full - so the
+     * next page might be empty.
+     *
+     * @param pageable the page request
+     * @param slice the current slice
+     * @return the cursor of the next page, <code>null</code> if there is no next page or the request is not keyset based
+     */
+    public static String nextCursor(final Pageable pageable, final Slice<? extends BaseEntity> slice) {
+        if (!(pageable instanceof KeysetPageRequest keyset) || slice.getNumberOfElements() < keyset.getPageSize()) {
+            return null;
+        }
+
+        final KeysetPageRequest next = keyset.next(slice.getContent().get(slice.getNumberOfElements() - 1));
+        final List<String> parts = new ArrayList<>();
+        parts.add(toCursorSort(next.getSort()));
+        parts.add(String.valueOf(next.getLastId()));
+        next.getLastSortValues().forEach(value -> parts.add(URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                String.join(CURSOR_SEPARATOR, parts).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String toCursorSort(final Sort sort) {
+        return sort.stream().map(order -> order.getProperty() + ":" + order.getDirection()).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtActionExport;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtActionStatusExport;
+import org.eclipse.hawkbit.mgmt.json.model.export.MgmtTargetExport;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtExportRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Integration test for the {@link MgmtExportRestApi}.
+ */
+@Feature("Component Tests - Management API")
+@Story("Export Resource")
+class MgmtExportResourceTest extends AbstractManagementApiIntegrationTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    @Description("Verifies that all targets, respectively the ones matching the query, are exported as one JSON document per line.")
+    void exportTargets() throws Exception {
+        final List<Target> targets = testdataFactory.createTargets("exported", 3);
+        testdataFactory.createTarget("other");
+        controllerManagement.updateControllerAttributes(targets.get(1).getControllerId(), Map.of("revision", "1.1"), null);
+
+        final List<MgmtTargetExport> all = readLines(
+                mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets"))
+                        .andDo(MockMvcResultPrinter.print())
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentType(MgmtRestConstants.MEDIA_TYPE_NDJSON))
+                        .andReturn().getResponse().getContentAsByteArray(),
+                MgmtTargetExport.class);
+        assertThat(all).extracting(MgmtTargetExport::getControllerId).containsExactly(
+                targets.get(0).getControllerId(), targets.get(1).getControllerId(), targets.get(2).getControllerId(), "other");
+        assertThat(all.get(0).getUpdateStatus()).isEqualTo("unknown");
+        assertThat(all.get(0).getAttributes()).isNull();
+
+        final List<MgmtTargetExport> filtered = readLines(
+                mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets")
+                                .param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, "controllerId==exported*")
+                                .param("attributes", "true"))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsByteArray(),
+                MgmtTargetExport.class);
+        assertThat(filtered).extracting(MgmtTargetExport::getAttributes)
+                .containsExactly(Map.of(), Map.of("revision", "1.1"), Map.of());
+    }
+
+    @Test
+    @Description("Verifies that the actions and their action history are exported as one JSON document per line.")
+    void exportActionsAndActionStatus() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Target> targets = testdataFactory.createTargets("actions", 2);
+        assignDistributionSet(ds, targets);
+
+        final List<MgmtActionExport> actions = readLines(
+                mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/actions"))
+                        .andDo(MockMvcResultPrinter.print())
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsByteArray(),
+                MgmtActionExport.class);
+        assertThat(actions).hasSize(2).allSatisfy(action -> {
+            assertThat(action.getDistributionSetId()).isEqualTo(ds.getId());
+            assertThat(action.getActive()).isTrue();
+            assertThat(action.getType()).isEqualTo("update");
+        });
+        assertThat(actions).extracting(MgmtActionExport::getControllerId)
+                .containsExactly(targets.get(0).getControllerId(), targets.get(1).getControllerId());
+        controllerManagement.addInformationalActionStatus(
+                entityFactory.actionStatus().create(actions.get(1).getId()).message("exported message"));
+
+        final List<MgmtActionStatusExport> actionStatus = readLines(
+                mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/actionstatus").param("messages", "true"))
+                        .andDo(MockMvcResultPrinter.print())
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsByteArray(),
+                MgmtActionStatusExport.class);
+        assertThat(actionStatus).extracting(MgmtActionStatusExport::getActionId)
+                .containsExactly(actions.get(0).getId(), actions.get(1).getId(), actions.get(1).getId());
+        assertThat(actionStatus).allSatisfy(status -> assertThat(status.getMessages()).isNotNull());
+        assertThat(actionStatus.get(2).getMessages()).containsExactly("exported message");
+    }
+
+    @Test
+    @Description("Verifies that the export is gzip encoded if accepted by the client.")
+    void exportIsGzipEncodedIfAccepted() throws Exception {
+        testdataFactory.createTargets("gzipped", 2);
+
+        final byte[] body = mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (final GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(readLines(in.readAllBytes(), MgmtTargetExport.class)).hasSize(2);
+        }
+    }
+
+    @Test
+    @Description("Verifies that the export is not gzip encoded if gzip is not acceptable for the client, e.g. with a q-value of 0.")
+    void exportIsNotGzipEncodedIfNotAccepted() throws Exception {
+        testdataFactory.createTargets("plain", 2);
+
+        final byte[] body = mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(readLines(body, MgmtTargetExport.class)).hasSize(2);
+    }
+
+    @Test
+    @Description("Verifies the evaluation of the Accept-Encoding header, including the q-values and the wildcard.")
+    void gzipIsAcceptedAccordingToQValues() {
+        assertThat(MgmtExportResource.isGzipAccepted(null)).isFalse();
+        assertThat(MgmtExportResource.isGzipAccepted("identity")).isFalse();
+        assertThat(MgmtExportResource.isGzipAccepted("gzip")).isTrue();
+        assertThat(MgmtExportResource.isGzipAccepted("deflate, GZIP;q=0.5")).isTrue();
+        assertThat(MgmtExportResource.isGzipAccepted("gzip;q=0")).isFalse();
+        assertThat(MgmtExportResource.isGzipAccepted("gzip; q=0.000, *")).isFalse();
+        assertThat(MgmtExportResource.isGzipAccepted("*")).isTrue();
+        assertThat(MgmtExportResource.isGzipAccepted("*;q=0")).isFalse();
+        assertThat(MgmtExportResource.isGzipAccepted("gzip;q=invalid")).isFalse();
+    }
+
+    @Test
+    @Description("Verifies that an invalid query is rejected before anything is exported.")
+    void exportWithInvalidQueryIsRejected() throws Exception {
+        testdataFactory.createTarget();
+
+        mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, "unknownField==1"))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isBadRequest());
+    }
+
+    private static <T> List<T> readLines(final byte[] body, final Class<T> type) {
+        return new String(body, StandardCharsets.UTF_8).lines().map(line -> {
+            assertThat(line).startsWith("{").endsWith("}");
+            try {
+                return OBJECT_MAPPER.readValue(line, type);
+            } catch (final Exception e) {
+                throw new AssertionError("Invalid line " + line, e);
+            }
+        }).toList();
+    }
+}
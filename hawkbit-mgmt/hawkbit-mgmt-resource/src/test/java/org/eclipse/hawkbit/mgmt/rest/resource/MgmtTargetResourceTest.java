@@ -833,6 +833,62 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath("$.content.[?(@.name=='" + idE + "')].updateStatus", contains("registered")));
     }
 
+    @Test
+    @Description("Ensures that all targets are walked through with keyset pagination, following the next cursor without counting.")
+    void getTargetsWithPagingCursorRequestParameter() throws Exception {
+        final int knownTargetAmount = 5;
+        final int limitSize = 2;
+        createTargetsAlphabetical(knownTargetAmount);
+
+        final List<String> controllerIds = new ArrayList<>();
+        String cursor = "";
+        for (int page = 0; cursor != null; page++) {
+            assertThat(page).isLessThan(knownTargetAmount);
+            final String response = mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                            .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, String.valueOf(limitSize))
+                            .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "NAME:DESC")
+                            .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor)
+                            .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_COUNT, "false"))
+                    .andExpect(status().isOk())
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(-1)))
+                    .andReturn().getResponse().getContentAsString();
+            final List<String> pageControllerIds = JsonPath.read(response, "$.content[*].controllerId");
+            controllerIds.addAll(pageControllerIds);
+            cursor = new JSONObject(response).optString("next", null);
+        }
+
+        assertThat(controllerIds).containsExactly("e", "d", "c", "b", "a");
+    }
+
+    @Test
+    @Description("Ensures that a cursor of another sort is rejected.")
+    void getTargetsWithPagingCursorOfOtherSortIsRejected() throws Exception {
+        createTargetsAlphabetical(3);
+        final String response = mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "1")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(3)))
+                .andExpect(jsonPath("$.next", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "NAME:DESC")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, JsonPath.<String> read(response, "$.next")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Description("Ensures that keyset pagination sorted by a nullable field is rejected already for the first page.")
+    void getTargetsWithPagingCursorSortedByNullableFieldIsRejected() throws Exception {
+        createTargetsAlphabetical(3);
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "DESCRIPTION:ASC")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, ""))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Description("Ensures that the get request for a target works.")
     void getSingleTarget() throws Exception {
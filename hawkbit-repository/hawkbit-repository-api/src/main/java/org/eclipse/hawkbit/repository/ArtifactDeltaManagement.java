@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+/**
+ * Service for the binary deltas between the artifacts of two versions (i.e. {@link SoftwareModule}s of the same type)
+ * of a software. The artifacts are paired by their file name. The deltas are generated in background, and a target
+ * which has the source version installed could download the delta instead of the whole artifact of the target
+ * version. Deltas of encrypted software modules are not supported.
+ */
+public interface ArtifactDeltaManagement {
+
+    /**
+     * Schedules the generation of the deltas between the artifacts of two software modules, e.g. in advance of a
+     * rollout. Already generated deltas are skipped.
+     *
+     * @param sourceModuleId the id of the software module to generate the deltas from
+     * @param targetModuleId the id of the software module to generate the deltas to
+     * @throws org.eclipse.hawkbit.repository.exception.EntityNotFoundException if a software module doesn't exist
+     * @throws jakarta.validation.ValidationException if the software modules are not of the same type
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_CREATE_REPOSITORY)
+    void generateDeltas(long sourceModuleId, long targetModuleId);
+
+    /**
+     * Finds the deltas a target could download for the artifacts of a software module, i.e. from the artifacts of the
+     * software module of the same type in its installed distribution set. The generation of the missing deltas is
+     * scheduled, so they are available for the next requests.
+     *
+     * @param controllerId the controller id of the target
+     * @param softwareModuleId the id of the software module to be installed
+     * @return the deltas by the SHA1 hash of the artifact they rebuild
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY + SpringEvalExpressions.HAS_AUTH_OR
+            + SpringEvalExpressions.IS_CONTROLLER)
+    Map<String, ArtifactDelta> findDeltas(@NotEmpty String controllerId, long softwareModuleId);
+
+    /**
+     * Loads the binary of a delta.
+     *
+     * @param sourceSha1Hash the SHA1 hash of the artifact the delta is generated from
+     * @param targetSha1Hash the SHA1 hash of the artifact the delta rebuilds
+     * @return the delta binary, or empty if there is no (generated) delta
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_DOWNLOAD_ARTIFACT + SpringEvalExpressions.HAS_AUTH_OR
+            + SpringEvalExpressions.IS_CONTROLLER)
+    Optional<DbArtifact> loadDeltaBinary(@NotEmpty String sourceSha1Hash, @NotEmpty String targetSha1Hash);
+}
@@ -115,6 +115,56 @@ public final class ArtifactEncryptionService {
         return artifactEncryption.encryptionSizeOverhead();
     }
 
+    /**
+     * Checks if the encryption supports decryption from any offset, see {@link SeekableArtifactEncryption}.
+     *
+     * @return if the encryption is seekable
+     */
+    public boolean isSeekableEncryption() {
+        return artifactEncryption instanceof SeekableArtifactEncryption;
+    }
+
+    /**
+     * Decrypts encrypted artifact stream, starting at the given offset, using the keys retrieved from secrets store by
+     * software module id reference. Supported only by {@link #isSeekableEncryption() seekable} encryption.
+     *
+     * @param smId software module id
+     * @param encryptedArtifactStream artifact stream to decrypt, starting at the {@link #encryptedOffset(long)} of the offset
+     * @param offset the offset in the decrypted artifact
+     * @return decrypted input stream, starting at the offset
+     */
+    public InputStream decryptSoftwareModuleArtifact(final long smId, final InputStream encryptedArtifactStream, final long offset) {
+        return seekableArtifactEncryption().decryptStream(getSoftwareModuleEncryptionSecrets(smId), encryptedArtifactStream, offset);
+    }
+
+    /**
+     * Calculates the size of the decrypted artifact. Supported only by {@link #isSeekableEncryption() seekable} encryption.
+     *
+     * @param encryptedSize the size of the encrypted artifact in bytes
+     * @return the size of the decrypted artifact in bytes
+     */
+    public long decryptedSize(final long encryptedSize) {
+        return seekableArtifactEncryption().decryptedSize(encryptedSize);
+    }
+
+    /**
+     * Calculates the offset in the encrypted artifact the decryption of the given offset has to start from. Supported only
+     * by {@link #isSeekableEncryption() seekable} encryption.
+     *
+     * @param offset the offset in the decrypted artifact
+     * @return the offset in the encrypted artifact
+     */
+    public long encryptedOffset(final long offset) {
+        return seekableArtifactEncryption().encryptedOffset(offset);
+    }
+
+    private SeekableArtifactEncryption seekableArtifactEncryption() {
+        if (!isEncryptionSupported() || !isSeekableEncryption()) {
+            throw new ArtifactEncryptionUnsupportedException("Seekable artifact decryption is not supported.");
+        }
+        return (SeekableArtifactEncryption) artifactEncryption;
+    }
+
     private Map<String, String> getSoftwareModuleEncryptionSecrets(final long smId) {
         final Set<String> requiredSecretsKeys = artifactEncryption.requiredSecretKeys();
         final Map<String, String> requiredSecrets = new HashMap<>();
@@ -0,0 +1,281 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException.EncryptionOperation;
+
+/**
+ * {@link SeekableArtifactEncryption} with AES-256-GCM encrypting the artifact in fixed-size segments. Every segment is
+ * encrypted with its own random nonce and authenticated with its own tag, so it could be decrypted independently:
+ * <pre>
+ * segment = nonce (12 bytes) | encrypted content (up to segment size) | tag (16 bytes)
+ * </pre>
+ * The index of the segment and whether it is the last one are authenticated too, so the segments can't be reordered and
+ * the artifact can't be truncated unnoticed. The last segment is the only one (and always one, possibly empty) that is
+ * shorter than the segment size.
+ */
+public class ChunkedArtifactEncryption implements SeekableArtifactEncryption {
+
+    /**
+     * The secret key (base64 encoded AES-256 key).
+     */
+    public static final String SECRET_KEY = "chunked.aes.key";
+    /**
+     * The default size of the (decrypted) segments in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024;
+
+    private static final String ALGORITHM = "AES";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int KEY_SIZE = 32;
+    private static final int NONCE_SIZE = 12;
+    private static final int TAG_SIZE = 16;
+    private static final int SEGMENT_OVERHEAD = NONCE_SIZE + TAG_SIZE;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final int segmentSize;
+
+    public ChunkedArtifactEncryption() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param segmentSize the size of the (decrypted) segments in bytes, must not be changed for already encrypted artifacts
+     */
+    public ChunkedArtifactEncryption(final int segmentSize) {
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be positive");
+        }
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public Set<String> requiredSecretKeys() {
+        return Set.of(SECRET_KEY);
+    }
+
+    @Override
+    public Map<String, String> generateSecrets() {
+        final byte[] key = new byte[KEY_SIZE];
+        secureRandom.nextBytes(key);
+        final Map<String, String> secrets = new HashMap<>();
+        secrets.put(SECRET_KEY, Base64.getEncoder().encodeToString(key));
+        return secrets;
+    }
+
+    @Override
+    public InputStream encryptStream(final Map<String, String> secrets, final InputStream stream) {
+        return new EncryptingInputStream(key(secrets, EncryptionOperation.ENCRYPT), stream);
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final InputStream stream) {
+        return decryptStream(secrets, stream, 0);
+    }
+
+    @Override
+    public InputStream decryptStream(final Map<String, String> secrets, final InputStream stream, final long offset) {
+        if (offset < 0) {
+            throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT, "Negative offset " + offset);
+        }
+        final DecryptingInputStream decryptingInputStream = new DecryptingInputStream(
+                key(secrets, EncryptionOperation.DECRYPT), stream, offset / segmentSize);
+        try {
+            decryptingInputStream.skipNBytes(offset % segmentSize);
+        } catch (final IOException e) {
+            throw new ArtifactEncryptionFailedException(EncryptionOperation.DECRYPT, "Failed to seek to offset " + offset, e);
+        }
+        return decryptingInputStream;
+    }
+
+    /**
+     * Size overhead of one segment, the overhead of an artifact depends on its size, see {@link #decryptedSize(long)}.
+     *
+     * @return encryption overhead of one segment in byte
+     */
+    @Override
+    public int encryptionSizeOverhead() {
+        return SEGMENT_OVERHEAD;
+    }
+
+    @Override
+    public long decryptedSize(final long encryptedSize) {
+        // all the segments but the last one are full, the last one has at least the overhead
+        final long segments = encryptedSize / (segmentSize + SEGMENT_OVERHEAD) + 1;
+        return Math.max(0, encryptedSize - segments * SEGMENT_OVERHEAD);
+    }
+
+    @Override
+    public long encryptedOffset(final long offset) {
+        return offset / segmentSize * (segmentSize + SEGMENT_OVERHEAD);
+    }
+
+    private static SecretKeySpec key(final Map<String, String> secrets, final EncryptionOperation operation) {
+        final String key = secrets.get(SECRET_KEY);
+        if (key == null) {
+            throw new ArtifactEncryptionFailedException(operation, "Secret " + SECRET_KEY + " is missing");
+        }
+        return new SecretKeySpec(Base64.getDecoder().decode(key), ALGORITHM);
+    }
+
+    // authenticates the position of the segment
+    private static byte[] associatedData(final long index, final boolean last) {
+        return ByteBuffer.allocate(Long.BYTES + 1).putLong(index).put((byte) (last ? 1 : 0)).array();
+    }
+
+    /**
+     * Stream of segments which are produced one by one, when the previous is read.
+     */
+    private abstract static class SegmentInputStream extends InputStream {
+
+        private final InputStream stream;
+        private byte[] segment = new byte[0];
+        private int position;
+        private long index;
+        private boolean last;
+
+        private SegmentInputStream(final InputStream stream, final long index) {
+            this.stream = stream;
+            this.index = index;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return segment[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            final int read = Math.min(length, segment.length - position);
+            System.arraycopy(segment, position, buffer, offset, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return segment.length - position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            stream.close();
+        }
+
+        protected abstract byte[] nextSegment(final InputStream stream, final long index) throws IOException;
+
+        protected void last() {
+            last = true;
+        }
+
+        private boolean fill() throws IOException {
+            while (position == segment.length) {
+                if (last) {
+                    return false;
+                }
+                segment = nextSegment(stream, index++);
+                position = 0;
+            }
+            return true;
+        }
+    }
+
+    private final class EncryptingInputStream extends SegmentInputStream {
+
+        private final SecretKeySpec key;
+        private final byte[] buffer = new byte[segmentSize];
+
+        private EncryptingInputStream(final SecretKeySpec key, final InputStream stream) {
+            super(stream, 0);
+            this.key = key;
+        }
+
+        @Override
+        protected byte[] nextSegment(final InputStream stream, final long index) throws IOException {
+            final int length = stream.readNBytes(buffer, 0, segmentSize);
+            final boolean lastSegment = length < segmentSize;
+            if (lastSegment) {
+                last();
+            }
+
+            final byte[] nonce = new byte[NONCE_SIZE];
+            secureRandom.nextBytes(nonce);
+            final byte[] encrypted = new byte[NONCE_SIZE + length + TAG_SIZE];
+            System.arraycopy(nonce, 0, encrypted, 0, NONCE_SIZE);
+            try {
+                final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+                cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, nonce));
+                cipher.updateAAD(associatedData(index, lastSegment));
+                cipher.doFinal(buffer, 0, length, encrypted, NONCE_SIZE);
+            } catch (final GeneralSecurityException e) {
+                throw new IOException("Failed to encrypt segment " + index, e);
+            }
+            return encrypted;
+        }
+    }
+
+    private final class DecryptingInputStream extends SegmentInputStream {
+
+        private final SecretKeySpec key;
+        private final byte[] buffer = new byte[segmentSize + SEGMENT_OVERHEAD];
+
+        private DecryptingInputStream(final SecretKeySpec key, final InputStream stream, final long index) {
+            super(stream, index);
+            this.key = key;
+        }
+
+        @Override
+        protected byte[] nextSegment(final InputStream stream, final long index) throws IOException {
+            final int length = stream.readNBytes(buffer, 0, buffer.length);
+            if (length < SEGMENT_OVERHEAD) {
+                throw new IOException("Encrypted artifact is truncated at segment " + index);
+            }
+            final boolean lastSegment = length < buffer.length;
+            if (lastSegment) {
+                last();
+            }
+
+            try {
+                final Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_SIZE * 8, buffer, 0, NONCE_SIZE));
+                cipher.updateAAD(associatedData(index, lastSegment));
+                return cipher.doFinal(buffer, NONCE_SIZE, length - NONCE_SIZE);
+            } catch (final GeneralSecurityException e) {
+                throw new IOException("Failed to decrypt segment " + index, e);
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.springframework.data.domain.Page;
@@ -174,6 +175,28 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Target findOrRegisterTargetIfItDoesNotExist(@NotEmpty String controllerId, @NotNull URI address, String name, String type);
 
+    /**
+     * Registers a poll of the target (as {@link #findOrRegisterTargetIfItDoesNotExist(String, URI)} does) and returns the
+     * {@link TargetPollSnapshot} of the target, i.e. the target data, the active action with the highest weight, the
+     * installed action and the polling time. If enabled, the snapshot is served from a cache which is invalidated on
+     * target and assignment changes, so the poll of an idle target doesn't need to load it.
+     *
+     * @param controllerId reference
+     * @param address the client IP address of the target, might be {@code null}
+     * @return the poll snapshot of the target
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    TargetPollSnapshot pollTarget(@NotEmpty String controllerId, @NotNull URI address);
+
+    /**
+     * Returns the cached {@link TargetPollSnapshot} of a target, if any. Never hits the database.
+     *
+     * @param controllerId of the target
+     * @return the cached snapshot or {@link Optional#empty()} if not cached
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER + SpringEvalExpressions.HAS_AUTH_OR + SpringEvalExpressions.IS_SYSTEM_CODE)
+    Optional<TargetPollSnapshot> findCachedPollSnapshot(@NotEmpty String controllerId);
+
     /**
      * Retrieves last {@link Action} for a download of an artifact of given module and target if exists and is not canceled.
      *
@@ -14,6 +14,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -226,6 +228,38 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Action> findActions(@NotNull String rsqlParam, @NotNull Pageable pageable);
 
+    /**
+     * Passes all {@link Action}s (matching the RSQL query, if given) to the consumer in the order of their ids. The actions
+     * are read in slices, with their targets, and detached after each slice - so the memory used is constant, e.g. for exports.
+     * The consumer shall not keep the actions.
+     *
+     * @param rsqlParam RSQL query string, <code>null</code> for all actions
+     * @param consumer the consumer of the actions
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void forEachAction(String rsqlParam, @NotNull Consumer<Action> consumer);
+
+    /**
+     * Passes all {@link ActionStatus} entries (matching the RSQL query, if given) to the consumer in the order of their ids.
+     * The entries are read in slices, with their actions, and detached after each slice - so the memory used is constant,
+     * e.g. for exports of the action history. The consumer shall not keep the entries.
+     *
+     * @param rsqlParam RSQL query string (see ActionStatusFields), <code>null</code> for all entries
+     * @param consumer the consumer of the action status entries
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void forEachActionStatus(String rsqlParam, @NotNull Consumer<ActionStatus> consumer);
+
+    /**
+     * As {@link #forEachActionStatus(String, Consumer)} but passes the messages of each entry too. The messages are loaded
+     * with one query per slice of entries.
+     *
+     * @param rsqlParam RSQL query string (see ActionStatusFields), <code>null</code> for all entries
+     * @param consumer the consumer of the action status entries and their messages
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void forEachActionStatusWithMessages(String rsqlParam, @NotNull BiConsumer<ActionStatus, List<String>> consumer);
+
     /**
      * Retrieves all {@link Action}s assigned to a specific {@link Target} and a
      * given specification.
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * A keyset (seek) based {@link PageRequest}. Instead of skipping an offset the next slice starts after the sort values
+ * and the id of the last entity of the previous slice. So the cost of a slice doesn't grow with its position. The id is
+ * used as tie-breaker of equal sort values - it is always the last order of the sort (appended ascending if not sorted by).
+ * <p/>
+ * Supported only by the queries without count (i.e. which return a {@link org.springframework.data.domain.Slice})
+ * and only for sort by (non-null) basic attributes of the entity.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public final class KeysetPageRequest extends PageRequest {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public static final String ID = "id";
+
+    // the sort values of the last entity of the previous slice - in the order of the sort and as strings, empty for the first slice
+    private final List<String> lastSortValues;
+    // the id of the last entity of the previous slice, null for the first slice
+    private final Long lastId;
+
+    private KeysetPageRequest(final int limit, final Sort sort, final List<String> lastSortValues, final Long lastId) {
+        super(0, limit, withIdTieBreaker(sort));
+        final int sortSize = getSort().toList().size() - 1;
+        if (lastId != null && lastSortValues.size() != sortSize) {
+            throw new IllegalArgumentException("Expected " + sortSize + " sort values but got " + lastSortValues.size());
+        }
+        this.lastSortValues = Collections.unmodifiableList(lastSortValues);
+        this.lastId = lastId;
+    }
+
+    /**
+     * Creates a request for the first slice.
+     *
+     * @param limit the limit of the slice to be returned.
+     * @param sort the sort, the id is appended as tie-breaker
+     * @return the request of the first slice
+     */
+    public static KeysetPageRequest of(final int limit, final Sort sort) {
+        return new KeysetPageRequest(limit, sort, Collections.emptyList(), null);
+    }
+
+    /**
+     * Creates a request for the slice after the given keyset, e.g. decoded from a cursor of a client.
+     *
+     * @param limit the limit of the slice to be returned.
+     * @param sort the sort, the id is appended as tie-breaker
+     * @param lastSortValues the sort values (except the id) of the last entity of the previous slice
+     * @param lastId the id of the last entity of the previous slice
+     * @return the request of the slice after the keyset
+     */
+    public static KeysetPageRequest after(final int limit, final Sort sort, final List<String> lastSortValues, final long lastId) {
+        return new KeysetPageRequest(limit, sort, lastSortValues, lastId);
+    }
+
+    /**
+     * @return <code>true</code> if this is the request for the first slice
+     */
+    public boolean isFirstSlice() {
+        return lastId == null;
+    }
+
+    /**
+     * Creates the request of the slice after the given entity.
+     *
+     * @param last the last entity of the current slice
+     * @return the request of the next slice
+     * @throws IllegalArgumentException if a sort value of the entity is <code>null</code>
+     */
+    public KeysetPageRequest next(final BaseEntity last) {
+        final DirectFieldAccessor accessor = new DirectFieldAccessor(last);
+        final List<String> values = new ArrayList<>();
+        for (final Sort.Order order : getSort()) {
+            if (!ID.equals(order.getProperty())) {
+                final Object value = accessor.getPropertyValue(order.getProperty());
+                if (value == null) {
+                    throw new IllegalArgumentException(
+                            "Keyset pagination doesn't support null values of the sort attribute " + order.getProperty());
+                }
+                values.add(value instanceof Enum<?> enumValue ? enumValue.name() : String.valueOf(value));
+            }
+        }
+        return new KeysetPageRequest(getPageSize(), getSort(), values, last.getId());
+    }
+
+    // the orders after the id are meaningless, as it is unique
+    private static Sort withIdTieBreaker(final Sort sort) {
+        final List<Sort.Order> orders = new ArrayList<>();
+        for (final Sort.Order order : sort) {
+            if (order.getProperty().indexOf('.') != -1) {
+                throw new IllegalArgumentException(
+                        "Keyset pagination supports only sort by attributes of the entity, not by " + order.getProperty());
+            }
+            orders.add(order);
+            if (ID.equals(order.getProperty())) {
+                return Sort.by(orders);
+            }
+        }
+        orders.add(Sort.Order.asc(ID));
+        return Sort.by(orders);
+    }
+}
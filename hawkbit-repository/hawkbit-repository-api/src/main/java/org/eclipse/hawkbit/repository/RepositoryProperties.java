@@ -57,6 +57,187 @@ public class RepositoryProperties {
      */
     private boolean eagerPollPersistence;
 
+    /**
+     * Set to <code>true</code> to cache the poll snapshots of the targets (target data, active and installed action
+     * and polling time). The snapshots are invalidated on target, assignment and tenant configuration changes, so the
+     * poll of an idle target doesn't need to load it. Note: it relies on the (remote) events, so they shall not be
+     * disabled if the cache is used.
+     */
+    private boolean pollSnapshotCacheEnabled;
+
+    /**
+     * Maximum number of cached poll snapshots.
+     */
+    private long pollSnapshotCacheSize = 100_000;
+
+    /**
+     * Maximum time a poll snapshot is cached in {@link TimeUnit#MILLISECONDS} - safety net in case of lost events.
+     */
+    private long pollSnapshotCacheTtl = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * Set to <code>true</code> to persist the intermediate (non-terminal) {@link ActionStatus} updates of the targets
+     * (RUNNING, DOWNLOAD, DOWNLOADED, RETRIEVED and WARNING) write-behind, i.e. queued and flushed periodically in a
+     * transaction per tenant. The terminal ones (e.g. FINISHED, ERROR) are still persisted immediately. Note: the queued
+     * updates are node local, so they are lost if the node stops before the flush.
+     */
+    private boolean actionStatusWriteBehindEnabled;
+
+    /**
+     * Maximum number of intermediate action status updates queued before flush. If the queue is full the updates are
+     * persisted immediately.
+     */
+    private int actionStatusWriteBehindQueueSize = 10_000;
+
+    /**
+     * Maximum time before the action status queue is flushed in {@link TimeUnit#MILLISECONDS}.
+     */
+    private long actionStatusWriteBehindFlushTime = TimeUnit.SECONDS.toMillis(1);
+
+    /**
+     * Set to <code>true</code> to lock (and schedule) the rollout handling per rollout instead of per tenant. Then the
+     * active rollouts of a tenant are distributed over the rollout executor threads and the cluster nodes, so they
+     * could be handled in parallel. Note: all the nodes of a cluster shall use the same mode.
+     */
+    private boolean rolloutLockPerRollout;
+
+    /**
+     * Set to <code>true</code> to evaluate only the running rollout groups which actions have been changed (signaled
+     * by the action events) since their last evaluation, instead of all running groups on every rollout handling.
+     * Note: it relies on the (remote) events, so they shall not be disabled if the event-driven evaluation is used.
+     */
+    private boolean rolloutEventDrivenEvaluation;
+
+    /**
+     * Interval in {@link TimeUnit#MILLISECONDS} in which all running rollout groups are evaluated even if the
+     * event-driven evaluation is enabled - a safety net for changes without action events.
+     */
+    private long rolloutFullEvaluationInterval = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Set to <code>true</code> to check only the targets which have been created or updated (signaled by the target
+     * events) since the last auto assignment check, instead of matching all the targets against all the auto
+     * assignment target filters on every check. All the targets are still checked if a target filter, a distribution
+     * set or a target type has been changed, and at least once per full check interval.
+     */
+    private boolean autoAssignIncrementalCheck;
+
+    /**
+     * Interval in {@link TimeUnit#MILLISECONDS} in which all the targets are checked for auto assignment even if the
+     * incremental check is enabled - a safety net for changes without target events.
+     */
+    private long autoAssignFullCheckInterval = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * Maximum number of changed targets tracked per tenant for the incremental auto assignment check. If exceeded all
+     * the targets of the tenant are checked.
+     */
+    private int autoAssignMaxChangedTargets = 10_000;
+
+    /**
+     * Set to <code>true</code> to fill the (static) rollout groups with targets and to create their scheduled actions
+     * by set based native SQL statements (<code>INSERT ... SELECT</code>) instead of loading and persisting the
+     * entities one by one. Note: no action created events are published for the scheduled rollout actions then.
+     */
+    private boolean rolloutSetBasedAssignment;
+
+    /**
+     * Set to <code>true</code> to maintain persistent action status counters per rollout group, updated on the action
+     * status transitions, and to read the detailed rollout (group) status from them instead of aggregating it over the
+     * actions. Only the groups created while enabled are counted, the others are still aggregated. Note: all the nodes
+     * of a cluster shall use the same mode, and the counters of groups that had action changes while disabled could
+     * be stale.
+     */
+    private boolean rolloutGroupStatusCounters;
+
+    /**
+     * Set to <code>true</code> to collect the remote events received from the other cluster nodes within a short
+     * window and to load their entities in bulk (one query per tenant and entity type) before dispatching them, instead
+     * of reloading the entity of every event separately on access.
+     */
+    private boolean remoteEventHydration;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} the received remote events are collected for the bulk entity loading.
+     */
+    private long remoteEventHydrationWindow = 20;
+
+    /**
+     * Maximum number of received remote events collected for the bulk entity loading. If reached the events are
+     * dispatched immediately.
+     */
+    private int remoteEventHydrationMaxEvents = 1_000;
+
+    /**
+     * Set to <code>true</code> to cache the content of the downloaded artifacts in memory (off-heap), in blocks evicted
+     * in least recently used order. Only the decrypted content of encrypted artifacts and the artifacts not stored as
+     * plain files are cached - plain files of the file-system artifact repository are served from the page cache of
+     * the OS, not from this cache.
+     */
+    private boolean artifactBlockCacheEnabled;
+
+    /**
+     * Maximum size of the cached artifact content in bytes. Artifacts bigger than it are not cached.
+     */
+    private long artifactBlockCacheSize = 256L * 1024 * 1024;
+
+    /**
+     * Size of the cached artifact blocks in bytes.
+     */
+    private int artifactBlockCacheBlockSize = 1024 * 1024;
+
+    /**
+     * Set to <code>true</code> to generate binary deltas between the artifacts of software module versions (in
+     * background) and to advertise them to the targets which have the source version installed.
+     */
+    private boolean artifactDeltaEnabled;
+
+    /**
+     * Maximum size of the artifacts in bytes deltas are generated for - every generator thread holds both versions and
+     * the delta in memory, so raise it with care.
+     */
+    private long artifactDeltaMaxArtifactSize = 16L * 1024 * 1024;
+
+    /**
+     * Maximum size of a delta relative to the size of the artifact it rebuilds. Bigger deltas are dropped.
+     */
+    private double artifactDeltaMaxRatio = 0.5;
+
+    /**
+     * Number of threads generating the deltas.
+     */
+    private int artifactDeltaThreads = 1;
+
+    /**
+     * Set to <code>true</code> to lock the scheduled jobs (rollout handling, auto assignment, auto cleanup) across the
+     * nodes of a cluster by leases stored in the repository database, and to distribute the tenants over the live
+     * nodes, so the scheduled jobs of a node process only its share of the tenants. Note: all the nodes of a cluster
+     * shall use the same mode.
+     */
+    private boolean clusterEnabled;
+
+    /**
+     * Unique id of the node in the cluster. If not set a random one is generated on start.
+     */
+    private String clusterNodeId;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} a cluster lock is held without renewal - a lock of a crashed node is
+     * taken over after it.
+     */
+    private long clusterLockLeaseTime = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Interval in {@link TimeUnit#MILLISECONDS} in which a node stores its heartbeat and reads the live nodes.
+     */
+    private long clusterHeartbeatInterval = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} after the last heartbeat a node is considered dead and its tenants are
+     * distributed over the other nodes.
+     */
+    private long clusterNodeTimeout = TimeUnit.SECONDS.toMillis(20);
+
     /**
      * If an {@link org.eclipse.hawkbit.repository.model.Action} has a weight of null this value is used as weight.
      */
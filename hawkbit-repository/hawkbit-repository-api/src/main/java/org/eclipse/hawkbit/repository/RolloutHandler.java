@@ -49,4 +49,18 @@ public interface RolloutHandler {
      */
     @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
     void handleAll();
+
+    /**
+     * Process a single rollout the same way as {@link #handleAll()} does. The rollout is skipped if it is currently
+     * handled by another thread or node, so the rollouts of a tenant could be distributed over multiple threads and
+     * nodes.
+     * <p/>
+     * By default, for handlers which can't handle a single rollout, all rollouts of the tenant are processed.
+     *
+     * @param rolloutId the id of the rollout to process
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
+    default void handle(final long rolloutId) {
+        handleAll();
+    }
 }
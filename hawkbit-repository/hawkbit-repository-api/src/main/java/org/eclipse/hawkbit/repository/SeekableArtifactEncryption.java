@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.InputStream;
+import java.util.Map;
+
+import org.eclipse.hawkbit.repository.exception.ArtifactEncryptionFailedException;
+
+/**
+ * {@link ArtifactEncryption} which could start the decryption at any offset of the artifact, without decrypting the
+ * content before. So, e.g., range requests cost O(range) instead of O(offset + range).
+ */
+public interface SeekableArtifactEncryption extends ArtifactEncryption {
+
+    /**
+     * Calculates the size of the decrypted artifact.
+     *
+     * @param encryptedSize the size of the encrypted artifact in bytes
+     * @return the size of the decrypted artifact in bytes
+     */
+    long decryptedSize(final long encryptedSize);
+
+    /**
+     * Calculates the offset in the encrypted artifact the decryption has to start from in order to decrypt the artifact
+     * from the given offset.
+     *
+     * @param offset the offset in the decrypted artifact
+     * @return the offset in the encrypted artifact
+     */
+    long encryptedOffset(final long offset);
+
+    /**
+     * Decrypts encrypted artifact stream, starting at the given offset, based on provided secrets.
+     *
+     * @param secrets secrets key/value pairs to be used for decryption
+     * @param stream encrypted artifact stream, starting at the {@link #encryptedOffset(long)} of the offset
+     * @param offset the offset in the decrypted artifact
+     * @return decrypted input stream, starting at the offset
+     * @throws ArtifactEncryptionFailedException thrown in case of an error while decrypting the provided stream
+     */
+    InputStream decryptStream(final Map<String, String> secrets, final InputStream stream, final long offset);
+}
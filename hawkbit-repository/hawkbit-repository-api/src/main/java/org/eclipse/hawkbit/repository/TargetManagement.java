@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import jakarta.validation.ConstraintViolationException;
@@ -469,6 +470,33 @@ public interface TargetManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Target> findByRsql(@NotNull Pageable pageable, @NotNull String rsqlParam);
 
+    /**
+     * Passes all targets (matching the RSQL query, if given) to the consumer in the order of their ids. The targets are
+     * read in slices and detached after each slice - so the memory used is constant, e.g. for exports. The consumer shall
+     * not keep the targets.
+     *
+     * @param rsqlParam in RSQL notation, <code>null</code> for all targets
+     * @param consumer the consumer of the targets
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by
+     *         {@link TargetFields}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void forEachByRsql(String rsqlParam, @NotNull Consumer<Target> consumer);
+
+    /**
+     * As {@link #forEachByRsql(String, Consumer)} but passes the controller attributes of each target too. The attributes
+     * are loaded with one query per slice of targets.
+     *
+     * @param rsqlParam in RSQL notation, <code>null</code> for all targets
+     * @param consumer the consumer of the targets and their controller attributes
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by
+     *         {@link TargetFields}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void forEachWithControllerAttributesByRsql(String rsqlParam, @NotNull BiConsumer<Target, Map<String, String>> consumer);
+
     /**
      * Retrieves all target based on {@link TargetFilterQuery}.
      *
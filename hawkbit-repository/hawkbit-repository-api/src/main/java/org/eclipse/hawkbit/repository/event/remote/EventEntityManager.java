@@ -9,6 +9,10 @@
  */
 package org.eclipse.hawkbit.repository.event.remote;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
 import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
 
 /**
@@ -26,4 +30,17 @@ public interface EventEntityManager {
      * @return the entity
      */
     <E extends TenantAwareBaseEntity> E findEntity(String tenant, Long id, Class<E> entityType);
+
+    /**
+     * Find the entities by given ids and return them. Ids of not existing entities are skipped.
+     *
+     * @param tenant the tenant
+     * @param ids the ids
+     * @param entityType the entity type
+     * @return the found entities, in no specific order
+     */
+    default <E extends TenantAwareBaseEntity> List<E> findEntities(final String tenant, final Collection<Long> ids,
+            final Class<E> entityType) {
+        return ids.stream().map(id -> findEntity(tenant, id, entityType)).filter(Objects::nonNull).toList();
+    }
 }
\ No newline at end of file
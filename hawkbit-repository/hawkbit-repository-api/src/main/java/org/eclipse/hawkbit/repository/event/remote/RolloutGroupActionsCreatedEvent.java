@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.io.Serial;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event that is published when the (scheduled) actions for a rollout group are created in bulk, i.e. without an
+ * action created event per action.
+ */
+@NoArgsConstructor // for serialization libs like jackson
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class RolloutGroupActionsCreatedEvent extends RemoteTenantAwareEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private long rolloutId;
+    private long rolloutGroupId;
+    private long actions;
+
+    /**
+     * Constructor for json serialization.
+     *
+     * @param tenant the tenant
+     * @param applicationId the origin application id
+     * @param rolloutId the id of the rollout
+     * @param rolloutGroupId the id of the rollout group (and source)
+     * @param actions the number of the created actions
+     */
+    public RolloutGroupActionsCreatedEvent(
+            final String tenant, final String applicationId, final long rolloutId, final long rolloutGroupId,
+            final long actions) {
+        super(rolloutGroupId, tenant, applicationId);
+        this.rolloutId = rolloutId;
+        this.rolloutGroupId = rolloutGroupId;
+        this.actions = actions;
+    }
+}
@@ -55,6 +55,17 @@ public class RemoteEntityEvent<E extends TenantAwareBaseEntity> extends RemoteId
         return Optional.ofNullable(entity);
     }
 
+    /**
+     * Sets the entity of an event received from another node, e.g. loaded in bulk with the entities of other events,
+     * so it is not reloaded on access.
+     *
+     * @param entity the entity
+     */
+    @JsonIgnore
+    public void setEntity(final E entity) {
+        this.entity = entity;
+    }
+
     @SuppressWarnings("unchecked")
     private E reloadEntityFromRepository() {
         try {
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import lombok.Data;
+
+/**
+ * Binary delta which rebuilds the target version of an artifact from its source version, see
+ * {@link org.eclipse.hawkbit.artifact.repository.BinaryDelta}. The versions are identified by the SHA1 hashes of the
+ * artifact binaries, the delta itself is stored as binary with its own hashes.
+ */
+@Data
+public class ArtifactDelta {
+
+    private final String sourceSha1Hash;
+    private final String targetSha1Hash;
+    private final String sha1Hash;
+    private final String md5Hash;
+    private final String sha256Hash;
+    private final long size;
+}
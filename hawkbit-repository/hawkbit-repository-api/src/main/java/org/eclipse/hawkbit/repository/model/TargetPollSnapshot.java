@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of everything the controller poll needs to know about a {@link Target}. It is built on a poll
+ * and could be cached until the target or its actions change, so an idle target could be served without loading
+ * the target and its actions again.
+ */
+@Value
+public class TargetPollSnapshot {
+
+    private static final String SECURITY_TOKEN_HASH_ALGORITHM = "SHA-256";
+
+    String tenant;
+    long targetId;
+    String controllerId;
+    URI address;
+    /**
+     * Hash of the {@link Target#getSecurityToken()}, the token itself is never kept in the snapshot.
+     */
+    String securityTokenHash;
+    boolean requestControllerAttributes;
+    /**
+     * Id of the active {@link Action} with the highest weight, <code>null</code> if there is no active action.
+     */
+    Long activeActionId;
+    /**
+     * Weight of the active action (considering the default), <code>null</code> if there is no active action.
+     */
+    Integer activeActionWeight;
+    /**
+     * Id of the finished {@link Action} which installed the currently installed distribution set, <code>null</code> if
+     * none.
+     */
+    Long installedActionId;
+    /**
+     * Polling time to be used if there is no active action.
+     */
+    String pollingTime;
+
+    /**
+     * Checks if the presented security token is the one of the target.
+     *
+     * @param presentedToken the token to check
+     * @return <code>true</code> if the hash of the presented token equals the one of the target security token
+     */
+    public boolean isSecurityTokenMatching(final String presentedToken) {
+        return securityTokenHash != null && presentedToken != null && MessageDigest.isEqual(
+                securityTokenHash.getBytes(StandardCharsets.US_ASCII),
+                hashSecurityToken(presentedToken).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Hashes a target security token in order to be stored in a snapshot.
+     *
+     * @param securityToken the token, could be <code>null</code>
+     * @return the hex encoded hash, <code>null</code> if the token is <code>null</code>
+     */
+    public static String hashSecurityToken(final String securityToken) {
+        if (securityToken == null) {
+            return null;
+        }
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance(SECURITY_TOKEN_HASH_ALGORITHM).digest(securityToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(SECURITY_TOKEN_HASH_ALGORITHM + " is not supported", e);
+        }
+    }
+}
@@ -141,6 +141,10 @@ public class TenantConfigurationProperties {
          * Switch to enable/disable the implicit locking
          */
         public static final String IMPLICIT_LOCK_ENABLED = "implicit.lock.enabled";
+        /**
+         * Content type (encoding) of the DMF messages sent to the tenant's devices, JSON or CBOR
+         */
+        public static final String DMF_CONTENT_TYPE = "dmf.content.type";
 
         private static final Map<Class<? extends Serializable>, TenantConfigurationValidator> DEFAULT_TYPE_VALIDATORS = Map.of(
                 Boolean.class, new TenantConfigurationBooleanValidator(),
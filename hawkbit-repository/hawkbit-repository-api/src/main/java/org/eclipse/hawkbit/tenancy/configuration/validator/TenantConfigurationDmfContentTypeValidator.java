@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.tenancy.configuration.validator;
+
+import java.util.Set;
+
+import org.eclipse.hawkbit.repository.exception.TenantConfigurationValidatorException;
+
+/**
+ * This class is used to validate, that the property is one of the supported content types of the DMF messages.
+ */
+public class TenantConfigurationDmfContentTypeValidator implements TenantConfigurationValidator {
+
+    private static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of("application/json", "application/cbor");
+
+    @Override
+    public void validate(final Object tenantConfigurationObject) {
+        TenantConfigurationValidator.super.validate(tenantConfigurationObject);
+        if (!SUPPORTED_CONTENT_TYPES.contains(tenantConfigurationObject)) {
+            throw new TenantConfigurationValidatorException(
+                    String.format("The given configuration value is expected to be one of %s.", SUPPORTED_CONTENT_TYPES));
+        }
+    }
+
+    @Override
+    public Class<?> validateToClass() {
+        return String.class;
+    }
+}
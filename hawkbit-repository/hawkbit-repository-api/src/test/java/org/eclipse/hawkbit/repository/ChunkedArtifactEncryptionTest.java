@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.junit.jupiter.api.Test;
+
+@Feature("Unit Tests - Repository")
+@Story("Artifact Encryption Service")
+class ChunkedArtifactEncryptionTest {
+
+    private static final int SEGMENT_SIZE = 16;
+
+    private final ChunkedArtifactEncryption encryption = new ChunkedArtifactEncryption(SEGMENT_SIZE);
+    private final Map<String, String> secrets = encryption.generateSecrets();
+
+    @Test
+    @Description("Verifies that artifacts of any size are decrypted, from the start and from any offset, and their size is calculated")
+    void decryptFromAnyOffset() throws IOException {
+        for (final int size : new int[] { 0, 1, SEGMENT_SIZE - 1, SEGMENT_SIZE, SEGMENT_SIZE + 1, 3 * SEGMENT_SIZE, 3 * SEGMENT_SIZE + 5 }) {
+            final byte[] content = randomBytes(size);
+            final byte[] encrypted = encrypt(content);
+            assertThat(encryption.decryptedSize(encrypted.length)).as("size of %d", size).isEqualTo(size);
+
+            try (final InputStream decrypted = encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted))) {
+                assertThat(decrypted.readAllBytes()).isEqualTo(content);
+            }
+            for (int offset = 0; offset <= size; offset++) {
+                final int encryptedOffset = (int) encryption.encryptedOffset(offset);
+                try (final InputStream decrypted = encryption.decryptStream(secrets,
+                        new ByteArrayInputStream(encrypted, encryptedOffset, encrypted.length - encryptedOffset), offset)) {
+                    assertThat(decrypted.readAllBytes()).as("size %d, offset %d", size, offset)
+                            .isEqualTo(Arrays.copyOfRange(content, offset, size));
+                }
+            }
+        }
+    }
+
+    @Test
+    @Description("Verifies that modified, reordered or truncated artifacts are not decrypted")
+    void tamperedArtifactIsRejected() throws IOException {
+        final byte[] content = randomBytes(3 * SEGMENT_SIZE + 5);
+        final byte[] encrypted = encrypt(content);
+        final int encryptedSegmentSize = (int) encryption.encryptedOffset(SEGMENT_SIZE);
+
+        final byte[] modified = encrypted.clone();
+        modified[encryptedSegmentSize + 20]++;
+        assertDecryptionFails(modified);
+
+        final byte[] reordered = encrypted.clone();
+        System.arraycopy(encrypted, 0, reordered, encryptedSegmentSize, encryptedSegmentSize);
+        System.arraycopy(encrypted, encryptedSegmentSize, reordered, 0, encryptedSegmentSize);
+        assertDecryptionFails(reordered);
+
+        // the full segments only, the last one is missing
+        assertDecryptionFails(Arrays.copyOf(encrypted, 3 * encryptedSegmentSize));
+    }
+
+    private void assertDecryptionFails(final byte[] encrypted) throws IOException {
+        try (final InputStream decrypted = encryption.decryptStream(secrets, new ByteArrayInputStream(encrypted))) {
+            assertThatExceptionOfType(IOException.class).isThrownBy(decrypted::readAllBytes);
+        }
+    }
+
+    private byte[] encrypt(final byte[] content) throws IOException {
+        try (final InputStream encrypted = encryption.encryptStream(secrets, new ByteArrayInputStream(content))) {
+            return encrypted.readAllBytes();
+        }
+    }
+
+    private static byte[] randomBytes(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.Executor;
 
 import io.protostuff.ProtostuffIOUtil;
 import io.protostuff.Schema;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
@@ -53,9 +54,14 @@ public class EventPublisherConfiguration {
     @Bean(name = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
     ApplicationEventMulticaster applicationEventMulticaster(
             @Qualifier("asyncExecutor") final Executor executor,
-            final SystemSecurityContext systemSecurityContext, final ApplicationEventFilter applicationEventFilter) {
-        final SimpleApplicationEventMulticaster simpleApplicationEventMulticaster =
-                new TenantAwareApplicationEventPublisher(systemSecurityContext, applicationEventFilter);
+            final SystemSecurityContext systemSecurityContext, final ApplicationEventFilter applicationEventFilter,
+            final RepositoryProperties repositoryProperties) {
+        final SimpleApplicationEventMulticaster simpleApplicationEventMulticaster = new TenantAwareApplicationEventPublisher(
+                systemSecurityContext, applicationEventFilter,
+                repositoryProperties.isRemoteEventHydration()
+                        ? new RemoteEntityEventHydrator(
+                                repositoryProperties.getRemoteEventHydrationWindow(), repositoryProperties.getRemoteEventHydrationMaxEvents())
+                        : null);
         simpleApplicationEventMulticaster.setTaskExecutor(executor);
         return simpleApplicationEventMulticaster;
     }
@@ -84,13 +90,16 @@ public class EventPublisherConfiguration {
 
         private final SystemSecurityContext systemSecurityContext;
         private final ApplicationEventFilter applicationEventFilter;
+        private final RemoteEntityEventHydrator remoteEntityEventHydrator;
 
         private ServiceMatcher serviceMatcher;
 
         protected TenantAwareApplicationEventPublisher(
-                final SystemSecurityContext systemSecurityContext, final ApplicationEventFilter applicationEventFilter) {
+                final SystemSecurityContext systemSecurityContext, final ApplicationEventFilter applicationEventFilter,
+                final RemoteEntityEventHydrator remoteEntityEventHydrator) {
             this.systemSecurityContext = systemSecurityContext;
             this.applicationEventFilter = applicationEventFilter;
+            this.remoteEntityEventHydrator = remoteEntityEventHydrator;
         }
 
         @Autowired(required = false)
@@ -117,8 +126,16 @@ public class EventPublisherConfiguration {
                 return;
             }
 
+            if (remoteEntityEventHydrator == null) {
+                multicastRemoteEvent(remoteEvent, eventType);
+            } else {
+                remoteEntityEventHydrator.add(remoteEvent, () -> multicastRemoteEvent(remoteEvent, eventType));
+            }
+        }
+
+        private void multicastRemoteEvent(final RemoteTenantAwareEvent remoteEvent, final ResolvableType eventType) {
             systemSecurityContext.runAsSystemAsTenant(() -> {
-                super.multicastEvent(event, eventType);
+                super.multicastEvent(remoteEvent, eventType);
                 return null;
             }, remoteEvent.getTenant());
         }
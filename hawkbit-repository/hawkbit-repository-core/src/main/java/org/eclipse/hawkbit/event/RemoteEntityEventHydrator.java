@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.event.remote.EventEntityManager;
+import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RemoteEntityEvent;
+import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
+
+/**
+ * Collects the remote events received from other nodes within a short window and loads the entities of the
+ * {@link RemoteEntityEvent}s in bulk - with one query per tenant and entity type, instead of one per event on the first
+ * {@link RemoteEntityEvent#getEntity()} call. The events are dispatched afterward, in the order of their receipt.
+ * <p/>
+ * The window starts with the first event after a dispatch. The events are dispatched on the window end or, by the
+ * receiving thread, as soon as the maximum number of events is collected.
+ */
+@Slf4j
+public class RemoteEntityEventHydrator {
+
+    private final long window;
+    private final int maxEvents;
+    private final ScheduledExecutorService scheduler;
+
+    private final List<PendingEvent> pending = new ArrayList<>();
+    private final Object dispatchLock = new Object();
+
+    /**
+     * Constructor.
+     *
+     * @param window the time in {@link TimeUnit#MILLISECONDS} the events are collected
+     * @param maxEvents the maximum number of collected events
+     */
+    public RemoteEntityEventHydrator(final long window, final int maxEvents) {
+        this.window = window;
+        this.maxEvents = maxEvents;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "remote-event-hydrator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds a received event to the current window.
+     *
+     * @param event the event
+     * @param dispatcher dispatches the event after its entity has been loaded
+     */
+    public void add(final RemoteTenantAwareEvent event, final Runnable dispatcher) {
+        final boolean full;
+        synchronized (pending) {
+            pending.add(new PendingEvent(event, dispatcher));
+            if (pending.size() == 1) {
+                scheduler.schedule(this::dispatch, window, TimeUnit.MILLISECONDS);
+            }
+            full = pending.size() >= maxEvents;
+        }
+
+        if (full) {
+            dispatch();
+        }
+    }
+
+    /**
+     * Hydrates and dispatches the collected events.
+     */
+    public void dispatch() {
+        // dispatches one window after another, so the events keep their order
+        synchronized (dispatchLock) {
+            final List<PendingEvent> events;
+            synchronized (pending) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                events = new ArrayList<>(pending);
+                pending.clear();
+            }
+
+            hydrate(events.stream().map(PendingEvent::event).toList());
+            events.forEach(event -> {
+                try {
+                    event.dispatcher().run();
+                } catch (final RuntimeException e) {
+                    log.error("Failed to dispatch remote event {}", event.event(), e);
+                }
+            });
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static void hydrate(final List<RemoteTenantAwareEvent> events) {
+        final Map<EntityKey, List<RemoteEntityEvent>> eventsByEntityType = new LinkedHashMap<>();
+        for (final RemoteTenantAwareEvent event : events) {
+            if (event instanceof RemoteEntityEvent<?> entityEvent && entityEvent.getEntityId() != null) {
+                eventsByEntityType.computeIfAbsent(new EntityKey(entityEvent.getTenant(), entityEvent.getEntityClass()),
+                        key -> new ArrayList<>()).add(entityEvent);
+            }
+        }
+
+        final EventEntityManager eventEntityManager = EventEntityManagerHolder.getInstance().getEventEntityManager();
+        eventsByEntityType.forEach((key, entityEvents) -> {
+            try {
+                final Class<? extends TenantAwareBaseEntity> entityType =
+                        (Class<? extends TenantAwareBaseEntity>) Class.forName(key.entityClass());
+                final Map<Long, TenantAwareBaseEntity> entities = eventEntityManager
+                        .findEntities(key.tenant(), entityEvents.stream().map(RemoteEntityEvent::getEntityId).distinct().toList(),
+                                entityType)
+                        .stream()
+                        .collect(Collectors.toMap(TenantAwareBaseEntity::getId, Function.identity(), (a, b) -> a));
+                // the events of the not found entities are left as is, they would reload them on access
+                entityEvents.forEach(entityEvent -> {
+                    final TenantAwareBaseEntity entity = entities.get(entityEvent.getEntityId());
+                    if (entity != null) {
+                        entityEvent.setEntity(entity);
+                    }
+                });
+            } catch (final ClassNotFoundException | RuntimeException e) {
+                log.warn("Failed to load the entities of {} remote events for {}", entityEvents.size(), key, e);
+            }
+        });
+    }
+
+    private record PendingEvent(RemoteTenantAwareEvent event, Runnable dispatcher) {}
+
+    private record EntityKey(String tenant, String entityClass) {}
+}
@@ -21,6 +21,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import org.eclipse.hawkbit.cache.TenancyCacheManager;
 import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
 import org.eclipse.hawkbit.repository.event.remote.RolloutDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupActionsCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
@@ -188,6 +189,15 @@ public class RolloutStatusCache {
         }
     }
 
+    @EventListener(classes = RolloutGroupActionsCreatedEvent.class)
+    public void invalidateCachedTotalTargetCountOnRolloutGroupActionsCreated(final RolloutGroupActionsCreatedEvent event) {
+        final Cache cache = tenantAware.runAsTenant(event.getTenant(), () -> cacheManager.getCache(CACHE_RO_NAME));
+        cache.evict(event.getRolloutId());
+
+        final Cache groupCache = tenantAware.runAsTenant(event.getTenant(), () -> cacheManager.getCache(CACHE_GR_NAME));
+        groupCache.evict(event.getRolloutGroupId());
+    }
+
     /**
      * Evicts all caches for a given tenant. All caches under a certain tenant
      * gets evicted.
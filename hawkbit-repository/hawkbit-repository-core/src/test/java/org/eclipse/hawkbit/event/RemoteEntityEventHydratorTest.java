@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.event.remote.EventEntityManager;
+import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RemoteEntityEvent;
+import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@Feature("Unit Tests - Repository")
+@Story("Remote Events")
+@ExtendWith(MockitoExtension.class)
+class RemoteEntityEventHydratorTest {
+
+    @Mock
+    private EventEntityManager eventEntityManager;
+
+    @BeforeEach
+    void before() {
+        EventEntityManagerHolder.getInstance().setEventEntityManager(eventEntityManager);
+    }
+
+    @Test
+    @Description("Verifies that the entities of the events are loaded with one call per tenant and entity type.")
+    void entitiesAreLoadedInBulkPerTenant() {
+        final List<TestEntityEvent> tenantEvents = List.of(receivedEvent(1L, "TENANT"), receivedEvent(2L, "TENANT"),
+                receivedEvent(2L, "TENANT"), receivedEvent(3L, "TENANT"));
+        final TestEntityEvent otherTenantEvent = receivedEvent(1L, "OTHER");
+        when(eventEntityManager.findEntities(eq("TENANT"), anyCollection(), eq(TestEntity.class)))
+                .thenReturn(List.of(new TestEntity(1L, "TENANT"), new TestEntity(2L, "TENANT")));
+        when(eventEntityManager.findEntities(eq("OTHER"), anyCollection(), eq(TestEntity.class)))
+                .thenReturn(List.of(new TestEntity(1L, "OTHER")));
+
+        final List<RemoteTenantAwareEvent> events = new ArrayList<>(tenantEvents);
+        events.add(otherTenantEvent);
+        RemoteEntityEventHydrator.hydrate(events);
+
+        verify(eventEntityManager).findEntities("TENANT", List.of(1L, 2L, 3L), TestEntity.class);
+        verify(eventEntityManager).findEntities("OTHER", List.of(1L), TestEntity.class);
+        verify(eventEntityManager, never()).findEntity(anyString(), anyLong(), any());
+        assertThat(tenantEvents.get(0).getEntity()).contains(new TestEntity(1L, "TENANT"));
+        assertThat(tenantEvents.get(2).getEntity()).contains(new TestEntity(2L, "TENANT"));
+        assertThat(otherTenantEvent.getEntity()).contains(new TestEntity(1L, "OTHER"));
+    }
+
+    @Test
+    @Description("Verifies that the events are dispatched in order, when the maximum number is reached or the window ends.")
+    void eventsAreDispatchedInOrder() throws InterruptedException {
+        when(eventEntityManager.findEntities(anyString(), anyCollection(), eq(TestEntity.class))).thenReturn(List.of());
+        final RemoteEntityEventHydrator hydrator = new RemoteEntityEventHydrator(TimeUnit.HOURS.toMillis(1), 3);
+        final List<Long> dispatched = Collections.synchronizedList(new ArrayList<>());
+
+        hydrator.add(receivedEvent(1L, "TENANT"), () -> dispatched.add(1L));
+        hydrator.add(receivedEvent(2L, "TENANT"), () -> dispatched.add(2L));
+        assertThat(dispatched).isEmpty();
+        hydrator.add(receivedEvent(3L, "TENANT"), () -> dispatched.add(3L));
+        assertThat(dispatched).containsExactly(1L, 2L, 3L);
+
+        final RemoteEntityEventHydrator windowed = new RemoteEntityEventHydrator(10, 1_000);
+        final CountDownLatch latch = new CountDownLatch(2);
+        windowed.add(receivedEvent(4L, "TENANT"), () -> {
+            dispatched.add(4L);
+            latch.countDown();
+        });
+        windowed.add(receivedEvent(5L, "TENANT"), () -> {
+            dispatched.add(5L);
+            latch.countDown();
+        });
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatched).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    // an event as received from another node, i.e. without entity
+    private static TestEntityEvent receivedEvent(final long id, final String tenant) {
+        final TestEntityEvent event = new TestEntityEvent(new TestEntity(id, tenant));
+        event.setEntity(null);
+        return event;
+    }
+
+    private static final class TestEntityEvent extends RemoteEntityEvent<TestEntity> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private TestEntityEvent(final TestEntity entity) {
+            super(entity, "other-node");
+        }
+    }
+
+    private record TestEntity(Long id, String tenant) implements TenantAwareBaseEntity {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTenant() {
+            return tenant;
+        }
+
+        @Override
+        public String getCreatedBy() {
+            return null;
+        }
+
+        @Override
+        public long getCreatedAt() {
+            return 0;
+        }
+
+        @Override
+        public String getLastModifiedBy() {
+            return null;
+        }
+
+        @Override
+        public long getLastModifiedAt() {
+            return 0;
+        }
+
+        @Override
+        public int getOptLockRevision() {
+            return 0;
+        }
+    }
+}
@@ -12,12 +12,26 @@ package org.eclipse.hawkbit.repository.jpa;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
 
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.jpa.JpaEntityManager;
+import org.eclipse.persistence.jpa.JpaQuery;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+import org.eclipse.persistence.sessions.DatabaseRecord;
 
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @Slf4j
@@ -50,6 +64,92 @@ public class Jpa {
         }
     }
 
+    /**
+     * Inserts up to <code>limit</code> rows, selected by the tuple query, via a single <code>INSERT ... SELECT</code>
+     * statement. The selected tuple elements are inserted as values of the given attribute paths of the entity, e.g.
+     * <code>target.id</code>.
+     *
+     * @param entityManager the entity manager
+     * @param entityClass the entity class to insert rows for
+     * @param attributePaths the (dot separated) attribute paths to insert the tuple elements into
+     * @param select the query selecting the tuples to insert
+     * @param limit the maximum number of rows to insert
+     * @return the number of inserted rows
+     */
+    public static <T> int insertSelect(
+            final EntityManager entityManager, final Class<T> entityClass, final List<String> attributePaths,
+            final CriteriaQuery<Tuple> select, final int limit) {
+        // EclipseLink has no INSERT ... SELECT for entities, so the select is rendered (with the limit) to SQL and
+        // executed as part of a native insert
+        final AbstractSession session = (AbstractSession) entityManager.unwrap(JpaEntityManager.class).getActiveSession();
+        final DatabaseQuery selectQuery = entityManager.createQuery(select).unwrap(JpaQuery.class).getDatabaseQuery();
+        ((ReadQuery) selectQuery).setMaxRows(limit);
+        final DatabaseRecord translationRow = new DatabaseRecord();
+        selectQuery.prepareCall(session, translationRow);
+        final DatabaseCall call = selectQuery.getCall();
+        if (!call.shouldIgnoreMaxResultsSetting()) {
+            // the limit is applied by the JDBC driver, not in the SQL
+            throw new UnsupportedOperationException(
+                    "Database platform " + session.getPlatform().getClass().getSimpleName() + " doesn't support limit in SQL");
+        }
+        // resolves the parameters, e.g. the tenant and the limit - as bound parameters, or inlined in the SQL (escaped
+        // by the platform) if the platform doesn't bind, as for the EclipseLink executed queries
+        translationRow.put(DatabaseCall.FIRSTRESULT_FIELD, 0);
+        translationRow.put(DatabaseCall.MAXROW_FIELD, session.getPlatform().computeMaxRowsForSQL(0, limit));
+        call.getQuery().setSession(session);
+        call.translate(translationRow, null, session);
+        final boolean binding = call.usesBinding(session);
+
+        final ClassDescriptor descriptor = session.getDescriptor(entityClass);
+        final String columns = attributePaths.stream()
+                .map(attributePath -> column(session, descriptor, attributePath))
+                .collect(Collectors.joining(", "));
+        final Query insert = entityManager.createNativeQuery("INSERT INTO " + descriptor.getTableName() + " (" + columns + ") " +
+                (binding ? positionalParameters(call.getSQLString()) : call.getSQLString()));
+        if (binding) {
+            final List<?> parameters = call.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                insert.setParameter(i + 1, parameters.get(i));
+            }
+        }
+        return insert.executeUpdate();
+    }
+
+    // the column of an attribute, or of the foreign key referencing the attribute of a to one reference, e.g. target.id
+    private static String column(final AbstractSession session, final ClassDescriptor descriptor, final String attributePath) {
+        final String[] attributes = attributePath.split("\\.", 2);
+        final DatabaseMapping mapping = descriptor.getMappingForAttributeName(attributes[0]);
+        if (attributes.length == 1) {
+            return mapping.getField().getName();
+        }
+
+        final OneToOneMapping reference = (OneToOneMapping) mapping;
+        final DatabaseMapping referenced = session.getDescriptor(reference.getReferenceClass()).getMappingForAttributeName(attributes[1]);
+        return reference.getSourceToTargetKeyFields().entrySet().stream()
+                .filter(sourceToTarget -> sourceToTarget.getValue().getName().equalsIgnoreCase(referenced.getField().getName()))
+                .map(sourceToTarget -> sourceToTarget.getKey().getName())
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("No foreign key column for " + attributePath));
+    }
+
+    // EclipseLink native queries expect numbered positional parameters
+    private static String positionalParameters(final String sql) {
+        final StringBuilder positional = new StringBuilder(sql.length() + 16);
+        int position = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            positional.append(c);
+            if (c == '\'') {
+                // an escaped quote ('') closes and reopens the literal
+                inLiteral = !inLiteral;
+            } else if (c == '?' && !inLiteral) {
+                positional.append(++position);
+            }
+        }
+        return positional.toString();
+    }
+
     private static String formatEclipseLinkNativeQueryInClause(final Collection<String> elements) {
         return "?" + String.join(",?", elements);
     }
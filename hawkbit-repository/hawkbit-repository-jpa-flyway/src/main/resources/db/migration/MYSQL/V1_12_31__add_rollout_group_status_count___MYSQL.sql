@@ -0,0 +1,17 @@
+create table sp_rollout_group_status_count
+(
+    rollout_group bigint not null,
+    rollout       bigint not null,
+    status        integer not null,
+    stripe        integer not null,
+    action_count  bigint not null,
+    primary key (rollout_group, status, stripe)
+);
+
+create index sp_idx_rollout_group_status_count_rollout on sp_rollout_group_status_count (rollout);
+
+alter table sp_rollout_group_status_count
+    add constraint fk_rollout_group_status_count_group
+        foreign key (rollout_group)
+            references sp_rolloutgroup (id)
+            on delete cascade;
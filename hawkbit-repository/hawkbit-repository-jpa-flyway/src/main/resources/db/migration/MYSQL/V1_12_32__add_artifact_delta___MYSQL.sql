@@ -0,0 +1,14 @@
+create table sp_artifact_delta
+(
+    tenant       varchar(40) not null,
+    source_sha1  varchar(40) not null,
+    target_sha1  varchar(40) not null,
+    sha1_hash    varchar(40),
+    md5_hash     varchar(32),
+    sha256_hash  varchar(64),
+    file_size    bigint,
+    created_at   bigint not null,
+    primary key (tenant, source_sha1, target_sha1)
+);
+
+create index sp_idx_artifact_delta_target on sp_artifact_delta (tenant, target_sha1);
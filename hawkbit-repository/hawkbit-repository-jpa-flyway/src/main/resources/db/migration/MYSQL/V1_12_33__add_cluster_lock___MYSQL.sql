@@ -0,0 +1,14 @@
+create table sp_lock
+(
+    lock_key   varchar(128) not null,
+    client_id  varchar(64)  not null,
+    expires_at bigint       not null,
+    primary key (lock_key)
+);
+
+create table sp_cluster_node
+(
+    node_id      varchar(64) not null,
+    heartbeat_at bigint      not null,
+    primary key (node_id)
+);
@@ -0,0 +1,22 @@
+CREATE TABLE sp_rollout_group_status_count(
+    rollout_group BIGINT NOT NULL,
+    rollout       BIGINT NOT NULL,
+    status        INTEGER NOT NULL,
+    stripe        INTEGER NOT NULL,
+    action_count  BIGINT NOT NULL
+)
+        WITH (
+        OIDS=FALSE
+        );
+
+ALTER TABLE sp_rollout_group_status_count
+ADD CONSTRAINT pk_sp_rollout_group_status_count PRIMARY KEY (rollout_group, status, stripe);
+
+CREATE INDEX sp_idx_rollout_group_status_count_rollout
+    ON sp_rollout_group_status_count
+    USING BTREE (rollout);
+
+ALTER TABLE sp_rollout_group_status_count
+ADD CONSTRAINT fk_rollout_group_status_count_group FOREIGN KEY (rollout_group)
+REFERENCES sp_rolloutgroup (id)
+ON DELETE CASCADE;
@@ -0,0 +1,11 @@
+CREATE TABLE sp_rollout_group_status_count
+(
+    rollout_group NUMERIC(19) NOT NULL,
+    rollout NUMERIC(19) NOT NULL,
+    status INTEGER NOT NULL,
+    stripe INTEGER NOT NULL,
+    action_count NUMERIC(19) NOT NULL,
+    PRIMARY KEY (rollout_group, status, stripe)
+);
+CREATE INDEX sp_idx_rollout_group_status_count_rollout ON sp_rollout_group_status_count (rollout);
+ALTER TABLE sp_rollout_group_status_count ADD CONSTRAINT fk_rollout_group_status_count_group FOREIGN KEY (rollout_group) REFERENCES sp_rolloutgroup (id) ON DELETE CASCADE;
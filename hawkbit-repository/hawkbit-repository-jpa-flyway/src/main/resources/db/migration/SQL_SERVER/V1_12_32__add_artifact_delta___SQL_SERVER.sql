@@ -0,0 +1,13 @@
+CREATE TABLE sp_artifact_delta
+(
+    tenant VARCHAR(40) NOT NULL,
+    source_sha1 VARCHAR(40) NOT NULL,
+    target_sha1 VARCHAR(40) NOT NULL,
+    sha1_hash VARCHAR(40),
+    md5_hash VARCHAR(32),
+    sha256_hash VARCHAR(64),
+    file_size NUMERIC(19),
+    created_at NUMERIC(19) NOT NULL,
+    PRIMARY KEY (tenant, source_sha1, target_sha1)
+);
+CREATE INDEX sp_idx_artifact_delta_target ON sp_artifact_delta (tenant, target_sha1);
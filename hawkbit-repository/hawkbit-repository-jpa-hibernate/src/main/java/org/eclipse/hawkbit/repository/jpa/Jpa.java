@@ -12,10 +12,17 @@ package org.eclipse.hawkbit.repository.jpa;
 import java.util.Collection;
 import java.util.List;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
 
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
 
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @Slf4j
@@ -45,4 +52,34 @@ public class Jpa {
     public static <T> void setNativeQueryInParameter(final Query query, final String name, final Collection<T> collection) {
         query.setParameter(name, collection);
     }
-}
\ No newline at end of file
+
+    /**
+     * Inserts up to <code>limit</code> rows, selected by the tuple query, via a single <code>INSERT ... SELECT</code>
+     * statement. The selected tuple elements are inserted as values of the given attribute paths of the entity, e.g.
+     * <code>target.id</code>.
+     *
+     * @param entityManager the entity manager
+     * @param entityClass the entity class to insert rows for
+     * @param attributePaths the (dot separated) attribute paths to insert the tuple elements into
+     * @param select the query selecting the tuples to insert
+     * @param limit the maximum number of rows to insert
+     * @return the number of inserted rows
+     */
+    public static <T> int insertSelect(
+            final EntityManager entityManager, final Class<T> entityClass, final List<String> attributePaths,
+            final CriteriaQuery<Tuple> select, final int limit) {
+        final Session session = entityManager.unwrap(Session.class);
+        final JpaCriteriaInsertSelect<T> insert = session.getCriteriaBuilder().createCriteriaInsertSelect(entityClass);
+        insert.setInsertionTargetPaths(attributePaths.stream().map(attributePath -> path(insert.getTarget(), attributePath)).toList());
+        insert.select(((JpaCriteriaQuery<Tuple>) select).fetch(limit));
+        return session.createMutationQuery(insert).executeUpdate();
+    }
+
+    private static Path<?> path(final Path<?> root, final String attributePath) {
+        Path<?> path = root;
+        for (final String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.vendor.Database;
+
+/**
+ * Measures the parse and visit cost of representative target filter queries - parsing without and with the cache
+ * of the {@link RSQLUtility}, the field validation (resolving the paths) of a parsed query, the compilation to
+ * an in-memory {@link TargetRsqlMatcher} and the building of the JPA predicate by the {@link JpaQueryRsqlVisitorG2}.
+ * The predicate is built against mocked criteria API objects, so it measures the visitor, not the JPA provider - and
+ * includes the (stub only) mock calls.
+ * <p/>
+ * Run with: <code>mvn -Pbenchmarks package -pl hawkbit-repository/hawkbit-repository-jpa-jmh -am</code> and
+ * <code>java -jar hawkbit-repository/hawkbit-repository-jpa-jmh/target/benchmarks.jar</code>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RsqlBenchmark {
+
+    @Param({
+            "name==target*",
+            "updatestatus==pending and (tag==prod or tag==beta)",
+            "attribute.hwRevision==rev2* and targettype.key==gateway and installedds.version=out=(1.0.0,1.0.1)",
+            "(name==*-eu-* or description==*europe*) and metadata.region==eu-west and lastcontrollerrequestat=ge=1700000000000 " +
+                    "and assignedds.name!=legacy and ipaddress==192.168.*"
+    })
+    private String rsql;
+
+    private Node parsed;
+    private Root<Object> root;
+    private CriteriaQuery<Object> query;
+    private CriteriaBuilder cb;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        RsqlConfigHolder.getInstance().setRsqlVisitorFactory(new DefaultRsqlVisitorFactory());
+        // fails fast on an invalid query and warms up the cache
+        parsed = RSQLUtility.parseRsql(rsql, TargetFields.class);
+
+        final CriteriaMockAnswer answer = new CriteriaMockAnswer();
+        root = answer.mock(Root.class);
+        query = answer.mock(CriteriaQuery.class);
+        cb = answer.mock(CriteriaBuilder.class);
+    }
+
+    @Benchmark
+    public Node parseUncached() {
+        // as done before the parsed queries were cached - new parser per call
+        return new RSQLParser(RSQLOperators.defaultOperators()).parse(rsql.toLowerCase());
+    }
+
+    @Benchmark
+    public Node parseCached() {
+        return RSQLUtility.parseRsql(rsql, TargetFields.class);
+    }
+
+    @Benchmark
+    public Node validate() {
+        parsed.accept(new FieldValidationRsqlVisitor<>(TargetFields.class));
+        return parsed;
+    }
+
+    @Benchmark
+    public Object compileMatcher() {
+        return TargetRsqlMatcher.compile(rsql, null);
+    }
+
+    @Benchmark
+    public List<Predicate> buildPredicate() {
+        return RSQLUtility.parseRsql(rsql, TargetFields.class)
+                .accept(new JpaQueryRsqlVisitorG2<>(TargetFields.class, root, query, cb, Database.H2, null, true));
+    }
+
+    // answers every criteria API call with a (shared per type) stub only mock, the attributes are basic string ones
+    private static final class CriteriaMockAnswer implements Answer<Object> {
+
+        private final Map<Class<?>, Object> mocks = new ConcurrentHashMap<>();
+
+        @Override
+        public Object answer(final InvocationOnMock invocation) throws Throwable {
+            final Class<?> type = invocation.getMethod().getReturnType();
+            if (type == Class.class) {
+                return String.class;
+            } else if (type == Type.PersistenceType.class) {
+                return Type.PersistenceType.BASIC;
+            } else if (type == Attribute.class) {
+                return mock(SingularAttribute.class);
+            } else if (type.isInterface()) {
+                return mock(type);
+            }
+            return Mockito.RETURNS_DEFAULTS.answer(invocation);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T mock(final Class<T> type) {
+            return (T) mocks.computeIfAbsent(type, key -> Mockito.mock(key, Mockito.withSettings().stubOnly().defaultAnswer(this)));
+        }
+    }
+}
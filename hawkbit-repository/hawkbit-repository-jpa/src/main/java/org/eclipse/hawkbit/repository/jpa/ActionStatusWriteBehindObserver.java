@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+/**
+ * Observes the write-behind of the intermediate action statuses, e.g. to report the dropped ones as metrics.
+ */
+public interface ActionStatusWriteBehindObserver {
+
+    /**
+     * Observer which ignores everything.
+     */
+    ActionStatusWriteBehindObserver NOOP = new ActionStatusWriteBehindObserver() {};
+
+    /**
+     * Called when queued action statuses are dropped instead of persisted - since their action doesn't exist anymore or
+     * since persisting them failed repeatedly.
+     *
+     * @param tenant the tenant of the action
+     * @param count the number of dropped action statuses
+     */
+    default void dropped(final String tenant, final int count) {}
+}
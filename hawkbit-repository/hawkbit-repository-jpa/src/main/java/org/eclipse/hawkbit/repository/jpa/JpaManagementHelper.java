@@ -12,18 +12,22 @@ package org.eclipse.hawkbit.repository.jpa;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import jakarta.persistence.EntityManager;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity;
 import org.eclipse.hawkbit.repository.jpa.repository.NoCountSliceRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.CrudRepository;
@@ -36,6 +40,7 @@ import org.springframework.util.ObjectUtils;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JpaManagementHelper {
 
+    private static final int FOR_EACH_SLICE_SIZE = 500;
 
     public static <T, J extends T> Optional<J> findOneBySpec(
             final JpaSpecificationExecutor<J> repository, final List<Specification<J>> specList) {
@@ -71,6 +76,35 @@ public final class JpaManagementHelper {
         return convertPage(repository.findAllWithoutCount(combineWithAnd(specList), pageable), pageable);
     }
 
+    /**
+     * Passes all entities matching the specifications, in the order of their ids, to the consumer. The entities are read in
+     * keyset slices and the persistence context is cleared after each slice, so the memory used doesn't depend on the count
+     * of the entities. The consumer shall not keep the entities - they are detached after the slice.
+     */
+    public static <T extends BaseEntity, J extends T> void forEachBySpec(final NoCountSliceRepository<J> repository,
+            final EntityManager entityManager, final List<Specification<J>> specList, final Consumer<T> consumer) {
+        forEachSliceBySpec(repository, entityManager, specList, slice -> slice.forEach(consumer));
+    }
+
+    /**
+     * As {@link #forEachBySpec(NoCountSliceRepository, EntityManager, List, Consumer)} but passes the whole slices (of up to
+     * 500 entities), e.g. to load related data for all entities of a slice with one query.
+     */
+    public static <J extends BaseEntity> void forEachSliceBySpec(final NoCountSliceRepository<J> repository,
+            final EntityManager entityManager, final List<Specification<J>> specList, final Consumer<List<J>> sliceConsumer) {
+        final Specification<J> spec = combineWithAnd(specList);
+        KeysetPageRequest pageable = KeysetPageRequest.of(FOR_EACH_SLICE_SIZE, Sort.by(KeysetPageRequest.ID));
+        List<J> content;
+        do {
+            content = repository.findAllWithoutCount(spec, pageable).getContent();
+            if (!content.isEmpty()) {
+                sliceConsumer.accept(content);
+                pageable = pageable.next(content.get(content.size() - 1));
+            }
+            entityManager.clear();
+        } while (content.size() == FOR_EACH_SLICE_SIZE);
+    }
+
     public static <T, J extends T> Slice<T> convertPage(final Slice<J> jpaAll, final Pageable pageable) {
         return new PageImpl<>(Collections.unmodifiableList(jpaAll.getContent()), pageable, 0);
     }
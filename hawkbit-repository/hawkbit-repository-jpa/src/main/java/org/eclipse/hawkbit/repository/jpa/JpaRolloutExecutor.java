@@ -48,6 +48,9 @@ import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutTargetGroupRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupChangeTracker;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounter;
+import org.eclipse.hawkbit.repository.jpa.rollout.SetBasedRolloutAssignment;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.EvaluatorNotConfiguredException;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupEvaluationManager;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
@@ -118,6 +121,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private final EventPublisherHolder eventPublisherHolder;
     private final TenantAware tenantAware;
     private final RepositoryProperties repositoryProperties;
+    private final RolloutGroupChangeTracker rolloutGroupChangeTracker;
+    private final SetBasedRolloutAssignment setBasedRolloutAssignment;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
     private final Map<Long, AtomicLong> lastDynamicGroupFill = new ConcurrentHashMap<>();
 
     @SuppressWarnings("java:S107")
@@ -130,7 +136,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
             final EntityManager entityManager, final PlatformTransactionManager txManager,
             final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
-            final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
+            final TenantAware tenantAware, final RepositoryProperties repositoryProperties,
+            final RolloutGroupChangeTracker rolloutGroupChangeTracker, final SetBasedRolloutAssignment setBasedRolloutAssignment,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
         this.actionRepository = actionRepository;
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutTargetGroupRepository = rolloutTargetGroupRepository;
@@ -148,6 +156,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         this.eventPublisherHolder = eventPublisherHolder;
         this.tenantAware = tenantAware;
         this.repositoryProperties = repositoryProperties;
+        this.rolloutGroupChangeTracker = rolloutGroupChangeTracker;
+        this.setBasedRolloutAssignment = setBasedRolloutAssignment;
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
     }
 
     @Override
@@ -314,6 +325,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
 
         rollout.setStatus(RolloutStatus.FINISHED);
         rolloutRepository.save(rollout);
+        rolloutGroupChangeTracker.reset(rollout.getId());
 
         final List<Long> groupIds = rollout.getRolloutGroups().stream().map(RolloutGroup::getId).toList();
         afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(new RolloutStoppedEvent(
@@ -357,14 +369,24 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             // been switched from running into error state. So we need to find the latest group which
             executeLatestRolloutGroup(rollout);
         } else {
-            log.debug("Rollout {} has {} running groups", rollout.getId(), runningGroups.size());
-            executeRunningGroups(rollout, runningGroups, rollout.getRolloutGroups().get(rollout.getRolloutGroups().size() - 1));
+            final List<JpaRolloutGroup> groupsToEvaluate = rolloutGroupChangeTracker.drainChangedGroups(rollout.getId())
+                    .map(changedGroupIds -> runningGroups.stream().filter(group -> changedGroupIds.contains(group.getId())).toList())
+                    .orElse(runningGroups);
+            if (groupsToEvaluate.isEmpty()) {
+                log.debug("Rollout {} has {} running groups without changes, skip evaluation", rollout.getId(), runningGroups.size());
+                return;
+            }
+
+            log.debug("Rollout {} has {} running groups, {} to evaluate", rollout.getId(), runningGroups.size(), groupsToEvaluate.size());
+            executeRunningGroups(rollout, runningGroups, groupsToEvaluate,
+                    rollout.getRolloutGroups().get(rollout.getRolloutGroups().size() - 1));
         }
 
         if (isRolloutComplete(rollout)) {
             log.info("Rollout {} is finished, setting FINISHED status", rollout);
             rollout.setStatus(RolloutStatus.FINISHED);
             rolloutRepository.save(rollout);
+            rolloutGroupChangeTracker.reset(rollout.getId());
         }
     }
 
@@ -382,6 +404,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                         .map(Action::getId)
                         .toList();
                 actionRepository.deleteByIdIn(actionIds);
+                scheduledActions.forEach(action -> rolloutGroupStatusCounter.count(action.getRolloutGroup().getId(), Status.SCHEDULED, -1));
                 afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
                         .publishEvent(new RolloutUpdatedEvent(rollout, eventPublisherHolder.getApplicationId())));
             } catch (final RuntimeException e) {
@@ -446,8 +469,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         }
     }
 
-    private void executeRunningGroups(final JpaRollout rollout, final List<JpaRolloutGroup> runningGroups, final RolloutGroup lastGroup) {
-        for (final JpaRolloutGroup rolloutGroup : runningGroups) {
+    private void executeRunningGroups(final JpaRollout rollout, final List<JpaRolloutGroup> runningGroups,
+            final List<JpaRolloutGroup> groupsToEvaluate, final RolloutGroup lastGroup) {
+        for (final JpaRolloutGroup rolloutGroup : groupsToEvaluate) {
             final long targetCount = countTargetsFrom(rolloutGroup);
             if (rolloutGroup.getTotalTargets() != targetCount) {
                 updateTotalTargetCount(rolloutGroup, targetCount);
@@ -645,6 +669,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final PageRequest pageRequest = PageRequest.of(0, Math.toIntExact(limit));
             final List<Long> readyGroups = RolloutHelper.getGroupsByStatusIncludingGroup(
                     rollout.getRolloutGroups(), RolloutGroupStatus.READY, group);
+            if (repositoryProperties.isRolloutSetBasedAssignment()) {
+                final long assigned = setBasedRolloutAssignment.assignTargetsToGroup(
+                        rollout, group, targetFilter, readyGroups, pageRequest.getPageSize());
+                markChangedAfterCommit(rollout, group, assigned);
+                return assigned;
+            }
+
             final Slice<Target> targets;
             if (!RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())) {
                 targets = targetManagement.findByTargetFilterQueryAndNotInRolloutGroupsAndCompatibleAndUpdatable(
@@ -834,6 +865,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
 
     private Long createActionsForTargetsInNewTransaction(final Rollout rollout, final RolloutGroup group) {
         return DeploymentHelper.runInNewTransaction(txManager, "createActionsForTargets", status -> {
+            if (repositoryProperties.isRolloutSetBasedAssignment()) {
+                final long created = setBasedRolloutAssignment.createActionsForGroup(
+                        rollout, group, JpaRolloutExecutor.TRANSACTION_TARGETS);
+                markChangedAfterCommit(rollout, group, created);
+                return created;
+            }
+
             final Slice<Target> targets = targetManagement.findByInRolloutGroupWithoutAction(
                     PageRequest.of(0, JpaRolloutExecutor.TRANSACTION_TARGETS), group.getId());
 
@@ -849,6 +887,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         });
     }
 
+    // the set based assignment publishes no action events the change tracker could rely on
+    private void markChangedAfterCommit(final Rollout rollout, final RolloutGroup group, final long changed) {
+        if (changed > 0) {
+            afterCommit.afterCommit(() -> rolloutGroupChangeTracker.markChanged(rollout.getId(), group.getId()));
+        }
+    }
+
     /**
      * Creates an action entry into the action repository. In case of existing scheduled actions the scheduled actions gets canceled.
      * A scheduled action is created in-active for static and running for dynamic groups.
@@ -14,9 +14,12 @@ import java.util.concurrent.locks.Lock;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutHandlingObserver;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.integration.support.locks.LockRegistry;
@@ -34,6 +37,8 @@ public class JpaRolloutHandler implements RolloutHandler {
     private final LockRegistry lockRegistry;
     private final PlatformTransactionManager txManager;
     private final ContextAware contextAware;
+    private final RepositoryProperties repositoryProperties;
+    private final RolloutHandlingObserver rolloutHandlingObserver;
 
     /**
      * Constructor
@@ -43,17 +48,24 @@ public class JpaRolloutHandler implements RolloutHandler {
      * @param rolloutExecutor to trigger executions for a specific rollout
      * @param lockRegistry to lock processes
      * @param txManager transaction manager interface
+     * @param contextAware to run the rollout handling in the rollout context
+     * @param repositoryProperties to check if the rollouts are locked per rollout or per tenant
+     * @param rolloutHandlingObserver notified when a rollout has been handled, could be <code>null</code>
      */
+    @SuppressWarnings("java:S107")
     public JpaRolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
             final PlatformTransactionManager txManager,
-            final ContextAware contextAware) {
+            final ContextAware contextAware, final RepositoryProperties repositoryProperties,
+            final RolloutHandlingObserver rolloutHandlingObserver) {
         this.tenantAware = tenantAware;
         this.rolloutManagement = rolloutManagement;
         this.rolloutExecutor = rolloutExecutor;
         this.lockRegistry = lockRegistry;
         this.txManager = txManager;
         this.contextAware = contextAware;
+        this.repositoryProperties = repositoryProperties;
+        this.rolloutHandlingObserver = rolloutHandlingObserver;
     }
 
     @Override
@@ -63,7 +75,14 @@ public class JpaRolloutHandler implements RolloutHandler {
             return;
         }
 
-        final String handlerId = createRolloutLockKey(tenantAware.getCurrentTenant());
+        if (repositoryProperties.isRolloutLockPerRollout()) {
+            log.debug("Trigger handling {} rollouts with lock per rollout.", rollouts.size());
+            rollouts.forEach(this::handle);
+            log.debug("Finished handling of the rollouts.");
+            return;
+        }
+
+        final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenantAware.getCurrentTenant());
         final Lock lock = lockRegistry.obtain(handlerId);
         if (!lock.tryLock()) {
             if (log.isTraceEnabled()) {
@@ -90,13 +109,48 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
     }
 
-    private static String createRolloutLockKey(final String tenant) {
-        return tenant + "-rollout";
+    @Override
+    public void handle(final long rolloutId) {
+        final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenantAware.getCurrentTenant(), rolloutId);
+        final Lock lock = lockRegistry.obtain(handlerId);
+        if (!lock.tryLock()) {
+            if (log.isTraceEnabled()) {
+                log.trace("Could not perform lock {}, rollout is handled by another thread or node", lock);
+            }
+            return;
+        }
+
+        try {
+            handleRolloutInNewTransaction(rolloutId, handlerId);
+        } catch (final Throwable throwable) {
+            log.error("Failed to process rollout with id {}", rolloutId, throwable);
+        } finally {
+            if (log.isTraceEnabled()) {
+                log.trace("Unlock lock {}", lock);
+            }
+            lock.unlock();
+        }
     }
 
     // run in a tenant context, i.e. contextAware.getCurrentTenant() returns the tenant
     // the rollout is made for
     private void handleRolloutInNewTransaction(final long rolloutId, final String handlerId) {
+        if (rolloutHandlingObserver == null) {
+            handleRolloutInNewTransaction0(rolloutId, handlerId);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        boolean successful = false;
+        try {
+            handleRolloutInNewTransaction0(rolloutId, handlerId);
+            successful = true;
+        } finally {
+            rolloutHandlingObserver.handled(tenantAware.getCurrentTenant(), rolloutId, successful, System.nanoTime() - start);
+        }
+    }
+
+    private void handleRolloutInNewTransaction0(final long rolloutId, final String handlerId) {
         DeploymentHelper.runInNewTransaction(txManager, handlerId + "-" + rolloutId, status -> {
             rolloutManagement.get(rolloutId).ifPresentOrElse(
                     rollout ->
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Reports the dropped write-behind action statuses, per tenant, as {@value #METER_NAME} counter to the Micrometer
+ * {@link MeterRegistry} - if such is available.
+ */
+public class MicrometerActionStatusWriteBehindObserver implements ActionStatusWriteBehindObserver {
+
+    public static final String METER_NAME = "hawkbit.action.status.write.behind.dropped";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public MicrometerActionStatusWriteBehindObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void dropped(final String tenant, final int count) {
+        meterRegistry.ifAvailable(registry -> counters.computeIfAbsent(String.valueOf(tenant), key -> Counter.builder(METER_NAME)
+                        .description("Queued action statuses dropped instead of persisted")
+                        .tag("tenant", key)
+                        .register(registry))
+                .increment(count));
+    }
+}
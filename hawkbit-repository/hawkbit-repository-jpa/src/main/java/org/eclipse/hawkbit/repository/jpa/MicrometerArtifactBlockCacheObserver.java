@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.hawkbit.artifact.repository.ArtifactBlockCache;
+import org.eclipse.hawkbit.artifact.repository.ArtifactBlockCacheObserver;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Reports the accesses to the {@link ArtifactBlockCache}, per tenant, as {@value #METER_NAME} counter (tagged with the
+ * result <code>hit</code> or <code>miss</code>) and the evicted bytes as {@value #EVICTED_METER_NAME} counter to the
+ * Micrometer {@link MeterRegistry} - if such is available.
+ */
+public class MicrometerArtifactBlockCacheObserver implements ArtifactBlockCacheObserver {
+
+    public static final String METER_NAME = "hawkbit.artifact.cache.gets";
+    public static final String EVICTED_METER_NAME = "hawkbit.artifact.cache.evicted";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Counter> hitCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> missCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> evictedCounters = new ConcurrentHashMap<>();
+
+    public MicrometerArtifactBlockCacheObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void hit(final String tenant) {
+        count(hitCounters, tenant, "hit");
+    }
+
+    @Override
+    public void miss(final String tenant) {
+        count(missCounters, tenant, "miss");
+    }
+
+    @Override
+    public void evicted(final String tenant, final int size) {
+        meterRegistry.ifAvailable(registry -> evictedCounters.computeIfAbsent(String.valueOf(tenant), key -> Counter.builder(EVICTED_METER_NAME)
+                        .description("Bytes evicted from the artifact block cache")
+                        .baseUnit("bytes")
+                        .tag("tenant", key)
+                        .register(registry))
+                .increment(size));
+    }
+
+    private void count(final Map<String, Counter> counters, final String tenant, final String result) {
+        meterRegistry.ifAvailable(registry -> counters.computeIfAbsent(String.valueOf(tenant), key -> Counter.builder(METER_NAME)
+                        .description("Artifact block cache accesses")
+                        .tag("tenant", key)
+                        .tag("result", result)
+                        .register(registry))
+                .increment());
+    }
+}
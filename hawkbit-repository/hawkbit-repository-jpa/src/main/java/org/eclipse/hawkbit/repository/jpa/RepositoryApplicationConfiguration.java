@@ -11,19 +11,25 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 
 import jakarta.persistence.EntityManager;
 import jakarta.validation.Validation;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.hawkbit.ContextAware;
+import org.eclipse.hawkbit.artifact.repository.ArtifactBlockCache;
+import org.eclipse.hawkbit.artifact.repository.ArtifactBlockCacheObserver;
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.cache.TenancyCacheManager;
+import org.eclipse.hawkbit.repository.ArtifactDeltaManagement;
 import org.eclipse.hawkbit.repository.ArtifactEncryption;
 import org.eclipse.hawkbit.repository.ArtifactEncryptionSecretsStore;
 import org.eclipse.hawkbit.repository.ArtifactEncryptionService;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.BaseRepositoryTypeProvider;
+import org.eclipse.hawkbit.repository.ChunkedArtifactEncryption;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
@@ -65,6 +71,7 @@ import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
+import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignChangeTracker;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignChecker;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignScheduler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionCleanup;
@@ -78,9 +85,13 @@ import org.eclipse.hawkbit.repository.jpa.builder.JpaSoftwareModuleMetadataBuild
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetFilterQueryBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetTypeBuilder;
+import org.eclipse.hawkbit.repository.jpa.cluster.JpaLeaseLockRegistry;
+import org.eclipse.hawkbit.repository.jpa.cluster.JpaTenantSharding;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantSharding;
 import org.eclipse.hawkbit.repository.jpa.event.JpaEventEntityManager;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitDefaultServiceExecutor;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.management.JpaArtifactDeltaManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaArtifactManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaConfirmationManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaControllerManagement;
@@ -133,6 +144,11 @@ import org.eclipse.hawkbit.repository.jpa.repository.TargetTagRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TenantConfigurationRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TenantMetaDataRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.MicrometerRolloutHandlingObserver;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupChangeTracker;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounter;
+import org.eclipse.hawkbit.repository.jpa.rollout.SetBasedRolloutAssignment;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutHandlingObserver;
 import org.eclipse.hawkbit.repository.jpa.rollout.RolloutScheduler;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
@@ -166,10 +182,12 @@ import org.eclipse.hawkbit.tenancy.UserAuthoritiesResolver;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties;
 import org.eclipse.hawkbit.utils.TenantConfigHelper;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
@@ -192,6 +210,7 @@ import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.util.ObjectUtils;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
 /**
@@ -210,6 +229,9 @@ import org.springframework.validation.beanvalidation.MethodValidationPostProcess
 @AutoConfigureAfter(DataSourceAutoConfiguration.class)
 public class RepositoryApplicationConfiguration {
 
+    // the id of this node in the cluster, resolved once - the lock leases and the tenant sharding must refer the same node
+    private String clusterNodeId;
+
     /**
      * Defines the validation processor bean.
      *
@@ -334,6 +356,12 @@ public class RepositoryApplicationConfiguration {
         return new RolloutStatusCache(tenantAware);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    TargetPollSnapshotCache targetPollSnapshotCache(final RepositoryProperties repositoryProperties) {
+        return new TargetPollSnapshotCache(repositoryProperties);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     ApplicationEventFilter applicationEventFilter(final RepositoryProperties repositoryProperties) {
@@ -717,8 +745,11 @@ public class RepositoryApplicationConfiguration {
     @ConditionalOnMissingBean
     RolloutHandler rolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
-            final PlatformTransactionManager txManager, final ContextAware contextAware) {
-        return new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware);
+            final PlatformTransactionManager txManager, final ContextAware contextAware,
+            final RepositoryProperties repositoryProperties,
+            @Autowired(required = false) final RolloutHandlingObserver rolloutHandlingObserver) {
+        return new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware,
+                repositoryProperties, rolloutHandlingObserver);
     }
 
     @Bean
@@ -732,11 +763,41 @@ public class RepositoryApplicationConfiguration {
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
             final EntityManager entityManager, final PlatformTransactionManager txManager,
             final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
-            final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
+            final TenantAware tenantAware, final RepositoryProperties repositoryProperties,
+            final RolloutGroupChangeTracker rolloutGroupChangeTracker, final SetBasedRolloutAssignment setBasedRolloutAssignment,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
         return new JpaRolloutExecutor(actionRepository, rolloutGroupRepository, rolloutTargetGroupRepository,
                 rolloutRepository, targetManagement, deploymentManagement, rolloutGroupManagement, rolloutManagement,
                 quotaManagement, evaluationManager, rolloutApprovalStrategy, entityManager, txManager, afterCommit,
-                eventPublisherHolder, tenantAware, repositoryProperties);
+                eventPublisherHolder, tenantAware, repositoryProperties, rolloutGroupChangeTracker, setBasedRolloutAssignment,
+                rolloutGroupStatusCounter);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    SetBasedRolloutAssignment setBasedRolloutAssignment(
+            final EntityManager entityManager, final TargetRepository targetRepository, final ActionRepository actionRepository,
+            final DeploymentManagement deploymentManagement, final QuotaManagement quotaManagement,
+            final VirtualPropertyReplacer virtualPropertyReplacer, final TenantAware tenantAware,
+            final AuditorAware<String> auditorAware, final JpaProperties properties,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter, final AfterTransactionCommitExecutor afterCommit,
+            final EventPublisherHolder eventPublisherHolder) {
+        return new SetBasedRolloutAssignment(entityManager, targetRepository, actionRepository, deploymentManagement,
+                quotaManagement, virtualPropertyReplacer, tenantAware, auditorAware, properties.getDatabase(),
+                rolloutGroupStatusCounter, afterCommit, eventPublisherHolder);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    RolloutGroupStatusCounter rolloutGroupStatusCounter(
+            final RepositoryProperties repositoryProperties, final EntityManager entityManager, final ActionRepository actionRepository) {
+        return new RolloutGroupStatusCounter(repositoryProperties, entityManager, actionRepository);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    RolloutGroupChangeTracker rolloutGroupChangeTracker(final RepositoryProperties repositoryProperties) {
+        return new RolloutGroupChangeTracker(repositoryProperties);
     }
 
     @Bean
@@ -747,7 +808,7 @@ public class RepositoryApplicationConfiguration {
             final RolloutApprovalStrategy rolloutApprovalStrategy,
             final StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction,
             final RolloutStatusCache rolloutStatusCache,
-            final ActionRepository actionRepository,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter,
             final TargetManagement targetManagement,
             final DistributionSetManagement distributionSetManagement,
             final TenantConfigurationManagement tenantConfigurationManagement,
@@ -757,7 +818,7 @@ public class RepositoryApplicationConfiguration {
             final SystemSecurityContext systemSecurityContext, final ContextAware contextAware, final JpaProperties properties,
             final RepositoryProperties repositoryProperties) {
         return new JpaRolloutManagement(rolloutRepository, rolloutGroupRepository, rolloutApprovalStrategy,
-                startNextRolloutGroupAction, rolloutStatusCache, actionRepository, targetManagement,
+                startNextRolloutGroupAction, rolloutStatusCache, rolloutGroupStatusCounter, targetManagement,
                 distributionSetManagement, tenantConfigurationManagement, quotaManagement, afterCommit,
                 eventPublisherHolder, virtualPropertyReplacer, systemSecurityContext, contextAware, properties.getDatabase(),
                 repositoryProperties);
@@ -785,11 +846,11 @@ public class RepositoryApplicationConfiguration {
     @Bean
     @ConditionalOnMissingBean
     RolloutGroupManagement rolloutGroupManagement(final RolloutGroupRepository rolloutGroupRepository,
-            final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
+            final RolloutRepository rolloutRepository, final RolloutGroupStatusCounter rolloutGroupStatusCounter,
             final TargetRepository targetRepository, final EntityManager entityManager,
             final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
             final JpaProperties properties) {
-        return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, actionRepository,
+        return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, rolloutGroupStatusCounter,
                 targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache, properties.getDatabase());
     }
 
@@ -808,11 +869,13 @@ public class RepositoryApplicationConfiguration {
             final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
-            final JpaProperties properties, final RepositoryProperties repositoryProperties) {
+            final JpaProperties properties, final RepositoryProperties repositoryProperties,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
         return new JpaDeploymentManagement(entityManager, actionRepository, distributionSetManagement, targetRepository, actionStatusRepository,
                 auditorProvider,
                 eventPublisherHolder, afterCommit, virtualPropertyReplacer, txManager, tenantConfigurationManagement,
-                quotaManagement, systemSecurityContext, tenantAware, auditorAware, properties.getDatabase(), repositoryProperties);
+                quotaManagement, systemSecurityContext, tenantAware, auditorAware, properties.getDatabase(), repositoryProperties,
+                rolloutGroupStatusCounter);
     }
 
     @Bean
@@ -842,13 +905,15 @@ public class RepositoryApplicationConfiguration {
             final TenantConfigurationManagement tenantConfigurationManagement,
             final PlatformTransactionManager txManager, final EntityFactory entityFactory, final EntityManager entityManager,
             final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
-            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
-            final ScheduledExecutorService executorService) {
+            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
+            final ScheduledExecutorService executorService, final TargetPollSnapshotCache pollSnapshotCache,
+            @Autowired(required = false) final ActionStatusWriteBehindObserver actionStatusWriteBehindObserver) {
         return new JpaControllerManagement(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties,
                 targetRepository, targetTypeManagement, deploymentManagement, confirmationManagement, softwareModuleRepository,
                 softwareModuleMetadataRepository, distributionSetManagement, tenantConfigurationManagement, txManager,
                 entityFactory, entityManager, afterCommit, eventPublisherHolder, systemSecurityContext, tenantAware,
-                executorService);
+                auditorAware, executorService, pollSnapshotCache,
+                actionStatusWriteBehindObserver == null ? ActionStatusWriteBehindObserver.NOOP : actionStatusWriteBehindObserver);
     }
 
     @Bean
@@ -857,10 +922,85 @@ public class RepositoryApplicationConfiguration {
             final EntityManager entityManager, final PlatformTransactionManager txManager,
             final LocalArtifactRepository localArtifactRepository, final SoftwareModuleRepository softwareModuleRepository,
             final Optional<ArtifactRepository> artifactRepository,
-            final QuotaManagement quotaManagement, final TenantAware tenantAware) {
+            final QuotaManagement quotaManagement, final TenantAware tenantAware,
+            final Optional<ArtifactBlockCache> artifactBlockCache,
+            final Optional<ArtifactDeltaManagement> artifactDeltaManagement) {
         return new JpaArtifactManagement(
                 entityManager, txManager, localArtifactRepository, softwareModuleRepository, artifactRepository.orElse(null),
-                quotaManagement, tenantAware);
+                quotaManagement, tenantAware, artifactBlockCache.orElse(null),
+                artifactDeltaManagement
+                        .filter(JpaArtifactDeltaManagement.class::isInstance)
+                        .map(JpaArtifactDeltaManagement.class::cast)
+                        .orElse(null));
+    }
+
+    /**
+     * Binary deltas between the artifacts of software module versions, see
+     * {@link RepositoryProperties#isArtifactDeltaEnabled()}.
+     *
+     * @return a {@link JpaArtifactDeltaManagement} bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository", name = "artifact-delta-enabled")
+    ArtifactDeltaManagement artifactDeltaManagement(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final TargetRepository targetRepository, final SoftwareModuleRepository softwareModuleRepository,
+            final ArtifactRepository artifactRepository, final TenantAware tenantAware,
+            final SystemSecurityContext systemSecurityContext, final RepositoryProperties repositoryProperties) {
+        return new JpaArtifactDeltaManagement(entityManager, txManager, targetRepository, softwareModuleRepository,
+                artifactRepository, tenantAware, systemSecurityContext, repositoryProperties);
+    }
+
+    /**
+     * In-memory (off-heap) cache of the downloaded artifact content, see
+     * {@link RepositoryProperties#isArtifactBlockCacheEnabled()}.
+     *
+     * @return an {@link ArtifactBlockCache} bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository", name = "artifact-block-cache-enabled")
+    ArtifactBlockCache artifactBlockCache(
+            final RepositoryProperties repositoryProperties,
+            @Autowired(required = false) final ArtifactBlockCacheObserver artifactBlockCacheObserver) {
+        return new ArtifactBlockCache(
+                repositoryProperties.getArtifactBlockCacheSize(), repositoryProperties.getArtifactBlockCacheBlockSize(),
+                artifactBlockCacheObserver == null ? ArtifactBlockCacheObserver.NOOP : artifactBlockCacheObserver);
+    }
+
+    /**
+     * {@link LockRegistry} which locks across the cluster nodes by leases in the repository database, see
+     * {@link RepositoryProperties#isClusterEnabled()}. Replaces the node local default lock registry.
+     *
+     * @return a {@link JpaLeaseLockRegistry} bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository", name = "cluster-enabled")
+    LockRegistry lockRegistry(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final RepositoryProperties repositoryProperties) {
+        return new JpaLeaseLockRegistry(entityManager, txManager, clusterNodeId(repositoryProperties),
+                repositoryProperties.getClusterLockLeaseTime());
+    }
+
+    /**
+     * Sharding of the tenants over the live cluster nodes for the scheduled jobs, see
+     * {@link RepositoryProperties#isClusterEnabled()}. Without cluster all the tenants are local.
+     *
+     * @return a {@link TenantSharding} bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TenantSharding tenantSharding(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final RepositoryProperties repositoryProperties) {
+        if (!repositoryProperties.isClusterEnabled()) {
+            return TenantSharding.NONE;
+        }
+        return new JpaTenantSharding(entityManager, txManager, clusterNodeId(repositoryProperties),
+                repositoryProperties.getClusterHeartbeatInterval(), repositoryProperties.getClusterNodeTimeout());
     }
 
     /**
@@ -911,15 +1051,24 @@ public class RepositoryApplicationConfiguration {
      * @param targetManagement to get targets
      * @param deploymentManagement to assign distribution sets to targets
      * @param transactionManager to run transactions
+     * @param autoAssignChangeTracker to check only the changed targets
+     * @param virtualPropertyReplacer to resolve the virtual properties of the target filter queries
      * @return a new {@link AutoAssignChecker}
      */
     @Bean
     @ConditionalOnMissingBean
     AutoAssignExecutor autoAssignExecutor(final TargetFilterQueryManagement targetFilterQueryManagement,
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
-            final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            final AutoAssignChangeTracker autoAssignChangeTracker, final VirtualPropertyReplacer virtualPropertyReplacer) {
         return new AutoAssignChecker(targetFilterQueryManagement, targetManagement, deploymentManagement,
-                transactionManager, contextAware);
+                transactionManager, contextAware, autoAssignChangeTracker, virtualPropertyReplacer);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    AutoAssignChangeTracker autoAssignChangeTracker(final RepositoryProperties repositoryProperties) {
+        return new AutoAssignChangeTracker(repositoryProperties);
     }
 
     /**
@@ -932,6 +1081,7 @@ public class RepositoryApplicationConfiguration {
      * @param systemSecurityContext to run as system
      * @param autoAssignExecutor to run a check as tenant
      * @param lockRegistry to lock the tenant for auto assignment
+     * @param tenantSharding to check only the tenants of this node
      * @return a new {@link AutoAssignChecker}
      */
     @Bean
@@ -941,8 +1091,8 @@ public class RepositoryApplicationConfiguration {
     @ConditionalOnProperty(prefix = "hawkbit.autoassign.scheduler", name = "enabled", matchIfMissing = true)
     AutoAssignScheduler autoAssignScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final AutoAssignExecutor autoAssignExecutor,
-            final LockRegistry lockRegistry) {
-        return new AutoAssignScheduler(systemManagement, systemSecurityContext, autoAssignExecutor, lockRegistry);
+            final LockRegistry lockRegistry, final TenantSharding tenantSharding) {
+        return new AutoAssignScheduler(systemManagement, systemSecurityContext, autoAssignExecutor, lockRegistry, tenantSharding);
     }
 
     /**
@@ -965,6 +1115,7 @@ public class RepositoryApplicationConfiguration {
      * @param systemSecurityContext to run as system
      * @param lockRegistry to lock the tenant for auto assignment
      * @param cleanupTasks a list of cleanup tasks
+     * @param tenantSharding to clean up only the tenants of this node
      * @return a new {@link AutoCleanupScheduler} bean
      */
     @Bean
@@ -973,8 +1124,8 @@ public class RepositoryApplicationConfiguration {
     @ConditionalOnProperty(prefix = "hawkbit.autocleanup.scheduler", name = "enabled", matchIfMissing = true)
     AutoCleanupScheduler autoCleanupScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
-            final List<CleanupTask> cleanupTasks) {
-        return new AutoCleanupScheduler(systemManagement, systemSecurityContext, lockRegistry, cleanupTasks);
+            final List<CleanupTask> cleanupTasks, final TenantSharding tenantSharding) {
+        return new AutoCleanupScheduler(systemManagement, systemSecurityContext, lockRegistry, cleanupTasks, tenantSharding);
     }
 
     /**
@@ -985,7 +1136,11 @@ public class RepositoryApplicationConfiguration {
      *
      * @param systemManagement to find all tenants
      * @param rolloutHandler to run the rollout handler
+     * @param rolloutManagement to find the active rollouts, if locked per rollout
      * @param systemSecurityContext to run as system
+     * @param threadPoolSize number of the rollout executor threads
+     * @param repositoryProperties to check if the rollouts are locked per rollout
+     * @param tenantSharding to handle only the tenants of this node
      * @return a new {@link RolloutScheduler} bean.
      */
     @Bean
@@ -993,8 +1148,11 @@ public class RepositoryApplicationConfiguration {
     @Profile("!test")
     @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "enabled", matchIfMissing = true)
     RolloutScheduler rolloutScheduler(final SystemManagement systemManagement,
-                                      final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext, @Value("${hawkbit.rollout.executor.thread-pool.size:1}") final int threadPoolSize) {
-        return new RolloutScheduler(rolloutHandler, systemManagement, systemSecurityContext,  threadPoolSize);
+                                      final RolloutHandler rolloutHandler, final RolloutManagement rolloutManagement,
+                                      final SystemSecurityContext systemSecurityContext, @Value("${hawkbit.rollout.executor.thread-pool.size:1}") final int threadPoolSize,
+                                      final RepositoryProperties repositoryProperties, final TenantSharding tenantSharding) {
+        return new RolloutScheduler(rolloutHandler, rolloutManagement, systemManagement, systemSecurityContext, threadPoolSize,
+                repositoryProperties.isRolloutLockPerRollout(), tenantSharding);
     }
 
     /**
@@ -1049,4 +1207,53 @@ public class RepositoryApplicationConfiguration {
     ArtifactEncryptionService artifactEncryptionService() {
         return ArtifactEncryptionService.getInstance();
     }
+
+    /**
+     * Chunked artifact encryption, decrypting range requests without decrypting the content before the range. Requires
+     * an {@link ArtifactEncryptionSecretsStore} bean to store the secrets of the software modules.
+     *
+     * @return a {@link ChunkedArtifactEncryption} bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.artifact.encryption.chunked", name = "enabled")
+    ArtifactEncryption chunkedArtifactEncryption() {
+        return new ChunkedArtifactEncryption();
+    }
+
+    /**
+     * Reports the rollout handling, artifact block cache and action status write-behind metrics if Micrometer is available.
+     * Micrometer is an optional dependency, so the configuration is skipped if it is not in the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class RolloutHandlingMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        RolloutHandlingObserver rolloutHandlingObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MicrometerRolloutHandlingObserver(meterRegistry);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        ArtifactBlockCacheObserver artifactBlockCacheObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MicrometerArtifactBlockCacheObserver(meterRegistry);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        ActionStatusWriteBehindObserver actionStatusWriteBehindObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+            return new MicrometerActionStatusWriteBehindObserver(meterRegistry);
+        }
+    }
+
+    private synchronized String clusterNodeId(final RepositoryProperties repositoryProperties) {
+        if (clusterNodeId == null) {
+            clusterNodeId = ObjectUtils.isEmpty(repositoryProperties.getClusterNodeId())
+                    ? UUID.randomUUID().toString()
+                    : repositoryProperties.getClusterNodeId();
+        }
+        return clusterNodeId;
+    }
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.io.InputStream;
+
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.eclipse.hawkbit.repository.ArtifactEncryptionService;
+import org.eclipse.hawkbit.repository.SeekableArtifactEncryption;
+
+/**
+ * {@link DbArtifact} implementation that decrypts the underlying artifact binary input stream with a
+ * {@link SeekableArtifactEncryption}. The decryption of a stream starting at an offset starts at the corresponding
+ * offset of the encrypted artifact, so the content before the offset is neither read nor decrypted.
+ */
+public class SeekableEncryptionAwareDbArtifact implements DbArtifact {
+
+    private final DbArtifact encryptedDbArtifact;
+    private final ArtifactEncryptionService encryptionService;
+    private final long softwareModuleId;
+
+    public SeekableEncryptionAwareDbArtifact(
+            final DbArtifact encryptedDbArtifact, final ArtifactEncryptionService encryptionService, final long softwareModuleId) {
+        this.encryptedDbArtifact = encryptedDbArtifact;
+        this.encryptionService = encryptionService;
+        this.softwareModuleId = softwareModuleId;
+    }
+
+    @Override
+    public String getArtifactId() {
+        return encryptedDbArtifact.getArtifactId();
+    }
+
+    @Override
+    public DbArtifactHash getHashes() {
+        return encryptedDbArtifact.getHashes();
+    }
+
+    @Override
+    public long getSize() {
+        return encryptionService.decryptedSize(encryptedDbArtifact.getSize());
+    }
+
+    @Override
+    public String getContentType() {
+        return encryptedDbArtifact.getContentType();
+    }
+
+    @Override
+    public InputStream getFileInputStream() {
+        return getFileInputStream(0);
+    }
+
+    @Override
+    public InputStream getFileInputStream(final long offset) {
+        return encryptionService.decryptSoftwareModuleArtifact(
+                softwareModuleId, encryptedDbArtifact.getFileInputStream(encryptionService.encryptedOffset(offset)), offset);
+    }
+}
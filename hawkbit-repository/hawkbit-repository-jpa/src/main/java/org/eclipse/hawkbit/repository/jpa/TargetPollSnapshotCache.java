@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.TenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.AbstractAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.MultiActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Node local cache of {@link TargetPollSnapshot}s, keyed by tenant and controller id.
+ * <p/>
+ * The snapshots are invalidated by the (remote) events which signal a change of the target or its actions:
+ * {@link TargetUpdatedEvent}, {@link AbstractAssignmentEvent}s (i.e. assignment and cancellation),
+ * {@link MultiActionEvent}s, action events and {@link TargetDeletedEvent}. Tenant configuration changes
+ * invalidate all snapshots of the tenant since they could change the polling time.
+ * <p/>
+ * A snapshot loaded concurrently with an invalidation is not cached. In order to detect that, every invalidation
+ * stamps the stripe of the invalidated key with a monotonic sequence, and a snapshot is stored only if neither the
+ * stripe of its controller id nor the one of its target id has been stamped since its load has begun.
+ */
+@Slf4j
+public class TargetPollSnapshotCache {
+
+    private static final int STRIPES = 4096;
+
+    private final boolean enabled;
+    private final Cache<Key, TargetPollSnapshot> snapshots;
+    // target id -> controller id, for the events which carry only the target id
+    private final Cache<Key, String> controllerIds;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLongArray invalidated = new AtomicLongArray(STRIPES);
+
+    public TargetPollSnapshotCache(final RepositoryProperties repositoryProperties) {
+        enabled = repositoryProperties.isPollSnapshotCacheEnabled();
+        final Duration ttl = Duration.ofMillis(repositoryProperties.getPollSnapshotCacheTtl());
+        snapshots = Caffeine.newBuilder()
+                .maximumSize(repositoryProperties.getPollSnapshotCacheSize())
+                .expireAfterWrite(ttl)
+                .build();
+        controllerIds = Caffeine.newBuilder()
+                .maximumSize(repositoryProperties.getPollSnapshotCacheSize())
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached snapshot.
+     *
+     * @param tenant the tenant
+     * @param controllerId the controller id of the target
+     * @return the cached snapshot, if present
+     */
+    public Optional<TargetPollSnapshot> get(final String tenant, final String controllerId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshots.getIfPresent(Key.of(tenant, controllerId)));
+    }
+
+    /**
+     * Loads a snapshot and caches it, if it hasn't been invalidated meanwhile.
+     *
+     * @param loader the snapshot loader
+     * @return the loaded snapshot
+     */
+    public TargetPollSnapshot load(final Supplier<TargetPollSnapshot> loader) {
+        final long loadStart = sequence.get();
+        final TargetPollSnapshot snapshot = loader.get();
+        if (enabled) {
+            final Key key = Key.of(snapshot.getTenant(), snapshot.getControllerId());
+            final Key targetKey = Key.of(snapshot.getTenant(), snapshot.getTargetId());
+            controllerIds.put(targetKey, snapshot.getControllerId());
+            if (isNotInvalidatedSince(key, loadStart) && isNotInvalidatedSince(targetKey, loadStart)) {
+                snapshots.put(key, snapshot);
+                // re-check in order to not keep it if invalidated meanwhile
+                if (!isNotInvalidatedSince(key, loadStart) || !isNotInvalidatedSince(targetKey, loadStart)) {
+                    snapshots.invalidate(key);
+                }
+            } else {
+                log.trace("Snapshot of {} invalidated while loading, not cached", key);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Invalidates the snapshot of a target.
+     *
+     * @param tenant the tenant
+     * @param controllerId the controller id of the target
+     */
+    public void invalidate(final String tenant, final String controllerId) {
+        if (enabled) {
+            final Key key = Key.of(tenant, controllerId);
+            stamp(key);
+            snapshots.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates the snapshot of a target.
+     *
+     * @param tenant the tenant
+     * @param targetId the id of the target
+     */
+    public void invalidate(final String tenant, final long targetId) {
+        if (enabled) {
+            final Key targetKey = Key.of(tenant, targetId);
+            stamp(targetKey);
+            Optional.ofNullable(controllerIds.getIfPresent(targetKey)).ifPresent(controllerId -> invalidate(tenant, controllerId));
+        }
+    }
+
+    /**
+     * Invalidates all snapshots of a tenant.
+     *
+     * @param tenant the tenant
+     */
+    public void evictCaches(final String tenant) {
+        if (enabled) {
+            final String tenantKey = tenant.toUpperCase();
+            // stamp all since there is no relation between the stripes and the tenant
+            final long stamp = sequence.incrementAndGet();
+            for (int i = 0; i < STRIPES; i++) {
+                invalidated.set(i, stamp);
+            }
+            snapshots.asMap().keySet().removeIf(key -> key.tenant().equals(tenantKey));
+        }
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void onTargetUpdated(final TargetUpdatedEvent event) {
+        invalidate(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void onTargetDeleted(final TargetDeletedEvent event) {
+        invalidate(event.getTenant(), event.getEntityId());
+        if (event.getControllerId() != null) {
+            invalidate(event.getTenant(), event.getControllerId());
+        }
+    }
+
+    @EventListener(classes = AbstractAssignmentEvent.class)
+    public void onAssignment(final AbstractAssignmentEvent event) {
+        invalidate(event.getTenant(), event.getActions().keySet());
+    }
+
+    @EventListener(classes = MultiActionEvent.class)
+    public void onMultiAction(final MultiActionEvent event) {
+        invalidate(event.getTenant(), event.getControllerIds());
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void onAction(final AbstractActionEvent event) {
+        if (event.getTargetId() != null) {
+            invalidate(event.getTenant(), event.getTargetId());
+        }
+    }
+
+    @EventListener(classes = {
+            TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class, TenantConfigurationDeletedEvent.class })
+    public void onTenantConfigurationChanged(final TenantAwareEvent event) {
+        evictCaches(event.getTenant());
+    }
+
+    private void invalidate(final String tenant, final Collection<String> controllerIds) {
+        controllerIds.forEach(controllerId -> invalidate(tenant, controllerId));
+    }
+
+    private void stamp(final Key key) {
+        invalidated.set(stripe(key), sequence.incrementAndGet());
+    }
+
+    private boolean isNotInvalidatedSince(final Key key, final long loadStart) {
+        return invalidated.get(stripe(key)) <= loadStart;
+    }
+
+    private static int stripe(final Key key) {
+        return Math.floorMod(key.hashCode(), STRIPES);
+    }
+
+    private record Key(String tenant, Object id) {
+
+        private static Key of(final String tenant, final Object id) {
+            return new Key(tenant.toUpperCase(), id);
+        }
+    }
+}
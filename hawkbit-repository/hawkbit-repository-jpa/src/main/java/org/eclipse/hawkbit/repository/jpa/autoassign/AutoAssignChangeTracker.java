@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autoassign;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetFilterQueryCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetFilterQueryUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetTypeUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Node local tracker of the targets which have been created or updated since the last auto assignment check of their
+ * tenant. It is used by the {@link AutoAssignChecker}, in the incremental mode, to check only the changed targets
+ * against the auto assignment target filters. All the targets of a tenant are checked if a target filter, a
+ * distribution set or a target type of the tenant has been changed, if too many targets have been changed, and at
+ * least once per full check interval, as safety net for changes without (or with lost) target events, e.g. bulk
+ * updates or purged actions.
+ */
+public class AutoAssignChangeTracker {
+
+    private final boolean enabled;
+    private final int maxChangedTargets;
+    // tenant -> ids of the changed targets
+    private final Cache<String, Set<Long>> changedTargets;
+    // tenants which targets shall all be checked
+    private final Set<String> fullCheckDue = ConcurrentHashMap.newKeySet();
+    // tenant -> marker of a recent full check, expires when the next full check is due
+    private final Cache<String, Boolean> fullyChecked;
+
+    public AutoAssignChangeTracker(final RepositoryProperties repositoryProperties) {
+        enabled = repositoryProperties.isAutoAssignIncrementalCheck();
+        maxChangedTargets = repositoryProperties.getAutoAssignMaxChangedTargets();
+        final Duration fullCheckInterval = Duration.ofMillis(repositoryProperties.getAutoAssignFullCheckInterval());
+        // changes older than the interval are covered by the full check anyway
+        changedTargets = Caffeine.newBuilder().expireAfterWrite(fullCheckInterval).build();
+        fullyChecked = Caffeine.newBuilder().expireAfterWrite(fullCheckInterval).build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the ids of the changed targets of the tenant and resets them, i.e. they are expected to be checked by the
+     * caller.
+     *
+     * @param tenant the tenant
+     * @return the ids of the changed targets, or empty if all the targets shall be checked - the tracker is disabled
+     *         or a full check of the tenant is due
+     */
+    public Optional<Set<Long>> drainChangedTargets(final String tenant) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        final String key = key(tenant);
+        final Set<Long> changed = changedTargets.asMap().remove(key);
+        if (fullCheckDue.remove(key) | fullyChecked.asMap().putIfAbsent(key, Boolean.TRUE) == null) {
+            fullyChecked.put(key, Boolean.TRUE);
+            return Optional.empty();
+        }
+        return Optional.of(changed == null ? Set.of() : changed);
+    }
+
+    /**
+     * Puts drained changed targets back, e.g. since their check failed, so they are checked by the next check again.
+     *
+     * @param tenant the tenant
+     * @param targetIds the ids of the drained targets
+     */
+    public void restoreChangedTargets(final String tenant, final Set<Long> targetIds) {
+        if (enabled && !targetIds.isEmpty()) {
+            changedTargets.asMap().compute(key(tenant), (key, current) -> {
+                final Set<Long> changed = current == null ? ConcurrentHashMap.newKeySet() : current;
+                if (changed.size() + targetIds.size() <= maxChangedTargets) {
+                    changed.addAll(targetIds);
+                } else {
+                    fullCheckDue.add(key);
+                }
+                return changed;
+            });
+        }
+    }
+
+    /**
+     * Resets the state of a tenant, i.e. all its targets are checked by the next check.
+     *
+     * @param tenant the tenant
+     */
+    public void reset(final String tenant) {
+        changedTargets.invalidate(key(tenant));
+        fullyChecked.invalidate(key(tenant));
+    }
+
+    @EventListener(classes = { TargetCreatedEvent.class, TargetUpdatedEvent.class })
+    public void onTargetChanged(final RemoteIdEvent event) {
+        if (enabled) {
+            // add in compute, so it doesn't get lost if drained concurrently
+            changedTargets.asMap().compute(key(event.getTenant()), (tenant, targetIds) -> {
+                final Set<Long> changed = targetIds == null ? ConcurrentHashMap.newKeySet() : targetIds;
+                if (changed.size() < maxChangedTargets) {
+                    changed.add(event.getEntityId());
+                } else {
+                    fullCheckDue.add(tenant);
+                }
+                return changed;
+            });
+        }
+    }
+
+    @EventListener(classes = {
+            TargetFilterQueryCreatedEvent.class, TargetFilterQueryUpdatedEvent.class,
+            DistributionSetUpdatedEvent.class, TargetTypeUpdatedEvent.class })
+    public void onFilterChanged(final RemoteIdEvent event) {
+        if (enabled) {
+            fullCheckDue.add(key(event.getTenant()));
+        }
+    }
+
+    // the tenants are stored upper case
+    private static String key(final String tenant) {
+        return tenant.toUpperCase(Locale.ROOT);
+    }
+}
@@ -11,6 +11,10 @@ package org.eclipse.hawkbit.repository.jpa.autoassign;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import jakarta.persistence.PersistenceException;
 
@@ -21,8 +25,10 @@ import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.rsql.TargetRsqlMatcher;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
@@ -34,11 +40,17 @@ import org.springframework.transaction.annotation.Transactional;
  * queries are listed. For every target filter query (TFQ) the auto assign DS is
  * retrieved. All targets get listed per target filter query, that match the TFQ
  * and that don't have the auto assign DS in their action history.
+ * <p/>
+ * If an {@link AutoAssignChangeTracker} is enabled, only the targets which have been changed since the last check
+ * are checked, unless a full check is due. The changed targets are matched against the target filter queries in memory
+ * first, so only the matching ones are checked by the database.
  */
 @Slf4j
 public class AutoAssignChecker extends AbstractAutoAssignExecutor {
 
     private final TargetManagement targetManagement;
+    private final AutoAssignChangeTracker changeTracker;
+    private final VirtualPropertyReplacer virtualPropertyReplacer;
 
     /**
      * Instantiates a new auto assign checker
@@ -52,16 +64,62 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
     public AutoAssignChecker(final TargetFilterQueryManagement targetFilterQueryManagement,
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
             final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+        this(targetFilterQueryManagement, targetManagement, deploymentManagement, transactionManager, contextAware, null, null);
+    }
+
+    /**
+     * Instantiates a new auto assign checker which checks the changed targets only, if the tracker is enabled
+     *
+     * @param targetFilterQueryManagement to get all target filter queries
+     * @param targetManagement to get targets
+     * @param deploymentManagement to assign distribution sets to targets
+     * @param transactionManager to run transactions
+     * @param contextAware to handle the context
+     * @param changeTracker to get the changed targets, could be <code>null</code>
+     * @param virtualPropertyReplacer to resolve the virtual properties of the target filter queries matched in memory,
+     *         could be <code>null</code>
+     */
+    public AutoAssignChecker(final TargetFilterQueryManagement targetFilterQueryManagement,
+            final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            final AutoAssignChangeTracker changeTracker, final VirtualPropertyReplacer virtualPropertyReplacer) {
         super(targetFilterQueryManagement, deploymentManagement, transactionManager, contextAware);
         this.targetManagement = targetManagement;
+        this.changeTracker = changeTracker;
+        this.virtualPropertyReplacer = virtualPropertyReplacer;
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void checkAllTargets() {
-        log.debug("Auto assign check call for tenant {} started", getContextAware().getCurrentTenant());
-        forEachFilterWithAutoAssignDS(this::checkByTargetFilterQueryAndAssignDS);
-        log.debug("Auto assign check call for tenant {} finished", getContextAware().getCurrentTenant());
+        final String tenant = getContextAware().getCurrentTenant();
+        final Optional<Set<Long>> changedTargets = changeTracker == null
+                ? Optional.empty()
+                : changeTracker.drainChangedTargets(tenant);
+        if (changedTargets.isPresent()) {
+            boolean checked = false;
+            try {
+                checked = checkChangedTargets(changedTargets.get());
+            } finally {
+                if (!checked) {
+                    // checked again by the next check
+                    changeTracker.restoreChangedTargets(tenant, changedTargets.get());
+                }
+            }
+            return;
+        }
+
+        log.debug("Auto assign check call for tenant {} started", tenant);
+        try {
+            forEachFilterWithAutoAssignDS(this::checkByTargetFilterQueryAndAssignDS);
+        } catch (final RuntimeException e) {
+            if (changeTracker != null) {
+                // so the next check is a full check again
+                changeTracker.reset(tenant);
+            }
+            throw e;
+        }
+        log.debug("Auto assign check call for tenant {} finished", tenant);
     }
 
     @Override
@@ -105,6 +163,55 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId());
     }
 
+    // returns if the targets are checked against all the filters successfully
+    private boolean checkChangedTargets(final Set<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return true;
+        }
+
+        log.debug("Auto assign check call for tenant {} and {} changed targets started",
+                getContextAware().getCurrentTenant(), targetIds.size());
+        final List<Long> ids = List.copyOf(targetIds);
+        final AtomicBoolean checked = new AtomicBoolean(true);
+        for (int from = 0; from < ids.size(); from += Constants.MAX_ENTRIES_IN_STATEMENT) {
+            final List<Target> targets = targetManagement
+                    .get(ids.subList(from, Math.min(from + Constants.MAX_ENTRIES_IN_STATEMENT, ids.size())));
+            if (!targets.isEmpty()) {
+                forEachFilterWithAutoAssignDS(filter -> {
+                    if (!checkForDevices(targets, filter)) {
+                        checked.set(false);
+                    }
+                });
+            }
+        }
+        log.debug("Auto assign check call for tenant {} and {} changed targets finished",
+                getContextAware().getCurrentTenant(), targetIds.size());
+        return checked.get();
+    }
+
+    // matches the devices in memory, checks the matching ones one by one (cheap by controller id) and assigns them in
+    // one transaction
+    private boolean checkForDevices(final List<Target> targets, final TargetFilterQuery targetFilterQuery) {
+        try {
+            final long distributionSetId = targetFilterQuery.getAutoAssignDistributionSet().getId();
+            final Predicate<Target> queryMatcher = TargetRsqlMatcher.compile(targetFilterQuery.getQuery(), virtualPropertyReplacer)
+                    .orElse(target -> true);
+            final List<String> matching = targets.stream()
+                    .filter(queryMatcher)
+                    .map(Target::getControllerId)
+                    .filter(controllerId -> targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(
+                            controllerId, distributionSetId, targetFilterQuery.getQuery()))
+                    .toList();
+            if (!matching.isEmpty()) {
+                runTransactionalAssignment(targetFilterQuery, matching);
+            }
+            return true;
+        } catch (final PersistenceException | AbstractServerRtException e) {
+            log.error("Error during auto assign check of target filter query id {}", targetFilterQuery.getId(), e);
+            return false;
+        }
+    }
+
     private void checkForDevice(final String controllerId, final TargetFilterQuery targetFilterQuery) {
         log.debug("Auto assign check call for tenant {} and target filter query id {} for device {} started",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId(), controllerId);
@@ -14,6 +14,7 @@ import java.util.concurrent.locks.Lock;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantSharding;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -24,12 +25,15 @@ import org.springframework.scheduling.annotation.Scheduled;
 @Slf4j
 public class AutoAssignScheduler {
 
+    private static final String AUTO_ASSIGN = "autoassign";
+    private static final String SEP = ".";
     private static final String PROP_SCHEDULER_DELAY_PLACEHOLDER = "${hawkbit.autoassign.scheduler.fixedDelay:2000}";
 
     private final SystemManagement systemManagement;
     private final SystemSecurityContext systemSecurityContext;
     private final AutoAssignExecutor autoAssignExecutor;
     private final LockRegistry lockRegistry;
+    private final TenantSharding tenantSharding;
 
     /**
      * Instantiates a new AutoAssignScheduler
@@ -42,10 +46,26 @@ public class AutoAssignScheduler {
     public AutoAssignScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final AutoAssignExecutor autoAssignExecutor,
             final LockRegistry lockRegistry) {
+        this(systemManagement, systemSecurityContext, autoAssignExecutor, lockRegistry, TenantSharding.NONE);
+    }
+
+    /**
+     * Instantiates a new AutoAssignScheduler which checks only the tenants of this cluster node
+     *
+     * @param systemManagement to find all tenants
+     * @param systemSecurityContext to run as system
+     * @param autoAssignExecutor to run a check as tenant
+     * @param lockRegistry to acquire a lock per tenant
+     * @param tenantSharding to check only the tenants of this node
+     */
+    public AutoAssignScheduler(final SystemManagement systemManagement,
+            final SystemSecurityContext systemSecurityContext, final AutoAssignExecutor autoAssignExecutor,
+            final LockRegistry lockRegistry, final TenantSharding tenantSharding) {
         this.systemManagement = systemManagement;
         this.systemSecurityContext = systemSecurityContext;
         this.autoAssignExecutor = autoAssignExecutor;
         this.lockRegistry = lockRegistry;
+        this.tenantSharding = tenantSharding;
     }
 
     /**
@@ -67,18 +87,23 @@ public class AutoAssignScheduler {
         // https://bugs.eclipse.org/bugs/show_bug.cgi?id=355458. So
         // iterate through all tenants and execute the rollout check for
         // each tenant separately.
-        final Lock lock = lockRegistry.obtain("autoassign");
-        if (!lock.tryLock()) {
-            return null;
-        }
+        log.debug("Auto assign scheduled execution started for each tenant.");
+        systemManagement.forEachTenant(tenant -> {
+            if (!tenantSharding.isLocal(tenant)) {
+                return;
+            }
 
-        try {
-            log.debug("Auto assign scheduled execution has acquired lock and started for each tenant.");
-            systemManagement.forEachTenant(tenant -> autoAssignExecutor.checkAllTargets());
-        } finally {
-            lock.unlock();
-            log.debug("Auto assign scheduled execution has released lock and finished.");
-        }
+            final Lock lock = lockRegistry.obtain(AUTO_ASSIGN + SEP + tenant);
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                autoAssignExecutor.checkAllTargets();
+            } finally {
+                lock.unlock();
+            }
+        });
+        log.debug("Auto assign scheduled execution finished.");
 
         return null;
     }
@@ -14,6 +14,7 @@ import java.util.concurrent.locks.Lock;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantSharding;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -32,6 +33,7 @@ public class AutoCleanupScheduler {
     private final SystemSecurityContext systemSecurityContext;
     private final LockRegistry lockRegistry;
     private final List<CleanupTask> cleanupTasks;
+    private final TenantSharding tenantSharding;
 
     /**
      * Constructs the cleanup schedulers and initializes it with a set of cleanup handlers.
@@ -45,10 +47,27 @@ public class AutoCleanupScheduler {
             final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
             final List<CleanupTask> cleanupTasks) {
+        this(systemManagement, systemSecurityContext, lockRegistry, cleanupTasks, TenantSharding.NONE);
+    }
+
+    /**
+     * Constructs the cleanup schedulers which cleans up only the tenants of this cluster node.
+     *
+     * @param systemManagement Management APIs to invoke actions in a certain tenant context.
+     * @param systemSecurityContext The system security context.
+     * @param lockRegistry A registry for shared locks.
+     * @param cleanupTasks A list of cleanup tasks.
+     * @param tenantSharding The sharding of the tenants over the cluster nodes.
+     */
+    public AutoCleanupScheduler(
+            final SystemManagement systemManagement,
+            final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
+            final List<CleanupTask> cleanupTasks, final TenantSharding tenantSharding) {
         this.systemManagement = systemManagement;
         this.systemSecurityContext = systemSecurityContext;
         this.lockRegistry = lockRegistry;
         this.cleanupTasks = cleanupTasks;
+        this.tenantSharding = tenantSharding;
     }
 
     /**
@@ -70,6 +89,9 @@ public class AutoCleanupScheduler {
     @SuppressWarnings("squid:S3516")
     private Void executeAutoCleanup() {
         systemManagement.forEachTenant(tenant -> cleanupTasks.forEach(task -> {
+            if (!tenantSharding.isLocal(tenant)) {
+                return;
+            }
             final Lock lock = obtainLock(task, tenant);
             if (!lock.tryLock()) {
                 return;
@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * {@link LockRegistry} which locks across the nodes of a cluster by leases stored in the table <code>sp_lock</code>
+ * of the repository database. A lease is held by a client (node) until it is released or until it expires, so the
+ * lock of a crashed node is taken over after the lease time. The leases of the held locks are renewed in background
+ * (every third of the lease time).
+ * <p/>
+ * Within the node the locks are reentrant and exclusive per thread, as the ones of the
+ * {@link org.springframework.integration.support.locks.DefaultLockRegistry}. Note: the clocks of the nodes shall be
+ * synchronized, with a skew much smaller than the lease time.
+ */
+@Slf4j
+public class JpaLeaseLockRegistry implements LockRegistry, AutoCloseable {
+
+    private static final long RETRY_INTERVAL = 100;
+
+    private static final String UPDATE_LEASE =
+            "UPDATE sp_lock SET client_id = " + Jpa.nativeQueryParamPrefix() + "client_id, expires_at = " + Jpa.nativeQueryParamPrefix() + "expires_at" +
+                    " WHERE lock_key = " + Jpa.nativeQueryParamPrefix() + "lock_key" +
+                    " AND (client_id = " + Jpa.nativeQueryParamPrefix() + "client_id OR expires_at < " + Jpa.nativeQueryParamPrefix() + "now)";
+    private static final String INSERT_LEASE =
+            "INSERT INTO sp_lock (lock_key, client_id, expires_at) VALUES (" + Jpa.nativeQueryParamPrefix() + "lock_key, " +
+                    Jpa.nativeQueryParamPrefix() + "client_id, " + Jpa.nativeQueryParamPrefix() + "expires_at)";
+    private static final String RENEW_LEASE =
+            "UPDATE sp_lock SET expires_at = " + Jpa.nativeQueryParamPrefix() + "expires_at" +
+                    " WHERE lock_key = " + Jpa.nativeQueryParamPrefix() + "lock_key AND client_id = " + Jpa.nativeQueryParamPrefix() + "client_id";
+    private static final String DELETE_LEASE =
+            "DELETE FROM sp_lock WHERE lock_key = " + Jpa.nativeQueryParamPrefix() + "lock_key" +
+                    " AND client_id = " + Jpa.nativeQueryParamPrefix() + "client_id";
+    private static final String DELETE_CLIENT_LEASES =
+            "DELETE FROM sp_lock WHERE client_id = " + Jpa.nativeQueryParamPrefix() + "client_id";
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager txManager;
+    @Getter
+    private final String clientId;
+    private final long leaseTime;
+
+    private final Map<String, LeaseLock> locks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService renewal;
+
+    /**
+     * Constructor
+     *
+     * @param entityManager to access the lease table
+     * @param txManager to store the leases in own transactions
+     * @param clientId the unique id of the client (node) holding the leases
+     * @param leaseTime the time in {@link TimeUnit#MILLISECONDS} a lease is held without renewal
+     */
+    public JpaLeaseLockRegistry(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final String clientId, final long leaseTime) {
+        this.entityManager = entityManager;
+        this.txManager = txManager;
+        this.clientId = clientId;
+        this.leaseTime = leaseTime;
+
+        renewal = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "lock-lease-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long renewalInterval = Math.max(1, leaseTime / 3);
+        renewal.scheduleWithFixedDelay(this::renewLeases, renewalInterval, renewalInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Lock obtain(final Object lockKey) {
+        final String key = String.valueOf(lockKey);
+        return locks.computeIfAbsent(key, LeaseLock::new);
+    }
+
+    @Override
+    public void close() {
+        renewal.shutdownNow();
+        try {
+            DeploymentHelper.runInNewTransaction(txManager, "releaseLeases", status ->
+                    entityManager.createNativeQuery(DELETE_CLIENT_LEASES).setParameter("client_id", clientId).executeUpdate());
+        } catch (final PersistenceException | DataAccessException e) {
+            log.warn("Failed to release the lock leases of {}", clientId, e);
+        }
+    }
+
+    private boolean acquireLease(final String lockKey) {
+        try {
+            return DeploymentHelper.runInNewTransaction(txManager, "acquireLease", status -> {
+                final long now = System.currentTimeMillis();
+                final Query update = entityManager.createNativeQuery(UPDATE_LEASE);
+                update.setParameter("client_id", clientId);
+                update.setParameter("expires_at", now + leaseTime);
+                update.setParameter("lock_key", lockKey);
+                update.setParameter("now", now);
+                if (update.executeUpdate() > 0) {
+                    return true;
+                }
+
+                final Query insert = entityManager.createNativeQuery(INSERT_LEASE);
+                insert.setParameter("lock_key", lockKey);
+                insert.setParameter("client_id", clientId);
+                insert.setParameter("expires_at", now + leaseTime);
+                return insert.executeUpdate() > 0;
+            });
+        } catch (final PersistenceException | DataAccessException e) {
+            // the lease is held by another client
+            log.trace("Failed to acquire the lease of lock {}", lockKey, e);
+            return false;
+        }
+    }
+
+    private void releaseLease(final String lockKey) {
+        try {
+            final int deleted = DeploymentHelper.runInNewTransaction(txManager, "releaseLease", status ->
+                    entityManager.createNativeQuery(DELETE_LEASE)
+                            .setParameter("lock_key", lockKey)
+                            .setParameter("client_id", clientId)
+                            .executeUpdate());
+            if (deleted == 0) {
+                log.warn("Lease of lock {} has expired before it was released", lockKey);
+            }
+        } catch (final PersistenceException | DataAccessException e) {
+            // expires after the lease time
+            log.warn("Failed to release the lease of lock {}", lockKey, e);
+        }
+    }
+
+    private void renewLeases() {
+        locks.values().stream().filter(LeaseLock::isLeased).forEach(lock -> {
+            try {
+                final int renewed = DeploymentHelper.runInNewTransaction(txManager, "renewLease", status ->
+                        entityManager.createNativeQuery(RENEW_LEASE)
+                                .setParameter("expires_at", System.currentTimeMillis() + leaseTime)
+                                .setParameter("lock_key", lock.lockKey)
+                                .setParameter("client_id", clientId)
+                                .executeUpdate());
+                if (renewed == 0 && lock.isLeased()) {
+                    log.warn("Lease of lock {} has expired and could be taken by another node", lock.lockKey);
+                }
+            } catch (final RuntimeException e) {
+                log.warn("Failed to renew the lease of lock {}", lock.lockKey, e);
+            }
+        });
+    }
+
+    private final class LeaseLock implements Lock {
+
+        private final String lockKey;
+        private final ReentrantLock localLock = new ReentrantLock();
+        private volatile boolean leased;
+
+        private LeaseLock(final String lockKey) {
+            this.lockKey = lockKey;
+        }
+
+        private boolean isLeased() {
+            return leased;
+        }
+
+        @Override
+        public void lock() {
+            localLock.lock();
+            boolean interrupted = false;
+            while (!lease()) {
+                try {
+                    Thread.sleep(RETRY_INTERVAL);
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            localLock.lockInterruptibly();
+            try {
+                while (!lease()) {
+                    Thread.sleep(RETRY_INTERVAL);
+                }
+            } catch (final InterruptedException e) {
+                localLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!localLock.tryLock()) {
+                return false;
+            }
+            if (lease()) {
+                return true;
+            }
+            localLock.unlock();
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException {
+            final long deadline = System.nanoTime() + unit.toNanos(time);
+            if (!localLock.tryLock(time, unit)) {
+                return false;
+            }
+            try {
+                while (!lease()) {
+                    final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        localLock.unlock();
+                        return false;
+                    }
+                    Thread.sleep(Math.min(RETRY_INTERVAL, remaining));
+                }
+                return true;
+            } catch (final InterruptedException e) {
+                localLock.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public void unlock() {
+            if (!localLock.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("Lock " + lockKey + " is not held by the current thread");
+            }
+            try {
+                if (localLock.getHoldCount() == 1) {
+                    leased = false;
+                    releaseLease(lockKey);
+                }
+            } finally {
+                localLock.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by the lease locks");
+        }
+
+        @Override
+        public String toString() {
+            return "LeaseLock[" + lockKey + ", " + clientId + (leased ? ", leased]" : "]");
+        }
+
+        // the lease is acquired by the first (not reentrant) local lock, the local lock shall be held
+        private boolean lease() {
+            if (localLock.getHoldCount() > 1) {
+                return true;
+            }
+            leased = acquireLease(lockKey);
+            return leased;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * {@link TenantSharding} over the live nodes of a cluster. Every node stores a heartbeat in the table
+ * <code>sp_cluster_node</code> of the repository database and reads the nodes with a recent heartbeat. The tenants are
+ * distributed over them by rendezvous (highest random weight) hashing, so every node gets a consistent share and only
+ * the tenants of a joining or leaving node are moved.
+ * <p/>
+ * During a membership change two nodes could consider a tenant local for a heartbeat interval, so the scheduled jobs
+ * still shall lock their work per tenant.
+ */
+@Slf4j
+public class JpaTenantSharding implements TenantSharding, AutoCloseable {
+
+    private static final String UPDATE_HEARTBEAT =
+            "UPDATE sp_cluster_node SET heartbeat_at = " + Jpa.nativeQueryParamPrefix() + "heartbeat_at" +
+                    " WHERE node_id = " + Jpa.nativeQueryParamPrefix() + "node_id";
+    private static final String INSERT_HEARTBEAT =
+            "INSERT INTO sp_cluster_node (node_id, heartbeat_at) VALUES (" + Jpa.nativeQueryParamPrefix() + "node_id, " +
+                    Jpa.nativeQueryParamPrefix() + "heartbeat_at)";
+    private static final String DELETE_DEAD_NODES =
+            "DELETE FROM sp_cluster_node WHERE heartbeat_at < " + Jpa.nativeQueryParamPrefix() + "heartbeat_at";
+    private static final String DELETE_NODE =
+            "DELETE FROM sp_cluster_node WHERE node_id = " + Jpa.nativeQueryParamPrefix() + "node_id";
+    private static final String QUERY_LIVE_NODES =
+            "SELECT node_id FROM sp_cluster_node WHERE heartbeat_at >= " + Jpa.nativeQueryParamPrefix() + "heartbeat_at";
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager txManager;
+    @Getter
+    private final String nodeId;
+    private final long nodeTimeout;
+
+    private final ScheduledExecutorService heartbeats;
+    // the live nodes, including this one
+    @Getter
+    private volatile List<String> nodes;
+
+    /**
+     * Constructor
+     *
+     * @param entityManager to access the node table
+     * @param txManager to store the heartbeats in own transactions
+     * @param nodeId the unique id of this node
+     * @param heartbeatInterval the interval of the heartbeats in {@link TimeUnit#MILLISECONDS}
+     * @param nodeTimeout the time in {@link TimeUnit#MILLISECONDS} after the last heartbeat a node is considered dead
+     */
+    public JpaTenantSharding(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final String nodeId, final long heartbeatInterval, final long nodeTimeout) {
+        this.entityManager = entityManager;
+        this.txManager = txManager;
+        this.nodeId = nodeId;
+        this.nodeTimeout = nodeTimeout;
+        nodes = List.of(nodeId);
+
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "cluster-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean isLocal(final String tenant) {
+        final List<String> liveNodes = nodes;
+        if (liveNodes.size() == 1) {
+            return true;
+        }
+
+        String owner = null;
+        long maxWeight = Long.MIN_VALUE;
+        for (final String node : liveNodes) {
+            final long weight = weight(node, tenant);
+            if (owner == null || weight > maxWeight || (weight == maxWeight && node.compareTo(owner) < 0)) {
+                owner = node;
+                maxWeight = weight;
+            }
+        }
+        return nodeId.equals(owner);
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+        try {
+            DeploymentHelper.runInNewTransaction(txManager, "leaveCluster", status ->
+                    entityManager.createNativeQuery(DELETE_NODE).setParameter("node_id", nodeId).executeUpdate());
+        } catch (final PersistenceException | DataAccessException e) {
+            log.warn("Failed to remove the cluster node {}", nodeId, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void heartbeat() {
+        try {
+            nodes = DeploymentHelper.runInNewTransaction(txManager, "clusterHeartbeat", status -> {
+                final long now = System.currentTimeMillis();
+                final Query update = entityManager.createNativeQuery(UPDATE_HEARTBEAT);
+                update.setParameter("heartbeat_at", now);
+                update.setParameter("node_id", nodeId);
+                if (update.executeUpdate() == 0) {
+                    final Query insert = entityManager.createNativeQuery(INSERT_HEARTBEAT);
+                    insert.setParameter("node_id", nodeId);
+                    insert.setParameter("heartbeat_at", now);
+                    insert.executeUpdate();
+                    log.info("Cluster node {} joined", nodeId);
+                }
+                entityManager.createNativeQuery(DELETE_DEAD_NODES).setParameter("heartbeat_at", now - nodeTimeout).executeUpdate();
+
+                final List<String> liveNodes = ((List<Object>) entityManager.createNativeQuery(QUERY_LIVE_NODES)
+                        .setParameter("heartbeat_at", now - nodeTimeout)
+                        .getResultList()).stream()
+                        .map(String::valueOf)
+                        .sorted()
+                        .toList();
+                if (!liveNodes.equals(nodes)) {
+                    log.info("Live cluster nodes changed to {}", liveNodes);
+                }
+                // this node is live even if its heartbeat is not visible (yet)
+                return liveNodes.contains(nodeId) ? liveNodes : List.of(nodeId);
+            });
+        } catch (final RuntimeException e) {
+            log.warn("Failed to store the heartbeat of cluster node {}", nodeId, e);
+        }
+    }
+
+    // the weight of a node for a tenant - the String hash codes are specified, so all the nodes calculate the same
+    private static long weight(final String node, final String tenant) {
+        long hash = node.hashCode() * 0x9E3779B97F4A7C15L + tenant.hashCode();
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+/**
+ * Distributes the tenants over the nodes of a cluster, so the scheduled jobs of a node process only its share (shard)
+ * of the tenants.
+ */
+@FunctionalInterface
+public interface TenantSharding {
+
+    /**
+     * Sharding without cluster, all the tenants are processed by the (single) node.
+     */
+    TenantSharding NONE = tenant -> true;
+
+    /**
+     * Checks if the tenant is processed by this node.
+     *
+     * @param tenant the tenant
+     * @return <code>true</code> if the scheduled jobs of this node shall process the tenant
+     */
+    boolean isLocal(String tenant);
+}
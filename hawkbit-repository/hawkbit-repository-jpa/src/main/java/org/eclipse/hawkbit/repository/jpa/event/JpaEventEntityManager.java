@@ -9,15 +9,25 @@
  */
 package org.eclipse.hawkbit.repository.jpa.event;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManager;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
- * A TenantAwareEvent entity manager, which loads an entity by id and type for remote events.
+ * A TenantAwareEvent entity manager, which loads an entity (or entities in bulk) by id and type for remote events.
  */
 @Transactional(readOnly = true)
 public class JpaEventEntityManager implements EventEntityManager {
@@ -40,4 +50,20 @@ public class JpaEventEntityManager implements EventEntityManager {
     public <E extends TenantAwareBaseEntity> E findEntity(final String tenant, final Long id, final Class<E> entityType) {
         return tenantAware.runAsTenant(tenant, () -> entityManager.find(entityType, id));
     }
+
+    @Override
+    public <E extends TenantAwareBaseEntity> List<E> findEntities(final String tenant, final Collection<Long> ids,
+            final Class<E> entityType) {
+        return tenantAware.runAsTenant(tenant, () -> {
+            final List<E> entities = new ArrayList<>(ids.size());
+            for (final List<Long> chunk : ListUtils.partition(new ArrayList<>(ids), Constants.MAX_ENTRIES_IN_STATEMENT)) {
+                final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+                final CriteriaQuery<E> query = cb.createQuery(entityType);
+                final Root<E> root = query.from(entityType);
+                entities.addAll(entityManager.createQuery(query.select(root).where(root.get(AbstractJpaBaseEntity_.ID).in(chunk)))
+                        .getResultList());
+            }
+            return entities;
+        });
+    }
 }
\ No newline at end of file
@@ -94,10 +94,14 @@ public class JpaActionManagement {
     protected void assertActionStatusQuota(final JpaActionStatus newActionStatus, final JpaAction action) {
         if (isIntermediateStatus(newActionStatus)) {// check for quota only for intermediate statuses
             QuotaHelper.assertAssignmentQuota(action.getId(), 1, quotaManagement.getMaxStatusEntriesPerAction(),
-                    ActionStatus.class, Action.class, actionStatusRepository::countByActionId);
+                    ActionStatus.class, Action.class, this::countActionStatuses);
         }
     }
 
+    protected long countActionStatuses(final long actionId) {
+        return actionStatusRepository.countByActionId(actionId);
+    }
+
     protected void assertActionStatusMessageQuota(final JpaActionStatus actionStatus) {
         QuotaHelper.assertAssignmentQuota(actionStatus.getId(), actionStatus.getMessages().size(),
                 quotaManagement.getMaxMessagesPerActionStatus(), "Message", ActionStatus.class.getSimpleName(), null);
@@ -134,7 +138,7 @@ public class JpaActionManagement {
      * Status.FINISHED are allowed. In the case of a DOWNLOAD_ONLY action, we accept
      * status updates only once.
      */
-    private boolean isUpdatingActionStatusAllowed(final JpaAction action, final JpaActionStatus actionStatus) {
+    protected boolean isUpdatingActionStatusAllowed(final JpaAction action, final JpaActionStatus actionStatus) {
         if (action.isActive()) {
             return true;
         }
@@ -0,0 +1,392 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import jakarta.validation.ValidationException;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
+import org.eclipse.hawkbit.artifact.repository.BinaryDelta;
+import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.repository.ArtifactDeltaManagement;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * JPA based {@link ArtifactDeltaManagement} implementation. The deltas are stored as binaries in the
+ * {@link ArtifactRepository} and are referenced by (tenant, source SHA1, target SHA1) in the table
+ * <code>sp_artifact_delta</code>. Deltas that are not worth it (too big, or the artifacts are too big to be diffed)
+ * are recorded without binary, so they are not generated again.
+ * <p/>
+ * The deltas are generated by a small pool of threads, a delta is generated at most once at a time per node.
+ */
+@Slf4j
+@Transactional(readOnly = true)
+@Validated
+public class JpaArtifactDeltaManagement implements ArtifactDeltaManagement, AutoCloseable {
+
+    private static final String DELTA_FILE_NAME = "delta";
+    private static final String DELTA_CONTENT_TYPE = "application/octet-stream";
+
+    private static final String QUERY_DELTAS =
+            "SELECT source_sha1, target_sha1, sha1_hash, md5_hash, sha256_hash, file_size FROM sp_artifact_delta" +
+                    " WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant AND target_sha1 IN (%s)";
+    private static final String QUERY_DELTA =
+            "SELECT sha1_hash FROM sp_artifact_delta WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                    " AND source_sha1 = " + Jpa.nativeQueryParamPrefix() + "source_sha1" +
+                    " AND target_sha1 = " + Jpa.nativeQueryParamPrefix() + "target_sha1";
+    private static final String INSERT_DELTA =
+            "INSERT INTO sp_artifact_delta (tenant, source_sha1, target_sha1, sha1_hash, md5_hash, sha256_hash, file_size, created_at)" +
+                    " VALUES (" + Jpa.nativeQueryParamPrefix() + "tenant, " + Jpa.nativeQueryParamPrefix() + "source_sha1, " +
+                    Jpa.nativeQueryParamPrefix() + "target_sha1, " + Jpa.nativeQueryParamPrefix() + "sha1_hash, " +
+                    Jpa.nativeQueryParamPrefix() + "md5_hash, " + Jpa.nativeQueryParamPrefix() + "sha256_hash, " +
+                    Jpa.nativeQueryParamPrefix() + "file_size, " + Jpa.nativeQueryParamPrefix() + "created_at)";
+    private static final String QUERY_DELTAS_OF_ARTIFACT =
+            "SELECT sha1_hash FROM sp_artifact_delta WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                    " AND (source_sha1 = " + Jpa.nativeQueryParamPrefix() + "sha1 OR target_sha1 = " + Jpa.nativeQueryParamPrefix() + "sha1)";
+    private static final String DELETE_DELTAS_OF_ARTIFACT =
+            "DELETE FROM sp_artifact_delta WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                    " AND (source_sha1 = " + Jpa.nativeQueryParamPrefix() + "sha1 OR target_sha1 = " + Jpa.nativeQueryParamPrefix() + "sha1)";
+    private static final String COUNT_DELTA_BINARY_REFERENCES =
+            "SELECT COUNT(*) FROM sp_artifact_delta WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                    " AND sha1_hash = " + Jpa.nativeQueryParamPrefix() + "sha1";
+    private static final String COUNT_ARTIFACT_BINARY_REFERENCES =
+            "SELECT COUNT(*) FROM sp_artifact WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                    " AND sha1_hash = " + Jpa.nativeQueryParamPrefix() + "sha1";
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager txManager;
+    private final TargetRepository targetRepository;
+    private final SoftwareModuleRepository softwareModuleRepository;
+    private final ArtifactRepository artifactRepository;
+    private final TenantAware tenantAware;
+    private final SystemSecurityContext systemSecurityContext;
+    private final long maxArtifactSize;
+    private final double maxRatio;
+
+    private final ExecutorService generators;
+    private final Set<Generation> pending = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("java:S107")
+    public JpaArtifactDeltaManagement(
+            final EntityManager entityManager, final PlatformTransactionManager txManager,
+            final TargetRepository targetRepository, final SoftwareModuleRepository softwareModuleRepository,
+            final ArtifactRepository artifactRepository, final TenantAware tenantAware,
+            final SystemSecurityContext systemSecurityContext, final RepositoryProperties repositoryProperties) {
+        this.entityManager = entityManager;
+        this.txManager = txManager;
+        this.targetRepository = targetRepository;
+        this.softwareModuleRepository = softwareModuleRepository;
+        this.artifactRepository = artifactRepository;
+        this.tenantAware = tenantAware;
+        this.systemSecurityContext = systemSecurityContext;
+        this.maxArtifactSize = repositoryProperties.getArtifactDeltaMaxArtifactSize();
+        this.maxRatio = repositoryProperties.getArtifactDeltaMaxRatio();
+        generators = Executors.newFixedThreadPool(Math.max(1, repositoryProperties.getArtifactDeltaThreads()), runnable -> {
+            final Thread thread = new Thread(runnable, "artifact-delta-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void generateDeltas(final long sourceModuleId, final long targetModuleId) {
+        final JpaSoftwareModule source = softwareModuleRepository.findById(sourceModuleId)
+                .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, sourceModuleId));
+        final JpaSoftwareModule target = softwareModuleRepository.findById(targetModuleId)
+                .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, targetModuleId));
+        if (!source.getType().getId().equals(target.getType().getId())) {
+            throw new ValidationException("Deltas could be generated between software modules of the same type only");
+        }
+
+        final String tenant = tenantAware.getCurrentTenant();
+        final Map<String, String> pairs = pairArtifacts(source, target);
+        final Set<String> generated = findDeltas(tenant, pairs).keySet();
+        pairs.forEach((targetSha1, sourceSha1) -> {
+            if (!generated.contains(targetSha1)) {
+                schedule(new Generation(tenant, sourceSha1, targetSha1));
+            }
+        });
+    }
+
+    @Override
+    public Map<String, ArtifactDelta> findDeltas(final String controllerId, final long softwareModuleId) {
+        final JpaSoftwareModule module = softwareModuleRepository.findById(softwareModuleId)
+                .orElseThrow(() -> new EntityNotFoundException(SoftwareModule.class, softwareModuleId));
+        final JpaDistributionSet installed = targetRepository.findByControllerId(controllerId)
+                .map(JpaTarget::getInstalledDistributionSet)
+                .orElse(null);
+        if (installed == null) {
+            return Map.of();
+        }
+        final Optional<SoftwareModule> installedModule = installed.getModules().stream()
+                .filter(candidate -> candidate.getType().getId().equals(module.getType().getId()))
+                .filter(candidate -> !candidate.getId().equals(module.getId()))
+                .findFirst();
+        if (installedModule.isEmpty()) {
+            return Map.of();
+        }
+
+        final String tenant = tenantAware.getCurrentTenant();
+        final Map<String, String> pairs = pairArtifacts(installedModule.get(), module);
+        final Map<String, ArtifactDelta> found = findDeltas(tenant, pairs);
+        final Map<String, ArtifactDelta> result = new HashMap<>();
+        pairs.forEach((targetSha1, sourceSha1) -> {
+            final ArtifactDelta delta = found.get(targetSha1);
+            if (delta == null) {
+                schedule(new Generation(tenant, sourceSha1, targetSha1));
+            } else if (delta.getSha1Hash() != null) {
+                result.put(targetSha1, delta);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public Optional<DbArtifact> loadDeltaBinary(final String sourceSha1Hash, final String targetSha1Hash) {
+        final String tenant = tenantAware.getCurrentTenant();
+        return findDeltaSha1(tenant, sourceSha1Hash, targetSha1Hash)
+                .map(deltaSha1 -> artifactRepository.getArtifactBySha1(tenant, deltaSha1));
+    }
+
+    /**
+     * Deletes the deltas from or to an artifact binary, e.g. when the binary is deleted. The delta binaries are deleted
+     * too, if not referenced otherwise.
+     *
+     * @param sha1Hash the SHA1 hash of the artifact binary
+     */
+    public void deleteDeltas(final String sha1Hash) {
+        final String tenant = tenantAware.getCurrentTenant();
+        DeploymentHelper.runInNewTransaction(txManager, "deleteArtifactDeltas", status -> {
+            final Query query = entityManager.createNativeQuery(QUERY_DELTAS_OF_ARTIFACT);
+            query.setParameter("tenant", tenant);
+            query.setParameter("sha1", sha1Hash);
+            @SuppressWarnings("unchecked")
+            final List<String> deltaSha1s = ((List<Object>) query.getResultList()).stream()
+                    .filter(Objects::nonNull).map(String::valueOf).distinct().toList();
+
+            final Query deleteQuery = entityManager.createNativeQuery(DELETE_DELTAS_OF_ARTIFACT);
+            deleteQuery.setParameter("tenant", tenant);
+            deleteQuery.setParameter("sha1", sha1Hash);
+            deleteQuery.executeUpdate();
+
+            deltaSha1s.stream()
+                    .filter(deltaSha1 -> countBinaryReferences(tenant, deltaSha1) == 0)
+                    .forEach(deltaSha1 -> artifactRepository.deleteBySha1(tenant, deltaSha1));
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        generators.shutdownNow();
+    }
+
+    // target sha1 -> sha1 of the source artifact with the same file name, but different content, if not encrypted
+    private static Map<String, String> pairArtifacts(final SoftwareModule source, final SoftwareModule target) {
+        if (source.isEncrypted() || target.isEncrypted()) {
+            return Map.of();
+        }
+        final Map<String, Artifact> sourceArtifacts = source.getArtifacts().stream()
+                .collect(Collectors.toMap(artifact -> artifact.getFilename().toLowerCase(), Function.identity(), (a, b) -> a));
+        final Map<String, String> pairs = new HashMap<>();
+        for (final Artifact targetArtifact : target.getArtifacts()) {
+            final Artifact sourceArtifact = sourceArtifacts.get(targetArtifact.getFilename().toLowerCase());
+            if (sourceArtifact != null && !sourceArtifact.getSha1Hash().equals(targetArtifact.getSha1Hash())) {
+                pairs.put(targetArtifact.getSha1Hash(), sourceArtifact.getSha1Hash());
+            }
+        }
+        return pairs;
+    }
+
+    // target sha1 -> delta (with or without binary) from the paired source sha1
+    private Map<String, ArtifactDelta> findDeltas(final String tenant, final Map<String, String> pairs) {
+        if (pairs.isEmpty()) {
+            return Map.of();
+        }
+        final List<String> sha1s = List.copyOf(pairs.keySet());
+        final Query query = entityManager.createNativeQuery(String.format(QUERY_DELTAS, Jpa.formatNativeQueryInClause("target_sha1", sha1s)));
+        query.setParameter("tenant", tenant);
+        Jpa.setNativeQueryInParameter(query, "target_sha1", sha1s);
+        @SuppressWarnings("unchecked")
+        final List<Object[]> rows = query.getResultList();
+        final Map<String, ArtifactDelta> deltas = new HashMap<>();
+        for (final Object[] row : rows.stream().filter(row -> row[0].equals(pairs.get((String) row[1]))).toList()) {
+            deltas.put((String) row[1], new ArtifactDelta(
+                    (String) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                    row[5] == null ? 0 : ((Number) row[5]).longValue()));
+        }
+        return deltas;
+    }
+
+    private Optional<String> findDeltaSha1(final String tenant, final String sourceSha1, final String targetSha1) {
+        final Query query = entityManager.createNativeQuery(QUERY_DELTA);
+        query.setParameter("tenant", tenant);
+        query.setParameter("source_sha1", sourceSha1);
+        query.setParameter("target_sha1", targetSha1);
+        @SuppressWarnings("unchecked")
+        final List<Object> rows = query.getResultList();
+        return rows.stream().filter(Objects::nonNull).map(String::valueOf).findFirst();
+    }
+
+    private long countBinaryReferences(final String tenant, final String sha1) {
+        long count = 0;
+        for (final String countQuery : List.of(COUNT_DELTA_BINARY_REFERENCES, COUNT_ARTIFACT_BINARY_REFERENCES)) {
+            final Query query = entityManager.createNativeQuery(countQuery);
+            query.setParameter("tenant", tenant);
+            query.setParameter("sha1", sha1);
+            count += ((Number) query.getSingleResult()).longValue();
+        }
+        return count;
+    }
+
+    private void schedule(final Generation generation) {
+        if (!pending.add(generation)) {
+            return;
+        }
+        try {
+            generators.execute(() -> {
+                try {
+                    systemSecurityContext.runAsSystemAsTenant(() -> {
+                        generate(generation);
+                        return null;
+                    }, generation.tenant());
+                } catch (final RuntimeException e) {
+                    log.warn("Failed to generate the delta from {} to {}", generation.sourceSha1(), generation.targetSha1(), e);
+                } finally {
+                    pending.remove(generation);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            pending.remove(generation);
+            log.debug("Delta generation from {} to {} rejected", generation.sourceSha1(), generation.targetSha1(), e);
+        }
+    }
+
+    private void generate(final Generation generation) {
+        final String tenant = generation.tenant();
+        if (DeploymentHelper.runInNewTransaction(txManager, "findArtifactDelta", status ->
+                !findDeltas(tenant, Map.of(generation.targetSha1(), generation.sourceSha1())).isEmpty())) {
+            return;
+        }
+
+        final DbArtifact source = artifactRepository.getArtifactBySha1(tenant, generation.sourceSha1());
+        final DbArtifact target = artifactRepository.getArtifactBySha1(tenant, generation.targetSha1());
+        if (source == null || target == null) {
+            return;
+        }
+
+        AbstractDbArtifact delta = null;
+        if (source.getSize() <= maxArtifactSize && target.getSize() <= maxArtifactSize) {
+            final long start = System.currentTimeMillis();
+            final byte[] deltaBytes = encode(source, target, generation.targetSha1());
+            if (deltaBytes.length <= target.getSize() * maxRatio) {
+                delta = artifactRepository.store(tenant, new ByteArrayInputStream(deltaBytes), DELTA_FILE_NAME, DELTA_CONTENT_TYPE, null);
+            }
+            log.debug("Generated delta of {} bytes from {} to {} ({} bytes) in {} ms", deltaBytes.length,
+                    generation.sourceSha1(), generation.targetSha1(), target.getSize(), System.currentTimeMillis() - start);
+        }
+
+        final AbstractDbArtifact stored = delta;
+        try {
+            DeploymentHelper.runInNewTransaction(txManager, "createArtifactDelta", status -> {
+                final Query insert = entityManager.createNativeQuery(INSERT_DELTA);
+                insert.setParameter("tenant", tenant);
+                insert.setParameter("source_sha1", generation.sourceSha1());
+                insert.setParameter("target_sha1", generation.targetSha1());
+                insert.setParameter("sha1_hash", stored == null ? null : stored.getHashes().getSha1());
+                insert.setParameter("md5_hash", stored == null ? null : stored.getHashes().getMd5());
+                insert.setParameter("sha256_hash", stored == null ? null : stored.getHashes().getSha256());
+                insert.setParameter("file_size", stored == null ? null : stored.getSize());
+                insert.setParameter("created_at", System.currentTimeMillis());
+                return insert.executeUpdate();
+            });
+        } catch (final PersistenceException | DataAccessException e) {
+            // generated concurrently by another node - the (deterministic) delta binary is the same
+            log.debug("Delta from {} to {} already exists", generation.sourceSha1(), generation.targetSha1(), e);
+        }
+    }
+
+    // the delta is verified to rebuild the target before it is used
+    private byte[] encode(final DbArtifact source, final DbArtifact target, final String targetSha1) {
+        try {
+            final byte[] sourceBytes = readAll(source);
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+            BinaryDelta.encode(sourceBytes, readAll(target), encoded);
+            final byte[] delta = encoded.toByteArray();
+
+            final MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            try (final OutputStream rebuilt = new DigestOutputStream(OutputStream.nullOutputStream(), sha1)) {
+                BinaryDelta.apply(sourceBytes, new ByteArrayInputStream(delta), rebuilt);
+            }
+            if (!HexFormat.of().formatHex(sha1.digest()).equalsIgnoreCase(targetSha1)) {
+                throw new IllegalStateException("Delta doesn't rebuild " + targetSha1);
+            }
+            return delta;
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to read the artifacts", e);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] readAll(final DbArtifact artifact) throws IOException {
+        try (final InputStream stream = artifact.getFileInputStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private record Generation(String tenant, String sourceSha1, String targetSha1) {}
+}
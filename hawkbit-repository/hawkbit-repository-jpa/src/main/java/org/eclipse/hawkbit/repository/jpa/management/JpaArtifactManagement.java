@@ -17,6 +17,7 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityManager;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.repository.ArtifactBlockCache;
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.artifact.repository.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.repository.HashNotMatchException;
@@ -36,6 +37,7 @@ import org.eclipse.hawkbit.repository.exception.InvalidSHA1HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSHA256HashException;
 import org.eclipse.hawkbit.repository.jpa.EncryptionAwareDbArtifact;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
+import org.eclipse.hawkbit.repository.jpa.SeekableEncryptionAwareDbArtifact;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
@@ -76,6 +78,10 @@ public class JpaArtifactManagement implements ArtifactManagement {
     private final ArtifactRepository artifactRepository;
     private final TenantAware tenantAware;
     private final QuotaManagement quotaManagement;
+    @Nullable
+    private final ArtifactBlockCache artifactBlockCache;
+    @Nullable
+    private final JpaArtifactDeltaManagement artifactDeltaManagement;
 
     public JpaArtifactManagement(
             final EntityManager entityManager,
@@ -83,7 +89,8 @@ public class JpaArtifactManagement implements ArtifactManagement {
             final LocalArtifactRepository localArtifactRepository,
             final SoftwareModuleRepository softwareModuleRepository, @Nullable final ArtifactRepository artifactRepository,
             final QuotaManagement quotaManagement,
-            final TenantAware tenantAware) {
+            final TenantAware tenantAware, @Nullable final ArtifactBlockCache artifactBlockCache,
+            @Nullable final JpaArtifactDeltaManagement artifactDeltaManagement) {
         this.entityManager = entityManager;
         this.txManager = txManager;
         this.localArtifactRepository = localArtifactRepository;
@@ -91,6 +98,8 @@ public class JpaArtifactManagement implements ArtifactManagement {
         this.artifactRepository = artifactRepository;
         this.quotaManagement = quotaManagement;
         this.tenantAware = tenantAware;
+        this.artifactBlockCache = artifactBlockCache;
+        this.artifactDeltaManagement = artifactDeltaManagement;
     }
 
     @Override
@@ -209,7 +218,8 @@ public class JpaArtifactManagement implements ArtifactManagement {
 
             final DbArtifact dbArtifact = artifactRepository.getArtifactBySha1(tenant, sha1Hash);
             return Optional.ofNullable(
-                    isEncrypted ? wrapInEncryptionAwareDbArtifact(softwareModuleId, dbArtifact) : dbArtifact);
+                            isEncrypted ? wrapInEncryptionAwareDbArtifact(softwareModuleId, dbArtifact) : dbArtifact)
+                    .map(artifact -> artifactBlockCache == null ? artifact : artifactBlockCache.cached(tenant, artifact, isEncrypted));
         }
 
         return Optional.empty();
@@ -238,6 +248,12 @@ public class JpaArtifactManagement implements ArtifactManagement {
                     try {
                         log.debug("deleting artifact from repository {}", sha1Hash);
                         artifactRepository.deleteBySha1(tenantAware.getCurrentTenant(), sha1Hash);
+                        if (artifactBlockCache != null) {
+                            artifactBlockCache.invalidate(tenantAware.getCurrentTenant(), sha1Hash);
+                        }
+                        if (artifactDeltaManagement != null) {
+                            artifactDeltaManagement.deleteDeltas(sha1Hash);
+                        }
                     } catch (final ArtifactStoreException e) {
                         throw new ArtifactDeleteFailedException(e);
                     }
@@ -302,6 +318,9 @@ public class JpaArtifactManagement implements ArtifactManagement {
             return null;
         }
         final ArtifactEncryptionService encryptionService = ArtifactEncryptionService.getInstance();
+        if (encryptionService.isSeekableEncryption()) {
+            return new SeekableEncryptionAwareDbArtifact(dbArtifact, encryptionService, softwareModuleId);
+        }
         return new EncryptionAwareDbArtifact(dbArtifact,
                 stream -> encryptionService.decryptSoftwareModuleArtifact(softwareModuleId, stream),
                 encryptionService.encryptionSizeOverhead());
@@ -19,18 +19,25 @@ import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,7 +71,9 @@ import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidTargetAttributeException;
+import org.eclipse.hawkbit.repository.jpa.ActionStatusWriteBehindObserver;
 import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.TargetPollSnapshotCache;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaActionStatusCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
@@ -95,6 +104,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
 import org.eclipse.hawkbit.repository.model.TargetType;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
@@ -102,6 +112,7 @@ import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -111,10 +122,16 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
@@ -126,7 +143,20 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
 
+    // intermediate statuses which could be persisted write-behind
+    private static final Set<Status> WRITE_BEHIND_STATUSES = EnumSet.of(
+            Status.RUNNING, Status.DOWNLOAD, DOWNLOADED, Status.RETRIEVED, Status.WARNING);
+    // flushes of the queued statuses of an action before they are dropped
+    private static final int MAX_ACTION_STATUS_FLUSH_ATTEMPTS = 3;
+    // the statuses of an action could be locked until a transaction completes
+    private static final long ACTION_STATUS_LOCK_TIMEOUT_MS = 10_000;
+
     private final BlockingDeque<TargetPoll> queue;
+    // the queued action statuses by action id
+    private final Map<Long, QueuedActionStatuses> actionStatusQueue;
+    private final AtomicInteger actionStatusQueueSize = new AtomicInteger();
+    private final int actionStatusQueueCapacity;
+    private final ActionStatusWriteBehindObserver actionStatusWriteBehindObserver;
 
     // TODO - make it final
     private TargetRepository targetRepository;
@@ -144,6 +174,8 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     private final EventPublisherHolder eventPublisherHolder;
     private final SystemSecurityContext systemSecurityContext;
     private final TenantAware tenantAware;
+    private final AuditorAware<String> auditorAware;
+    private final TargetPollSnapshotCache pollSnapshotCache;
 
     @SuppressWarnings("squid:S00107")
     public JpaControllerManagement(
@@ -156,8 +188,9 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             final TenantConfigurationManagement tenantConfigurationManagement,
             final PlatformTransactionManager txManager, final EntityFactory entityFactory, final EntityManager entityManager,
             final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
-            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
-            final ScheduledExecutorService executorService) {
+            final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
+            final ScheduledExecutorService executorService, final TargetPollSnapshotCache pollSnapshotCache,
+            final ActionStatusWriteBehindObserver actionStatusWriteBehindObserver) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
 
         this.targetRepository = targetRepository;
@@ -175,6 +208,9 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         this.eventPublisherHolder = eventPublisherHolder;
         this.systemSecurityContext = systemSecurityContext;
         this.tenantAware = tenantAware;
+        this.auditorAware = auditorAware;
+        this.pollSnapshotCache = pollSnapshotCache;
+        this.actionStatusWriteBehindObserver = actionStatusWriteBehindObserver;
 
         if (!repositoryProperties.isEagerPollPersistence()) {
             executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
@@ -184,6 +220,24 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         } else {
             queue = null;
         }
+
+        if (repositoryProperties.isActionStatusWriteBehindEnabled()) {
+            executorService.scheduleWithFixedDelay(this::flushActionStatusQueue,
+                    repositoryProperties.getActionStatusWriteBehindFlushTime(),
+                    repositoryProperties.getActionStatusWriteBehindFlushTime(), TimeUnit.MILLISECONDS);
+            actionStatusQueue = new ConcurrentHashMap<>();
+        } else {
+            actionStatusQueue = null;
+        }
+        actionStatusQueueCapacity = repositoryProperties.getActionStatusWriteBehindQueueSize();
+    }
+
+    @Override
+    protected long countActionStatuses(final long actionId) {
+        // the queued ones count as well, otherwise the quota could be exceeded with the next flush
+        return actionStatusQueue == null
+                ? super.countActionStatuses(actionId)
+                : super.countActionStatuses(actionId) + countQueuedActionStatuses(actionId);
     }
 
     @Override
@@ -292,7 +346,22 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
             backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public Action addUpdateActionStatus(final ActionStatusCreate statusCreate) {
-        return addActionStatus((JpaActionStatusCreate) statusCreate);
+        final JpaActionStatusCreate create = (JpaActionStatusCreate) statusCreate;
+        if (actionStatusQueue != null) {
+            final JpaAction action = getActionAndThrowExceptionIfNotFound(create.getActionId());
+            final JpaActionStatus actionStatus = create.build();
+            if (isWriteBehind(actionStatus, action)) {
+                // information status entry - check for a potential DOS attack
+                assertActionStatusQuota(actionStatus, action);
+                assertActionStatusMessageQuota(actionStatus);
+                if (queueActionStatus(action.getId(), actionStatus)) {
+                    return action;
+                }
+            }
+            // keep the order - the queued statuses of the action are persisted before
+            persistQueuedActionStatuses(action.getId());
+        }
+        return addActionStatus(create);
     }
 
     @Override
@@ -344,6 +413,29 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     public Target findOrRegisterTargetIfItDoesNotExist(final String controllerId, final URI address, final String name, final String type) {
         return findOrRegisterTargetIfItDoesNotExist0(controllerId, address, name, type);
     }
+
+    @Override
+    // doesn't open a transaction (and doesn't take a connection) if the snapshot is cached
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Retryable(retryFor = ConcurrencyFailureException.class, noRetryFor = EntityAlreadyExistsException.class, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    public TargetPollSnapshot pollTarget(final String controllerId, final URI address) {
+        final Optional<TargetPollSnapshot> cached = pollSnapshotCache.get(tenantAware.getCurrentTenant(), controllerId)
+                .filter(snapshot -> !isAddressChanged(snapshot.getAddress(), address));
+        // the cached snapshot could be used only if the poll could be persisted lazily
+        if (cached.isPresent() && queue != null && queue.offer(new TargetPoll(cached.get().getTenant(), controllerId))) {
+            return cached.get();
+        }
+
+        return pollSnapshotCache.load(() -> DeploymentHelper.runInNewTransaction(txManager, "pollTarget", Isolation.READ_COMMITTED.value(),
+                status -> toPollSnapshot(findOrRegisterTargetIfItDoesNotExist0(controllerId, address, null, null))));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<TargetPollSnapshot> findCachedPollSnapshot(final String controllerId) {
+        return pollSnapshotCache.get(tenantAware.getCurrentTenant(), controllerId);
+    }
+
     private Target findOrRegisterTargetIfItDoesNotExist0(final String controllerId, final URI address, final String name, final String type) {
         final Specification<JpaTarget> spec = (targetRoot, query, cb) -> cb.equal(targetRoot.get(JpaTarget_.controllerId), controllerId);
         return targetRepository.findOne(spec)
@@ -635,6 +727,18 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         });
     }
 
+    private TargetPollSnapshot toPollSnapshot(final Target target) {
+        final Optional<Action> activeAction = findActiveActionWithHighestWeight(target.getControllerId());
+        return new TargetPollSnapshot(
+                target.getTenant(), target.getId(), target.getControllerId(), target.getAddress(),
+                TargetPollSnapshot.hashSecurityToken(systemSecurityContext.runAsSystem(target::getSecurityToken)),
+                target.isRequestControllerAttributes(),
+                activeAction.map(Action::getId).orElse(null),
+                activeAction.map(this::getWeightConsideringDefault).orElse(null),
+                getInstalledActionByTarget(target).filter(action -> !action.isActive()).map(Action::getId).orElse(null),
+                getPollingTime());
+    }
+
     private void throwExceptionIfTargetDoesNotExist(final String controllerId) {
         if (!targetRepository.exists(TargetSpecifications.hasControllerId(controllerId))) {
             throw new EntityNotFoundException(Target.class, controllerId);
@@ -716,6 +820,247 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         log.debug("{} events persisted.", drained);
     }
 
+    /**
+     * Flush the action status queue by means of persisting the queued intermediate {@link ActionStatus} entries
+     * in a transaction per tenant. If that fails, e.g. due to an optimistic lock conflict, they are persisted in a
+     * transaction per action, so a single action doesn't fail the others. The statuses of an action which fails
+     * repeatedly are dropped.
+     */
+    // for testing
+    void flushActionStatusQueue() {
+        if (actionStatusQueue.isEmpty()) {
+            return;
+        }
+
+        final Map<String, List<QueuedActionStatuses>> byTenant = new LinkedHashMap<>();
+        for (final QueuedActionStatuses queued : actionStatusQueue.values()) {
+            // skip the ones which are persisted by a terminal status right now
+            if (queued.lock.tryLock()) {
+                if (queued.closed) {
+                    queued.lock.unlock();
+                } else {
+                    byTenant.computeIfAbsent(queued.tenant, tenant -> new ArrayList<>()).add(queued);
+                }
+            }
+        }
+
+        byTenant.forEach((tenant, queuedActionStatuses) -> {
+            try {
+                log.debug("{} actions with queued action statuses of tenant {} in flushActionStatusQueue.",
+                        queuedActionStatuses.size(), tenant);
+                if (!persistInNewTransaction(tenant, queuedActionStatuses)) {
+                    queuedActionStatuses.forEach(queued -> {
+                        if (!persistInNewTransaction(tenant, List.of(queued))) {
+                            onFlushFailed(queued);
+                        }
+                    });
+                }
+            } finally {
+                queuedActionStatuses.forEach(queued -> queued.lock.unlock());
+            }
+        });
+    }
+
+    private boolean isWriteBehind(final JpaActionStatus actionStatus, final JpaAction action) {
+        return action.isActive() && WRITE_BEHIND_STATUSES.contains(actionStatus.getStatus())
+                // DOWNLOADED closes a download only action
+                && !(actionStatus.getStatus() == DOWNLOADED && isDownloadOnly(action));
+    }
+
+    private boolean queueActionStatus(final long actionId, final JpaActionStatus actionStatus) {
+        if (actionStatusQueueSize.incrementAndGet() > actionStatusQueueCapacity) {
+            actionStatusQueueSize.decrementAndGet();
+            return false;
+        }
+
+        final QueuedActionStatus queuedActionStatus = new QueuedActionStatus(
+                actionStatus, SecurityContextHolder.getContext().getAuthentication());
+        while (true) {
+            final QueuedActionStatuses queued = actionStatusQueue.computeIfAbsent(
+                    actionId, id -> new QueuedActionStatuses(tenantAware.getCurrentTenant(), id));
+            // waits if the queued statuses are persisted right now, so they are either added before or to new ones
+            lock(queued);
+            try {
+                if (!queued.closed) {
+                    queued.actionStatuses.add(queuedActionStatus);
+                    return true;
+                }
+                if (queued.lock.getHoldCount() > 1) {
+                    // persisted in the current, not yet committed, transaction - so persist this one immediately as well
+                    actionStatusQueueSize.decrementAndGet();
+                    return false;
+                }
+            } finally {
+                queued.lock.unlock();
+            }
+            // closed concurrently - so already removed from the queue
+        }
+    }
+
+    // persists the queued statuses of the action in the current transaction - if they are flushed right now waits
+    // until they are committed, so the order of the statuses is kept. The lock is held until the transaction completes,
+    // the statuses are removed from the queue only if it is committed, otherwise they stay queued
+    private void persistQueuedActionStatuses(final long actionId) {
+        QueuedActionStatuses queued;
+        while ((queued = actionStatusQueue.get(actionId)) != null) {
+            lock(queued);
+            if (queued.closed) {
+                queued.lock.unlock();
+                if (queued.lock.isHeldByCurrentThread()) {
+                    // already persisted in the current transaction
+                    return;
+                }
+                continue;
+            }
+
+            try {
+                persistQueuedActionStatuses(List.of(queued));
+            } catch (final RuntimeException e) {
+                queued.lock.unlock();
+                throw e;
+            }
+            queued.closed = true;
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new ActionStatusesPersisted(queued));
+            } else {
+                close(queued);
+                queued.lock.unlock();
+            }
+            return;
+        }
+    }
+
+    private boolean persistInNewTransaction(final String tenant, final List<QueuedActionStatuses> queued) {
+        try {
+            tenantAware.runAsTenant(tenant, () -> DeploymentHelper.runInNewTransaction(
+                    txManager, "flushActionStatusQueue", status -> persistQueuedActionStatuses(queued)));
+        } catch (final RuntimeException ex) {
+            log.debug("Failed to persist the queued action statuses of {} actions of tenant {}.", queued.size(), tenant, ex);
+            return false;
+        }
+        queued.forEach(this::close);
+        return true;
+    }
+
+    private void onFlushFailed(final QueuedActionStatuses queued) {
+        if (++queued.failedFlushes < MAX_ACTION_STATUS_FLUSH_ATTEMPTS) {
+            log.warn("Failed to persist {} queued action statuses of action {}, retry with the next flush.",
+                    queued.actionStatuses.size(), queued.actionId);
+        } else {
+            log.error("Dropped {} queued action statuses of action {} after {} failed flushes.",
+                    queued.actionStatuses.size(), queued.actionId, queued.failedFlushes);
+            actionStatusWriteBehindObserver.dropped(queued.tenant, queued.actionStatuses.size());
+            close(queued);
+        }
+    }
+
+    private long countQueuedActionStatuses(final long actionId) {
+        final QueuedActionStatuses queued = actionStatusQueue.get(actionId);
+        if (queued == null) {
+            return 0;
+        }
+        lock(queued);
+        try {
+            // the closed ones are persisted already
+            return queued.closed ? 0 : queued.actionStatuses.size();
+        } finally {
+            queued.lock.unlock();
+        }
+    }
+
+    // bounded, since the lock could be held until a transaction completes - a deadlock of two transactions waiting
+    // for each other is resolved by the retry of the concurrency failure
+    private static void lock(final QueuedActionStatuses queued) {
+        try {
+            if (queued.lock.tryLock(ACTION_STATUS_LOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new ConcurrencyFailureException("Failed to lock the queued action statuses of action " + queued.actionId);
+    }
+
+    // removes the queued statuses from the queue, they are not changed anymore
+    private void close(final QueuedActionStatuses queued) {
+        queued.closed = true;
+        actionStatusQueue.remove(queued.actionId, queued);
+        actionStatusQueueSize.addAndGet(-queued.actionStatuses.size());
+    }
+
+    /**
+     * Persists the queued action statuses (of a single tenant) with a single update per action. An action is
+     * persisted with the authentication of its last status reporter, so the auditing is the same as if persisted
+     * immediately. The actions are grouped by that auditor and each group is flushed once, so the inserts and updates
+     * are sent in JDBC batches.
+     */
+    private Void persistQueuedActionStatuses(final List<QueuedActionStatuses> queued) {
+        final Map<Long, JpaAction> actions = actionRepository.findAllById(
+                        queued.stream().map(queuedActionStatuses -> queuedActionStatuses.actionId).toList()).stream()
+                .collect(Collectors.toMap(JpaAction::getId, Function.identity()));
+        final Map<String, List<QueuedActionStatuses>> byAuditor = new LinkedHashMap<>();
+        for (final QueuedActionStatuses queuedActionStatuses : queued) {
+            if (actions.containsKey(queuedActionStatuses.actionId)) {
+                final String auditor = getAuditor(queuedActionStatuses.lastAuthentication());
+                byAuditor.computeIfAbsent(auditor, key -> new ArrayList<>()).add(queuedActionStatuses);
+            } else {
+                log.debug("Queued action statuses of action {} dropped since action not found", queuedActionStatuses.actionId);
+                actionStatusWriteBehindObserver.dropped(queuedActionStatuses.tenant, queuedActionStatuses.actionStatuses.size());
+            }
+        }
+
+        // the auditing of updates is done on flush - so flush once per auditor in its authentication context
+        byAuditor.values().forEach(sameAuditor -> runAsAuthentication(sameAuditor.get(0).lastAuthentication(), () -> {
+            sameAuditor.forEach(queuedActionStatuses -> persistQueuedActionStatuses(
+                    actions.get(queuedActionStatuses.actionId), queuedActionStatuses.actionStatuses));
+            entityManager.flush();
+        }));
+        log.debug("Queued action statuses of {} actions persisted.", queued.size());
+
+        return null;
+    }
+
+    private void persistQueuedActionStatuses(final JpaAction action, final List<QueuedActionStatus> actionStatuses) {
+        for (final QueuedActionStatus queuedActionStatus : actionStatuses) {
+            final JpaActionStatus actionStatus = newActionStatus(queuedActionStatus.actionStatus());
+            if (isUpdatingActionStatusAllowed(action, actionStatus)) {
+                actionStatus.setAction(action);
+                actionStatusRepository.save(actionStatus);
+                action.setLastActionStatusCode(actionStatus.getCode().orElse(null));
+            } else {
+                log.debug("Queued actionStatus {} for action {} dropped since action not active anymore.",
+                        actionStatus.getStatus(), action.getId());
+            }
+        }
+        actionRepository.save(action);
+    }
+
+    private String getAuditor(final Authentication authentication) {
+        final String[] auditor = new String[1];
+        runAsAuthentication(authentication, () -> auditor[0] = auditorAware.getCurrentAuditor().orElse(null));
+        return auditor[0];
+    }
+
+    // a new entity for each attempt - the one of a failed (rolled back) attempt could have got an id already
+    private static JpaActionStatus newActionStatus(final JpaActionStatus queued) {
+        final JpaActionStatus actionStatus = new JpaActionStatus(queued.getStatus(), queued.getOccurredAt());
+        queued.getMessages().forEach(actionStatus::addMessage);
+        queued.getCode().ifPresent(actionStatus::setCode);
+        return actionStatus;
+    }
+
+    private static void runAsAuthentication(final Authentication authentication, final Runnable runnable) {
+        final SecurityContext oldContext = SecurityContextHolder.getContext();
+        final SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        try {
+            runnable.run();
+        } finally {
+            SecurityContextHolder.setContext(oldContext);
+        }
+    }
+
     private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
         log.debug("Persist {} targetqueries.", polls.size());
 
@@ -1015,6 +1360,53 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         }
     }
 
+    private record QueuedActionStatus(JpaActionStatus actionStatus, Authentication authentication) {}
+
+    // the queued statuses of an action, in the order they are reported. Guarded by the lock - once persisted (or dropped)
+    // they are closed and, after the commit, removed from the queue, so no status is added afterward
+    private static final class QueuedActionStatuses {
+
+        private final String tenant;
+        private final long actionId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<QueuedActionStatus> actionStatuses = new ArrayList<>();
+        private boolean closed;
+        private int failedFlushes;
+
+        private QueuedActionStatuses(final String tenant, final long actionId) {
+            this.tenant = tenant;
+            this.actionId = actionId;
+        }
+
+        private Authentication lastAuthentication() {
+            return actionStatuses.get(actionStatuses.size() - 1).authentication();
+        }
+    }
+
+    // removes the statuses persisted in a caller transaction from the queue when it is committed and releases their lock,
+    // if rolled back they stay queued and are persisted with the next flush
+    private class ActionStatusesPersisted implements TransactionSynchronization {
+
+        private final QueuedActionStatuses queued;
+
+        private ActionStatusesPersisted(final QueuedActionStatuses queued) {
+            this.queued = queued;
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            try {
+                if (status == STATUS_COMMITTED) {
+                    close(queued);
+                } else {
+                    queued.closed = false;
+                }
+            } finally {
+                queued.lock.unlock();
+            }
+        }
+    }
+
     @Data
     private static class TargetPoll {
 
@@ -1022,8 +1414,12 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         private final String controllerId;
 
         TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
+            this(target.getTenant(), target.getControllerId());
+        }
+
+        TargetPoll(final String tenant, final String controllerId) {
+            this.tenant = tenant;
+            this.controllerId = controllerId;
         }
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,8 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,6 +41,7 @@ import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.ActionFields;
+import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
@@ -60,12 +64,14 @@ import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecuto
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
+import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounter;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
@@ -160,6 +166,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     private final TenantAware tenantAware;
     private final AuditorAware<String> auditorAware;
     private final Database database;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
     private final RetryTemplate retryTemplate;
 
     @SuppressWarnings("java:S107")
@@ -171,7 +178,8 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
-            final Database database, final RepositoryProperties repositoryProperties) {
+            final Database database, final RepositoryProperties repositoryProperties,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
         this.entityManager = entityManager;
         this.distributionSetManagement = distributionSetManagement;
@@ -190,6 +198,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         this.tenantAware = tenantAware;
         this.auditorAware = auditorAware;
         this.database = database;
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
         this.retryTemplate = createRetryTemplate();
     }
 
@@ -318,6 +327,30 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return JpaManagementHelper.findAllWithoutCountBySpec(actionRepository, pageable, specList);
     }
 
+    @Override
+    public void forEachAction(final String rsqlParam, final Consumer<Action> consumer) {
+        final List<Specification<JpaAction>> specList = new ArrayList<>();
+        specList.add(ActionSpecifications.fetchTarget());
+        if (rsqlParam != null) {
+            specList.add(RSQLUtility.buildRsqlSpecification(rsqlParam, ActionFields.class, virtualPropertyReplacer, database));
+        }
+        JpaManagementHelper.forEachBySpec(actionRepository, entityManager, specList, consumer);
+    }
+
+    @Override
+    public void forEachActionStatus(final String rsqlParam, final Consumer<ActionStatus> consumer) {
+        JpaManagementHelper.forEachBySpec(actionStatusRepository, entityManager, forEachActionStatusSpecList(rsqlParam), consumer);
+    }
+
+    @Override
+    public void forEachActionStatusWithMessages(final String rsqlParam, final BiConsumer<ActionStatus, List<String>> consumer) {
+        JpaManagementHelper.forEachSliceBySpec(actionStatusRepository, entityManager, forEachActionStatusSpecList(rsqlParam), slice -> {
+            final Map<Long, List<String>> messages = findMessagesByActionStatus(slice);
+            slice.forEach(actionStatus -> consumer.accept(
+                    actionStatus, messages.getOrDefault(actionStatus.getId(), Collections.emptyList())));
+        });
+    }
+
     @Override
     public Page<Action> findActionsByTarget(final String rsqlParam, final String controllerId,
             final Pageable pageable) {
@@ -370,6 +403,35 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return new PageImpl<>(result, pageable, result.size());
     }
 
+    private List<Specification<JpaActionStatus>> forEachActionStatusSpecList(final String rsqlParam) {
+        final List<Specification<JpaActionStatus>> specList = new ArrayList<>();
+        specList.add((root, query, cb) -> {
+            root.fetch(JpaActionStatus_.action);
+            return null;
+        });
+        if (rsqlParam != null) {
+            specList.add(RSQLUtility.buildRsqlSpecification(rsqlParam, ActionStatusFields.class, virtualPropertyReplacer, database));
+        }
+        return specList;
+    }
+
+    // loads the messages of all action status entries of the slice with one query (instead of one per entry), mapped by id
+    private Map<Long, List<String>> findMessagesByActionStatus(final List<JpaActionStatus> actionStatus) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        final CriteriaQuery<Object[]> msgQuery = cb.createQuery(Object[].class);
+        final Root<JpaActionStatus> as = msgQuery.from(JpaActionStatus.class);
+        final ListJoin<JpaActionStatus, String> join = as.joinList("messages");
+        msgQuery.multiselect(as.get(AbstractJpaBaseEntity_.id), join);
+        msgQuery.where(as.get(AbstractJpaBaseEntity_.id).in(actionStatus.stream().map(JpaActionStatus::getId).toList()));
+
+        final Map<Long, List<String>> result = new HashMap<>();
+        entityManager.createQuery(msgQuery).getResultList().forEach(entry -> result
+                .computeIfAbsent((Long) entry[0], id -> new ArrayList<>())
+                .add((String) entry[1]));
+        return result;
+    }
+
     @Override
     public Optional<Action> findActionWithDetails(final long actionId) {
         return actionRepository.findWithDetailsById(actionId)
@@ -457,6 +519,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                     throw new EntityNotFoundException(Target.class, targetIds);
                 }
             });
+            rolloutGroupStatusCounter.countStatusSwitch(Status.CANCELED, targetIds, false, Status.SCHEDULED);
             actionRepository.switchStatus(Status.CANCELED, targetIds, false, Status.SCHEDULED);
         } else {
             log.debug("The Multi Assignments feature is enabled: No need to cancel inactive scheduled actions.");
@@ -530,12 +593,15 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         // However, for this specific use case (action cleanup), we must specify a row limit to reduce the overall load of
         // the database.
         final List<Integer> statusList = status.stream().map(Status::ordinal).toList();
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase();
+        // the counters of the groups of the deleted actions aren't maintained anymore
+        rolloutGroupStatusCounter.dropCountersOfActions(tenant, statusList, lastModified);
 
         final Query deleteQuery = entityManager.createNativeQuery(String.format(
                 getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(database),
                 Jpa.formatNativeQueryInClause("status", statusList)));
 
-        deleteQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
+        deleteQuery.setParameter("tenant", tenant);
         Jpa.setNativeQueryInParameter(deleteQuery, "status", statusList);
         deleteQuery.setParameter("last_modified_at", lastModified);
 
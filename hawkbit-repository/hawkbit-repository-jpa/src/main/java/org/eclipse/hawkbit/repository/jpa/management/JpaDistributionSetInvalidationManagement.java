@@ -9,7 +9,9 @@
  */
 package org.eclipse.hawkbit.repository.jpa.management;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
@@ -76,16 +78,12 @@ public class JpaDistributionSetInvalidationManagement implements DistributionSet
         final String tenant = tenantAware.getCurrentTenant();
         if (shouldRolloutsBeCanceled(distributionSetInvalidation.getCancelationType(),
                 distributionSetInvalidation.isCancelRollouts())) {
-            final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenant);
-            final Lock lock = lockRegistry.obtain(handlerId);
             try {
-                if (!lock.tryLock(repositoryProperties.getDsInvalidationLockTimeout(), TimeUnit.SECONDS)) {
-                    throw new StopRolloutException("Timeout while trying to invalidate distribution sets");
-                }
+                final List<Lock> locks = lockRollouts(tenant);
                 try {
                     invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant);
                 } finally {
-                    lock.unlock();
+                    locks.forEach(Lock::unlock);
                 }
             } catch (final InterruptedException e) {
                 log.error("InterruptedException while invalidating distribution sets {}!",
@@ -113,6 +111,34 @@ public class JpaDistributionSetInvalidationManagement implements DistributionSet
         });
     }
 
+    // locks the rollout handling - of the tenant, or of each active rollout if the rollouts are locked per rollout
+    private List<Lock> lockRollouts(final String tenant) throws InterruptedException {
+        final List<String> lockKeys = repositoryProperties.isRolloutLockPerRollout()
+                ? systemSecurityContext.runAsSystem(rolloutManagement::findActiveRollouts).stream()
+                        .sorted()
+                        .map(rolloutId -> JpaRolloutManagement.createRolloutLockKey(tenant, rolloutId))
+                        .toList()
+                : List.of(JpaRolloutManagement.createRolloutLockKey(tenant));
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(repositoryProperties.getDsInvalidationLockTimeout());
+        final List<Lock> locks = new ArrayList<>(lockKeys.size());
+        for (final String lockKey : lockKeys) {
+            final Lock lock = lockRegistry.obtain(lockKey);
+            final boolean locked;
+            try {
+                locked = lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException e) {
+                locks.forEach(Lock::unlock);
+                throw e;
+            }
+            if (!locked) {
+                locks.forEach(Lock::unlock);
+                throw new StopRolloutException("Timeout while trying to invalidate distribution sets");
+            }
+            locks.add(lock);
+        }
+        return locks;
+    }
+
     private static boolean shouldRolloutsBeCanceled(final CancelationType cancelationType,
             final boolean cancelRollouts) {
         return cancelationType != CancelationType.NONE || cancelRollouts;
@@ -57,9 +57,9 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout_;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounter;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.RolloutSpecification;
@@ -114,7 +114,7 @@ public class JpaRolloutManagement implements RolloutManagement {
     private final RolloutApprovalStrategy rolloutApprovalStrategy;
     private final StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction;
     private final RolloutStatusCache rolloutStatusCache;
-    private final ActionRepository actionRepository;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
     private final TargetManagement targetManagement;
     private final DistributionSetManagement distributionSetManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
@@ -134,7 +134,7 @@ public class JpaRolloutManagement implements RolloutManagement {
             final RolloutApprovalStrategy rolloutApprovalStrategy,
             final StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction,
             final RolloutStatusCache rolloutStatusCache,
-            final ActionRepository actionRepository,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter,
             final TargetManagement targetManagement,
             final DistributionSetManagement distributionSetManagement,
             final TenantConfigurationManagement tenantConfigurationManagement,
@@ -148,7 +148,7 @@ public class JpaRolloutManagement implements RolloutManagement {
         this.rolloutApprovalStrategy = rolloutApprovalStrategy;
         this.startNextRolloutGroupAction = startNextRolloutGroupAction;
         this.rolloutStatusCache = rolloutStatusCache;
-        this.actionRepository = actionRepository;
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
         this.targetManagement = targetManagement;
         this.distributionSetManagement = distributionSetManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
@@ -166,6 +166,10 @@ public class JpaRolloutManagement implements RolloutManagement {
         return tenant + "-rollout";
     }
 
+    public static String createRolloutLockKey(final String tenant, final long rolloutId) {
+        return createRolloutLockKey(tenant) + "-" + rolloutId;
+    }
+
     public void publishRolloutGroupCreatedEventAfterCommit(final RolloutGroup group, final Rollout rollout) {
         afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(
                 new RolloutGroupCreatedEvent(group, rollout.getId(), eventPublisherHolder.getApplicationId())));
@@ -314,7 +318,7 @@ public class JpaRolloutManagement implements RolloutManagement {
         List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCache.getRolloutStatus(rolloutId);
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutId(rolloutId);
+            rolloutStatusCountItems = rolloutGroupStatusCounter.getStatusCountByRolloutId(rolloutId);
             rolloutStatusCache.putRolloutStatus(rolloutId, rolloutStatusCountItems);
         }
 
@@ -729,7 +733,7 @@ public class JpaRolloutManagement implements RolloutManagement {
 
         final List<Long> rolloutIds = rollouts.stream().filter(id -> !fromCache.containsKey(id)).toList();
         if (!rolloutIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository.getStatusCountByRolloutIds(rolloutIds);
+            final List<TotalTargetCountActionStatus> resultList = rolloutGroupStatusCounter.getStatusCountByRolloutIds(rolloutIds);
             final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
                     .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
 
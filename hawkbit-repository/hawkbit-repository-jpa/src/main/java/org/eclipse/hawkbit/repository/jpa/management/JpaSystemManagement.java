@@ -22,6 +22,7 @@ import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TenantStatsManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.CurrentTenantCacheKeyGenerator;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.SystemManagementCacheKeyGenerator;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetType;
@@ -176,6 +177,9 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
             distributionSetTypeRepository.deleteByTenant(tenant);
             softwareModuleRepository.deleteByTenant(tenant);
             artifactRepository.deleteByTenant(tenant);
+            entityManager.createNativeQuery("DELETE FROM sp_artifact_delta WHERE tenant = " + Jpa.nativeQueryParamPrefix() + "tenant")
+                    .setParameter("tenant", tenant)
+                    .executeUpdate();
             softwareModuleTypeRepository.deleteByTenant(tenant);
             return null;
         }));
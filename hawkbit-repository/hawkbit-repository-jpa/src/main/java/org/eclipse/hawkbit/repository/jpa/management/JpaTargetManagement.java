@@ -15,12 +15,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -449,6 +451,21 @@ public class JpaTargetManagement implements TargetManagement {
                 .buildRsqlSpecification(targetFilterQuery, TargetFields.class, virtualPropertyReplacer, database)));
     }
 
+    @Override
+    public void forEachByRsql(final String rsqlParam, final Consumer<Target> consumer) {
+        JpaManagementHelper.forEachBySpec(targetRepository, entityManager, forEachSpecList(rsqlParam), consumer);
+    }
+
+    @Override
+    public void forEachWithControllerAttributesByRsql(
+            final String rsqlParam, final BiConsumer<Target, Map<String, String>> consumer) {
+        JpaManagementHelper.forEachSliceBySpec(targetRepository, entityManager, forEachSpecList(rsqlParam), slice -> {
+            final Map<Long, Map<String, String>> controllerAttributes = getControllerAttributes(slice);
+            slice.forEach(target -> consumer.accept(
+                    target, controllerAttributes.getOrDefault(target.getId(), Collections.emptyMap())));
+        });
+    }
+
     @Override
     public Slice<Target> findByTargetFilterQuery(final Pageable pageable, final long targetFilterQueryId) {
         final TargetFilterQuery targetFilterQuery = targetFilterQueryRepository.findById(targetFilterQueryId)
@@ -655,6 +672,30 @@ public class JpaTargetManagement implements TargetManagement {
                 (v1, v2) -> v1, LinkedHashMap::new));
     }
 
+    private List<Specification<JpaTarget>> forEachSpecList(final String rsqlParam) {
+        return rsqlParam == null ? Collections.emptyList() : List.of(
+                RSQLUtility.buildRsqlSpecification(rsqlParam, TargetFields.class, virtualPropertyReplacer, database));
+    }
+
+    // loads the attributes of all targets of the slice with one query (instead of one per target), mapped by target id
+    private Map<Long, Map<String, String>> getControllerAttributes(final List<JpaTarget> targets) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+
+        final Root<JpaTarget> targetRoot = query.from(JpaTarget.class);
+        query.where(targetRoot.get(AbstractJpaBaseEntity_.id).in(targets.stream().map(JpaTarget::getId).toList()));
+
+        final MapJoin<JpaTarget, String, String> attributes = targetRoot.join(JpaTarget_.controllerAttributes);
+        query.multiselect(targetRoot.get(AbstractJpaBaseEntity_.id), attributes.key(), attributes.value());
+        query.orderBy(cb.asc(attributes.key()));
+
+        final Map<Long, Map<String, String>> result = new HashMap<>();
+        entityManager.createQuery(query).getResultList().forEach(entry -> result
+                .computeIfAbsent((Long) entry[0], id -> new LinkedHashMap<>())
+                .put((String) entry[1], (String) entry[2]));
+        return result;
+    }
+
     @Override
     @Transactional
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
@@ -291,6 +291,21 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
     @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rolloutGroup.id IN ?1 GROUP BY a.rolloutGroup.id, a.status")
     List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupIds(List<Long> rolloutGroupId);
 
+    /**
+     * Get list of objects which has details of the rollout groups and the count of their actions that would be switched
+     * by {@link #switchStatus(Action.Status, List, boolean, Action.Status)} with the same arguments.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds the IDs of the targets of the actions which are affected
+     * @param active the active flag of the actions which should be affected
+     * @param currentStatus the current status of the actions which are affected
+     * @return list of objects with rollout group id, current status and action count
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status, COUNT(a.id)) FROM JpaAction a WHERE a.target.id IN :targetsIds AND a.active = :active AND a.status = :currentStatus AND a.distributionSet.requiredMigrationStep = false AND a.rolloutGroup IS NOT NULL GROUP BY a.rolloutGroup.id, a.status")
+    List<TotalTargetCountActionStatus> getRolloutGroupStatusCountToSwitch(
+            @Param("targetsIds") List<Long> targetIds, @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
+
     /**
      * Updates the externalRef of an action by its actionId.
      *
@@ -20,7 +20,9 @@ import jakarta.persistence.TypedQuery;
 import jakarta.transaction.Transactional;
 
 import org.eclipse.hawkbit.repository.BaseRepositoryTypeProvider;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.specifications.KeysetSpecifications;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -67,7 +69,12 @@ public class HawkbitBaseRepository<T, ID extends Serializable> extends SimpleJpa
 
     @Override
     public Slice<T> findAllWithoutCount(@Nullable final Specification<T> spec, final Pageable pageable) {
-        final TypedQuery<T> query = getQuery(spec, pageable);
+        // keyset page requests seek after the last entity of the previous slice, their offset is always 0
+        final TypedQuery<T> query = getQuery(
+                pageable instanceof KeysetPageRequest keyset && !keyset.isFirstSlice()
+                        ? Specification.where(spec).and(KeysetSpecifications.after(keyset))
+                        : spec,
+                pageable);
         return pageable.isUnpaged() ? new PageImpl<>(query.getResultList()) : readPageWithoutCount(query, pageable);
     }
 
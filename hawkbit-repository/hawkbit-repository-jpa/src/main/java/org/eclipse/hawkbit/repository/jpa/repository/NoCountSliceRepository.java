@@ -16,7 +16,8 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
 
 /**
- * Repository interface that offers findAll with disabled count query.
+ * Repository interface that offers findAll with disabled count query. The find methods support
+ * {@link org.eclipse.hawkbit.repository.KeysetPageRequest}s, seeking after the last entity of the previous slice.
  *
  * @param <T> entity type
  */
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Reports the rollout handling latency, per tenant and result, as {@value #METER_NAME} timer to the Micrometer
+ * {@link MeterRegistry} - if such is available. Not tagged by rollout, since that would register a new timer for each
+ * rollout ever handled.
+ */
+public class MicrometerRolloutHandlingObserver implements RolloutHandlingObserver {
+
+    public static final String METER_NAME = "hawkbit.rollout.handling";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MicrometerRolloutHandlingObserver(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void handled(final String tenant, final long rolloutId, final boolean successful, final long durationNanos) {
+        final String result = successful ? "success" : "failure";
+        meterRegistry.ifAvailable(registry -> timers.computeIfAbsent(tenant + ":" + result, key -> Timer.builder(METER_NAME)
+                        .description("Time to handle a rollout")
+                        .tag("tenant", String.valueOf(tenant))
+                        .tag("result", result)
+                        .register(registry))
+                .record(durationNanos, TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Node local tracker of the rollout groups which actions have been changed since their last evaluation. It is used
+ * by the rollout executor, in the event-driven mode, to evaluate only the running groups which actions have been
+ * created or updated. All the running groups of a rollout are evaluated at least once per full evaluation interval,
+ * as safety net for changes without (or with lost) action events, e.g. bulk updates. Changes done without action
+ * events, e.g. by the set based rollout assignment, shall be marked explicitly via {@link #markChanged(long, long)}.
+ * <p/>
+ * The rollout ids are unique over all tenants, so they are not keyed by tenant.
+ */
+public class RolloutGroupChangeTracker {
+
+    private final boolean enabled;
+    // rollout id -> ids of the changed groups
+    private final Cache<Long, Set<Long>> changedGroups;
+    // rollout id -> marker of a recent full evaluation, expires when the next full evaluation is due
+    private final Cache<Long, Boolean> fullyEvaluated;
+
+    public RolloutGroupChangeTracker(final RepositoryProperties repositoryProperties) {
+        enabled = repositoryProperties.isRolloutEventDrivenEvaluation();
+        final Duration fullEvaluationInterval = Duration.ofMillis(repositoryProperties.getRolloutFullEvaluationInterval());
+        // changes older than the interval are covered by the full evaluation anyway
+        changedGroups = Caffeine.newBuilder().expireAfterWrite(fullEvaluationInterval).build();
+        fullyEvaluated = Caffeine.newBuilder().expireAfterWrite(fullEvaluationInterval).build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the ids of the changed groups of the rollout and resets them, i.e. they are expected to be evaluated
+     * by the caller. If called in a transaction the reset takes effect on commit only - if the transaction is rolled
+     * back, the drained groups (and the due full evaluation) are restored, so they are evaluated again.
+     *
+     * @param rolloutId the id of the rollout
+     * @return the ids of the changed groups, or empty if all the groups shall be evaluated - the tracker is disabled
+     *         or a full evaluation of the rollout is due
+     */
+    public Optional<Set<Long>> drainChangedGroups(final long rolloutId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        final Set<Long> changed = changedGroups.asMap().remove(rolloutId);
+        final boolean fullEvaluationDue = fullyEvaluated.asMap().putIfAbsent(rolloutId, Boolean.TRUE) == null;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status != STATUS_COMMITTED) {
+                        restore(rolloutId, changed, fullEvaluationDue);
+                    }
+                }
+            });
+        }
+        if (fullEvaluationDue) {
+            return Optional.empty();
+        }
+        return Optional.of(changed == null ? Set.of() : changed);
+    }
+
+    /**
+     * Marks a group of the rollout as changed, e.g. when its actions are changed without action events.
+     *
+     * @param rolloutId the id of the rollout
+     * @param rolloutGroupId the id of the changed group
+     */
+    public void markChanged(final long rolloutId, final long rolloutGroupId) {
+        if (enabled) {
+            // add in compute, so it doesn't get lost if drained concurrently
+            changedGroups.asMap().compute(rolloutId, (id, groupIds) -> {
+                final Set<Long> changed = groupIds == null ? ConcurrentHashMap.newKeySet() : groupIds;
+                changed.add(rolloutGroupId);
+                return changed;
+            });
+        }
+    }
+
+    /**
+     * Resets the state of a rollout, e.g. when it is finished or deleted.
+     *
+     * @param rolloutId the id of the rollout
+     */
+    public void reset(final long rolloutId) {
+        changedGroups.invalidate(rolloutId);
+        fullyEvaluated.invalidate(rolloutId);
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void onActionChanged(final AbstractActionEvent event) {
+        if (event.getRolloutId() != null && event.getRolloutGroupId() != null) {
+            markChanged(event.getRolloutId(), event.getRolloutGroupId());
+        }
+    }
+
+    private void restore(final long rolloutId, final Set<Long> drained, final boolean fullEvaluationDue) {
+        if (fullEvaluationDue) {
+            fullyEvaluated.invalidate(rolloutId);
+        }
+        if (drained != null) {
+            drained.forEach(rolloutGroupId -> markChanged(rolloutId, rolloutGroupId));
+        }
+    }
+}
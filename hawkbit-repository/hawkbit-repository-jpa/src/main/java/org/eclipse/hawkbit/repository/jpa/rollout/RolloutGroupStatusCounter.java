@@ -0,0 +1,342 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.EntityInterceptor;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Maintains persistent action status counters per rollout group (table <code>sp_rollout_group_status_count</code>),
+ * so the detailed rollout (group) status is read in O(groups) instead of being aggregated over the actions.
+ * <p/>
+ * The counters of a group are created together with the group, and updated incrementally with the action status
+ * transitions - tracked (as {@link EntityInterceptor}) on the action persist, update and remove and (explicitly) on
+ * the bulk updates. The changes are collected per transaction and applied just before its commit. Groups created while
+ * the counters are disabled, or which counters have been dropped, are not counted - their status is still aggregated
+ * over the actions.
+ * <p/>
+ * A counter is striped over {@link #COUNTER_STRIPES} rows, each transaction adds its changes to a randomly chosen
+ * stripe (in group and status order, so concurrent transactions don't deadlock), so the concurrent status feedback
+ * of a group doesn't serialize on a single row. The stripes are summed up on read.
+ */
+@Slf4j
+public class RolloutGroupStatusCounter implements EntityInterceptor {
+
+    private static final JpaAction.StatusConverter STATUS_CONVERTER = new JpaAction.StatusConverter();
+
+    private static final int COUNTER_STRIPES = 8;
+
+    private static final String INSERT_COUNTERS =
+            "INSERT INTO sp_rollout_group_status_count (rollout_group, rollout, status, stripe, action_count) VALUES " +
+                    Arrays.stream(Status.values())
+                            .flatMap(status -> IntStream.range(0, COUNTER_STRIPES).mapToObj(stripe ->
+                                    "(" + Jpa.nativeQueryParamPrefix() + "rollout_group, " + Jpa.nativeQueryParamPrefix() + "rollout, " +
+                                            STATUS_CONVERTER.convertToDatabaseColumn(status) + ", " + stripe + ", 0)"))
+                            .collect(Collectors.joining(", "));
+    private static final String UPDATE_COUNTER =
+            "UPDATE sp_rollout_group_status_count SET action_count = action_count + " + Jpa.nativeQueryParamPrefix() + "delta" +
+                    " WHERE rollout_group = " + Jpa.nativeQueryParamPrefix() + "rollout_group" +
+                    " AND status = " + Jpa.nativeQueryParamPrefix() + "status" +
+                    " AND stripe = " + Jpa.nativeQueryParamPrefix() + "stripe";
+    private static final String QUERY_GROUP_COUNTERS =
+            "SELECT c.rollout_group, c.status, SUM(c.action_count) FROM sp_rollout_group_status_count c WHERE c.rollout_group IN (%s)" +
+                    " GROUP BY c.rollout_group, c.status";
+    // only rollouts which groups are all counted
+    private static final String QUERY_ROLLOUT_COUNTERS =
+            "SELECT c.rollout, c.status, SUM(c.action_count) FROM sp_rollout_group_status_count c WHERE c.rollout IN (%s)" +
+                    " AND NOT EXISTS (SELECT 1 FROM sp_rolloutgroup g WHERE g.rollout = c.rollout" +
+                    " AND NOT EXISTS (SELECT 1 FROM sp_rollout_group_status_count gc WHERE gc.rollout_group = g.id))" +
+                    " GROUP BY c.rollout, c.status";
+    private static final String DELETE_COUNTERS_OF_ACTIONS =
+            "DELETE FROM sp_rollout_group_status_count WHERE rollout_group IN (" +
+                    "SELECT a.rolloutgroup FROM sp_action a" +
+                    " WHERE a.tenant = " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                    " AND a.status IN (%s)" +
+                    " AND a.last_modified_at < " + Jpa.nativeQueryParamPrefix() + "last_modified_at)";
+
+    private final boolean enabled;
+    private final EntityManager entityManager;
+    private final ActionRepository actionRepository;
+
+    public RolloutGroupStatusCounter(
+            final RepositoryProperties repositoryProperties, final EntityManager entityManager, final ActionRepository actionRepository) {
+        this.enabled = repositoryProperties.isRolloutGroupStatusCounters();
+        this.entityManager = entityManager;
+        this.actionRepository = actionRepository;
+    }
+
+    @Override
+    public void postLoad(final Object entity) {
+        if (isTracking() && entity instanceof JpaAction action) {
+            action.setPersistedStatus(action.getStatus());
+            // the updates and removals of the loaded action could be flushed with the commit, i.e. after the
+            // synchronization registration, so it is registered in advance - if it could be changed at all
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                changes();
+            }
+        }
+    }
+
+    @Override
+    public void postPersist(final Object entity) {
+        if (!isTracking()) {
+            return;
+        }
+
+        if (entity instanceof JpaAction action) {
+            count(action, action.getStatus(), 1);
+            action.setPersistedStatus(action.getStatus());
+        } else if (entity instanceof JpaRolloutGroup group) {
+            changes().createdGroups.put(group.getId(), group.getRollout().getId());
+        }
+    }
+
+    @Override
+    public void postUpdate(final Object entity) {
+        if (isTracking() && entity instanceof JpaAction action && action.getPersistedStatus() != action.getStatus()) {
+            if (action.getPersistedStatus() != null) {
+                count(action, action.getPersistedStatus(), -1);
+            }
+            count(action, action.getStatus(), 1);
+            action.setPersistedStatus(action.getStatus());
+        }
+    }
+
+    @Override
+    public void postRemove(final Object entity) {
+        if (isTracking() && entity instanceof JpaAction action) {
+            count(action, action.getPersistedStatus() == null ? action.getStatus() : action.getPersistedStatus(), -1);
+        }
+    }
+
+    /**
+     * Counts actions of a group that are created, changed or deleted by bulk statements, i.e. not tracked on the
+     * entities.
+     *
+     * @param rolloutGroupId the id of the group of the actions
+     * @param status the status of the actions
+     * @param delta number of added (positive) or removed (negative) actions with the status
+     */
+    public void count(final long rolloutGroupId, final Status status, final long delta) {
+        if (enabled && delta != 0) {
+            changes().deltas.merge(new Counter(rolloutGroupId, status), delta, Long::sum);
+        }
+    }
+
+    /**
+     * Counts the status switch of the actions, that is going to be done by
+     * {@link ActionRepository#switchStatus(Status, List, boolean, Status)} with the same arguments.
+     */
+    public void countStatusSwitch(final Status statusToSet, final List<Long> targetIds, final boolean active,
+            final Status currentStatus) {
+        if (!enabled || targetIds.isEmpty()) {
+            return;
+        }
+
+        actionRepository.getRolloutGroupStatusCountToSwitch(targetIds, active, currentStatus).forEach(groupCount -> {
+            count(groupCount.getId(), currentStatus, -groupCount.getCount());
+            count(groupCount.getId(), statusToSet, groupCount.getCount());
+        });
+    }
+
+    /**
+     * Drops the counters of the groups that have actions with the given status, last modified before the given time -
+     * e.g. before they are deleted by a bulk statement. The status of those groups is aggregated over the actions
+     * afterward.
+     *
+     * @param tenant the tenant of the actions
+     * @param statusList the (database) values of the status of the actions
+     * @param lastModified the time the actions shall be last modified before
+     */
+    public void dropCountersOfActions(final String tenant, final List<Integer> statusList, final long lastModified) {
+        if (!enabled) {
+            return;
+        }
+
+        final Query deleteQuery = entityManager.createNativeQuery(String.format(
+                DELETE_COUNTERS_OF_ACTIONS, Jpa.formatNativeQueryInClause("status", statusList)));
+        deleteQuery.setParameter("tenant", tenant);
+        Jpa.setNativeQueryInParameter(deleteQuery, "status", statusList);
+        deleteQuery.setParameter("last_modified_at", lastModified);
+        final int dropped = deleteQuery.executeUpdate();
+        log.debug("Dropped {} rollout group status counters", dropped);
+    }
+
+    /**
+     * Returns the action status counts of the rollout - see {@link #getStatusCountByRolloutIds(List)}.
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutId(final long rolloutId) {
+        return getStatusCountByRolloutIds(List.of(rolloutId));
+    }
+
+    /**
+     * Returns the action status counts of the rollout group - see {@link #getStatusCountByRolloutGroupIds(List)}.
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(final long rolloutGroupId) {
+        return getStatusCountByRolloutGroupIds(List.of(rolloutGroupId));
+    }
+
+    /**
+     * Returns the action status counts of the rollouts - from the counters if all groups of the rollout are counted,
+     * otherwise aggregated over the actions.
+     *
+     * @param rolloutIds the ids of the rollouts
+     * @return the status counts of the rollouts (with the rollout id as id)
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutIds(final List<Long> rolloutIds) {
+        if (!enabled) {
+            return actionRepository.getStatusCountByRolloutIds(rolloutIds);
+        }
+
+        final Map<Long, List<TotalTargetCountActionStatus>> counted = readCounters(QUERY_ROLLOUT_COUNTERS, rolloutIds);
+        final List<TotalTargetCountActionStatus> result = new ArrayList<>();
+        counted.values().forEach(result::addAll);
+        final List<Long> notCounted = rolloutIds.stream().filter(id -> !counted.containsKey(id)).toList();
+        if (!notCounted.isEmpty()) {
+            result.addAll(actionRepository.getStatusCountByRolloutIds(notCounted));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the action status counts of the rollout groups - from the counters if the group is counted, otherwise
+     * aggregated over the actions.
+     *
+     * @param rolloutGroupIds the ids of the rollout groups
+     * @return the status counts of the groups (with the group id as id)
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupIds(final List<Long> rolloutGroupIds) {
+        if (!enabled) {
+            return actionRepository.getStatusCountByRolloutGroupIds(rolloutGroupIds);
+        }
+
+        final Map<Long, List<TotalTargetCountActionStatus>> counted = readCounters(QUERY_GROUP_COUNTERS, rolloutGroupIds);
+        final List<TotalTargetCountActionStatus> result = new ArrayList<>();
+        counted.values().forEach(result::addAll);
+        final List<Long> notCounted = rolloutGroupIds.stream().filter(id -> !counted.containsKey(id)).toList();
+        if (!notCounted.isEmpty()) {
+            result.addAll(actionRepository.getStatusCountByRolloutGroupIds(notCounted));
+        }
+        return result;
+    }
+
+    // id -> status counts, contains (with empty list) also counted ids without actions
+    private Map<Long, List<TotalTargetCountActionStatus>> readCounters(final String queryFormat, final List<Long> ids) {
+        final Map<Long, List<TotalTargetCountActionStatus>> counted = new HashMap<>();
+        for (final List<Long> chunk : ListUtils.partition(ids, Constants.MAX_ENTRIES_IN_STATEMENT)) {
+            final Query query = entityManager.createNativeQuery(String.format(queryFormat, Jpa.formatNativeQueryInClause("id", chunk)));
+            Jpa.setNativeQueryInParameter(query, "id", chunk);
+            @SuppressWarnings("unchecked")
+            final List<Object[]> rows = query.getResultList();
+            for (final Object[] row : rows) {
+                final long id = ((Number) row[0]).longValue();
+                final long count = ((Number) row[2]).longValue();
+                final List<TotalTargetCountActionStatus> statusCounts = counted.computeIfAbsent(id, k -> new ArrayList<>());
+                if (count > 0) {
+                    statusCounts.add(new TotalTargetCountActionStatus(
+                            id, STATUS_CONVERTER.convertToEntityAttribute(((Number) row[1]).intValue()), count));
+                }
+            }
+        }
+        return counted;
+    }
+
+    // the interceptors are registered in a (static) holder, so, track only the entities of the own persistence unit
+    private boolean isTracking() {
+        return enabled && TransactionSynchronizationManager.isSynchronizationActive() &&
+                TransactionSynchronizationManager.hasResource(entityManager.getEntityManagerFactory());
+    }
+
+    private void count(final JpaAction action, final Status status, final long delta) {
+        final Long rolloutGroupId = BaseEntity.getIdOrNull(action.getRolloutGroup());
+        if (rolloutGroupId != null) {
+            count(rolloutGroupId, status, delta);
+        }
+    }
+
+    private Changes changes() {
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Changes changes) {
+                return changes;
+            }
+        }
+        final Changes changes = new Changes();
+        TransactionSynchronizationManager.registerSynchronization(changes);
+        return changes;
+    }
+
+    private record Counter(long rolloutGroupId, Status status) {
+
+        // the order of the counter updates, so concurrent transactions lock the rows in the same order
+        private static final Comparator<Counter> ORDER = Comparator.comparingLong(Counter::rolloutGroupId)
+                .thenComparing(Counter::status);
+    }
+
+    // the counter changes of a transaction
+    private class Changes implements TransactionSynchronization {
+
+        // group id -> rollout id
+        private final Map<Long, Long> createdGroups = new LinkedHashMap<>();
+        private final Map<Counter, Long> deltas = new TreeMap<>(Counter.ORDER);
+        private final int stripe = ThreadLocalRandom.current().nextInt(COUNTER_STRIPES);
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            if (readOnly) {
+                return;
+            }
+
+            // flush, so the pending entity changes are tracked as well
+            entityManager.flush();
+
+            createdGroups.forEach((rolloutGroupId, rolloutId) -> entityManager.createNativeQuery(INSERT_COUNTERS)
+                    .setParameter("rollout_group", rolloutGroupId)
+                    .setParameter("rollout", rolloutId)
+                    .executeUpdate());
+            deltas.forEach((counter, delta) -> {
+                if (delta != 0) {
+                    entityManager.createNativeQuery(UPDATE_COUNTER)
+                            .setParameter("delta", delta)
+                            .setParameter("rollout_group", counter.rolloutGroupId())
+                            .setParameter("status", STATUS_CONVERTER.convertToDatabaseColumn(counter.status()))
+                            .setParameter("stripe", stripe)
+                            .executeUpdate();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+/**
+ * Observes the handling of the rollouts by the {@link org.eclipse.hawkbit.repository.RolloutHandler}, e.g. to report
+ * the handling latency as metrics.
+ */
+@FunctionalInterface
+public interface RolloutHandlingObserver {
+
+    /**
+     * Called after a rollout has been handled (successfully or not).
+     *
+     * @param tenant the tenant of the rollout
+     * @param rolloutId the id of the rollout
+     * @param successful if the handling succeeded
+     * @param durationNanos the time the handling took, in nanoseconds
+     */
+    void handled(String tenant, long rolloutId, boolean successful, long durationNanos);
+}
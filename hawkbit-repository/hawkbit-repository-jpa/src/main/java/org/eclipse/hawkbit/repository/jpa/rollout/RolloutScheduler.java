@@ -9,9 +9,13 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout;
 
+import java.util.List;
+
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantSharding;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -20,6 +24,12 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  * Scheduler to schedule the {@link RolloutHandler#handleAll()}. The
  * delay between the checks be configured using the property from
  * {#PROP_SCHEDULER_DELAY_PLACEHOLDER}.
+ * <p/>
+ * If the rollouts are locked per rollout and there are multiple executor threads, the active rollouts of each tenant
+ * are scheduled one by one via {@link RolloutHandler#handle(long)}, so they are handled in parallel by the executor
+ * threads (and the cluster nodes).
+ * <p/>
+ * With a {@link TenantSharding} only the tenants of this cluster node are handled.
  */
 @Slf4j
 public class RolloutScheduler {
@@ -28,17 +38,37 @@ public class RolloutScheduler {
 
     private final SystemManagement systemManagement;
     private final RolloutHandler rolloutHandler;
+    private final RolloutManagement rolloutManagement;
+    private final boolean lockPerRollout;
     private final SystemSecurityContext systemSecurityContext;
     private final ThreadPoolTaskExecutor rolloutTaskExecutor;
+    private final TenantSharding tenantSharding;
 
     public RolloutScheduler(
         final RolloutHandler rolloutHandler, final SystemManagement systemManagement, final SystemSecurityContext systemSecurityContext,
         final int threadPoolSize) {
+        this(rolloutHandler, null, systemManagement, systemSecurityContext, threadPoolSize, false);
+    }
+
+    public RolloutScheduler(
+        final RolloutHandler rolloutHandler, final RolloutManagement rolloutManagement, final SystemManagement systemManagement,
+        final SystemSecurityContext systemSecurityContext, final int threadPoolSize, final boolean lockPerRollout) {
+        this(rolloutHandler, rolloutManagement, systemManagement, systemSecurityContext, threadPoolSize, lockPerRollout,
+                TenantSharding.NONE);
+    }
+
+    @SuppressWarnings("java:S107")
+    public RolloutScheduler(
+        final RolloutHandler rolloutHandler, final RolloutManagement rolloutManagement, final SystemManagement systemManagement,
+        final SystemSecurityContext systemSecurityContext, final int threadPoolSize, final boolean lockPerRollout,
+        final TenantSharding tenantSharding) {
         this.systemManagement = systemManagement;
         this.rolloutHandler = rolloutHandler;
+        this.rolloutManagement = rolloutManagement;
         this.systemSecurityContext = systemSecurityContext;
+        this.lockPerRollout = lockPerRollout && rolloutManagement != null;
+        this.tenantSharding = tenantSharding;
         rolloutTaskExecutor = threadPoolTaskExecutor(threadPoolSize);
-
     }
 
     /**
@@ -59,8 +89,12 @@ public class RolloutScheduler {
             // each tenant seperately.
 
             systemManagement.forEachTenant(tenant -> {
-                if (rolloutTaskExecutor == null) {
+                if (!tenantSharding.isLocal(tenant)) {
+                    log.trace("Skipping rollouts of tenant {}, handled by another node", tenant);
+                } else if (rolloutTaskExecutor == null) {
                     handleAll(tenant);
+                } else if (lockPerRollout) {
+                    handleEachAsync(tenant);
                 } else {
                     handleAllAsync(tenant);
                 }
@@ -86,6 +120,27 @@ public class RolloutScheduler {
 
     }
 
+    private void handleEachAsync(final String tenant) {
+        final List<Long> rollouts;
+        try {
+            rollouts = rolloutManagement.findActiveRollouts();
+        } catch (final Exception e) {
+            log.error("Error retrieving the active rollouts of tenant {}", tenant, e);
+            return;
+        }
+
+        log.trace("Handling {} rollouts for tenant: {}", rollouts.size(), tenant);
+        // rollouts still being handled (from the previous run) are skipped by the handler
+        rollouts.forEach(rolloutId -> rolloutTaskExecutor.submit(() -> systemSecurityContext.runAsSystemAsTenant(() -> {
+            try {
+                rolloutHandler.handle(rolloutId);
+            } catch (final Exception e) {
+                log.error("Error processing rollout {} for tenant {}", rolloutId, tenant, e);
+            }
+            return null;
+        }, tenant)));
+    }
+
     private ThreadPoolTaskExecutor threadPoolTaskExecutor (final int threadPoolSize) {
         if (threadPoolSize <= 1) {
             return null;
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder.combineWithAnd;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.repository.RolloutHelper;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupActionsCreatedEvent;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
+import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.jpa.vendor.Database;
+
+/**
+ * Set based (SQL) variant of the rollout group filling and of the action creation for the rollout groups. The targets
+ * are never loaded - the group members are inserted by an <code>INSERT ... SELECT</code> statement with the same (RSQL,
+ * compatibility and access control) specifications as the entity based variant, and the scheduled actions are inserted
+ * by an <code>INSERT ... SELECT</code> statement over the group members. Note: the statements bypass the persistence
+ * context, so instead of an action created event per action a {@link RolloutGroupActionsCreatedEvent} is published
+ * for the scheduled rollout actions of a group.
+ * <p/>
+ * Methods shall be called in a transaction.
+ */
+@Slf4j
+public class SetBasedRolloutAssignment {
+
+    private static final Integer ACTION_STATUS_SCHEDULED = new JpaAction.StatusConverter().convertToDatabaseColumn(Status.SCHEDULED);
+
+    // group members without action in the group, the chunk is limited by the range of the target ids
+    private static final String CHUNK_MEMBERS =
+            "rtg.rolloutGroup_Id = " + Jpa.nativeQueryParamPrefix() + "rolloutgroup" +
+                    " AND NOT EXISTS (SELECT 1 FROM sp_action ga WHERE ga.target = rtg.target_id" +
+                    " AND ga.rolloutgroup = " + Jpa.nativeQueryParamPrefix() + "rolloutgroup)";
+    private static final String CHUNK_MEMBERS_IN_RANGE = CHUNK_MEMBERS +
+            " AND rtg.target_id >= " + Jpa.nativeQueryParamPrefix() + "first_target" +
+            " AND rtg.target_id <= " + Jpa.nativeQueryParamPrefix() + "last_target";
+
+    private static final String QUERY_NEXT_CHUNK_DEFAULT =
+            "SELECT rtg.target_id FROM sp_rollouttargetgroup rtg WHERE " + CHUNK_MEMBERS +
+                    " ORDER BY rtg.target_id LIMIT %d";
+    private static final Map<Database, String> QUERY_NEXT_CHUNK;
+
+    static {
+        QUERY_NEXT_CHUNK = new EnumMap<>(Database.class);
+        QUERY_NEXT_CHUNK.put(
+                Database.SQL_SERVER,
+                "SELECT TOP (%d) rtg.target_id FROM sp_rollouttargetgroup rtg WHERE " + CHUNK_MEMBERS +
+                        " ORDER BY rtg.target_id");
+        QUERY_NEXT_CHUNK.put(
+                Database.DB2,
+                "SELECT rtg.target_id FROM sp_rollouttargetgroup rtg WHERE " + CHUNK_MEMBERS +
+                        " ORDER BY rtg.target_id FETCH FIRST %d ROWS ONLY");
+    }
+
+    private static final String QUERY_ACTIONS_PER_TARGET_QUOTA_EXCEEDED =
+            "SELECT a.target FROM sp_action a WHERE a.target IN (" +
+                    "SELECT rtg.target_id FROM sp_rollouttargetgroup rtg WHERE " + CHUNK_MEMBERS_IN_RANGE + ")" +
+                    " GROUP BY a.target HAVING COUNT(a.id) >= " + Jpa.nativeQueryParamPrefix() + "quota";
+
+    private static final String INSERT_SCHEDULED_ACTIONS = insertScheduledActions(Jpa.nativeQueryParamPrefix() + "weight");
+    // as the entity path, leaves the weight null for rollouts without weight. As literal, since a null parameter has no
+    // (SQL) type in a select list
+    private static final String INSERT_SCHEDULED_ACTIONS_WITHOUT_WEIGHT = insertScheduledActions("NULL");
+
+    private static final List<String> ROLLOUT_TARGET_GROUP_ATTRIBUTES = List.of("target.id", "rolloutGroup.id");
+
+    private final EntityManager entityManager;
+    private final TargetRepository targetRepository;
+    private final ActionRepository actionRepository;
+    private final DeploymentManagement deploymentManagement;
+    private final QuotaManagement quotaManagement;
+    private final VirtualPropertyReplacer virtualPropertyReplacer;
+    private final TenantAware tenantAware;
+    private final AuditorAware<String> auditorAware;
+    private final Database database;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
+    private final AfterTransactionCommitExecutor afterCommit;
+    private final EventPublisherHolder eventPublisherHolder;
+
+    @SuppressWarnings("java:S107")
+    public SetBasedRolloutAssignment(
+            final EntityManager entityManager, final TargetRepository targetRepository, final ActionRepository actionRepository,
+            final DeploymentManagement deploymentManagement, final QuotaManagement quotaManagement,
+            final VirtualPropertyReplacer virtualPropertyReplacer, final TenantAware tenantAware,
+            final AuditorAware<String> auditorAware, final Database database,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter, final AfterTransactionCommitExecutor afterCommit,
+            final EventPublisherHolder eventPublisherHolder) {
+        this.entityManager = entityManager;
+        this.targetRepository = targetRepository;
+        this.actionRepository = actionRepository;
+        this.deploymentManagement = deploymentManagement;
+        this.quotaManagement = quotaManagement;
+        this.virtualPropertyReplacer = virtualPropertyReplacer;
+        this.tenantAware = tenantAware;
+        this.auditorAware = auditorAware;
+        this.database = database;
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
+        this.afterCommit = afterCommit;
+        this.eventPublisherHolder = eventPublisherHolder;
+    }
+
+    /**
+     * Assigns up to <code>limit</code> targets, matching the target filter of the rollout (group), that are not in
+     * the given groups yet, to the rollout group.
+     *
+     * @param rollout the rollout
+     * @param group the group to fill
+     * @param targetFilter the target filter of the group
+     * @param readyGroups the groups (including the filled one) which targets shall not be added
+     * @param limit the maximum number of targets to add
+     * @return the number of added targets
+     */
+    public long assignTargetsToGroup(
+            final Rollout rollout, final RolloutGroup group, final String targetFilter, final Collection<Long> readyGroups,
+            final int limit) {
+        final Specification<JpaTarget> spec = targetsToAssignSpec(rollout, targetFilter, readyGroups);
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<JpaTarget> targetRoot = query.from(JpaTarget.class);
+        // the group as (single row) root, so the group id is selected as column and not as (untyped) parameter
+        final Root<JpaRolloutGroup> groupRoot = query.from(JpaRolloutGroup.class);
+        query.multiselect(targetRoot.get(AbstractJpaBaseEntity_.id), groupRoot.get(AbstractJpaBaseEntity_.id))
+                .where(spec.toPredicate(targetRoot, query, cb), cb.equal(groupRoot.get(AbstractJpaBaseEntity_.id), group.getId()));
+        return Jpa.insertSelect(entityManager, RolloutTargetGroup.class, ROLLOUT_TARGET_GROUP_ATTRIBUTES, query, limit);
+    }
+
+    /**
+     * Creates the (inactive) scheduled actions for the next chunk of up to <code>limit</code> targets of the group that
+     * have no action in the group yet. As the entity based variant, it cancels the inactive scheduled actions of the
+     * targets and enforces the quota defining the maximum number of actions per target.
+     *
+     * @param rollout the rollout
+     * @param group the group to create the actions for
+     * @param limit the maximum number of actions to create
+     * @return the number of created actions, <code>0</code> if all targets of the group have an action already
+     */
+    public long createActionsForGroup(final Rollout rollout, final RolloutGroup group, final int limit) {
+        @SuppressWarnings("unchecked")
+        final List<Number> chunk = entityManager
+                .createNativeQuery(String.format(QUERY_NEXT_CHUNK.getOrDefault(database, QUERY_NEXT_CHUNK_DEFAULT), limit))
+                .setParameter("rolloutgroup", group.getId())
+                .getResultList();
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        final List<Long> targetIds = chunk.stream().map(Number::longValue).toList();
+        final long firstTarget = targetIds.get(0);
+        final long lastTarget = targetIds.get(targetIds.size() - 1);
+
+        // cancel all current scheduled actions for the targets - a new scheduled action is created
+        deploymentManagement.cancelInactiveScheduledActionsForTargets(targetIds);
+        assertActionsPerTargetQuota(group, firstTarget, lastTarget);
+
+        final long now = System.currentTimeMillis();
+        final String auditor = auditorAware.getCurrentAuditor().orElse(rollout.getCreatedBy());
+        final Integer weight = rollout.getWeight().orElse(null);
+        final Query insert = entityManager.createNativeQuery(weight == null ? INSERT_SCHEDULED_ACTIONS_WITHOUT_WEIGHT : INSERT_SCHEDULED_ACTIONS);
+        if (weight != null) {
+            insert.setParameter("weight", weight);
+        }
+        final int created = insert
+                .setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase())
+                .setParameter("now", now)
+                .setParameter("auditor", auditor)
+                .setParameter("distribution_set", rollout.getDistributionSet().getId())
+                .setParameter("rollout", rollout.getId())
+                .setParameter("rolloutgroup", group.getId())
+                .setParameter("action_type", new JpaAction.ActionTypeConverter().convertToDatabaseColumn(rollout.getActionType()))
+                .setParameter("forced_time", rollout.getForcedTime())
+                .setParameter("status", ACTION_STATUS_SCHEDULED)
+                .setParameter("active", false)
+                .setParameter("initiated_by", rollout.getCreatedBy())
+                .setParameter("first_target", firstTarget)
+                .setParameter("last_target", lastTarget)
+                .executeUpdate();
+        rolloutGroupStatusCounter.count(group.getId(), Status.SCHEDULED, created);
+        final String tenant = tenantAware.getCurrentTenant();
+        afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(new RolloutGroupActionsCreatedEvent(
+                tenant, eventPublisherHolder.getApplicationId(), rollout.getId(), group.getId(), created)));
+        log.debug("Created {} scheduled actions for rollout group {} (targets {} - {})", created, group.getId(), firstTarget, lastTarget);
+        return created;
+    }
+
+    private Specification<JpaTarget> targetsToAssignSpec(
+            final Rollout rollout, final String targetFilter, final Collection<Long> readyGroups) {
+        if (RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())) {
+            return combineWithAnd(List.of(
+                    TargetSpecifications.failedActionsForRollout(
+                            RolloutHelper.getIdFromRetriedTargetFilter(rollout.getTargetFilterQuery())),
+                    TargetSpecifications.isNotInRolloutGroups(readyGroups)));
+        }
+
+        final Specification<JpaTarget> spec = combineWithAnd(List.of(
+                RSQLUtility.buildRsqlSpecification(targetFilter, TargetFields.class, virtualPropertyReplacer, database),
+                TargetSpecifications.isNotInRolloutGroups(readyGroups),
+                TargetSpecifications.isCompatibleWithDistributionSetType(rollout.getDistributionSet().getType().getId())));
+        return targetRepository.getAccessController()
+                .map(accessController -> accessController.appendAccessRules(AccessController.Operation.UPDATE, spec))
+                .orElse(spec);
+    }
+
+    private void assertActionsPerTargetQuota(final RolloutGroup group, final long firstTarget, final long lastTarget) {
+        final int quota = quotaManagement.getMaxActionsPerTarget();
+        if (quota <= 0) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        final List<Number> exceeding = entityManager.createNativeQuery(QUERY_ACTIONS_PER_TARGET_QUOTA_EXCEEDED)
+                .setParameter("rolloutgroup", group.getId())
+                .setParameter("first_target", firstTarget)
+                .setParameter("last_target", lastTarget)
+                .setParameter("quota", quota)
+                .setMaxResults(1)
+                .getResultList();
+        // (re)checks and throws the quota exception the same way the entity based variant does
+        exceeding.forEach(targetId -> QuotaHelper.assertAssignmentQuota(
+                targetId.longValue(), 1, quota, Action.class, Target.class, actionRepository::countByTargetId));
+    }
+
+    private static String insertScheduledActions(final String weight) {
+        return "INSERT INTO sp_action (tenant, created_at, created_by, last_modified_at, last_modified_by, optlock_revision," +
+                " target, distribution_set, rollout, rolloutgroup, action_type, forced_time, status, active, weight, initiated_by)" +
+                " SELECT " + Jpa.nativeQueryParamPrefix() + "tenant" +
+                ", " + Jpa.nativeQueryParamPrefix() + "now" +
+                ", " + Jpa.nativeQueryParamPrefix() + "auditor" +
+                ", " + Jpa.nativeQueryParamPrefix() + "now" +
+                ", " + Jpa.nativeQueryParamPrefix() + "auditor" +
+                ", 1, rtg.target_id" +
+                ", " + Jpa.nativeQueryParamPrefix() + "distribution_set" +
+                ", " + Jpa.nativeQueryParamPrefix() + "rollout" +
+                ", " + Jpa.nativeQueryParamPrefix() + "rolloutgroup" +
+                ", " + Jpa.nativeQueryParamPrefix() + "action_type" +
+                ", " + Jpa.nativeQueryParamPrefix() + "forced_time" +
+                ", " + Jpa.nativeQueryParamPrefix() + "status" +
+                ", " + Jpa.nativeQueryParamPrefix() + "active" +
+                ", " + weight +
+                ", " + Jpa.nativeQueryParamPrefix() + "initiated_by" +
+                " FROM sp_rollouttargetgroup rtg WHERE " + CHUNK_MEMBERS_IN_RANGE;
+    }
+}
@@ -15,6 +15,8 @@ import java.util.stream.Stream;
 
 import jakarta.validation.constraints.NotNull;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import cz.jirutka.rsql.parser.ast.ComparisonNode;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
@@ -25,14 +27,28 @@ import org.springframework.util.ObjectUtils;
 @Slf4j
 public abstract class AbstractRSQLVisitor<A extends Enum<A> & RsqlQueryField> {
 
+    private static final int MAX_CACHED_PATHS = 10_000;
+    // the resolved and validated paths of the selectors - the map keys are part of the selectors, so it is bounded
+    private static final Cache<PathKey, ResolvedPath> RESOLVED_PATHS = Caffeine.newBuilder().maximumSize(MAX_CACHED_PATHS).build();
+
     private final Class<A> rsqlQueryFieldType;
 
     protected AbstractRSQLVisitor(final Class<A> rsqlQueryFieldType) {
         this.rsqlQueryFieldType = rsqlQueryFieldType;
     }
 
-    @SuppressWarnings("java:S1066") // java:S1066 - more readable with separate "if" statements
     protected QuertPath getQuertPath(final ComparisonNode node) {
+        final ResolvedPath resolvedPath = RESOLVED_PATHS.get(
+                new PathKey(rsqlQueryFieldType, node.getSelector()), key -> {
+                    final QuertPath quertPath = resolveQuertPath(node);
+                    return new ResolvedPath(quertPath.getEnumValue(), quertPath.getJpaPath());
+                });
+        // the path array is mutable, so every visitor gets an own copy
+        return new QuertPath(rsqlQueryFieldType.cast(resolvedPath.enumValue()), resolvedPath.jpaPath().clone());
+    }
+
+    @SuppressWarnings("java:S1066") // java:S1066 - more readable with separate "if" statements
+    private QuertPath resolveQuertPath(final ComparisonNode node) {
         final int firstSeparatorIndex = node.getSelector().indexOf(RsqlQueryField.SUB_ATTRIBUTE_SEPARATOR);
         final String enumName = (firstSeparatorIndex == -1
                 ? node.getSelector()
@@ -138,4 +154,8 @@ public abstract class AbstractRSQLVisitor<A extends Enum<A> & RsqlQueryField> {
             this.jpaPath = jpaPath;
         }
     }
-}
\ No newline at end of file
+
+    private record PathKey(Class<?> rsqlQueryFieldType, String selector) {}
+
+    private record ResolvedPath(Enum<?> enumValue, String[] jpaPath) {}
+}
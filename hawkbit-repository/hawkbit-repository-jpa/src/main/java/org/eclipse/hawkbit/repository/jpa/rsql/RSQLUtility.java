@@ -11,16 +11,16 @@ package org.eclipse.hawkbit.repository.jpa.rsql;
 
 import java.io.Serial;
 import java.util.List;
-import java.util.Set;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import cz.jirutka.rsql.parser.RSQLParser;
 import cz.jirutka.rsql.parser.RSQLParserException;
-import cz.jirutka.rsql.parser.ast.ComparisonOperator;
 import cz.jirutka.rsql.parser.ast.Node;
 import cz.jirutka.rsql.parser.ast.RSQLOperators;
 import cz.jirutka.rsql.parser.ast.RSQLVisitor;
@@ -32,6 +32,7 @@ import org.eclipse.hawkbit.repository.RsqlQueryField;
 import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
 import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
 import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
+import org.eclipse.hawkbit.repository.rsql.RsqlVisitorFactory;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyResolver;
 import org.springframework.data.jpa.domain.Specification;
@@ -70,11 +71,18 @@ import org.springframework.util.CollectionUtils;
  * <em>lastControllerRequestAt=le=${OVERDUE_TS}</em><br>
  * It is possible to escape a macro expression by using a second '$':
  * $${OVERDUE_TS} would prevent the ${OVERDUE_TS} token from being expanded.
+ * <p>
+ * The parsed and field validated RSQL queries are cached (bounded), as the target filter queries are evaluated again and again.
  */
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RSQLUtility {
 
+    private static final int MAX_CACHED_QUERIES = 1_000;
+    private static final RSQLParser RSQL_PARSER = new RSQLParser(RSQLOperators.defaultOperators());
+    // the nodes are immutable, so they are shared
+    private static final Cache<ParsedRsqlKey, Node> PARSED_QUERIES = Caffeine.newBuilder().maximumSize(MAX_CACHED_QUERIES).build();
+
     /**
      * Builds a JPA {@link Specification} which corresponds with the given RSQL
      * query. The specification can be used to filter for JPA entities with the
@@ -105,20 +113,37 @@ public final class RSQLUtility {
      */
     public static <A extends Enum<A> & RsqlQueryField> void validateRsqlFor(
             final String rsql, final Class<A> fieldNameProvider) {
-        final RSQLVisitor<Void, String> visitor =
-                RsqlConfigHolder.getInstance().getRsqlVisitorFactory().validationRsqlVisitor(fieldNameProvider);
-        final Node rootNode = parseRsql(rsql);
-        rootNode.accept(visitor);
+        // the validation visitor is applied on parsing
+        parseRsql(rsql, fieldNameProvider);
+    }
+
+    /**
+     * Parses the RSQL string and validates its fields by the validation visitor of the configured
+     * {@link RsqlVisitorFactory}, or returns the cached node of a query parsed before
+     *
+     * @param rsql the rsql query to be parsed
+     * @param fieldNameProvider the enum class type which implements the {@link RsqlQueryField}
+     * @return the root node of the query
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the
+     *         given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    static <A extends Enum<A> & RsqlQueryField> Node parseRsql(final String rsql, final Class<A> fieldNameProvider) {
+        final boolean lowerCase = RsqlConfigHolder.getInstance().isCaseInsensitiveDB() || RsqlConfigHolder.getInstance().isIgnoreCase();
+        final ParsedRsqlKey key = new ParsedRsqlKey(rsql, fieldNameProvider, lowerCase);
+        Node rootNode = PARSED_QUERIES.getIfPresent(key);
+        if (rootNode == null) {
+            rootNode = parseRsql(rsql, lowerCase);
+            rootNode.accept(RsqlConfigHolder.getInstance().getRsqlVisitorFactory().validationRsqlVisitor(fieldNameProvider));
+            PARSED_QUERIES.put(key, rootNode);
+        }
+        return rootNode;
     }
 
-    private static Node parseRsql(final String rsql) {
+    private static Node parseRsql(final String rsql, final boolean lowerCase) {
         log.debug("Parsing rsql string {}", rsql);
         try {
-            final Set<ComparisonOperator> operators = RSQLOperators.defaultOperators();
-            return new RSQLParser(operators).parse(
-                    RsqlConfigHolder.getInstance().isCaseInsensitiveDB() || RsqlConfigHolder.getInstance().isIgnoreCase()
-                            ? rsql.toLowerCase()
-                            : rsql);
+            return RSQL_PARSER.parse(lowerCase ? rsql.toLowerCase() : rsql);
         } catch (final IllegalArgumentException e) {
             throw new RSQLParameterSyntaxException("RSQL filter must not be null", e);
         } catch (final RSQLParserException e) {
@@ -146,7 +171,7 @@ public final class RSQLUtility {
 
         @Override
         public Predicate toPredicate(final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder cb) {
-            final Node rootNode = parseRsql(rsql);
+            final Node rootNode = parseRsql(rsql, enumType);
             query.distinct(true);
 
             final RSQLVisitor<List<Predicate>, String> jpqQueryRSQLVisitor =
@@ -170,4 +195,6 @@ public final class RSQLUtility {
             }
         }
     }
-}
\ No newline at end of file
+
+    private record ParsedRsqlKey(String rsql, Class<?> fieldNameProvider, boolean lowerCase) {}
+}
@@ -0,0 +1,445 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.io.Serial;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.LogicalNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.rsql.RsqlConfigHolder;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+
+/**
+ * Compiles a target filter query (RSQL) into a {@link Predicate} which evaluates it on a {@link JpaTarget} in memory,
+ * with the semantics of the database query built by the {@link JpaQueryRsqlVisitorG2} - wildcards, case sensitivity,
+ * <code>null</code> handling and matching of the tags, attributes and metadata. So a target could be checked against
+ * many filters without a database round trip per filter.
+ * <p/>
+ * The tags, attributes and metadata of the target are loaded lazily, so the predicate shall be tested within a
+ * transaction. The virtual properties are resolved when the query is compiled.
+ * <p/>
+ * Queries which couldn't be evaluated exactly in memory aren't compiled and shall be evaluated by the database, e.g.
+ * a pattern on a number or conditions on the same collection in an AND nested in an OR (the database query evaluates
+ * them on one and the same joined row).
+ */
+@Slf4j
+public final class TargetRsqlMatcher extends AbstractRSQLVisitor<TargetFields> implements RSQLVisitor<Predicate<Target>, String> {
+
+    private static final char LIKE_WILDCARD = JpaQueryRsqlVisitorG2.LIKE_WILDCARD;
+    private static final char ESCAPE_CHAR = '\\';
+    private static final String ESCAPE_CHAR_WITH_ASTERISK = ESCAPE_CHAR + "*";
+    private static final Set<TargetFields> COLLECTIONS = EnumSet.of(TargetFields.TAG, TargetFields.ATTRIBUTE, TargetFields.METADATA);
+
+    private final VirtualPropertyReplacer virtualPropertyReplacer;
+    // case-insensitive equal, like and in - upper cased or by the collation of the database
+    private final boolean ignoreCase;
+    // case-insensitive collation of the database, used by the comparisons which are not upper cased
+    private final boolean caseInsensitiveDB;
+    private int orDepth;
+
+    private TargetRsqlMatcher(final VirtualPropertyReplacer virtualPropertyReplacer, final boolean ignoreCase, final boolean caseInsensitiveDB) {
+        super(TargetFields.class);
+        this.virtualPropertyReplacer = virtualPropertyReplacer;
+        this.ignoreCase = ignoreCase || caseInsensitiveDB;
+        this.caseInsensitiveDB = caseInsensitiveDB;
+    }
+
+    /**
+     * Compiles the target filter query.
+     *
+     * @param rsql the target filter query
+     * @param virtualPropertyReplacer to resolve the virtual properties, could be <code>null</code>
+     * @return the predicate matching the targets of the query or empty if the query shall be evaluated by the database
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the given field enum
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    public static Optional<Predicate<Target>> compile(final String rsql, final VirtualPropertyReplacer virtualPropertyReplacer) {
+        final RsqlConfigHolder config = RsqlConfigHolder.getInstance();
+        // the legacy visitor is deprecated, but as long as it could be enabled its semantics shall apply
+        @SuppressWarnings("deprecation")
+        final boolean legacyRsqlVisitor = config.isLegacyRsqlVisitor();
+        if (legacyRsqlVisitor) {
+            return Optional.empty();
+        }
+
+        final Node rootNode = RSQLUtility.parseRsql(rsql, TargetFields.class);
+        try {
+            return Optional.of(rootNode.accept(
+                    new TargetRsqlMatcher(virtualPropertyReplacer, config.isIgnoreCase(), config.isCaseInsensitiveDB())));
+        } catch (final NotMatchableException e) {
+            log.debug("Target filter query {} couldn't be evaluated in memory: {}", rsql, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Predicate<Target> visit(final AndNode node, final String param) {
+        if (orDepth > 0) {
+            verifyNoSharedRows(node);
+        }
+        final Predicate<Target>[] children = acceptChildren(node);
+        return target -> {
+            for (final Predicate<Target> child : children) {
+                if (!child.test(target)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    @Override
+    public Predicate<Target> visit(final OrNode node, final String param) {
+        orDepth++;
+        try {
+            final Predicate<Target>[] children = acceptChildren(node);
+            return target -> {
+                for (final Predicate<Target> child : children) {
+                    if (child.test(target)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        } finally {
+            orDepth--;
+        }
+    }
+
+    @Override
+    public Predicate<Target> visit(final ComparisonNode node, final String param) {
+        final QuertPath queryField = getQuertPath(node);
+        final TargetFields field = queryField.getEnumValue();
+        final Class<?> type = valueType(field);
+        final List<Object> values = node.getArguments().stream()
+                .map(value -> type.isEnum() ? transformEnumValue(node, type, value) : value)
+                .toList();
+        final Function<Target, Collection<?>> rows = rows(field, queryField.getJpaPath());
+
+        if (isNotExists(node, queryField)) {
+            // not exists a row, the positive predicate never matches a null row
+            final Predicate<Object> rowPredicate = "=out=".equals(node.getOperator().getSymbol())
+                    ? in(type, values)
+                    : equalTo(type, values.get(0));
+            return target -> !anyRow(rows.apply(target), rowPredicate);
+        }
+
+        final Predicate<Object> valuePredicate = operatorPredicate(node, type, values);
+        final Predicate<Object> rowPredicate;
+        if (field.isMap()) {
+            final String[] jpaPath = queryField.getJpaPath();
+            final String key = jpaPath[jpaPath.length - 1];
+            rowPredicate = row -> row instanceof Entry<?, ?> entry && equal(entry.getKey(), key, ignoreCase)
+                    && valuePredicate.test(entry.getValue());
+        } else {
+            rowPredicate = valuePredicate;
+        }
+        return target -> anyRow(rows.apply(target), rowPredicate);
+    }
+
+    // the rows of the (left) joins, a missing row of a join is evaluated as null row
+    private static boolean anyRow(final Collection<?> rows, final Predicate<Object> rowPredicate) {
+        if (rows.isEmpty()) {
+            return rowPredicate.test(null);
+        }
+        for (final Object row : rows) {
+            if (rowPredicate.test(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Class<?> valueType(final TargetFields field) {
+        return switch (field) {
+            case CREATEDAT, LASTMODIFIEDAT, LASTCONTROLLERREQUESTAT -> Long.class;
+            case UPDATESTATUS -> TargetUpdateStatus.class;
+            default -> String.class;
+        };
+    }
+
+    private static Function<Target, Collection<?>> rows(final TargetFields field, final String[] jpaPath) {
+        return switch (field) {
+            case ID, CONTROLLERID -> target -> Collections.singletonList(target.getControllerId());
+            case NAME -> target -> Collections.singletonList(target.getName());
+            case DESCRIPTION -> target -> Collections.singletonList(target.getDescription());
+            case CREATEDAT -> target -> Collections.singletonList(target.getCreatedAt());
+            case LASTMODIFIEDAT -> target -> Collections.singletonList(target.getLastModifiedAt());
+            case UPDATESTATUS -> target -> Collections.singletonList(target.getUpdateStatus());
+            case IPADDRESS -> target -> Collections.singletonList(target.getAddress() == null ? null : target.getAddress().toString());
+            case LASTCONTROLLERREQUESTAT -> target -> Collections.singletonList(target.getLastTargetQuery());
+            case ATTRIBUTE -> target -> {
+                final Map<String, String> attributes = ((JpaTarget) target).getControllerAttributes();
+                return attributes == null ? Collections.emptyList() : attributes.entrySet();
+            };
+            case METADATA -> target -> ((JpaTarget) target).getMetadata().stream()
+                    .map(metadata -> new SimpleImmutableEntry<>(metadata.getKey(), metadata.getValue()))
+                    .toList();
+            case TAG -> target -> ((JpaTarget) target).getTags().stream().map(tag -> (Object) tag.getName()).toList();
+            case ASSIGNEDDS -> {
+                final Function<JpaDistributionSet, Object> attribute = distributionSetAttribute(jpaPath[1]);
+                yield target -> optionalRow(((JpaTarget) target).getAssignedDistributionSet(), attribute);
+            }
+            case INSTALLEDDS -> {
+                final Function<JpaDistributionSet, Object> attribute = distributionSetAttribute(jpaPath[1]);
+                yield target -> optionalRow(((JpaTarget) target).getInstalledDistributionSet(), attribute);
+            }
+            case TARGETTYPE -> {
+                final Function<TargetType, Object> attribute = "key".equals(jpaPath[1]) ? TargetType::getKey : TargetType::getName;
+                yield target -> optionalRow(target.getTargetType(), attribute);
+            }
+        };
+    }
+
+    private static Function<JpaDistributionSet, Object> distributionSetAttribute(final String attribute) {
+        return "version".equals(attribute) ? JpaDistributionSet::getVersion : JpaDistributionSet::getName;
+    }
+
+    private static <T> Collection<?> optionalRow(final T entity, final Function<T, Object> attribute) {
+        return entity == null ? Collections.emptyList() : Collections.singletonList(attribute.apply(entity));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Object transformEnumValue(final ComparisonNode node, final Class<?> javaType, final String value) {
+        final Class<? extends Enum> enumType = (Class<? extends Enum>) javaType;
+        try {
+            return Enum.valueOf(enumType, value.toUpperCase());
+        } catch (final IllegalArgumentException e) {
+            throw new RSQLParameterUnsupportedFieldException("field {" + node.getSelector()
+                    + "} must be one of the following values {" + Arrays.stream(enumType.getEnumConstants())
+                    .map(v -> v.name().toLowerCase()).toList()
+                    + "}", e);
+        }
+    }
+
+    private static boolean isSimpleField(final QuertPath queryField) {
+        final String[] split = queryField.getJpaPath();
+        return split.length == 1 || (split.length == 2 && queryField.getEnumValue().isMap());
+    }
+
+    // the comparisons which are evaluated by a not exists sub query, and so don't use the joins of the query
+    private static boolean isNotExists(final ComparisonNode node, final QuertPath queryField) {
+        if (isSimpleField(queryField)) {
+            return false;
+        }
+        return switch (node.getOperator().getSymbol()) {
+            case "=out=" -> true;
+            case "!=" -> !node.getArguments().get(0).isEmpty() && !NumberUtils.isCreatable(node.getArguments().get(0));
+            default -> false;
+        };
+    }
+
+    private static boolean isPattern(final String value) {
+        if (value.contains(ESCAPE_CHAR_WITH_ASTERISK)) {
+            return value.replace(ESCAPE_CHAR_WITH_ASTERISK, "$").indexOf(LIKE_WILDCARD) != -1;
+        } else {
+            return value.indexOf(LIKE_WILDCARD) != -1;
+        }
+    }
+
+    private static boolean equal(final Object value, final String expected, final boolean ignoreCase) {
+        return value instanceof String str && (ignoreCase ? str.equalsIgnoreCase(expected) : str.equals(expected));
+    }
+
+    private static Long toLong(final String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (final NumberFormatException e) {
+            throw new NotMatchableException("value " + value + " is not a long");
+        }
+    }
+
+    private static void requireString(final Class<?> type, final String value) {
+        if (type != String.class) {
+            throw new NotMatchableException("value " + value + " is compared as string to a " + type.getSimpleName());
+        }
+    }
+
+    private Predicate<Object> operatorPredicate(final ComparisonNode node, final Class<?> type, final List<Object> values) {
+        final String operator = node.getOperator().getSymbol();
+        return switch (operator) {
+            case "==" -> equalTo(type, values.get(0));
+            case "!=" -> notEqualTo(type, values.get(0));
+            case "=gt=" -> compareTo(type, node, result -> result > 0);
+            case "=ge=" -> compareTo(type, node, result -> result >= 0);
+            case "=lt=" -> compareTo(type, node, result -> result < 0);
+            case "=le=" -> compareTo(type, node, result -> result <= 0);
+            case "=in=" -> in(type, values);
+            case "=out=" -> in(type, values).negate().or(value -> value == null);
+            default -> throw new RSQLParameterSyntaxException(
+                    "Operator symbol {" + operator + "} is either not supported or not implemented");
+        };
+    }
+
+    private Predicate<Object> equalTo(final Class<?> type, final Object transformedValue) {
+        if (transformedValue instanceof String value) {
+            if (!NumberUtils.isCreatable(value)) {
+                requireString(type, value);
+                if (value.isEmpty()) {
+                    return fieldValue -> fieldValue == null || "".equals(fieldValue);
+                }
+                return isPattern(value) ? like(value) : fieldValue -> equal(fieldValue, value, ignoreCase);
+            }
+            if (type == String.class) {
+                // not upper cased, case-insensitive only by the collation
+                return fieldValue -> equal(fieldValue, value, caseInsensitiveDB);
+            }
+            final Long expected = toLong(value);
+            return expected::equals;
+        }
+        return fieldValue -> transformedValue == fieldValue;
+    }
+
+    private Predicate<Object> notEqualTo(final Class<?> type, final Object transformedValue) {
+        if (transformedValue instanceof String value) {
+            if (!NumberUtils.isCreatable(value)) {
+                requireString(type, value);
+                if (value.isEmpty()) {
+                    return fieldValue -> fieldValue != null && !"".equals(fieldValue);
+                }
+                // a simple field - the other fields are evaluated as not exists
+                if (isPattern(value)) {
+                    return like(value).negate().or(fieldValue -> fieldValue == null);
+                }
+                return fieldValue -> fieldValue == null || !equal(fieldValue, value, ignoreCase);
+            }
+            if (type == String.class) {
+                return fieldValue -> fieldValue == null || !equal(fieldValue, value, ignoreCase);
+            }
+            final Long expected = toLong(value);
+            return fieldValue -> fieldValue == null || !expected.equals(fieldValue);
+        }
+        return fieldValue -> fieldValue == null || transformedValue != fieldValue;
+    }
+
+    private Predicate<Object> compareTo(final Class<?> type, final ComparisonNode node, final Predicate<Integer> result) {
+        // if lookup is available, replace macros ...
+        final String value = virtualPropertyReplacer == null
+                ? node.getArguments().get(0)
+                : virtualPropertyReplacer.replace(node.getArguments().get(0));
+        if (type == String.class) {
+            return fieldValue -> fieldValue instanceof String str
+                    && result.test(caseInsensitiveDB ? String.CASE_INSENSITIVE_ORDER.compare(str, value) : str.compareTo(value));
+        } else if (type == Long.class) {
+            final Long expected = toLong(value);
+            return fieldValue -> fieldValue instanceof Long number && result.test(number.compareTo(expected));
+        } else {
+            throw new NotMatchableException(node.getSelector() + " is not comparable");
+        }
+    }
+
+    private Predicate<Object> in(final Class<?> type, final List<Object> values) {
+        if (type == String.class) {
+            final List<String> expected = values.stream().map(String.class::cast).toList();
+            return fieldValue -> {
+                for (final String value : expected) {
+                    if (equal(fieldValue, value, ignoreCase)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        } else if (type == Long.class) {
+            final Set<Long> expected = values.stream().map(value -> toLong((String) value)).collect(Collectors.toSet());
+            return expected::contains;
+        } else {
+            final List<Object> expected = List.copyOf(values);
+            return expected::contains;
+        }
+    }
+
+    // the like of the database query, see JpaQueryRsqlVisitorG2#toSQL - escaped characters are literals
+    private Predicate<Object> like(final String value) {
+        final StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == ESCAPE_CHAR && i + 1 < value.length()) {
+                regex.append(Pattern.quote(String.valueOf(value.charAt(++i))));
+            } else if (c == LIKE_WILDCARD) {
+                regex.append(".*");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        final Pattern pattern = Pattern.compile(regex.toString(),
+                ignoreCase ? Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : Pattern.DOTALL);
+        return fieldValue -> fieldValue instanceof String str && pattern.matcher(str).matches();
+    }
+
+    // in an OR the database query reuses the joins, also for the nested ANDs - so an AND of conditions on the same
+    // collection would have to match one and the same row
+    private void verifyNoSharedRows(final AndNode node) {
+        final Set<TargetFields> joined = EnumSet.noneOf(TargetFields.class);
+        for (final Node child : node.getChildren()) {
+            for (final TargetFields field : joinedCollections(child)) {
+                if (!joined.add(field)) {
+                    throw new NotMatchableException("multiple conditions on " + field + " in an AND nested in an OR");
+                }
+            }
+        }
+    }
+
+    private Set<TargetFields> joinedCollections(final Node node) {
+        final Set<TargetFields> joined = EnumSet.noneOf(TargetFields.class);
+        if (node instanceof ComparisonNode comparisonNode) {
+            final QuertPath queryField = getQuertPath(comparisonNode);
+            if (COLLECTIONS.contains(queryField.getEnumValue()) && !isNotExists(comparisonNode, queryField)) {
+                joined.add(queryField.getEnumValue());
+            }
+        } else if (node instanceof LogicalNode logicalNode) {
+            logicalNode.getChildren().forEach(child -> joined.addAll(joinedCollections(child)));
+        }
+        return joined;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate<Target>[] acceptChildren(final LogicalNode node) {
+        return node.getChildren().stream().map(child -> child.accept(this)).toArray(Predicate[]::new);
+    }
+
+    // the query couldn't be evaluated exactly in memory
+    private static final class NotMatchableException extends RuntimeException {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private NotMatchableException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
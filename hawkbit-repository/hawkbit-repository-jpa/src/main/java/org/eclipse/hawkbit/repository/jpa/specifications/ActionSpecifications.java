@@ -34,6 +34,18 @@ import org.springframework.data.jpa.domain.Specification;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ActionSpecifications {
 
+    /**
+     * Fetches the targets together with the actions, instead of loading them one by one later.
+     *
+     * @return the {@link Specification} which doesn't restrict the actions
+     */
+    public static Specification<JpaAction> fetchTarget() {
+        return (root, query, cb) -> {
+            root.fetch(JpaAction_.target);
+            return null;
+        };
+    }
+
     public static Specification<JpaAction> byTargetIdAndIsActive(final Long targetId) {
         return (root, query, cb) -> cb.and(
                 cb.equal(root.get(JpaAction_.target).get(AbstractJpaBaseEntity_.id), targetId),
@@ -0,0 +1,81 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.specifications;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications class for keyset (seek) pagination.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetSpecifications {
+
+    /**
+     * {@link Specification} for retrieving the entities sorted after the keyset of the request. For a sort
+     * <code>a, b, id</code> it is <code>a > :a OR (a = :a AND b > :b) OR (a = :a AND b = :b AND id > :id)</code>
+     * (respectively <code>&lt;</code> for descending orders).
+     *
+     * @param keyset the keyset page request, not of the first slice
+     * @return the {@link Specification}
+     * @throws IllegalArgumentException if a sort value couldn't be converted to the type of the sort attribute
+     */
+    public static <T> Specification<T> after(final KeysetPageRequest keyset) {
+        return (root, query, cb) -> {
+            final List<Predicate> disjunction = new ArrayList<>();
+            final List<Predicate> equalPrefix = new ArrayList<>();
+            int index = 0;
+            for (final Sort.Order order : keyset.getSort()) {
+                final Path<Comparable<Object>> path = root.get(order.getProperty());
+                final Comparable<Object> value = KeysetPageRequest.ID.equals(order.getProperty())
+                        ? toComparable(keyset.getLastId())
+                        : convert(keyset.getLastSortValues().get(index++), path.getJavaType());
+
+                final List<Predicate> conjunction = new ArrayList<>(equalPrefix);
+                conjunction.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+                disjunction.add(and(cb, conjunction));
+                equalPrefix.add(cb.equal(path, value));
+            }
+            return cb.or(disjunction.toArray(new Predicate[0]));
+        };
+    }
+
+    private static Predicate and(final CriteriaBuilder cb, final List<Predicate> conjunction) {
+        return conjunction.size() == 1 ? conjunction.get(0) : cb.and(conjunction.toArray(new Predicate[0]));
+    }
+
+    private static Comparable<Object> convert(final String value, final Class<?> type) {
+        try {
+            return toComparable(DefaultConversionService.getSharedInstance().convert(value, type));
+        } catch (final ConversionException e) {
+            throw new IllegalArgumentException("Invalid keyset value " + value + " for type " + type.getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> toComparable(final Object value) {
+        if (value instanceof Comparable<?>) {
+            return (Comparable<Object>) value;
+        }
+        throw new IllegalArgumentException("Keyset pagination supports only comparable sort attributes, got " + value);
+    }
+}
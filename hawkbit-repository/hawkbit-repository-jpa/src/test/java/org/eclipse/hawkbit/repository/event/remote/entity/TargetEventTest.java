@@ -9,9 +9,16 @@
  */
 package org.eclipse.hawkbit.repository.event.remote.entity;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.junit.jupiter.api.Test;
 
@@ -34,6 +41,18 @@ class TargetEventTest extends AbstractRemoteEntityEventTest<Target> {
         assertAndCreateRemoteEvent(TargetUpdatedEvent.class);
     }
 
+    @Test
+    @Description("Verifies that the target entities of remote events are reloaded in bulk")
+    void testTargetEntitiesBulkReload() {
+        final List<Target> targets = testdataFactory.createTargets(3, "bulk");
+        final List<Long> ids = new ArrayList<>(targets.stream().map(Target::getId).toList());
+        ids.add(-1L);
+
+        final List<JpaTarget> reloaded = EventEntityManagerHolder.getInstance().getEventEntityManager()
+                .findEntities(tenantAware.getCurrentTenant(), ids, JpaTarget.class);
+        assertThat(reloaded).map(Target::getId).containsExactlyInAnyOrderElementsOf(targets.stream().map(Target::getId).toList());
+    }
+
     @Override
     protected Target createEntity() {
         return testdataFactory.createTarget("12345");
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupChangeTracker;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class testing the event-driven evaluation of the running rollout groups.
+ */
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@TestPropertySource(properties = {
+        "hawkbit.server.repository.rolloutEventDrivenEvaluation=true",
+        // full evaluation is triggered explicitly by the tests
+        "hawkbit.server.repository.rolloutFullEvaluationInterval=3600000" })
+class RolloutEventDrivenEvaluationTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RolloutGroupChangeTracker rolloutGroupChangeTracker;
+
+    // the (single threaded) executor of the application event multicaster
+    @Autowired
+    @Qualifier("asyncExecutor")
+    private Executor asyncExecutor;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @Description("Verifies that a running group is evaluated, and the next group started, when its actions are updated.")
+    void groupIsEvaluatedOnActionUpdates() {
+        final Rollout rollout = createAndStartRollout();
+
+        finishRunningActions(rollout);
+
+        Awaitility.await().atMost(Duration.ofSeconds(10)).pollInSameThread().until(() -> {
+            rolloutHandler.handleAll();
+            return groupStatuses(rollout).equals(List.of(RolloutGroupStatus.FINISHED, RolloutGroupStatus.RUNNING));
+        });
+    }
+
+    @Test
+    @Description("Verifies that a running group without action events is not evaluated until the full evaluation.")
+    void groupWithoutActionEventsIsEvaluatedOnFullEvaluation() {
+        final Rollout rollout = createAndStartRollout();
+
+        // bulk update, without action events
+        actionRepository.switchStatus(Status.FINISHED,
+                findActionsByRolloutAndStatus(rollout, Status.RUNNING).stream().map(action -> action.getTarget().getId()).toList(),
+                true, Status.RUNNING);
+        rolloutHandler.handleAll();
+        assertThat(groupStatuses(rollout)).containsExactly(RolloutGroupStatus.RUNNING, RolloutGroupStatus.SCHEDULED);
+
+        // full evaluation is due
+        rolloutGroupChangeTracker.reset(rollout.getId());
+        rolloutHandler.handleAll();
+        assertThat(groupStatuses(rollout)).containsExactly(RolloutGroupStatus.FINISHED, RolloutGroupStatus.RUNNING);
+    }
+
+    @Test
+    @Description("Verifies that the groups drained in a rolled back transaction are evaluated again.")
+    void groupsDrainedInRolledBackTransactionAreEvaluatedAgain() {
+        final Rollout rollout = createAndStartRollout();
+
+        finishRunningActions(rollout);
+        awaitEventsDelivered();
+        DeploymentHelper.runInNewTransaction(txManager, "drainChangedGroups", status -> {
+            assertThat(rolloutGroupChangeTracker.drainChangedGroups(rollout.getId())).hasValueSatisfying(
+                    changedGroups -> assertThat(changedGroups).hasSize(1));
+            status.setRollbackOnly();
+            return 0L;
+        });
+
+        rolloutHandler.handleAll();
+        assertThat(groupStatuses(rollout)).containsExactly(RolloutGroupStatus.FINISHED, RolloutGroupStatus.RUNNING);
+    }
+
+    private Rollout createAndStartRollout() {
+        final Rollout rollout = testdataFactory.createSimpleTestRolloutWithTargetsAndDistributionSet(4, 0, 2, "100", "80");
+        rolloutManagement.start(rollout.getId());
+        // start, then the first (full) evaluation
+        rolloutHandler.handleAll();
+        rolloutHandler.handleAll();
+        assertThat(groupStatuses(rollout)).containsExactly(RolloutGroupStatus.RUNNING, RolloutGroupStatus.SCHEDULED);
+
+        // consume the changes signaled by the start
+        awaitEventsDelivered();
+        rolloutHandler.handleAll();
+        return rollout;
+    }
+
+    private void finishRunningActions(final Rollout rollout) {
+        for (final Action action : findActionsByRolloutAndStatus(rollout, Status.RUNNING)) {
+            controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(action.getId()).status(Status.FINISHED));
+        }
+    }
+
+    private List<RolloutGroupStatus> groupStatuses(final Rollout rollout) {
+        return rolloutGroupManagement.findByRollout(rollout.getId(), PAGE)
+                .map(RolloutGroup::getStatus).getContent();
+    }
+
+    private void awaitEventsDelivered() {
+        CompletableFuture.runAsync(() -> {}, asyncExecutor).join();
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounter;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class testing the persistent rollout group status counters.
+ */
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@TestPropertySource(properties = "hawkbit.server.repository.rolloutGroupStatusCounters=true")
+class RolloutGroupStatusCounterTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RolloutGroupStatusCounter rolloutGroupStatusCounter;
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @Description("Verifies that the counters follow the action status transitions of a running rollout.")
+    void countersFollowTheActionStatusTransitions() {
+        final Rollout rollout = createRollout("counted", "counted");
+        assertCountersMatchActions(rollout);
+        assertThat(countersOf(rollout)).isEqualTo(3L * Status.values().length);
+
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+        assertCountersMatchActions(rollout);
+
+        final List<Action> running = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(running.get(0).getId()).status(Status.FINISHED));
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(running.get(1).getId()).status(Status.ERROR));
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(running.get(2).getId()).status(Status.DOWNLOAD));
+        rolloutHandler.handleAll();
+        assertCountersMatchActions(rollout);
+        assertThat(rolloutGroupStatusCounter.getStatusCountByRolloutId(rollout.getId()))
+                .contains(new TotalTargetCountActionStatus(rollout.getId(), Status.FINISHED, 1L))
+                .contains(new TotalTargetCountActionStatus(rollout.getId(), Status.ERROR, 1L));
+    }
+
+    @Test
+    @Description("Verifies that the counters follow the bulk cancellation and deletion of the scheduled actions.")
+    void countersFollowTheBulkUpdates() {
+        final Rollout first = createRollout("first", "bulk");
+        rolloutManagement.start(first.getId());
+        rolloutHandler.handleAll();
+
+        // the scheduled actions of the first rollout are canceled by the second one
+        final Rollout second = createRollout("second", "bulk");
+        rolloutManagement.start(second.getId());
+        rolloutHandler.handleAll();
+        assertThat(findActionsByRolloutAndStatus(first, Status.CANCELED)).hasSize(6);
+        assertCountersMatchActions(first);
+        assertCountersMatchActions(second);
+
+        // the scheduled actions of the second rollout are deleted with it
+        rolloutManagement.delete(second.getId());
+        rolloutHandler.handleAll();
+        assertThat(rolloutRepository.findById(second.getId()).orElseThrow().getStatus()).isEqualTo(RolloutStatus.DELETED);
+        assertCountersMatchActions(second);
+    }
+
+    @Test
+    @Description("Verifies that the status of the groups without counters is aggregated over the actions.")
+    void groupsWithoutCountersAreAggregated() {
+        final Rollout rollout = createRollout("dropped", "dropped");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+        final List<Long> groupIds = groupIdsOf(rollout);
+
+        // drop the counters of the first group
+        DeploymentHelper.runInNewTransaction(txManager, "dropCounters", status -> entityManager
+                .createNativeQuery("DELETE FROM sp_rollout_group_status_count WHERE rollout_group = " + groupIds.get(0))
+                .executeUpdate());
+
+        assertThat(countersOf(rollout)).isEqualTo(2L * Status.values().length);
+        assertCountersMatchActions(rollout);
+    }
+
+    private Rollout createRollout(final String name, final String targetPrefix) {
+        if (targetManagement.count() == 0) {
+            testdataFactory.createTargets(9, targetPrefix);
+        }
+        return testdataFactory.createRolloutByVariables(
+                name, "", 3, "controllerId==" + targetPrefix + "*", testdataFactory.createDistributionSet(name), "100", "80");
+    }
+
+    private void assertCountersMatchActions(final Rollout rollout) {
+        final List<Long> groupIds = groupIdsOf(rollout);
+        assertThat(rolloutGroupStatusCounter.getStatusCountByRolloutGroupIds(groupIds))
+                .containsExactlyInAnyOrderElementsOf(actionRepository.getStatusCountByRolloutGroupIds(groupIds));
+        assertThat(rolloutGroupStatusCounter.getStatusCountByRolloutId(rollout.getId()))
+                .containsExactlyInAnyOrderElementsOf(actionRepository.getStatusCountByRolloutId(rollout.getId()));
+    }
+
+    private List<Long> groupIdsOf(final Rollout rollout) {
+        return rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).map(RolloutGroup::getId).getContent();
+    }
+
+    private long countersOf(final Rollout rollout) {
+        return ((Number) entityManager
+                .createNativeQuery("SELECT COUNT(*) FROM sp_rollout_group_status_count WHERE stripe = 0 AND rollout = " + rollout.getId())
+                .getSingleResult()).longValue();
+    }
+}
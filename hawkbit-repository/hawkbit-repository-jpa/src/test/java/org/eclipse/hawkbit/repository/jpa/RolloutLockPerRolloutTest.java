@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.exception.StopRolloutException;
+import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.rollout.MicrometerRolloutHandlingObserver;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.DistributionSetInvalidation;
+import org.eclipse.hawkbit.repository.model.DistributionSetInvalidation.CancelationType;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.eclipse.hawkbit.repository.model.RolloutGroupConditionBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test class testing the rollout handling with lock per rollout.
+ */
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@ContextConfiguration(classes = RolloutLockPerRolloutTest.Config.class)
+@TestPropertySource(properties = {
+        "hawkbit.server.repository.rolloutLockPerRollout=true",
+        "hawkbit.server.repository.dsInvalidationLockTimeout=1" })
+class RolloutLockPerRolloutTest extends AbstractJpaIntegrationTest {
+
+    // the locks of the lock registry are owned by the thread that has locked them
+    private final ExecutorService lockOwner = Executors.newSingleThreadExecutor();
+
+    @Autowired
+    private LockRegistry lockRegistry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void shutdownLockOwner() {
+        lockOwner.shutdownNow();
+    }
+
+    @Test
+    @Description("Verifies that a rollout locked by another thread (or node) is skipped, while the other rollouts of the tenant are handled.")
+    void rolloutLockedByOtherThreadIsSkipped() throws Exception {
+        testdataFactory.createTargets(4, "lockPerRollout");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        final Rollout locked = createRollout("locked", distributionSet);
+        final Rollout free = createRollout("free", distributionSet);
+
+        final Lock lock = lockInOtherThread(locked);
+        try {
+            rolloutHandler.handleAll();
+
+            assertThat(rolloutStatus(locked)).isEqualTo(RolloutStatus.CREATING);
+            assertThat(rolloutStatus(free)).isEqualTo(RolloutStatus.READY);
+        } finally {
+            unlockInOtherThread(lock);
+        }
+
+        rolloutHandler.handle(locked.getId());
+        assertThat(rolloutStatus(locked)).isEqualTo(RolloutStatus.READY);
+    }
+
+    @Test
+    @Description("Verifies that the handling latency is reported per tenant and result, not per rollout.")
+    void handlingLatencyIsReportedPerTenant() {
+        testdataFactory.createTargets(4, "lockPerRollout");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        final Rollout first = createRollout("first", distributionSet);
+        createRollout("second", distributionSet);
+        final long countBefore = handlingTimerCount();
+
+        rolloutHandler.handleAll();
+        rolloutHandler.handle(first.getId());
+
+        assertThat(handlingTimerCount() - countBefore).isEqualTo(3);
+        assertThat(handlingTimer().totalTime(TimeUnit.NANOSECONDS)).isPositive();
+        assertThat(meterRegistry.find(MicrometerRolloutHandlingObserver.METER_NAME).tagKeys("rollout").meters()).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that the distribution set invalidation waits for the lock of each active rollout.")
+    void invalidationTimesOutIfRolloutIsLocked() throws Exception {
+        testdataFactory.createTargets(4, "lockPerRollout");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        final Rollout rollout = createRollout("locked", distributionSet);
+
+        final Lock lock = lockInOtherThread(rollout);
+        try {
+            final DistributionSetInvalidation distributionSetInvalidation = new DistributionSetInvalidation(
+                    List.of(distributionSet.getId()), CancelationType.SOFT, true);
+            assertThatExceptionOfType(StopRolloutException.class)
+                    .isThrownBy(() -> distributionSetInvalidationManagement.invalidateDistributionSet(distributionSetInvalidation));
+        } finally {
+            unlockInOtherThread(lock);
+        }
+        assertThat(rolloutStatus(rollout)).isEqualTo(RolloutStatus.CREATING);
+    }
+
+    private Rollout createRollout(final String name, final DistributionSet distributionSet) {
+        return rolloutManagement.create(
+                entityFactory.rollout().create()
+                        .name(name).targetFilterQuery("controllerId==lockPerRollout*").distributionSetId(distributionSet),
+                2, false, new RolloutGroupConditionBuilder().withDefaults().build());
+    }
+
+    private RolloutStatus rolloutStatus(final Rollout rollout) {
+        return rolloutManagement.get(rollout.getId()).orElseThrow().getStatus();
+    }
+
+    private Timer handlingTimer() {
+        return meterRegistry.get(MicrometerRolloutHandlingObserver.METER_NAME)
+                .tag("tenant", tenantAware.getCurrentTenant())
+                .tag("result", "success")
+                .timer();
+    }
+
+    private long handlingTimerCount() {
+        final Timer timer = meterRegistry.find(MicrometerRolloutHandlingObserver.METER_NAME)
+                .tag("tenant", tenantAware.getCurrentTenant())
+                .tag("result", "success")
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private Lock lockInOtherThread(final Rollout rollout) throws ExecutionException, InterruptedException {
+        final Lock lock = lockRegistry.obtain(
+                JpaRolloutManagement.createRolloutLockKey(tenantAware.getCurrentTenant(), rollout.getId()));
+        assertThat(lockOwner.submit(() -> lock.tryLock()).get()).isTrue();
+        return lock;
+    }
+
+    private void unlockInOtherThread(final Lock lock) throws ExecutionException, InterruptedException {
+        lockOwner.submit(lock::unlock).get();
+    }
+
+    @Configuration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
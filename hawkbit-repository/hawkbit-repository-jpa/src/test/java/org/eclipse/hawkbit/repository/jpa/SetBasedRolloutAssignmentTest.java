@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.List;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupActionsCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutGroupCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutGroupUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.test.matcher.Expect;
+import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test class testing the set based rollout group filling and action creation.
+ */
+@Feature("Component Tests - Repository")
+@Story("Rollout Management")
+@TestPropertySource(properties = "hawkbit.server.repository.rolloutSetBasedAssignment=true")
+class SetBasedRolloutAssignmentTest extends AbstractJpaIntegrationTest {
+
+    @Test
+    @Description("Verifies that the groups are filled with the matching targets and that the scheduled actions are created for them.")
+    void groupsAreFilledAndActionsAreCreated() {
+        testdataFactory.createTargets(10, "setBased");
+        testdataFactory.createTargets(3, "other");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        final Rollout rollout = testdataFactory.createRolloutByVariables(
+                "setBased", "", 2, "controllerId==setBased*", distributionSet, "50", "80", ActionType.SOFT, 400, false);
+        assertThat(rollout.getStatus()).isEqualTo(RolloutStatus.READY);
+        assertThat(rollout.getTotalTargets()).isEqualTo(10);
+        assertThat(rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).map(RolloutGroup::getTotalTargets))
+                .containsExactly(5, 5);
+
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        assertThat(rolloutManagement.get(rollout.getId()).orElseThrow().getStatus()).isEqualTo(RolloutStatus.RUNNING);
+        assertThat(findActionsByRolloutAndStatus(rollout, Status.RUNNING)).hasSize(5);
+        final List<Action> scheduled = findActionsByRolloutAndStatus(rollout, Status.SCHEDULED);
+        assertThat(scheduled).hasSize(5).allSatisfy(action -> {
+            assertThat(action.isActive()).isFalse();
+            assertThat(action.getActionType()).isEqualTo(ActionType.SOFT);
+            assertThat(action.getWeight()).hasValue(400);
+            assertThat(action.getInitiatedBy()).isEqualTo(rollout.getCreatedBy());
+            assertThat(action.getTarget().getControllerId()).startsWith("setBased");
+            assertThat(action.getRolloutGroup().getRollout().getId()).isEqualTo(rollout.getId());
+        });
+    }
+
+    @Test
+    @Description("Verifies that a bulk event, instead of an action created event per action, is published for the created actions of a group.")
+    @ExpectEvents({
+            @Expect(type = RolloutGroupActionsCreatedEvent.class, count = 2),
+            @Expect(type = ActionUpdatedEvent.class, count = 2),
+            @Expect(type = TargetAssignDistributionSetEvent.class, count = 1),
+            @Expect(type = TargetCreatedEvent.class, count = 4),
+            @Expect(type = TargetUpdatedEvent.class, count = 2),
+            @Expect(type = DistributionSetCreatedEvent.class, count = 1),
+            @Expect(type = SoftwareModuleCreatedEvent.class, count = 3),
+            @Expect(type = DistributionSetUpdatedEvent.class, count = 1), // implicit lock
+            @Expect(type = SoftwareModuleUpdatedEvent.class, count = 3), // implicit lock
+            @Expect(type = RolloutCreatedEvent.class, count = 1),
+            @Expect(type = RolloutUpdatedEvent.class, count = 3),
+            @Expect(type = RolloutGroupCreatedEvent.class, count = 2),
+            @Expect(type = RolloutGroupUpdatedEvent.class, count = 5) })
+    void groupActionsCreatedEventIsPublished() {
+        testdataFactory.createTargets(4, "setBased");
+        final Rollout rollout = testdataFactory.createRolloutByVariables(
+                "setBased", "", 2, "controllerId==setBased*", testdataFactory.createDistributionSet(), "50", "80");
+
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        assertThat(findActionsByRolloutAndStatus(rollout, Status.SCHEDULED)).hasSize(2);
+    }
+
+    @Test
+    @Description("Verifies that the inactive scheduled actions of the targets are canceled when the actions of a new rollout are created.")
+    void inactiveScheduledActionsAreCanceled() {
+        testdataFactory.createTargets(4, "setBased");
+        final Rollout first = testdataFactory.createRolloutByVariables(
+                "first", "", 2, "controllerId==setBased*", testdataFactory.createDistributionSet("first"), "50", "80");
+        rolloutManagement.start(first.getId());
+        rolloutHandler.handleAll();
+        // the (default) weight of the rollout, as with the entity based action creation
+        assertThat(findActionsByRolloutAndStatus(first, Status.SCHEDULED)).hasSize(2)
+                .allSatisfy(action -> assertThat(action.getWeight()).isEqualTo(first.getWeight()));
+
+        final Rollout second = testdataFactory.createRolloutByVariables(
+                "second", "", 1, "controllerId==setBased*", testdataFactory.createDistributionSet("second"), "50", "80");
+        rolloutManagement.start(second.getId());
+        rolloutHandler.handleAll();
+
+        assertThat(findActionsByRolloutAndStatus(first, Status.SCHEDULED)).isEmpty();
+        assertThat(findActionsByRolloutAndStatus(first, Status.CANCELED)).hasSize(2);
+    }
+
+    @Test
+    @Description("Verifies that the 'max actions per target' quota is enforced on the action creation.")
+    void maxActionsPerTargetQuotaIsEnforced() {
+        enableMultiAssignments();
+        final Target target = testdataFactory.createTarget("setBased");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        for (int i = 0; i < quotaManagement.getMaxActionsPerTarget(); i++) {
+            deploymentManagement.offlineAssignedDistributionSets(
+                    List.of(new SimpleEntry<>(target.getControllerId(), distributionSet.getId())));
+        }
+
+        final Rollout rollout = testdataFactory.createRolloutByVariables(
+                "quota", "", 1, "controllerId==setBased*", distributionSet, "50", "80", ActionType.FORCED, 400, false);
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        assertThat(rolloutManagement.get(rollout.getId()).orElseThrow().getStatus()).isEqualTo(RolloutStatus.STARTING);
+        assertThat(actionRepository.countByRolloutIdAndStatus(rollout.getId(), Status.SCHEDULED)).isZero();
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.autoassign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test class testing the incremental auto assignment check of the changed targets.
+ */
+@Feature("Component Tests - Repository")
+@Story("Auto assign checker")
+@TestPropertySource(properties = {
+        "hawkbit.server.repository.autoAssignIncrementalCheck=true",
+        // full check is triggered explicitly by the tests
+        "hawkbit.server.repository.autoAssignFullCheckInterval=3600000" })
+class AutoAssignIncrementalCheckTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private AutoAssignChecker autoAssignChecker;
+
+    @Autowired
+    private AutoAssignChangeTracker autoAssignChangeTracker;
+
+    // the (single threaded) executor of the application event multicaster
+    @Autowired
+    @Qualifier("asyncExecutor")
+    private Executor asyncExecutor;
+
+    @Test
+    @Description("Verifies that a created target is auto assigned by the incremental check, while a target without " +
+            "target events is assigned by the full check only.")
+    void changedTargetsAreCheckedIncrementally() {
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("incremental");
+        implicitLock(distributionSet);
+        final TargetFilterQuery filter = targetFilterQueryManagement.create(
+                entityFactory.targetFilterQuery().create().name("incremental").query("controllerId==incremental*"));
+        targetFilterQueryManagement.updateAutoAssignDS(
+                entityFactory.targetFilterQuery().updateAutoAssign(filter.getId()).ds(distributionSet.getId()));
+        // the first (full) check
+        awaitEventsDelivered();
+        autoAssignChecker.checkAllTargets();
+
+        testdataFactory.createTarget("incremental1");
+        awaitEventsDelivered();
+        autoAssignChecker.checkAllTargets();
+        assertThat(actionCount("incremental1")).isEqualTo(1);
+
+        // the target event is lost
+        testdataFactory.createTarget("incremental2");
+        awaitEventsDelivered();
+        autoAssignChangeTracker.drainChangedTargets(tenantAware.getCurrentTenant());
+        autoAssignChecker.checkAllTargets();
+        assertThat(actionCount("incremental2")).isZero();
+
+        // full check is due
+        autoAssignChangeTracker.reset(tenantAware.getCurrentTenant());
+        autoAssignChecker.checkAllTargets();
+        assertThat(actionCount("incremental2")).isEqualTo(1);
+        assertThat(actionCount("incremental1")).isEqualTo(1);
+    }
+
+    @Test
+    @Description("Verifies that all the targets are checked when an auto assignment target filter is changed.")
+    void allTargetsAreCheckedOnFilterChange() {
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("filterChange");
+        implicitLock(distributionSet);
+        testdataFactory.createTarget("filterChange1");
+        awaitEventsDelivered();
+        autoAssignChecker.checkAllTargets();
+        // the target events are consumed
+        autoAssignChecker.checkAllTargets();
+
+        final TargetFilterQuery filter = targetFilterQueryManagement.create(
+                entityFactory.targetFilterQuery().create().name("filterChange").query("controllerId==filterChange*"));
+        targetFilterQueryManagement.updateAutoAssignDS(
+                entityFactory.targetFilterQuery().updateAutoAssign(filter.getId()).ds(distributionSet.getId()));
+        awaitEventsDelivered();
+        autoAssignChecker.checkAllTargets();
+        assertThat(actionCount("filterChange1")).isEqualTo(1);
+    }
+
+    @Test
+    @Description("Verifies that the changed targets of a failed check, put back to the tracker, are checked by the next check.")
+    void restoredChangedTargetsAreCheckedAgain() {
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("restored");
+        implicitLock(distributionSet);
+        final TargetFilterQuery filter = targetFilterQueryManagement.create(
+                entityFactory.targetFilterQuery().create().name("restored").query("controllerId==restored*"));
+        targetFilterQueryManagement.updateAutoAssignDS(
+                entityFactory.targetFilterQuery().updateAutoAssign(filter.getId()).ds(distributionSet.getId()));
+        // the first (full) check
+        awaitEventsDelivered();
+        autoAssignChecker.checkAllTargets();
+
+        final Long targetId = testdataFactory.createTarget("restored1").getId();
+        awaitEventsDelivered();
+        // drained by a failed check
+        assertThat(autoAssignChangeTracker.drainChangedTargets(tenantAware.getCurrentTenant()))
+                .hasValueSatisfying(targetIds -> assertThat(targetIds).contains(targetId));
+        autoAssignChangeTracker.restoreChangedTargets(tenantAware.getCurrentTenant(), Set.of(targetId));
+
+        autoAssignChecker.checkAllTargets();
+        assertThat(actionCount("restored1")).isEqualTo(1);
+    }
+
+    private long actionCount(final String controllerId) {
+        return deploymentManagement.countActionsByTarget(controllerId);
+    }
+
+    private void awaitEventsDelivered() {
+        CompletableFuture.runAsync(() -> {}, asyncExecutor).join();
+    }
+}
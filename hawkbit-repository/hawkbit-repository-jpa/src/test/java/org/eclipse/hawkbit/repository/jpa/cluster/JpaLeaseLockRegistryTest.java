@@ -0,0 +1,107 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Feature("Component Tests - Repository")
+@Story("Cluster Lock Registry")
+class JpaLeaseLockRegistryTest extends AbstractJpaIntegrationTest {
+
+    private static final String LOCK_KEY = "tenant-rollout";
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private JpaLeaseLockRegistry node1;
+    private JpaLeaseLockRegistry node2;
+
+    @BeforeEach
+    void setUp() {
+        node1 = new JpaLeaseLockRegistry(entityManager, txManager, "node1", TimeUnit.MINUTES.toMillis(1));
+        node2 = new JpaLeaseLockRegistry(entityManager, txManager, "node2", TimeUnit.MINUTES.toMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.close();
+        node2.close();
+    }
+
+    @Test
+    @Description("Verifies that a lock is exclusive across the nodes and reentrant within the thread holding it.")
+    void lockIsExclusiveAcrossNodes() throws InterruptedException {
+        final Lock lock = node1.obtain(LOCK_KEY);
+        assertThat(lock.tryLock()).isTrue();
+        assertThat(lock.tryLock()).isTrue();
+        assertThat(node2.obtain(LOCK_KEY).tryLock()).isFalse();
+        assertThat(node2.obtain(LOCK_KEY).tryLock(200, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(node2.obtain("other").tryLock()).isTrue();
+        node2.obtain("other").unlock();
+
+        // still held after the reentrant unlock
+        lock.unlock();
+        assertThat(node2.obtain(LOCK_KEY).tryLock()).isFalse();
+
+        lock.unlock();
+        final Lock lockOfNode2 = node2.obtain(LOCK_KEY);
+        assertThat(lockOfNode2.tryLock()).isTrue();
+        lockOfNode2.unlock();
+    }
+
+    @Test
+    @Description("Verifies that a lock is exclusive across the threads of a node.")
+    void lockIsExclusiveAcrossThreads() throws ExecutionException, InterruptedException {
+        final Lock lock = node1.obtain(LOCK_KEY);
+        assertThat(lock.tryLock()).isTrue();
+        final ExecutorService otherThread = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(otherThread.submit(() -> node1.obtain(LOCK_KEY).tryLock()).get()).isFalse();
+        } finally {
+            otherThread.shutdownNow();
+            lock.unlock();
+        }
+    }
+
+    @Test
+    @Description("Verifies that the expired lease of a lock (e.g. of a crashed node) is taken over by another node.")
+    void expiredLeaseIsTakenOver() {
+        final Lock lock = node1.obtain(LOCK_KEY);
+        assertThat(lock.tryLock()).isTrue();
+        assertThat(node2.obtain(LOCK_KEY).tryLock()).isFalse();
+
+        DeploymentHelper.runInNewTransaction(txManager, "expireLease", status ->
+                entityManager.createNativeQuery("UPDATE sp_lock SET expires_at = 0").executeUpdate());
+        final Lock lockOfNode2 = node2.obtain(LOCK_KEY);
+        assertThat(lockOfNode2.tryLock()).isTrue();
+
+        // releasing the lost lease keeps the lease of the new owner
+        lock.unlock();
+        assertThat(node1.obtain(LOCK_KEY).tryLock()).isFalse();
+        lockOfNode2.unlock();
+    }
+}
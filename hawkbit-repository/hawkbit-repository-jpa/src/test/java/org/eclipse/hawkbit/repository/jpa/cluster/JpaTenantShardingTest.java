@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Feature("Component Tests - Repository")
+@Story("Cluster Tenant Sharding")
+class JpaTenantShardingTest extends AbstractJpaIntegrationTest {
+
+    private static final List<String> TENANTS = IntStream.range(0, 300).mapToObj(i -> "TENANT" + i).toList();
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @Description("Verifies that every tenant is processed by exactly one live node, that the tenants are spread over the " +
+            "nodes and that only the tenants of a leaving node are moved to the other nodes.")
+    void tenantsAreShardedOverLiveNodes() {
+        final JpaTenantSharding node1 = sharding("node1");
+        final JpaTenantSharding node2 = sharding("node2");
+        final JpaTenantSharding node3 = sharding("node3");
+        try {
+            heartbeat(node1, node2, node3);
+            assertThat(node1.getNodes()).containsExactly("node1", "node2", "node3");
+
+            final Map<String, JpaTenantSharding> owners = owners(node1, node2, node3);
+            assertThat(owners.values().stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting())))
+                    .hasSize(3)
+                    .allSatisfy((node, tenants) -> assertThat(tenants).isGreaterThan(TENANTS.size() / 6L));
+
+            node3.close();
+            heartbeat(node1, node2);
+            assertThat(node1.getNodes()).containsExactly("node1", "node2");
+            final Map<String, JpaTenantSharding> remainingOwners = owners(node1, node2);
+            owners.forEach((tenant, owner) -> {
+                if (owner != node3) {
+                    assertThat(remainingOwners).containsEntry(tenant, owner);
+                }
+            });
+        } finally {
+            node1.close();
+            node2.close();
+            node3.close();
+        }
+    }
+
+    @Test
+    @Description("Verifies that a single node processes all the tenants.")
+    void singleNodeProcessesAllTenants() {
+        final JpaTenantSharding node = sharding("node");
+        try {
+            node.heartbeat();
+            assertThat(node.getNodes()).containsExactly("node");
+            assertThat(TENANTS).allMatch(node::isLocal);
+        } finally {
+            node.close();
+        }
+    }
+
+    // the heartbeats are triggered by the test
+    private JpaTenantSharding sharding(final String nodeId) {
+        return new JpaTenantSharding(entityManager, txManager, nodeId, TimeUnit.HOURS.toMillis(1), TimeUnit.MINUTES.toMillis(1));
+    }
+
+    private static void heartbeat(final JpaTenantSharding... nodes) {
+        // the second round reads the heartbeats of all the nodes
+        for (int i = 0; i < 2; i++) {
+            for (final JpaTenantSharding node : nodes) {
+                node.heartbeat();
+            }
+        }
+    }
+
+    private static Map<String, JpaTenantSharding> owners(final JpaTenantSharding... nodes) {
+        return TENANTS.stream().collect(Collectors.toMap(Function.identity(), tenant -> {
+            final List<JpaTenantSharding> owners = List.of(nodes).stream().filter(node -> node.isLocal(tenant)).toList();
+            assertThat(owners).as("Owners of %s", tenant).hasSize(1);
+            return owners.get(0);
+        }));
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.ActionStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+
+@Feature("Component Tests - Repository")
+@Story("Controller Management")
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.actionStatusWriteBehindEnabled=true",
+        // flushed explicitly by the tests
+        "hawkbit.server.repository.actionStatusWriteBehindFlushTime=3600000" })
+class ActionStatusWriteBehindTest extends AbstractJpaIntegrationTest {
+
+    @Test
+    @Description("Verifies that intermediate action statuses are queued and persisted, with a single action update, on flush.")
+    void intermediateActionStatusesArePersistedOnFlush() {
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds"), testdataFactory.createTarget("writeBehind")));
+
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.DOWNLOAD).code(1));
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.RUNNING).code(2));
+        assertThat(statuses(actionId)).containsExactly(Status.RUNNING);
+
+        flushActionStatusQueue();
+        assertThat(statuses(actionId)).containsExactly(Status.RUNNING, Status.DOWNLOAD, Status.RUNNING);
+        final Action action = deploymentManagement.findAction(actionId).orElseThrow();
+        assertThat(action.getLastActionStatusCode()).hasValue(2);
+        assertThat(action.isActive()).isTrue();
+    }
+
+    @Test
+    @Description("Verifies that a terminal action status is persisted immediately, after the queued ones of the action.")
+    void terminalActionStatusIsPersistedAfterQueuedOnes() {
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds"), testdataFactory.createTarget("writeBehind")));
+
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.DOWNLOADED));
+        assertThat(statuses(actionId)).containsExactly(Status.RUNNING);
+
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.FINISHED));
+        assertThat(statuses(actionId)).containsExactly(Status.RUNNING, Status.DOWNLOADED, Status.FINISHED);
+        assertThat(deploymentManagement.findAction(actionId).orElseThrow().getStatus()).isEqualTo(Status.FINISHED);
+
+        // nothing left
+        flushActionStatusQueue();
+        assertThat(statuses(actionId)).hasSize(3);
+    }
+
+    @Test
+    @Description("Verifies that the queued action statuses of a deleted action are dropped without failing the ones of other actions.")
+    void queuedActionStatusesOfDeletedActionAreDropped() {
+        final Long deletedActionId = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds1"), testdataFactory.createTarget("writeBehindDeleted")));
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds2"), testdataFactory.createTarget("writeBehind")));
+
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(deletedActionId).status(Status.DOWNLOAD));
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.DOWNLOAD));
+        targetManagement.deleteByControllerID("writeBehindDeleted");
+
+        flushActionStatusQueue();
+        assertThat(statuses(actionId)).containsExactly(Status.RUNNING, Status.DOWNLOAD);
+        assertThat(deploymentManagement.findAction(deletedActionId)).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that the queued action statuses count for the action status quota.")
+    void queuedActionStatusesCountForQuota() {
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds"), testdataFactory.createTarget("writeBehind")));
+
+        // the persisted RUNNING status of the assignment counts as well
+        for (int i = 1; i < quotaManagement.getMaxStatusEntriesPerAction(); i++) {
+            controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.DOWNLOAD));
+        }
+        assertThat(statuses(actionId)).containsExactly(Status.RUNNING);
+
+        assertThatExceptionOfType(AssignmentQuotaExceededException.class).isThrownBy(() -> controllerManagement
+                .addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.DOWNLOAD)));
+    }
+
+    private List<Status> statuses(final long actionId) {
+        return controllerManagement.findActionStatusByAction(PageRequest.of(0, 100, Sort.by("id")), actionId)
+                .map(ActionStatus::getStatus).getContent();
+    }
+
+    private void flushActionStatusQueue() {
+        final JpaControllerManagement jpaControllerManagement = AopTestUtils.getUltimateTargetObject(controllerManagement);
+        jpaControllerManagement.flushActionStatusQueue();
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.artifact.repository.BinaryDelta;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.repository.ArtifactDeltaManagement;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
+import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+@Feature("Component Tests - Repository")
+@Story("Artifact Delta Management")
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.artifact-delta-enabled=true" })
+class ArtifactDeltaManagementTest extends AbstractJpaIntegrationTest {
+
+    private static final String FILE_NAME = "firmware.bin";
+
+    @Autowired
+    private ArtifactDeltaManagement artifactDeltaManagement;
+
+    @Test
+    @Description("Verifies that the delta between the artifacts of two software module versions is generated in background, " +
+            "is offered to a target which has the source version installed and rebuilds the target version.")
+    void deltaIsGeneratedAndOfferedForInstalledSource() throws IOException {
+        final byte[] sourceContent = randomBytes(64 * 1024);
+        final byte[] targetContent = sourceContent.clone();
+        System.arraycopy(randomBytes(100), 0, targetContent, 1000, 100);
+
+        final SoftwareModule sourceModule = testdataFactory.createSoftwareModuleOs("source");
+        final SoftwareModule targetModule = testdataFactory.createSoftwareModuleOs("target");
+        final Artifact source = createArtifact(sourceModule, sourceContent);
+        final Artifact target = createArtifact(targetModule, targetContent);
+        final String controllerId = installed(sourceModule);
+
+        // not installed, no delta
+        assertThat(artifactDeltaManagement.findDeltas(testdataFactory.createTarget("other").getControllerId(), targetModule.getId()))
+                .isEmpty();
+
+        artifactDeltaManagement.generateDeltas(sourceModule.getId(), targetModule.getId());
+        final Map<String, ArtifactDelta> deltas = awaitDeltas(controllerId, targetModule);
+        assertThat(deltas).containsOnlyKeys(target.getSha1Hash());
+        final ArtifactDelta delta = deltas.get(target.getSha1Hash());
+        assertThat(delta.getSourceSha1Hash()).isEqualTo(source.getSha1Hash());
+        assertThat(delta.getSize()).isLessThan(targetContent.length / 10);
+
+        final DbArtifact deltaBinary = artifactDeltaManagement.loadDeltaBinary(source.getSha1Hash(), target.getSha1Hash()).orElseThrow();
+        assertThat(deltaBinary.getHashes().getSha1()).isEqualTo(delta.getSha1Hash());
+        final ByteArrayOutputStream rebuilt = new ByteArrayOutputStream();
+        try (final InputStream stream = deltaBinary.getFileInputStream()) {
+            BinaryDelta.apply(sourceContent, stream, rebuilt);
+        }
+        assertThat(rebuilt.toByteArray()).isEqualTo(targetContent);
+
+        // the deltas of a deleted artifact binary are deleted too
+        artifactManagement.delete(target.getId());
+        assertThat(artifactDeltaManagement.loadDeltaBinary(source.getSha1Hash(), target.getSha1Hash())).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that a delta which isn't much smaller than the target artifact is not offered.")
+    void deltaOfUnrelatedContentIsNotOffered() {
+        final SoftwareModule sourceModule = testdataFactory.createSoftwareModuleOs("source");
+        final SoftwareModule targetModule = testdataFactory.createSoftwareModuleOs("target");
+        final Artifact source = createArtifact(sourceModule, randomBytes(16 * 1024));
+        final Artifact target = createArtifact(targetModule, randomBytes(16 * 1024));
+        final String controllerId = installed(sourceModule);
+
+        // the first request schedules the generation
+        assertThat(artifactDeltaManagement.findDeltas(controllerId, targetModule.getId())).isEmpty();
+        Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(10)).until(() -> deltaRows(source, target) == 1);
+        assertThat(artifactDeltaManagement.findDeltas(controllerId, targetModule.getId())).isEmpty();
+        assertThat(artifactDeltaManagement.loadDeltaBinary(source.getSha1Hash(), target.getSha1Hash())).isEmpty();
+    }
+
+    private Artifact createArtifact(final SoftwareModule module, final byte[] content) {
+        return artifactManagement.create(
+                new ArtifactUpload(new ByteArrayInputStream(content), module.getId(), FILE_NAME, false, content.length));
+    }
+
+    private String installed(final SoftwareModule module) {
+        final String controllerId = "delta-" + module.getId();
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet(List.of(module)), List.of(testdataFactory.createTarget(controllerId))));
+        controllerManagement.addUpdateActionStatus(entityFactory.actionStatus().create(actionId).status(Status.FINISHED));
+        return controllerId;
+    }
+
+    private Map<String, ArtifactDelta> awaitDeltas(final String controllerId, final SoftwareModule module) {
+        return Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(10))
+                .until(() -> artifactDeltaManagement.findDeltas(controllerId, module.getId()), deltas -> !deltas.isEmpty());
+    }
+
+    private long deltaRows(final Artifact source, final Artifact target) {
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM sp_artifact_delta WHERE source_sha1 = ?1 AND target_sha1 = ?2")
+                .setParameter(1, source.getSha1Hash())
+                .setParameter(2, target.getSha1Hash())
+                .getSingleResult()).longValue();
+    }
+}
@@ -106,6 +106,20 @@ class ControllerManagementSecurityTest extends AbstractJpaIntegrationTest {
                 List.of(SpPermission.SpringEvalExpressions.CONTROLLER_ROLE));
     }
 
+    @Test
+    @Description("Tests ControllerManagement#pollTarget() method")
+    void pollTargetPermissionsCheck() {
+        assertPermissions(() -> controllerManagement.pollTarget("controllerId", URI.create("someaddress")),
+                List.of(SpPermission.SpringEvalExpressions.CONTROLLER_ROLE));
+    }
+
+    @Test
+    @Description("Tests ControllerManagement#findCachedPollSnapshot() method")
+    void findCachedPollSnapshotPermissionsCheck() {
+        assertPermissions(() -> controllerManagement.findCachedPollSnapshot("controllerId"),
+                List.of(SpPermission.SpringEvalExpressions.CONTROLLER_ROLE));
+    }
+
     @Test
     @Description("Tests ControllerManagement#getActionForDownloadByTargetAndSoftwareModule() method")
     void getActionForDownloadByTargetAndSoftwareModulePermissionsCheck() {
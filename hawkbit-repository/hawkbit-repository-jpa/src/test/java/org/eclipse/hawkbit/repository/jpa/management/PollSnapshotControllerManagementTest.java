@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetPollSnapshot;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@Feature("Component Tests - Repository")
+@Story("Controller Management")
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.eagerPollPersistence=false",
+        "hawkbit.server.repository.pollSnapshotCacheEnabled=true" })
+class PollSnapshotControllerManagementTest extends AbstractJpaIntegrationTest {
+
+    @Test
+    @Description("Verifies that the poll snapshot of an idle target is cached and served from the cache.")
+    void pollSnapshotIsCached() {
+        final Target target = testdataFactory.createTarget("idle");
+        final TargetPollSnapshot snapshot = controllerManagement.pollTarget("idle", LOCALHOST);
+        assertThat(snapshot.getTargetId()).isEqualTo(target.getId());
+        assertThat(snapshot.getActiveActionId()).isNull();
+        assertThat(snapshot.getPollingTime()).isEqualTo(controllerManagement.getPollingTime());
+
+        awaitCached("idle");
+        assertThat(controllerManagement.pollTarget("idle", LOCALHOST)).isSameAs(controllerManagement.findCachedPollSnapshot("idle").get());
+    }
+
+    @Test
+    @Description("Verifies that the poll snapshot is invalidated by an assignment and reloaded with the active action.")
+    void pollSnapshotIsInvalidatedOnAssignment() {
+        final Target target = testdataFactory.createTarget("assigned");
+        controllerManagement.pollTarget("assigned", LOCALHOST);
+        awaitCached("assigned");
+
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(testdataFactory.createDistributionSet("ds"), target));
+        Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(50))
+                .until(() -> controllerManagement.findCachedPollSnapshot("assigned").isEmpty());
+
+        final TargetPollSnapshot snapshot = controllerManagement.pollTarget("assigned", LOCALHOST);
+        assertThat(snapshot.getActiveActionId()).isEqualTo(actionId);
+        assertThat(snapshot.getActiveActionWeight()).isNotNull();
+    }
+
+    @Test
+    @Description("Verifies that the poll snapshot is invalidated by a target update and keeps the hash of the security token only.")
+    void pollSnapshotIsInvalidatedOnTargetUpdate() {
+        final Target target = testdataFactory.createTarget("updated");
+        controllerManagement.pollTarget("updated", LOCALHOST);
+        awaitCached("updated");
+
+        targetManagement.update(entityFactory.target().update("updated").securityToken("newToken"));
+        Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(50))
+                .until(() -> controllerManagement.findCachedPollSnapshot("updated").isEmpty());
+
+        final TargetPollSnapshot snapshot = controllerManagement.pollTarget("updated", LOCALHOST);
+        assertThat(snapshot.getTargetId()).isEqualTo(target.getId());
+        assertThat(snapshot.getSecurityTokenHash()).isNotEqualTo("newToken");
+        assertThat(snapshot.isSecurityTokenMatching("newToken")).isTrue();
+        assertThat(snapshot.isSecurityTokenMatching(target.getSecurityToken())).isFalse();
+    }
+
+    private void awaitCached(final String controllerId) {
+        // a snapshot loaded concurrently with the (async) creation events is not cached
+        Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(50))
+                .until(() -> controllerManagement.pollTarget(controllerId, LOCALHOST) != null
+                        && controllerManagement.findCachedPollSnapshot(controllerId).isPresent());
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rsql;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -107,6 +108,7 @@ class RSQLUtilityTest {
     void beforeEach() {
         setupRoot(baseSoftwareModuleRootMock);
         setupRoot(subqueryRootMock);
+        setupRsqlVisitorFactory();
     }
 
     @Test
@@ -121,6 +123,22 @@ class RSQLUtilityTest {
                 .isThrownBy(() -> validateRsqlForTestFields(rsql2));
     }
 
+    @Test
+    @Description("Verifies that a valid query is parsed once per field type, while an invalid one is not cached")
+    void parsedQueryIsCached() {
+        final String rsql = "TESTFIELD == abcd or TESTFIELD_WITH_SUB_ENTITIES.subentity11 == 0123";
+        assertThat(RSQLUtility.parseRsql(rsql, TestFieldEnum.class)).isSameAs(RSQLUtility.parseRsql(rsql, TestFieldEnum.class));
+
+        final String invalid = "TESTFIELD == abcd or TESTFIELD_WITH_SUB_ENTITIES.unsupported == 0123";
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                    .isThrownBy(() -> RSQLUtility.parseRsql(invalid, TestFieldEnum.class));
+        }
+        // the field type is part of the key
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> RSQLUtility.parseRsql(rsql, TargetFields.class));
+    }
+
     @Test
     @Description("Testing exception in case of not allowed subkey")
     void rsqlUnsupportedSubkeyThrowException() {
@@ -485,6 +503,13 @@ class RSQLUtilityTest {
         RSQLUtility.validateRsqlFor(rsql, TestFieldEnum.class);
     }
 
+    // the parsed queries are validated by the validation visitor of the factory
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private void setupRsqlVisitorFactory() {
+        when(rsqlVisitorFactory.validationRsqlVisitor(any(Class.class)))
+                .thenAnswer(invocation -> new FieldValidationRsqlVisitor(invocation.getArgument(0, Class.class)));
+    }
+
     private void reset0(final Object... mocks) {
         reset(mocks);
         if (Arrays.asList(mocks).contains(baseSoftwareModuleRootMock)) {
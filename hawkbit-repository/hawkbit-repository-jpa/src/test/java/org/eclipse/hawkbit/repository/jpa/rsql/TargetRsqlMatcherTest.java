@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetType;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Differential test of the in memory evaluation of the target filter queries against the database queries.
+ */
+@Feature("Component Tests - Repository")
+@Story("RSQL filter target")
+class TargetRsqlMatcherTest extends AbstractJpaIntegrationTest {
+
+    private static final List<String> QUERIES = List.of(
+            "id==targetId123", "id!=targetId123", "id=in=(targetId123,notexist)", "id=out=(targetId123,notexist)",
+            "controllerId==target*", "controllerId==TARGETID123", "controllerId==*23*", "controllerId!=*6",
+            "name==targetName123", "name==*_100%", "name==*_100", "name!=target*", "name=gt=targetId1235", "name=le=targetId1235",
+            "description==''", "description!=''", "description==target*", "description!=target*",
+            "description=in=(targetDesc123,'')", "description=out=(targetDesc123)",
+            "updatestatus==pending", "updatestatus!=pending", "updatestatus=in=(pending,in_sync)", "updatestatus=out=(unknown)",
+            "ipaddress==*127.0.0.1*", "ipaddress!=*127.0.0.1*", "ipaddress==''",
+            "attribute.revision==1.1", "attribute.revision!=1.1", "attribute.revision==1.*", "attribute.revision=gt=1.1",
+            "attribute.revision=in=(1.1,1.3)", "attribute.revision=out=(1.1)", "attribute.hw==rpi*", "attribute.hw!=rpi4",
+            "attribute.notexist==x", "attribute.notexist!=x", "attribute.hw==''",
+            "metadata.metaKey==metaValue", "metadata.metaKey!=metaValue", "metadata.metaKey==*value", "metadata.metaKey!=*value",
+            "metadata.metaKey=in=(value,x)", "metadata.metaKey=out=(value)", "metadata.other==''", "metadata.other!=''",
+            "tag==Tag1", "tag!=Tag1", "tag==Tag*", "tag!=Tag*", "tag=in=(Tag1,Tag2)", "tag=out=(Tag1,Tag2)", "tag==''", "tag!=''",
+            "tag==Tag1;tag==Tag3", "tag==Tag1,tag==Tag2", "tag!=Tag1;tag!=Tag2", "tag.name==tag3",
+            "assignedds.name==AssignedDs", "assignedds.name!=AssignedDs", "assignedds.version==*", "assignedds.name==''",
+            "installedds.name==installed*", "installedds.name!=installed*", "installedds.version=out=(x)",
+            "targettype.key==Type1.key", "targettype.name!=Type1", "targettype.name==Type*", "targettype.key=out=(type1.key)",
+            "targettype.name==''", "createdat=gt=0", "createdat=lt=0", "lastmodifiedat=ge=0",
+            "lastcontrollerrequestat=le=${NOW_TS}", "lastcontrollerrequestat=gt=${NOW_TS}",
+            "(name==targetName123,tag==Tag2);attribute.revision==1.2", "tag==Tag1,(metadata.metaKey==value;targettype.name==Type2)",
+            "updatestatus==registered;tag!=Tag2", "(tag==Tag1,tag==Tag2);(tag==Tag3,tag=='')",
+            "(tag==Tag1;metadata.metaKey==metaValue),(tag==Tag2;attribute.revision==1.2)");
+
+    @Autowired
+    private VirtualPropertyReplacer virtualPropertyReplacer;
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @BeforeEach
+    void setupBeforeTest() {
+        final DistributionSet ds = testdataFactory.createDistributionSet("AssignedDs");
+
+        final Target target = targetManagement.create(entityFactory.target().create().controllerId("targetId123")
+                .name("targetName123").description("targetDesc123"));
+        controllerManagement.updateControllerAttributes(target.getControllerId(), Map.of("revision", "1.1", "hw", "RPi4"), null);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist(target.getControllerId(), LOCALHOST);
+        createTargetMetadata(target.getControllerId(), entityFactory.generateTargetMetadata("metaKey", "metaValue"));
+        createTargetMetadata(target.getControllerId(), entityFactory.generateTargetMetadata("other", "x"));
+
+        final Target target2 = targetManagement.create(entityFactory.target().create().controllerId("targetId1234")
+                .description("targetId1234"));
+        controllerManagement.updateControllerAttributes(target2.getControllerId(), Map.of("revision", "1.2", "hw", "rpi3"), null);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist(target2.getControllerId(), LOCALHOST);
+        createTargetMetadata(target2.getControllerId(), entityFactory.generateTargetMetadata("metaKey", "value"));
+
+        final Target target3 = testdataFactory.createTarget("targetId1235");
+        final Target target4 = targetManagement.create(entityFactory.target().create().controllerId("targetId1236")
+                .name("Target_100%"));
+        prepareFinishedUpdate("targetId1237", "installed", false);
+
+        final Long tag1 = targetTagManagement.create(entityFactory.tag().create().name("Tag1")).getId();
+        final Long tag2 = targetTagManagement.create(entityFactory.tag().create().name("Tag2")).getId();
+        final Long tag3 = targetTagManagement.create(entityFactory.tag().create().name("Tag3")).getId();
+        targetManagement.assignTag(List.of(target.getControllerId(), target2.getControllerId()), tag1);
+        targetManagement.assignTag(List.of(target3.getControllerId(), target4.getControllerId()), tag2);
+        targetManagement.assignTag(List.of(target.getControllerId(), target3.getControllerId(), target4.getControllerId()), tag3);
+
+        assignDistributionSet(ds.getId(), target.getControllerId());
+
+        final TargetType targetType1 = targetTypeManagement.create(
+                entityFactory.targetType().create().name("Type1").key("Type1.key"));
+        final TargetType targetType2 = targetTypeManagement.create(
+                entityFactory.targetType().create().name("Type2").key("Type2.key"));
+        targetManagement.assignType(target.getControllerId(), targetType1.getId());
+        targetManagement.assignType(target2.getControllerId(), targetType2.getId());
+    }
+
+    @Test
+    @Description("Verifies that the targets matched in memory are the ones matched by the database query.")
+    void matchesAsDatabaseQuery() {
+        for (final String query : QUERIES) {
+            final Predicate<Target> matcher = TargetRsqlMatcher.compile(query, virtualPropertyReplacer).orElseThrow(
+                    () -> new AssertionError("Query " + query + " is not evaluated in memory"));
+            assertThat(matchInMemory(matcher)).as(query).isEqualTo(matchInDatabase(query));
+        }
+        // the test data covers the queries
+        assertThat(matchInDatabase("tag!=Tag1;tag!=Tag2")).containsExactly("targetId1237");
+        assertThat(matchInDatabase("name==*_100%")).containsExactly("targetId1236");
+    }
+
+    @Test
+    @Description("Verifies that the queries which couldn't be evaluated exactly in memory are not compiled.")
+    void queriesNotMatchableInMemoryAreNotCompiled() {
+        assertThat(TargetRsqlMatcher.compile("(tag==Tag1;tag==Tag3),name==x", virtualPropertyReplacer)).isEmpty();
+        assertThat(TargetRsqlMatcher.compile("name==x,(metadata.a==1;metadata.b==2)", virtualPropertyReplacer)).isEmpty();
+        assertThat(TargetRsqlMatcher.compile("createdat==1*", virtualPropertyReplacer)).isEmpty();
+        assertThat(TargetRsqlMatcher.compile("updatestatus=gt=pending", virtualPropertyReplacer)).isEmpty();
+        // different collections or not exists sub queries
+        assertThat(TargetRsqlMatcher.compile("(tag==Tag1;metadata.a==1),name==x", virtualPropertyReplacer)).isPresent();
+        assertThat(TargetRsqlMatcher.compile("(tag==Tag1;tag!=Tag3),name==x", virtualPropertyReplacer)).isPresent();
+    }
+
+    private Set<String> matchInDatabase(final String query) {
+        return targetManagement.findByRsql(PageRequest.of(0, 100), query).stream()
+                .map(Target::getControllerId)
+                .collect(Collectors.toSet());
+    }
+
+    // the collections of the targets are loaded lazily, within the transaction
+    private Set<String> matchInMemory(final Predicate<Target> matcher) {
+        return DeploymentHelper.runInNewTransaction(txManager, "matchInMemory", status ->
+                targetManagement.findAll(PageRequest.of(0, 100)).stream()
+                        .filter(matcher)
+                        .map(Target::getControllerId)
+                        .collect(Collectors.toSet()));
+    }
+}
@@ -29,7 +29,11 @@ import org.eclipse.hawkbit.exception.SpServerError;
 import org.eclipse.hawkbit.rest.exception.MessageNotReadableException;
 import org.eclipse.hawkbit.rest.exception.MultiPartFileUploadException;
 import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
+import org.eclipse.hawkbit.rest.util.AsyncFileStreaming;
 import org.eclipse.hawkbit.rest.util.FileStreamingFailedException;
+import org.eclipse.hawkbit.rest.util.FileStreamingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,6 +56,7 @@ import org.springframework.web.multipart.MultipartException;
  */
 @Configuration
 @EnableHypermediaSupport(type = { HypermediaType.HAL })
+@EnableConfigurationProperties(FileStreamingProperties.class)
 public class RestConfiguration {
 
     /**
@@ -84,6 +89,18 @@ public class RestConfiguration {
         return filterRegBean;
     }
 
+    /**
+     * Asynchronous artifact download streaming, used if enabled in the {@link FileStreamingProperties}.
+     *
+     * @param fileStreamingProperties the download streaming configuration
+     * @return the asynchronous file streaming
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    AsyncFileStreaming asyncFileStreaming(final FileStreamingProperties fileStreamingProperties) {
+        return new AsyncFileStreaming(fileStreamingProperties);
+    }
+
     /**
      * General controller advice for exception handling.
      */
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.rest.util.FileStreamingUtil.FileStreamingProgressListener;
+
+/**
+ * Writes artifact binaries using the non-blocking servlet I/O. The servlet thread is released as soon as the download
+ * is started, the content is written by the container threads whenever the client is able to receive more.
+ * <p/>
+ * The buffers are reused (pooled) since a buffer is needed per running download. They are heap buffers as the servlet
+ * output stream accepts byte arrays only, so a direct buffer would add a copy.
+ */
+@Slf4j
+public class AsyncFileStreaming {
+
+    private final FileStreamingProperties properties;
+    private final BlockingQueue<ByteBuffer> bufferPool;
+
+    public AsyncFileStreaming(final FileStreamingProperties properties) {
+        this.properties = properties;
+        bufferPool = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferPoolSize()));
+    }
+
+    /**
+     * Checks if the response for the request could be written asynchronously.
+     *
+     * @param request the download request
+     * @return <code>true</code> if asynchronous downloads are enabled and supported for the request
+     */
+    public boolean isApplicable(final HttpServletRequest request) {
+        return properties.isAsyncEnabled() && request.isAsyncSupported();
+    }
+
+    /**
+     * Starts the asynchronous write of the artifact range. The response headers have to be set already. After return
+     * the response must not be accessed by the caller anymore.
+     *
+     * @param artifact the artifact
+     * @param filename of the artifact, for logging
+     * @param request the download request
+     * @param response the download response
+     * @param progressListener to write progress updates to, called by the container threads
+     * @param start start of the range
+     * @param length length of the range
+     * @throws IOException if the artifact could not be opened or the asynchronous write could not be started
+     */
+    @SuppressWarnings("java:S107")
+    public void start(final DbArtifact artifact, final String filename, final HttpServletRequest request,
+            final HttpServletResponse response, final FileStreamingProgressListener progressListener,
+            final long start, final long length) throws IOException {
+        final Transfer transfer = new Transfer(artifact, filename, start, length, new FileStreamingUtil.Progress(progressListener, length));
+        try {
+            final AsyncContext asyncContext = request.startAsync(request, response);
+            asyncContext.setTimeout(properties.getAsyncTimeout());
+            asyncContext.addListener(transfer);
+            transfer.start(asyncContext, response.getOutputStream());
+        } catch (final RuntimeException | IOException e) {
+            transfer.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer acquire() {
+        final ByteBuffer buffer = bufferPool.poll();
+        return buffer == null ? ByteBuffer.allocate(properties.getBufferSize()) : buffer;
+    }
+
+    private void release(final ByteBuffer buffer) {
+        if (buffer.capacity() == properties.getBufferSize()) {
+            buffer.clear();
+            bufferPool.offer(buffer);
+        }
+    }
+
+    private final class Transfer implements WriteListener, AsyncListener {
+
+        private final String filename;
+        private final FileChannel channel;
+        private final InputStream inputStream;
+        private final FileStreamingUtil.Progress progress;
+        private final ByteBuffer buffer;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private long position;
+        private long remaining;
+        private AsyncContext asyncContext;
+        private ServletOutputStream outputStream;
+
+        private Transfer(final DbArtifact artifact, final String filename, final long start, final long length,
+                final FileStreamingUtil.Progress progress) throws IOException {
+            this.filename = filename;
+            this.progress = progress;
+            position = start;
+            remaining = length;
+
+            final Optional<FileChannel> fileChannel = artifact.openFileChannel();
+            if (fileChannel.isPresent()) {
+                channel = fileChannel.get();
+                inputStream = null;
+            } else {
+                channel = null;
+                try {
+                    // seeks directly where supported, e.g. of seekable encrypted or cached artifacts
+                    inputStream = artifact.getFileInputStream(start);
+                } catch (final UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+            buffer = acquire();
+        }
+
+        private void start(final AsyncContext asyncContext, final ServletOutputStream outputStream) {
+            this.asyncContext = asyncContext;
+            this.outputStream = outputStream;
+            log.trace("Start of async write of file {} from {} to {}", filename, position, remaining);
+            // the container calls onWritePossible as soon as the output stream is ready
+            outputStream.setWriteListener(this);
+        }
+
+        @Override
+        public void onWritePossible() throws IOException {
+            while (outputStream.isReady()) {
+                if (remaining <= 0) {
+                    log.trace("Finished async write of file {} with length {}", filename, progress.getTotal());
+                    complete();
+                    return;
+                }
+
+                buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+                final int read = channel == null
+                        ? inputStream.read(buffer.array(), buffer.arrayOffset(), buffer.limit())
+                        : channel.read(buffer, position);
+                if (read < 0) {
+                    log.error("{}: {} bytes could not be written to client, end of file reached", filename, remaining);
+                    complete();
+                    return;
+                }
+
+                outputStream.write(buffer.array(), buffer.arrayOffset(), read);
+                position += read;
+                remaining -= read;
+                progress.shipped(read);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            log.debug("Async write of file {} failed with {} bytes remaining", filename, remaining, t);
+            complete();
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            close();
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+            log.warn("Async write of file {} timed out with {} bytes remaining", filename, remaining);
+            complete();
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+            log.debug("Async write of file {} failed with {} bytes remaining", filename, remaining, event.getThrowable());
+            close();
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+            // nothing to do
+        }
+
+        private void complete() {
+            close();
+            try {
+                asyncContext.complete();
+            } catch (final IllegalStateException e) {
+                // already completed by the container
+                log.trace("Async context of file {} already completed", filename, e);
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                release(buffer);
+                closeQuietly(channel);
+                closeQuietly(inputStream);
+            }
+        }
+
+        private void closeQuietly(final Closeable closeable) {
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (final IOException e) {
+                    log.debug("Failed to close file {}", filename, e);
+                }
+            }
+        }
+    }
+}
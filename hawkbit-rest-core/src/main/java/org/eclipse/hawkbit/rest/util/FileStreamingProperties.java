@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration of the artifact download streaming.
+ */
+@Data
+@ConfigurationProperties("hawkbit.server.download")
+public class FileStreamingProperties {
+
+    /**
+     * Set to <code>true</code> to write full and single range artifact downloads asynchronously (non-blocking servlet
+     * I/O). Then the servlet thread is released after the download has been started and the content is written
+     * whenever the client is able to receive it, so slow downloads don't block the servlet threads.
+     */
+    private boolean asyncEnabled;
+
+    /**
+     * Size in bytes of the buffers used for asynchronous downloads.
+     */
+    private int bufferSize = 0x10000; // 64k
+
+    /**
+     * Maximum number of buffers kept for reuse by the asynchronous downloads. If more downloads are running
+     * concurrently, additional buffers are allocated and dropped after use.
+     */
+    private int bufferPoolSize = 256;
+
+    /**
+     * Timeout in milliseconds for an asynchronous download. A value of zero or less means no timeout - a download to
+     * a non-responsive client is still aborted by the write timeout of the servlet container.
+     */
+    private long asyncTimeout;
+}
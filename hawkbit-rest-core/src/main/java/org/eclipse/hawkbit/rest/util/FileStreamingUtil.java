@@ -12,11 +12,17 @@ package org.eclipse.hawkbit.rest.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,7 +31,6 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -40,6 +45,10 @@ import org.springframework.http.ResponseEntity;
 public final class FileStreamingUtil {
 
     private static final int BUFFER_SIZE = 0x2000; // 8k
+    // max bytes transferred from a file channel at once, between two progress checks
+    private static final long MAX_TRANSFER_CHUNK_SIZE = 0x100000; // 1m
+    // content encodings of the artifact variants which could be negotiated, by preference
+    private static final List<String> CONTENT_ENCODINGS = List.of("zstd", "gzip");
 
     /**
      * <p>
@@ -65,17 +74,50 @@ public final class FileStreamingUtil {
     public static ResponseEntity<InputStream> writeFileResponse(final DbArtifact artifact, final String filename,
             final long lastModified, final HttpServletResponse response, final HttpServletRequest request,
             final FileStreamingProgressListener progressListener) {
+        return writeFileResponse(artifact, filename, lastModified, response, request, progressListener, null);
+    }
+
+    /**
+     * Same as {@link #writeFileResponse(DbArtifact, String, long, HttpServletResponse, HttpServletRequest,
+     * FileStreamingProgressListener)} but writes full and single range responses asynchronously, if
+     * applicable for the given {@link AsyncFileStreaming}. Then the progress listener is called by the
+     * container threads.
+     *
+     * @param artifact the artifact
+     * @param filename to be written to the client response
+     * @param lastModified unix timestamp of the artifact
+     * @param response to be sent back to the requesting client
+     * @param request from the client
+     * @param progressListener to write progress updates to
+     * @param asyncFileStreaming to write the response asynchronously, could be <code>null</code>
+     * @return http response or <code>null</code> if the response is written asynchronously
+     * @throws FileStreamingFailedException if streaming fails
+     */
+    @SuppressWarnings("java:S107")
+    public static ResponseEntity<InputStream> writeFileResponse(final DbArtifact artifact, final String filename,
+            final long lastModified, final HttpServletResponse response, final HttpServletRequest request,
+            final FileStreamingProgressListener progressListener, final AsyncFileStreaming asyncFileStreaming) {
 
         ResponseEntity<InputStream> result;
 
-        final String etag = artifact.getHashes().getSha1();
-        final long length = artifact.getSize();
+        // the encoded variant is a representation of its own - ranges apply to it, and it has its own length and etag
+        final Optional<EncodedArtifact> encoded = negotiateContentEncoding(artifact, request);
+        final DbArtifact representation = encoded.map(EncodedArtifact::artifact).orElse(artifact);
+        final String etag = encoded.map(variant -> etag(artifact.getHashes().getSha1(), variant.encoding()))
+                .orElse(artifact.getHashes().getSha1());
+        final long length = representation.getSize();
 
         resetResponseExceptHeaders(response);
 
         response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment;filename=" + filename);
         response.setHeader(HttpHeaders.ETAG, etag);
         response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        encoded.ifPresent(variant -> response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding()));
+        // the response depends on the Accept-Encoding if there are variants - even the identity one, or else caches
+        // could serve it to clients accepting an encoded variant and vice versa
+        if (encoded.isPresent() || hasEncodedVariant(artifact)) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
         // set the x-content-type options header to prevent browsers from doing
         // MIME-sniffing when downloading an artifact, as this could cause a
         // security vulnerability
@@ -117,22 +159,80 @@ public final class FileStreamingUtil {
         // full request - no range
         if (ranges.isEmpty() || ranges.get(0).equals(full)) {
             log.debug("filename ({}) results into a full request: ", filename);
-            result = handleFullFileRequest(artifact, filename, response, progressListener, full);
+            result = handleFullFileRequest(representation, filename, response, progressListener, full, request, asyncFileStreaming);
         }
         // standard range request
         else if (ranges.size() == 1) {
             log.debug("filename ({}) results into a standard range request: ", filename);
-            result = handleStandardRangeRequest(artifact, filename, response, progressListener, ranges);
+            result = handleStandardRangeRequest(representation, filename, response, progressListener, ranges, request, asyncFileStreaming);
         }
         // multipart range request
         else {
             log.debug("filename ({}) results into a multipart range request: ", filename);
-            result = handleMultipartRangeRequest(artifact, filename, response, progressListener, ranges);
+            result = handleMultipartRangeRequest(representation, filename, response, progressListener, ranges);
         }
 
         return result;
     }
 
+    /**
+     * Checks the <code>If-Match</code> request header against the ETag of the artifact, i.e. its SHA1 hash, or the ETag
+     * of any of its encoded variants - as the client could have got that one with a content negotiated response.
+     *
+     * @param request from the client
+     * @param sha1 the SHA1 hash of the artifact
+     * @return <code>true</code> if there is no <code>If-Match</code> header or it matches
+     */
+    public static boolean matchesIfMatch(final HttpServletRequest request, final String sha1) {
+        final String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+        return ifMatch == null || HttpUtil.matchesHttpHeader(ifMatch, sha1)
+                || CONTENT_ENCODINGS.stream().anyMatch(encoding -> HttpUtil.matchesHttpHeader(ifMatch, etag(sha1, encoding)));
+    }
+
+    // the ETag of an encoded variant - its own representation, so it must differ from the one of the artifact
+    private static String etag(final String sha1, final String encoding) {
+        return sha1 + "-" + encoding;
+    }
+
+    /**
+     * Selects the content encoding of the response by the <code>Accept-Encoding</code> request header: the accepted
+     * one with the highest quality (zstd is preferred to gzip on equal quality) the artifact is available in.
+     */
+    private static Optional<EncodedArtifact> negotiateContentEncoding(final DbArtifact artifact, final HttpServletRequest request) {
+        final String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Optional.empty();
+        }
+
+        final Map<String, Double> accepted = new HashMap<>();
+        for (final String part : acceptEncoding.split(",")) {
+            final String[] params = part.split(";");
+            final String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < params.length; i++) {
+                final String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (final NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            accepted.put(coding, quality);
+        }
+
+        return CONTENT_ENCODINGS.stream()
+                .filter(coding -> accepted.getOrDefault(coding, 0.0) > 0)
+                .sorted(Comparator.comparingDouble(coding -> -accepted.get(coding)))
+                .flatMap(coding -> artifact.getEncoded(coding).map(variant -> new EncodedArtifact(coding, variant)).stream())
+                .findFirst();
+    }
+
+    private static boolean hasEncodedVariant(final DbArtifact artifact) {
+        return CONTENT_ENCODINGS.stream().anyMatch(coding -> artifact.getEncoded(coding).isPresent());
+    }
+
     private static void resetResponseExceptHeaders(final HttpServletResponse response) {
         // do backup the current headers (like CORS related)
         final Map<String, String> storedHeaders = new HashMap<>();
@@ -146,16 +246,22 @@ public final class FileStreamingUtil {
         storedHeaders.forEach(response::addHeader);
     }
 
+    @SuppressWarnings("java:S107")
     private static ResponseEntity<InputStream> handleFullFileRequest(final DbArtifact artifact, final String filename,
             final HttpServletResponse response, final FileStreamingProgressListener progressListener,
-            final ByteRange full) {
+            final ByteRange full, final HttpServletRequest request, final AsyncFileStreaming asyncFileStreaming) {
         final ByteRange r = full;
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
 
-        try (final InputStream from = artifact.getFileInputStream()) {
+        try {
+            if (asyncFileStreaming != null && asyncFileStreaming.isApplicable(request)) {
+                asyncFileStreaming.start(artifact, filename, request, response, progressListener, r.getStart(), r.getLength());
+                return null;
+            }
+
             final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+            copy(artifact, to, progressListener, r.getStart(), r.getLength(), filename);
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullfileRequest " + filename, e);
         }
@@ -225,17 +331,14 @@ public final class FileStreamingUtil {
             final ServletOutputStream to = response.getOutputStream();
 
             for (final ByteRange r : ranges) {
-                try (final InputStream from = artifact.getFileInputStream()) {
-
-                    // Add multipart boundary and header fields for every range.
-                    to.println();
-                    to.println("--" + ByteRange.MULTIPART_BOUNDARY);
-                    to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
-                            + r.getTotal());
-
-                    // Copy single part range of multi part range.
-                    copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
-                }
+                // Add multipart boundary and header fields for every range.
+                to.println();
+                to.println("--" + ByteRange.MULTIPART_BOUNDARY);
+                to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
+                        + r.getTotal());
+
+                // Copy single part range of multi part range.
+                copy(artifact, to, progressListener, r.getStart(), r.getLength(), filename);
             }
 
             // End with final multipart boundary.
@@ -248,17 +351,24 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    @SuppressWarnings("java:S107")
     private static ResponseEntity<InputStream> handleStandardRangeRequest(final DbArtifact artifact,
             final String filename, final HttpServletResponse response,
-            final FileStreamingProgressListener progressListener, final List<ByteRange> ranges) {
+            final FileStreamingProgressListener progressListener, final List<ByteRange> ranges,
+            final HttpServletRequest request, final AsyncFileStreaming asyncFileStreaming) {
         final ByteRange r = ranges.get(0);
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-        try (final InputStream from = artifact.getFileInputStream()) {
+        try {
+            if (asyncFileStreaming != null && asyncFileStreaming.isApplicable(request)) {
+                asyncFileStreaming.start(artifact, filename, request, response, progressListener, r.getStart(), r.getLength());
+                return null;
+            }
+
             final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+            copy(artifact, to, progressListener, r.getStart(), r.getLength(), filename);
         } catch (final IOException e) {
             log.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -267,6 +377,52 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    private static long copy(final DbArtifact artifact, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final long start, final long length,
+            final String filename) throws IOException {
+        final Optional<FileChannel> fileChannel = artifact.openFileChannel();
+        if (fileChannel.isPresent()) {
+            try (final FileChannel from = fileChannel.get()) {
+                return transferChannel(from, to, progressListener, start, length, filename);
+            }
+        } else {
+            // the artifact positions the stream, e.g. seeks instead of reading through the skipped bytes
+            try (final InputStream from = artifact.getFileInputStream(start)) {
+                return copyStreams(from, to, progressListener, start, length, filename);
+            }
+        }
+    }
+
+    // transfers the range by position, i.e. without reading through the skipped bytes. This is a positional channel copy
+    // only, not a zero-copy (sendfile) transfer - the target is a channel over the servlet output stream, so the content is
+    // still copied through a buffer
+    private static long transferChannel(final FileChannel from, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final long start, final long length,
+            final String filename) throws IOException {
+
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of transfer-channel of file {} from {} to {}", filename, start, length);
+
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        final WritableByteChannel target = Channels.newChannel(to);
+        final Progress progress = new Progress(progressListener, length);
+        // at most 1% of the range at once, so the progress is reported as granular as with the stream copy
+        final long chunkSize = Math.max(BUFFER_SIZE, Math.min(MAX_TRANSFER_CHUNK_SIZE, length / 100));
+
+        while (progress.getTotal() < length) {
+            final long transferred = from.transferTo(start + progress.getTotal(),
+                    Math.min(chunkSize, length - progress.getTotal()), target);
+            if (transferred <= 0) {
+                // end of file reached
+                break;
+            }
+            progress.shipped(transferred);
+        }
+
+        return finish(filename, progress.getTotal(), length, startMillis);
+    }
+
     private static long copyStreams(final InputStream from, final OutputStream to,
             final FileStreamingProgressListener progressListener, final long start, final long length,
             final String filename) throws IOException {
@@ -277,14 +433,10 @@ public final class FileStreamingUtil {
         Objects.requireNonNull(from);
         Objects.requireNonNull(to);
         final byte[] buf = new byte[BUFFER_SIZE];
-        long total = 0;
-        int progressPercent = 1;
-
-        IOUtils.skipFully(from, start);
+        final Progress progress = new Progress(progressListener, length);
 
         long toRead = length;
         boolean toContinue = true;
-        long shippedSinceLastEvent = 0;
 
         while (toContinue) {
             final int r = from.read(buf);
@@ -295,27 +447,18 @@ public final class FileStreamingUtil {
             toRead -= r;
             if (toRead > 0) {
                 to.write(buf, 0, r);
-                total += r;
-                shippedSinceLastEvent += r;
+                progress.shipped(r);
             } else {
                 to.write(buf, 0, (int) toRead + r);
-                total += toRead + r;
-                shippedSinceLastEvent += toRead + r;
+                progress.shipped(toRead + r);
                 toContinue = false;
             }
-
-            if (progressListener != null) {
-                final int newPercent = (int) Math.floor(total * 100.0 / length);
-
-                // every 10 percent an event
-                if (newPercent == 100 || newPercent > progressPercent + 10) {
-                    progressPercent = newPercent;
-                    progressListener.progress(length, shippedSinceLastEvent, total);
-                    shippedSinceLastEvent = 0;
-                }
-            }
         }
 
+        return finish(filename, progress.getTotal(), length, startMillis);
+    }
+
+    private static long finish(final String filename, final long total, final long length, final long startMillis) {
         final long totalTime = System.currentTimeMillis() - startMillis;
 
         if (total < length) {
@@ -323,7 +466,7 @@ public final class FileStreamingUtil {
                     + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
         }
 
-        log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
+        log.trace("Finished copy of file {} with length {} in {} ms", filename, length, totalTime);
 
         return total;
     }
@@ -344,6 +487,41 @@ public final class FileStreamingUtil {
         void progress(long requestedBytes, long shippedBytesSinceLast, long shippedBytesOverall);
     }
 
+    static final class Progress {
+
+        private final FileStreamingProgressListener progressListener;
+        private final long length;
+
+        private long total;
+        private int progressPercent = 1;
+        private long shippedSinceLastEvent;
+
+        Progress(final FileStreamingProgressListener progressListener, final long length) {
+            this.progressListener = progressListener;
+            this.length = length;
+        }
+
+        void shipped(final long bytes) {
+            total += bytes;
+            shippedSinceLastEvent += bytes;
+
+            if (progressListener != null) {
+                final int newPercent = (int) Math.floor(total * 100.0 / length);
+
+                // every 10 percent an event
+                if (newPercent == 100 || newPercent > progressPercent + 10) {
+                    progressPercent = newPercent;
+                    progressListener.progress(length, shippedSinceLastEvent, total);
+                    shippedSinceLastEvent = 0;
+                }
+            }
+        }
+
+        long getTotal() {
+            return total;
+        }
+    }
+
     private static final class ByteRange {
 
         private static final String MULTIPART_BOUNDARY = "THIS_STRING_SEPARATES_MULTIPART";
@@ -414,9 +592,10 @@ public final class FileStreamingUtil {
             return length;
         }
 
-        private long getTotal() {
+        long getTotal() {
             return total;
         }
-
     }
+
+    private record EncodedArtifact(String encoding, DbArtifact artifact) {}
 }
@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.ResponseEntity;
+
+@Feature("Component Tests - Management API")
+@Story("File streaming")
+class AsyncFileStreamingTest {
+
+    private static final String CONTENT = "This is some very long string which is intended to test the async streaming";
+    private static final byte[] CONTENT_BYTES = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+    private static final DbArtifact TEST_ARTIFACT = new DbArtifact() {
+
+        @Override
+        public String getArtifactId() {
+            return "1";
+        }
+
+        @Override
+        public DbArtifactHash getHashes() {
+            return new DbArtifactHash("sha1-111", "md5-123", "sha256-123");
+        }
+
+        @Override
+        public long getSize() {
+            return CONTENT_BYTES.length;
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/plain";
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            return new ByteArrayInputStream(CONTENT_BYTES);
+        }
+    };
+
+    @Test
+    @Description("Verifies that a range is written asynchronously, whenever the output stream is ready, with small pooled buffers")
+    void writesRangeAsynchronously() throws IOException {
+        final FileStreamingProperties properties = new FileStreamingProperties();
+        properties.setAsyncEnabled(true);
+        properties.setBufferSize(8);
+        final AsyncFileStreaming asyncFileStreaming = new AsyncFileStreaming(properties);
+
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        final AsyncContext asyncContext = Mockito.mock(AsyncContext.class);
+        Mockito.when(servletRequest.isAsyncSupported()).thenReturn(true);
+        Mockito.when(servletRequest.startAsync(any(), any())).thenReturn(asyncContext);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=5-");
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final NonBlockingOutputStream outputStream = new NonBlockingOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
+
+        final List<Long> progress = new ArrayList<>();
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(TEST_ARTIFACT,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest,
+                (requested, sinceLast, overall) -> progress.add(overall), asyncFileStreaming);
+
+        // nothing is written until the container signals that the output stream is ready
+        assertThat(responseEntity).isNull();
+        assertThat(outputStream.writeListener).isNotNull();
+        assertThat(outputStream.content.size()).isZero();
+
+        // 71 bytes in chunks of 8 bytes, a chunk per ready signal
+        for (int i = 0; i < 9; i++) {
+            outputStream.ready = 1;
+            outputStream.writeListener.onWritePossible();
+            verify(asyncContext, never()).complete();
+        }
+        outputStream.ready = 1;
+        outputStream.writeListener.onWritePossible();
+
+        assertThat(outputStream.content.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT.substring(5));
+        assertThat(progress).last().isEqualTo((long) CONTENT_BYTES.length - 5);
+        verify(asyncContext, times(1)).complete();
+    }
+
+    @Test
+    @Description("Verifies that a response is written blocking if the async streaming is not enabled")
+    void writesBlockingIfNotEnabled() throws IOException {
+        final AsyncFileStreaming asyncFileStreaming = new AsyncFileStreaming(new FileStreamingProperties());
+
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.isAsyncSupported()).thenReturn(true);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final NonBlockingOutputStream outputStream = new NonBlockingOutputStream();
+        outputStream.ready = Integer.MAX_VALUE;
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(TEST_ARTIFACT,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest, null, asyncFileStreaming);
+
+        assertThat(responseEntity).isNotNull();
+        assertThat(outputStream.writeListener).isNull();
+        assertThat(outputStream.content.toByteArray()).isEqualTo(CONTENT_BYTES);
+        verify(servletRequest, never()).startAsync(any(), any());
+    }
+
+    private static class NonBlockingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        private WriteListener writeListener;
+        private int ready;
+
+        @Override
+        public boolean isReady() {
+            return ready > 0;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            this.writeListener = writeListener;
+        }
+
+        @Override
+        public void write(final int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            if (ready <= 0) {
+                throw new IllegalStateException("Written while not ready");
+            }
+            ready--;
+            content.write(b, off, len);
+        }
+    }
+}
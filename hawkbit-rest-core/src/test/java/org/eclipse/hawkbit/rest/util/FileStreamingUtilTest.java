@@ -17,11 +17,21 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -30,6 +40,7 @@ import io.qameta.allure.Story;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
@@ -112,4 +123,175 @@ class FileStreamingUtilTest {
         verify(outputStream, times(0)).print(anyString());
         verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
     }
+
+    @Test
+    void shouldTransferFileChannelForRangeRequests(@TempDir final Path tempDir) throws IOException {
+        final Path file = Files.write(tempDir.resolve("test.file"), CONTENT_BYTES);
+        final DbArtifact fileArtifact = new DbArtifactDelegate(TEST_ARTIFACT) {
+
+            @Override
+            public Optional<FileChannel> openFileChannel() {
+                try {
+                    return Optional.of(FileChannel.open(file, StandardOpenOption.READ));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public InputStream getFileInputStream() {
+                throw new IllegalStateException("File channel shall be used");
+            }
+        };
+
+        final ByteArrayOutputStream fullContent = new ByteArrayOutputStream();
+        final List<Long> progress = new ArrayList<>();
+        FileStreamingUtil.writeFileResponse(fileArtifact, "test.file", 0, mockResponse(fullContent),
+                Mockito.mock(HttpServletRequest.class), (requested, sinceLast, overall) -> progress.add(overall));
+        assertThat(fullContent.toByteArray()).isEqualTo(CONTENT_BYTES);
+        assertThat(progress).containsExactly((long) CONTENT_BYTES.length);
+
+        final ByteArrayOutputStream rangeContent = new ByteArrayOutputStream();
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=8-15");
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(fileArtifact,
+                "test.file", System.currentTimeMillis(), mockResponse(rangeContent), servletRequest, null);
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(rangeContent.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT.substring(8, 16));
+    }
+
+    @Test
+    void shouldNegotiateEncodedVariant() throws IOException {
+        final byte[] gzipBytes = "gzip encoded".getBytes(StandardCharsets.UTF_8);
+        final DbArtifact encodedArtifact = new DbArtifactDelegate(TEST_ARTIFACT) {
+
+            @Override
+            public Optional<DbArtifact> getEncoded(final String contentEncoding) {
+                return "gzip".equals(contentEncoding) ? Optional.of(new DbArtifactDelegate(TEST_ARTIFACT) {
+
+                    @Override
+                    public long getSize() {
+                        return gzipBytes.length;
+                    }
+
+                    @Override
+                    public InputStream getFileInputStream() {
+                        return new ByteArrayInputStream(gzipBytes);
+                    }
+                }) : Optional.empty();
+            }
+        };
+
+        final ByteArrayOutputStream encodedContent = new ByteArrayOutputStream();
+        final HttpServletResponse encodedResponse = mockResponse(encodedContent);
+        final HttpServletRequest encodedRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(encodedRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn("br, zstd;q=0.9, gzip;q=0.5");
+        FileStreamingUtil.writeFileResponse(encodedArtifact, "test.file", 0, encodedResponse, encodedRequest, null);
+        assertThat(encodedContent.toByteArray()).isEqualTo(gzipBytes);
+        verify(encodedResponse).setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        verify(encodedResponse).setHeader(HttpHeaders.ETAG, "sha1-111-gzip");
+        verify(encodedResponse).setContentLengthLong(gzipBytes.length);
+        verify(encodedResponse).setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // ranges apply to the encoded representation
+        final ByteArrayOutputStream rangeContent = new ByteArrayOutputStream();
+        Mockito.when(encodedRequest.getHeader("Range")).thenReturn("bytes=5-");
+        FileStreamingUtil.writeFileResponse(encodedArtifact, "test.file", System.currentTimeMillis(),
+                mockResponse(rangeContent), encodedRequest, null);
+        assertThat(rangeContent.toString(StandardCharsets.UTF_8)).isEqualTo("encoded");
+
+        // gzip not accepted
+        final ByteArrayOutputStream identityContent = new ByteArrayOutputStream();
+        final HttpServletResponse identityResponse = mockResponse(identityContent);
+        final HttpServletRequest identityRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(identityRequest.getHeader(HttpHeaders.ACCEPT_ENCODING)).thenReturn("gzip;q=0, identity");
+        FileStreamingUtil.writeFileResponse(encodedArtifact, "test.file", 0, identityResponse, identityRequest, null);
+        assertThat(identityContent.toByteArray()).isEqualTo(CONTENT_BYTES);
+        verify(identityResponse, times(0)).setHeader(Mockito.eq(HttpHeaders.CONTENT_ENCODING), anyString());
+        verify(identityResponse).setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // no variants - the response doesn't depend on the accepted encodings
+        final HttpServletResponse plainResponse = mockResponse(new ByteArrayOutputStream());
+        FileStreamingUtil.writeFileResponse(TEST_ARTIFACT, "test.file", 0, plainResponse, identityRequest, null);
+        verify(plainResponse, times(0)).setHeader(Mockito.eq(HttpHeaders.VARY), anyString());
+    }
+
+    @Test
+    void shouldMatchIfMatchWithEncodedVariantEtag() {
+        final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        assertThat(FileStreamingUtil.matchesIfMatch(request, "sha1-111")).isTrue();
+
+        Mockito.when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("sha1-111");
+        assertThat(FileStreamingUtil.matchesIfMatch(request, "sha1-111")).isTrue();
+        Mockito.when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("other, sha1-111-gzip");
+        assertThat(FileStreamingUtil.matchesIfMatch(request, "sha1-111")).isTrue();
+        Mockito.when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("sha1-111-zstd");
+        assertThat(FileStreamingUtil.matchesIfMatch(request, "sha1-111")).isTrue();
+
+        Mockito.when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("sha1-111-br");
+        assertThat(FileStreamingUtil.matchesIfMatch(request, "sha1-111")).isFalse();
+        Mockito.when(request.getHeader(HttpHeaders.IF_MATCH)).thenReturn("sha1-222-gzip");
+        assertThat(FileStreamingUtil.matchesIfMatch(request, "sha1-111")).isFalse();
+    }
+
+    private static HttpServletResponse mockResponse(final ByteArrayOutputStream content) throws IOException {
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public void write(final int b) {
+                content.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                content.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                // not needed
+            }
+        });
+        return servletResponse;
+    }
+
+    private static class DbArtifactDelegate implements DbArtifact {
+
+        private final DbArtifact delegate;
+
+        private DbArtifactDelegate(final DbArtifact delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getArtifactId() {
+            return delegate.getArtifactId();
+        }
+
+        @Override
+        public DbArtifactHash getHashes() {
+            return delegate.getHashes();
+        }
+
+        @Override
+        public long getSize() {
+            return delegate.getSize();
+        }
+
+        @Override
+        public String getContentType() {
+            return delegate.getContentType();
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            return delegate.getFileInputStream();
+        }
+    }
 }
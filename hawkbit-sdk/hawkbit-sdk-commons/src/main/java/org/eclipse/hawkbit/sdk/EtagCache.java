@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import feign.InvocationContext;
+import feign.Request;
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.ResponseInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Makes the GET requests of a feign client conditional. It remembers the last ETag and the decoded response per URL,
+ * sends the ETag as <code>If-None-Match</code> and, if the server responds with <code>304 Not Modified</code>, returns
+ * the remembered response. So, for the caller, a not modified resource looks the same as a resource returned again.
+ * <p/>
+ * An instance shall be used for a single client (i.e. controller) since the responses depend on the authentication.
+ */
+@Slf4j
+public class EtagCache implements RequestInterceptor, ResponseInterceptor {
+
+    private static final int DEFAULT_MAX_ENTRIES = 16;
+
+    private final Map<String, Entry> entries;
+
+    public EtagCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public EtagCache(final int maxEntries) {
+        entries = Collections.synchronizedMap(new LinkedHashMap<>(maxEntries, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    public void apply(final RequestTemplate template) {
+        if (Request.HttpMethod.GET.name().equals(template.method()) && template.feignTarget() != null) {
+            final Entry entry = entries.get(template.feignTarget().url() + template.url());
+            if (entry != null) {
+                template.header(HttpHeaders.IF_NONE_MATCH, entry.etag());
+            }
+        }
+    }
+
+    @Override
+    public Object intercept(final InvocationContext invocationContext, final Chain chain) throws Exception {
+        final Response response = invocationContext.response();
+        if (response.request().httpMethod() != Request.HttpMethod.GET) {
+            return chain.next(invocationContext);
+        }
+
+        final String url = response.request().url();
+        if (response.status() == HttpStatus.NOT_MODIFIED.value()) {
+            final Entry entry = entries.get(url);
+            if (entry != null) {
+                log.trace("Resource {} not modified", url);
+                return entry.response();
+            }
+        }
+
+        final Object result = chain.next(invocationContext);
+        final String etag = header(response, HttpHeaders.ETAG);
+        if (response.status() == HttpStatus.OK.value() && etag != null && result != null) {
+            entries.put(url, new Entry(etag, result));
+        } else {
+            entries.remove(url);
+        }
+        return result;
+    }
+
+    private static String header(final Response response, final String name) {
+        final Collection<String> values = response.headers().get(name);
+        return values == null || values.isEmpty() ? null : values.iterator().next();
+    }
+
+    private record Entry(String etag, Object response) {}
+}
@@ -139,11 +139,19 @@ public class HawkbitClient {
     }
 
     public <T> T mgmtService(final Class<T> serviceType, final Tenant tenantProperties) {
-        return service(serviceType, tenantProperties, null);
+        return service(serviceType, tenantProperties, null, null);
     }
 
     public <T> T ddiService(final Class<T> serviceType, final Tenant tenantProperties, final Controller controller) {
-        return service(serviceType, tenantProperties, controller);
+        return service(serviceType, tenantProperties, controller, null);
+    }
+
+    /**
+     * Creates a DDI service which makes the GET requests conditional using the given {@link EtagCache}.
+     */
+    public <T> T ddiService(
+            final Class<T> serviceType, final Tenant tenantProperties, final Controller controller, final EtagCache etagCache) {
+        return service(serviceType, tenantProperties, controller, etagCache);
     }
 
     /**
@@ -190,8 +198,8 @@ public class HawkbitClient {
         }
     }
 
-    private <T> T service(final Class<T> serviceType, final Tenant tenant, final Controller controller) {
-        final T service = service0(serviceType, tenant, controller);
+    private <T> T service(final Class<T> serviceType, final Tenant tenant, final Controller controller, final EtagCache etagCache) {
+        final T service = service0(serviceType, tenant, controller, etagCache);
         if (serviceType.isInterface() // proxy only interfaces
                 && Stream.of(serviceType.getDeclaredMethods()) // and has MultipartFile argument
                 .anyMatch(method -> method.getAnnotation(PostMapping.class) != null
@@ -205,19 +213,22 @@ public class HawkbitClient {
     }
 
     private static final Cleaner CLEANER = Cleaner.create();
-    private <T> T service0(final Class<T> serviceType, final Tenant tenant, final Controller controller) {
+    private <T> T service0(final Class<T> serviceType, final Tenant tenant, final Controller controller, final EtagCache etagCache) {
         final String url = controller == null ? hawkBitServer.getMgmtUrl() : hawkBitServer.getDdiUrl();
         final HttpClientKey key = new HttpClientKey(
                 url.startsWith("https://"), controller == null ? null : controller.getCertificate(), tenant.getTenantCA());
         final HttpClient httpClient = httpClient(key);
-        final T service = Feign.builder()
+        final Feign.Builder builder = Feign.builder()
                 .client(new ApacheHttp5Client(httpClient))
                 .encoder(encoder)
                 .decoder(decoder)
                 .errorDecoder(errorDecoder)
                 .contract(contract)
-                .requestInterceptor(requestInterceptorFn.apply(tenant, controller))
-                .target(serviceType, url);
+                .requestInterceptor(requestInterceptorFn.apply(tenant, controller));
+        if (etagCache != null) {
+            builder.requestInterceptor(etagCache).responseInterceptor(etagCache);
+        }
+        final T service = builder.target(serviceType, url);
         CLEANER.register(service, key::release);
         return service;
     }
@@ -34,6 +34,7 @@ import org.eclipse.hawkbit.ddi.json.model.DdiUpdateMode;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
 import org.eclipse.hawkbit.sdk.Certificate;
 import org.eclipse.hawkbit.sdk.Controller;
+import org.eclipse.hawkbit.sdk.EtagCache;
 import org.eclipse.hawkbit.sdk.HawkbitClient;
 import org.eclipse.hawkbit.sdk.Tenant;
 import org.springframework.hateoas.Link;
@@ -89,7 +90,8 @@ public class DdiController {
         this.targetSecurityToken = controller.getSecurityToken();
         this.certificate = controller.getCertificate();
         this.updateHandler = updateHandler == null ? UpdateHandler.SKIP : updateHandler;
-        ddiApi = hawkbitClient.ddiService(DdiRootControllerRestApi.class, tenant, controller);
+        // polls are conditional - the server responds with 304 (and no body) if the controller base hasn't been changed
+        ddiApi = hawkbitClient.ddiService(DdiRootControllerRestApi.class, tenant, controller, new EtagCache());
     }
 
     public String getTenantId() {
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.sdk.dmf.amqp;
 
 import lombok.Data;
 import lombok.ToString;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -40,4 +41,10 @@ public class AmqpProperties {
      * Message time to live (ttl) for the deadletter queue. Default ttl is 1 hour.
      */
     private int deadLetterTtl = 60_000;
+
+    /**
+     * Content type (encoding) of the DMF messages sent to the update server - application/json (default) or
+     * application/cbor.
+     */
+    private String contentType = MessageProperties.CONTENT_TYPE_JSON;
 }
\ No newline at end of file
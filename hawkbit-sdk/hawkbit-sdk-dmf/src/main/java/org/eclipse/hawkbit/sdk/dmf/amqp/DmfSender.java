@@ -121,7 +121,7 @@ public class DmfSender {
         messagePropertiesForSP.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ATTRIBUTES);
         messagePropertiesForSP.setHeader(MessageHeaderKey.TENANT, tenant);
         messagePropertiesForSP.setHeader(MessageHeaderKey.THING_ID, controllerId);
-        messagePropertiesForSP.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        messagePropertiesForSP.setContentType(amqpProperties.getContentType());
         messagePropertiesForSP.setReplyTo(amqpProperties.getSenderForSpExchange());
 
         final DmfAttributeUpdate attributeUpdate = new DmfAttributeUpdate(attributes, mode);
@@ -164,7 +164,8 @@ public class DmfSender {
         headers.put(MessageHeaderKey.TYPE, MessageType.EVENT.name());
         headers.put(MessageHeaderKey.TENANT, tenant);
         headers.put(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
-        headers.put(MessageHeaderKey.CONTENT_TYPE, MessageProperties.CONTENT_TYPE_JSON);
+        headers.put(MessageHeaderKey.CONTENT_TYPE, amqpProperties.getContentType());
+        messageProperties.setContentType(amqpProperties.getContentType());
 
         return convertMessage(actionUpdateStatus, messageProperties);
     }
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.dmf.amqp;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * Message converter for the CBOR ({@value AmqpSettings#CONTENT_TYPE_CBOR}) encoded DMF messages. The DMF model is the
+ * same as with JSON, only the encoding is binary - smaller and faster to parse. The Java type of the payload is mapped
+ * by the same type id header as the {@link org.springframework.amqp.support.converter.Jackson2JsonMessageConverter}.
+ */
+@Slf4j
+public class Jackson2CborMessageConverter extends AbstractMessageConverter {
+
+    private final ObjectMapper objectMapper = CBORMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final DefaultJackson2JavaTypeMapper javaTypeMapper = new DefaultJackson2JavaTypeMapper();
+
+    /**
+     * Constructor trusting all the packages, as the {@link org.springframework.amqp.support.converter.Jackson2JsonMessageConverter}.
+     */
+    public Jackson2CborMessageConverter() {
+        this("*");
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param trustedPackages the trusted Java packages for deserialization
+     */
+    public Jackson2CborMessageConverter(final String... trustedPackages) {
+        javaTypeMapper.setTrustedPackages(trustedPackages);
+    }
+
+    @Override
+    public Object fromMessage(final Message message) {
+        final MessageProperties messageProperties = message.getMessageProperties();
+        final String contentType = messageProperties == null ? null : messageProperties.getContentType();
+        if (contentType == null || !contentType.startsWith(AmqpSettings.CONTENT_TYPE_CBOR)) {
+            log.warn("Could not convert incoming message with content-type [{}], '{}' expected", contentType,
+                    AmqpSettings.CONTENT_TYPE_CBOR);
+            return message.getBody();
+        }
+
+        try {
+            return objectMapper.readValue(message.getBody(), javaTypeMapper.toJavaType(messageProperties));
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to convert CBOR message content", e);
+        }
+    }
+
+    @Override
+    protected Message createMessage(final Object object, final MessageProperties messageProperties) {
+        final byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(object);
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to convert message content to CBOR", e);
+        }
+        messageProperties.setContentType(AmqpSettings.CONTENT_TYPE_CBOR);
+        messageProperties.setContentLength(body.length);
+        javaTypeMapper.fromJavaType(objectMapper.constructType(object.getClass()), messageProperties);
+        return new Message(body, messageProperties);
+    }
+}
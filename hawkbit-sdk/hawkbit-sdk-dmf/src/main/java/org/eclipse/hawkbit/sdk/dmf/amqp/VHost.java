@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
@@ -40,6 +41,7 @@ import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 
 /**
@@ -48,8 +50,6 @@ import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 @Slf4j
 public class VHost extends DmfSender implements MessageListener {
 
-    private static final String REGEX_EXTRACT_ACTION_ID = "[^0-9]";
-
     private final SimpleMessageListenerContainer container;
     private final ConcurrentHashMap<String, DmfTenant> dmfTenants = new ConcurrentHashMap<>();
     private final Set<Long> openActions = Collections.synchronizedSet(new HashSet<>());
@@ -67,7 +67,11 @@ public class VHost extends DmfSender implements MessageListener {
         // Jackson2JsonMessageConverter can not handle messages with NULL
         // payload (e.g. REQUEST_ATTRIBUTES_UPDATE), so the
         // SimpleMessageConverter is used instead per default.
-        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        // The messages with CBOR content type are converted by the Jackson2CborMessageConverter.
+        final ContentTypeDelegatingMessageConverter messageConverter =
+                new ContentTypeDelegatingMessageConverter(new Jackson2JsonMessageConverter());
+        messageConverter.addDelegate(AmqpSettings.CONTENT_TYPE_CBOR, new Jackson2CborMessageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
 
         if (initVHost) {
             final RabbitAdmin rabbitAdmin = new RabbitAdmin(connectionFactory);
@@ -102,12 +106,12 @@ public class VHost extends DmfSender implements MessageListener {
         log.info("Message received for target {}, value : {}", controllerId, message);
         switch (MessageType.valueOf(type)) {
             case EVENT: {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 handleEventMessage(message, controllerId);
                 break;
             }
             case THING_DELETED: {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 Optional.ofNullable(dmfTenants.get(tenantId)).ifPresent(dmfTenant -> dmfTenant.handleThingDeleted(controllerId));
                 break;
             }
@@ -164,7 +168,7 @@ public class VHost extends DmfSender implements MessageListener {
      *
      * @param message the message to get validated
      */
-    private static void checkContentTypeJson(final Message message) {
+    private static void checkContentTypeSupported(final Message message) {
         if (message.getBody().length == 0) {
             return;
         }
@@ -174,10 +178,10 @@ public class VHost extends DmfSender implements MessageListener {
             messageProperties.setContentType(headerContentType);
         }
         final String contentType = messageProperties.getContentType();
-        if (contentType != null && contentType.contains("json")) {
+        if (contentType != null && (contentType.contains("json") || contentType.startsWith(AmqpSettings.CONTENT_TYPE_CBOR))) {
             return;
         }
-        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON compatible");
+        throw new AmqpRejectAndDontRequeueException("Content-Type is neither JSON nor CBOR compatible");
     }
 
     private void handleEventMessage(final Message message, final String thingId) {
@@ -216,11 +220,8 @@ public class VHost extends DmfSender implements MessageListener {
     }
 
     private long extractActionIdFrom(final Message message) {
-        final String messageAsString = message.toString();
-        final String requiredMessageContent = messageAsString
-                .substring(messageAsString.indexOf('{') + 1, messageAsString.indexOf('}'));
-        final String[] splitMessageContent = requiredMessageContent.split(",");
-        return Long.parseLong(splitMessageContent[0].replaceAll(REGEX_EXTRACT_ACTION_ID, ""));
+        // converted, not parsed from the body, since the body could be binary (CBOR)
+        return convertMessage(message, DmfActionRequest.class).getActionId();
     }
 
     private void handleMultiActionRequest(final Message message, final String controllerId) {
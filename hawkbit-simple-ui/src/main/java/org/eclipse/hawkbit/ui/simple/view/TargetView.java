@@ -81,7 +81,7 @@ public class TargetView extends TableView<MgmtTarget, String> {
                 (query, filter) -> hawkbitClient.getTargetRestApi()
                         .getTargets(
                                 query.getOffset(), query.getPageSize(), Constants.NAME_ASC,
-                                filter)
+                                filter, null, true)
                         .getBody()
                         .getContent()
                         .stream(),